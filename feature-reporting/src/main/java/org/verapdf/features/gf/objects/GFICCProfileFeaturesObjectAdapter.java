@@ -23,13 +23,13 @@ package org.verapdf.features.gf.objects;
 import org.verapdf.as.io.ASInputStream;
 import org.verapdf.cos.COSStream;
 import org.verapdf.external.ICCProfile;
-import org.verapdf.features.gf.tools.GFAdapterHelper;
 import org.verapdf.features.objects.ICCProfileFeaturesObjectAdapter;
 import org.verapdf.pd.PDMetadata;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
@@ -82,7 +82,7 @@ public class GFICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
         if (profile != null && !profile.empty()) {
             try (ASInputStream iccData = profile.getObject().getData(COSStream.FilterFlags.DECODE)) {
                 errors = new ArrayList<>();
-                byte[] profileBytes = GFAdapterHelper.inputStreamToByteArray(iccData);
+                byte[] profileBytes = readHeader(iccData);
 
                 if (profileBytes.length < HEADER_SIZE) {
                     errors.add("ICCProfile contains less than " + HEADER_SIZE + " bytes");
@@ -107,6 +107,19 @@ public class GFICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
         }
     }
 
+    private static byte[] readHeader(InputStream iccData) throws IOException {
+        byte[] header = new byte[HEADER_SIZE];
+        int length = 0;
+        while (length < HEADER_SIZE) {
+            int read = iccData.read(header, length, HEADER_SIZE - length);
+            if (read == -1) {
+                return Arrays.copyOf(header, length);
+            }
+            length += read;
+        }
+        return header;
+    }
+
     private static String getVersion(byte[] header) {
 
         if (header[VERSION_BYTE] == 0 && header[SUBVERSION_BYTE] == 0) {
@@ -69,15 +69,25 @@ public class PDFDocumentImpl implements PDFDocument {
 	 * @param document
 	 */
 	public PDFDocumentImpl(PDDocument document) {
+		this(document, null);
+	}
+
+	/**
+	 * @param document
+	 * @param parsedMetadata already parsed main XMP packet of the document, it is
+	 *                       modified by the fixer, so it must not be shared. If
+	 *                       null, the packet is parsed from the metadata stream
+	 */
+	public PDFDocumentImpl(PDDocument document, VeraPDFMeta parsedMetadata) {
 		if (document == null) {
 			throw new IllegalArgumentException("Document representation can not be null");
 		}
 		this.document = document;
-		this.metadata = parseMetadata();
+		this.metadata = parseMetadata(parsedMetadata);
 		this.info = this.getInfo();
 	}
 
-	private MetadataImpl parseMetadata() {
+	private MetadataImpl parseMetadata(VeraPDFMeta parsedMetadata) {
 		PDCatalog catalog = this.document.getCatalog();
 		PDMetadata meta = catalog.getMetadata();
 		if (meta == null) {
@@ -88,6 +98,10 @@ public class PDFDocumentImpl implements PDFDocument {
 			return new MetadataImpl(xmp, stream, this.document.getDocument(),
 					true);
 		}
+		if (parsedMetadata != null) {
+			return new MetadataImpl(parsedMetadata, meta.getObject(),
+					this.document.getDocument(), false);
+		}
 		return parseMetadata(meta, this.document);
 	}
 
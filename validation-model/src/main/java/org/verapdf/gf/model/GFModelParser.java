@@ -33,7 +33,13 @@ import org.verapdf.features.FeatureExtractionResult;
 import org.verapdf.features.FeatureExtractorConfig;
 import org.verapdf.features.gf.GFFeatureParser;
 import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosDocument;
+import org.verapdf.gf.model.impl.external.EmbeddedFileResultCache;
+import org.verapdf.gf.model.impl.external.EmbeddedFileValidator;
+import org.verapdf.gf.model.impl.pd.PageModelWindow;
+import org.verapdf.gf.model.impl.pd.util.PDFAIdentificationScanner;
+import org.verapdf.gf.model.impl.pd.util.XMPCache;
 import org.verapdf.metadata.fixer.entity.PDFDocument;
 import org.verapdf.metadata.fixer.gf.impl.model.PDFDocumentImpl;
 import org.verapdf.pd.PDDocument;
@@ -47,6 +53,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -65,11 +73,17 @@ public class GFModelParser implements PDFAParser {
 
 	private final PDFAFlavour flavour;
 
+	private ValidationContext context;
+
+	private final boolean ownsDocument;
+
 	private GFModelParser(final InputStream docStream, PDFAFlavour flavour) throws IOException {
 		try {
 			this.document = new PDDocument(docStream);
-			this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
-			initializeStaticContainers(this.document, this.flavour);
+			this.ownsDocument = true;
+			XMPCache xmpCache = new XMPCache(this.document);
+			this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, xmpCache) : flavour;
+			this.context = initializeContext(this.document, this.flavour, xmpCache);
 		} catch (Throwable t) {
 			this.close();
 			throw t;
@@ -79,14 +93,24 @@ public class GFModelParser implements PDFAParser {
 	private GFModelParser(final File pdfFile, PDFAFlavour flavour) throws IOException {
 		try {
 			this.document = new PDDocument(pdfFile.getAbsolutePath());
-			this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
-			initializeStaticContainers(this.document, this.flavour);
+			this.ownsDocument = true;
+			XMPCache xmpCache = new XMPCache(this.document);
+			this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, xmpCache) : flavour;
+			this.context = initializeContext(this.document, this.flavour, xmpCache);
 		} catch (Throwable t) {
 			this.close();
 			throw t;
 		}
 	}
 
+	private GFModelParser(final PDDocument document, PDFAFlavour flavour) {
+		this.document = document;
+		this.ownsDocument = false;
+		XMPCache xmpCache = new XMPCache(this.document);
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, xmpCache) : flavour;
+		this.context = initializeContext(this.document, this.flavour, xmpCache);
+	}
+
 	public static GFModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
 		try {
@@ -109,7 +133,21 @@ public class GFModelParser implements PDFAParser {
 		}
 	}
 
-	private static PDFAFlavour obtainFlavour(PDDocument document) {
+	/**
+	 * Creates model of already parsed document. Several models with different
+	 * flavours may be created for the same document, one after another on the
+	 * same thread. Closing the parser does not close the document, it has to be
+	 * closed by the caller when all models are validated.
+	 *
+	 * @param document parsed document
+	 * @param flavour  flavour of the model
+	 * @return parser for the given document
+	 */
+	public static GFModelParser createModelWithFlavour(PDDocument document, PDFAFlavour flavour) {
+		return new GFModelParser(document, flavour);
+	}
+
+	private static PDFAFlavour obtainFlavour(PDDocument document, XMPCache xmpCache) {
 		PDMetadata metadata;
 		PDFAFlavour defaultFlavour = Foundries.defaultInstance().defaultFlavour();
 		if (document == null || document.getCatalog() == null) {
@@ -119,10 +157,24 @@ public class GFModelParser implements PDFAParser {
 		if (metadata == null) {
 			return defaultFlavour;
 		}
-		try (InputStream is = metadata.getStream()) {
-			VeraPDFMeta veraPDFMeta = VeraPDFMeta.parse(is);
-			Integer identificationPart = veraPDFMeta.getIdentificationPart();
-			String identificationConformance = veraPDFMeta.getIdentificationConformance();
+		try {
+			Integer identificationPart;
+			String identificationConformance;
+			PDFAIdentificationScanner.Identification identification;
+			try (InputStream is = metadata.getStream()) {
+				identification = is == null ? null : PDFAIdentificationScanner.scan(is);
+			}
+			if (identification != null) {
+				identificationPart = identification.getPart();
+				identificationConformance = identification.getConformance();
+			} else {
+				VeraPDFMeta veraPDFMeta = xmpCache.getMetadata(metadata);
+				if (veraPDFMeta == null) {
+					return defaultFlavour;
+				}
+				identificationPart = veraPDFMeta.getIdentificationPart();
+				identificationConformance = veraPDFMeta.getIdentificationConformance();
+			}
 			if (identificationConformance == null) {
 				identificationConformance = "";
 			}
@@ -145,10 +197,12 @@ public class GFModelParser implements PDFAParser {
 		}
 	}
 
-	private static void initializeStaticContainers(final PDDocument document, final PDFAFlavour flavour) {
-		StaticContainers.clearAllContainers();
-		StaticContainers.setDocument(document);
-		StaticContainers.setFlavour(flavour);
+	private static ValidationContext initializeContext(final PDDocument document, final PDFAFlavour flavour,
+													   final XMPCache xmpCache) {
+		ValidationContext context = new ValidationContext(document, flavour);
+		context.setXMPCache(xmpCache);
+		StaticContainers.setContext(context);
+		return context;
 	}
 
 	/**
@@ -162,6 +216,110 @@ public class GFModelParser implements PDFAParser {
 		return this.document;
 	}
 
+	/**
+	 * Get validation context of the current file. Model objects receive the
+	 * context explicitly, it is also bound to the thread that has created the
+	 * parser for callers of {@link StaticContainers#getContext()}.
+	 *
+	 * @return {@link ValidationContext} of the current file
+	 */
+	public ValidationContext getValidationContext() {
+		return this.context;
+	}
+
+	/**
+	 * Enables tokenization of page content streams on the given executor. Model
+	 * objects are still built on the validating thread in page order, so the
+	 * validation result is the same as for sequential parsing. Has to be called
+	 * before {@link #getRoot()}.
+	 *
+	 * @param executor executor for content stream tokenization, null disables
+	 *                 parallel page parsing
+	 */
+	public void setPageParsingExecutor(Executor executor) {
+		this.context.setPageExecutor(executor);
+	}
+
+	/**
+	 * Enables tokenization of page content streams on the common fork join pool.
+	 *
+	 * @see #setPageParsingExecutor(Executor)
+	 */
+	public void enableParallelPageParsing() {
+		setPageParsingExecutor(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Enables validation of the files embedded into the document on the given
+	 * executor, so several embedded files are validated in parallel. For
+	 * PDF/A-2 flavours, the only ones with rules on embedded files, validation
+	 * of files from the EmbeddedFiles name tree is started when the root object
+	 * is created. Files rejected by the executor are validated when their
+	 * results are requested. Has to be called before {@link #getRoot()}.
+	 * <p>
+	 * The executor is passed to parsers of embedded documents too. A thread
+	 * requesting the result of an embedded file that is not started yet
+	 * validates it itself, so the executor may be the one that runs
+	 * validations of parent documents. The executor must not run tasks on the
+	 * submitting thread.
+	 *
+	 * @param executor executor for embedded file validation, null validates
+	 *                 embedded files one by one on the validating thread when
+	 *                 they are requested
+	 */
+	public void setEmbeddedFileValidationExecutor(Executor executor) {
+		this.context.setEmbeddedFileExecutor(executor);
+	}
+
+	/**
+	 * Sets the cache of PDF/A-1/2 verdicts of embedded files by the digest of
+	 * their content, so attachments repeated across documents are validated
+	 * once. The same cache may be set for parsers of many documents. Has to be
+	 * called before {@link #getRoot()}.
+	 *
+	 * @param resultCache cache of embedded file verdicts, null disables caching
+	 */
+	public void setEmbeddedFileResultCache(EmbeddedFileResultCache resultCache) {
+		this.context.setEmbeddedFileResultCache(resultCache);
+	}
+
+	/**
+	 * Sets the size of decoded embedded file up to which it is kept in memory
+	 * for validation. Larger embedded files are written to temporary files and
+	 * parsed from there. Has to be called before {@link #getRoot()}.
+	 *
+	 * @param memoryThreshold size in bytes, by default
+	 *                        {@link EmbeddedFileValidator#DEFAULT_MEMORY_THRESHOLD}
+	 */
+	public void setEmbeddedFileMemoryThreshold(long memoryThreshold) {
+		this.context.setEmbeddedFileMemoryThreshold(memoryThreshold);
+	}
+
+	/**
+	 * Enables streaming parsing of content streams: tokens are converted to
+	 * operators as soon as they are read, so whole content stream is never kept
+	 * as a list of tokens. Use for documents with very large content streams.
+	 * Streaming mode takes precedence over parallel page parsing, which needs
+	 * tokenized streams. Has to be called before {@link #getRoot()}.
+	 *
+	 * @param streamingContentParsing true to enable streaming parsing
+	 */
+	public void setStreamingContentParsing(boolean streamingContentParsing) {
+		this.context.setStreamingContentParsing(streamingContentParsing);
+	}
+
+	/**
+	 * Enables windowed page model: operators, annotations and cached glyphs of
+	 * the pages far from the page being validated are released, so memory usage
+	 * does not grow with the number of pages. Released objects are parsed again
+	 * if they are requested later. Has to be called before {@link #getRoot()}.
+	 *
+	 * @param windowedPageModel true to enable windowed page model
+	 */
+	public void setWindowedPageModel(boolean windowedPageModel) {
+		this.context.setPageModelWindow(windowedPageModel ? new PageModelWindow(this.context) : null);
+	}
+
 	/**
 	 * Method return root object of model implementation from greenfield model
 	 * together with the hierarchy.
@@ -173,7 +331,12 @@ public class GFModelParser implements PDFAParser {
 	 */
 	@Override
 	public org.verapdf.model.baselayer.Object getRoot() {
-		return new GFCosDocument(this.document.getDocument());
+		StaticContainers.setContext(this.context);
+		if (this.context.getEmbeddedFileExecutor() != null
+				&& this.flavour.getPart() == PDFAFlavour.Specification.ISO_19005_2) {
+			this.context.getEmbeddedFileValidator().prefetchEmbeddedFiles(this.document);
+		}
+		return new GFCosDocument(this.document.getDocument(), this.context);
 	}
 
 	@Override
@@ -188,7 +351,10 @@ public class GFModelParser implements PDFAParser {
 
 	@Override
 	public PDFDocument getPDFDocument() {
-		return new PDFDocumentImpl(this.document);
+		// validation is over at this point, so the fixer may take over the parsed main packet
+		PDMetadata metadata = this.document.getCatalog() == null ? null : this.document.getCatalog().getMetadata();
+		return new PDFDocumentImpl(this.document,
+				metadata == null ? null : this.context.getXMPCache().take(metadata));
 	}
 
 	@Override
@@ -204,9 +370,12 @@ public class GFModelParser implements PDFAParser {
 
 	@Override
 	public void close() {
-		if (this.document != null) {
+		if (this.document != null && this.ownsDocument) {
 			this.document.close();
 		}
+		if (StaticContainers.isBound(this.context)) {
+			StaticContainers.removeContext();
+		}
 	}
 
 }
@@ -0,0 +1,130 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.factory.colors;
+
+import org.verapdf.cos.COSKey;
+import org.verapdf.cos.COSObject;
+import org.verapdf.model.pdlayer.PDColorSpace;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Colour spaces created by {@link ColorSpaceFactory} for a single document.
+ * <p>
+ * Colour spaces are keyed by the key of the underlying indirect object, or by
+ * the parser colour space object itself if the colour space is direct, plus a
+ * variant packed into an int for the overprint parameters of CMYK ICC based
+ * colour spaces. Lookups don't allocate.
+ */
+public class ColorSpaceCache {
+
+	/**
+	 * Variant of colour spaces that don't depend on overprint parameters.
+	 */
+	public static final int DEFAULT_VARIANT = 0;
+
+	/**
+	 * Variant of colour spaces that can't be cached.
+	 */
+	public static final int NOT_CACHED_VARIANT = -1;
+
+	private static final int NUMBER_OF_VARIANTS = 4;
+
+	private final Map<COSKey, PDColorSpace[]> indirectColorSpaces = new HashMap<>();
+	private final Map<org.verapdf.pd.colors.PDColorSpace, PDColorSpace[]> directColorSpaces = new IdentityHashMap<>();
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param opm overprint mode
+	 * @param overprintingFlag overprint flag
+	 * @return variant of colour space for the given overprint parameters or
+	 * {@link #NOT_CACHED_VARIANT} if overprint mode is not a valid one
+	 */
+	public static int getVariant(int opm, boolean overprintingFlag) {
+		if (opm != 0 && opm != 1) {
+			return NOT_CACHED_VARIANT;
+		}
+		return opm << 1 | (overprintingFlag ? 1 : 0);
+	}
+
+	public PDColorSpace get(org.verapdf.pd.colors.PDColorSpace colorSpace, int variant) {
+		if (variant == NOT_CACHED_VARIANT) {
+			return null;
+		}
+		PDColorSpace[] variants = getVariants(colorSpace);
+		PDColorSpace result = variants == null ? null : variants[variant];
+		if (result == null) {
+			++this.misses;
+		} else {
+			++this.hits;
+		}
+		return result;
+	}
+
+	public void put(org.verapdf.pd.colors.PDColorSpace colorSpace, int variant, PDColorSpace result) {
+		if (variant == NOT_CACHED_VARIANT) {
+			return;
+		}
+		PDColorSpace[] variants = getVariants(colorSpace);
+		if (variants == null) {
+			variants = new PDColorSpace[NUMBER_OF_VARIANTS];
+			COSKey key = getKey(colorSpace);
+			if (key != null) {
+				this.indirectColorSpaces.put(key, variants);
+			} else {
+				this.directColorSpaces.put(colorSpace, variants);
+			}
+		}
+		variants[variant] = result;
+	}
+
+	/**
+	 * Lookups of {@link #NOT_CACHED_VARIANT} are not counted.
+	 *
+	 * @return number of lookups that found a cached colour space
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Lookups of {@link #NOT_CACHED_VARIANT} are not counted.
+	 *
+	 * @return number of lookups that didn't find a cached colour space
+	 */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	private PDColorSpace[] getVariants(org.verapdf.pd.colors.PDColorSpace colorSpace) {
+		COSKey key = getKey(colorSpace);
+		return key != null ? this.indirectColorSpaces.get(key) : this.directColorSpaces.get(colorSpace);
+	}
+
+	private static COSKey getKey(org.verapdf.pd.colors.PDColorSpace colorSpace) {
+		COSObject object = colorSpace.getObject();
+		return object == null ? null : object.getObjectKey();
+	}
+}
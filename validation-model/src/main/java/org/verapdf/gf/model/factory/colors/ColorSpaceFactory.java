@@ -20,8 +20,9 @@
  */
 package org.verapdf.gf.model.factory.colors;
 
+import org.verapdf.as.ASAtom;
 import org.verapdf.gf.model.factory.operators.GraphicState;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.colors.*;
 import org.verapdf.gf.model.impl.pd.patterns.GFPDShadingPattern;
 import org.verapdf.gf.model.impl.pd.patterns.GFPDTilingPattern;
@@ -57,94 +58,83 @@ public class ColorSpaceFactory {
 		// disable default constructor
 	}
 
-	public static PDColorSpace getColorSpace(org.verapdf.pd.colors.PDColorSpace colorSpace) {
-		return getColorSpace(colorSpace, PDResourcesHandler.EMPTY, 0, false, null);
+	public static PDColorSpace getColorSpace(org.verapdf.pd.colors.PDColorSpace colorSpace, ValidationContext context) {
+		return getColorSpace(colorSpace, PDResourcesHandler.EMPTY, 0, false, null, context);
 	}
 
 	public static PDColorSpace getColorSpace(org.verapdf.pd.colors.PDColorSpace colorSpace,
-											 PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicSpace) {
-		return getColorSpace(colorSpace, resourcesHandler, 0, false, inheritedGraphicSpace);
+											 PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicSpace,
+											 ValidationContext context) {
+		return getColorSpace(colorSpace, resourcesHandler, 0, false, inheritedGraphicSpace, context);
 	}
 
 	public static PDColorSpace getColorSpace(org.verapdf.pd.colors.PDColorSpace colorSpace,
 			PDResourcesHandler resourcesHandler, int opm, boolean overprintingFlag,
-											 GraphicState inheritedGraphicSpace) {
+											 GraphicState inheritedGraphicSpace, ValidationContext context) {
 		if (colorSpace == null) {
 //			LOGGER.warning("Invalid ColorSpace object");
-			return new GFPDEmptyColorSpace();
+			return new GFPDEmptyColorSpace(context);
 		}
-		String uniqueID = getColorSpaceUniqueIdentifier(colorSpace, opm, overprintingFlag);
-		if (StaticContainers.getCachedColorSpaces().containsKey(uniqueID)) {
-			return StaticContainers.getCachedColorSpaces().get(uniqueID);
+		ASAtom type = colorSpace.getType();
+		if (ASAtom.DEVICECMYK.equals(type)) {
+			return colorSpace.isInherited() ? GFPDDeviceCMYK.getInheritedInstance() : GFPDDeviceCMYK.getInstance();
+		} else if (ASAtom.DEVICERGB.equals(type)) {
+			return colorSpace.isInherited() ? GFPDDeviceRGB.getInheritedInstance() : GFPDDeviceRGB.getInstance();
+		} else if (ASAtom.DEVICEGRAY.equals(type)) {
+			return colorSpace.isInherited() ? GFPDDeviceGray.getInheritedInstance() : GFPDDeviceGray.getInstance();
+		} else if (ASAtom.PATTERN.equals(type)) {
+			return getPattern((org.verapdf.pd.patterns.PDPattern) colorSpace,
+					resourcesHandler, inheritedGraphicSpace, context);
+		}
+		ColorSpaceCache cache = context.getColorSpaceCache();
+		int variant = ASAtom.ICCBASED.equals(type) && colorSpace.getNumberOfComponents() == 4 ?
+				ColorSpaceCache.getVariant(opm, overprintingFlag) : ColorSpaceCache.DEFAULT_VARIANT;
+		PDColorSpace cached = cache.get(colorSpace, variant);
+		if (cached != null) {
+			return cached;
 		}
 		PDColorSpace result;
 		switch (colorSpace.getType().toString()) {
 		case CAL_GRAY:
-			result = new GFPDCalGray((PDCalGray) colorSpace);
+			result = new GFPDCalGray((PDCalGray) colorSpace, context);
 			break;
 		case CAL_RGB:
-			result = new GFPDCalRGB((PDCalRGB) colorSpace);
+			result = new GFPDCalRGB((PDCalRGB) colorSpace, context);
 			break;
-		case DEVICE_CMYK:
-			if (colorSpace.isInherited()) {
-				return GFPDDeviceCMYK.getInheritedInstance();
-			}
-			return GFPDDeviceCMYK.getInstance();
-		case DEVICE_RGB:
-			if (colorSpace.isInherited()) {
-				return GFPDDeviceRGB.getInheritedInstance();
-			}
-			return GFPDDeviceRGB.getInstance();
-		case DEVICE_GRAY:
-			if (colorSpace.isInherited()) {
-				return GFPDDeviceGray.getInheritedInstance();
-			}
-			return GFPDDeviceGray.getInstance();
 		case ICC_BASED:
-			result = colorSpace.getNumberOfComponents() != 4 ? new GFPDICCBased((PDICCBased) colorSpace)
-					: new GFPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
+			result = colorSpace.getNumberOfComponents() != 4 ? new GFPDICCBased((PDICCBased) colorSpace, context)
+					: new GFPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag, context);
 			break;
 		case LAB:
-			result = new GFPDLab((PDLab) colorSpace);
+			result = new GFPDLab((PDLab) colorSpace, context);
 			break;
 		case SEPARATION:
-			result = new GFPDSeparation((PDSeparation) colorSpace);
+			result = new GFPDSeparation((PDSeparation) colorSpace, context);
 			break;
 		case INDEXED:
-			result = new GFPDIndexed((PDIndexed) colorSpace);
+			result = new GFPDIndexed((PDIndexed) colorSpace, context);
 			break;
 		case DEVICE_N:
-			result = new GFPDDeviceN((PDDeviceN) colorSpace);
+			result = new GFPDDeviceN((PDDeviceN) colorSpace, context);
 			break;
-		case PATTERN:
-			return getPattern((org.verapdf.pd.patterns.PDPattern) colorSpace,
-					resourcesHandler, inheritedGraphicSpace);
 		default:
 			return null;
 		}
-		StaticContainers.getCachedColorSpaces().put(uniqueID, result);
+		cache.put(colorSpace, variant, result);
 		return result;
 	}
 
 	private static org.verapdf.model.pdlayer.PDPattern getPattern(org.verapdf.pd.patterns.PDPattern pattern,
-			PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicState) {
+			PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicState, ValidationContext context) {
 		switch (pattern.getPatternType()) {
 		case PDPattern.TYPE_TILING_PATTERN:
 			return new GFPDTilingPattern((PDTilingPattern) pattern,
 					resourcesHandler.getExtendedResources(((PDTilingPattern) pattern).getResources()),
-					inheritedGraphicState);
+					inheritedGraphicState, context);
 		case PDPattern.TYPE_SHADING_PATTERN:
-			return new GFPDShadingPattern((PDShadingPattern) pattern);
+			return new GFPDShadingPattern((PDShadingPattern) pattern, context);
 		default:
 			return null;
 		}
 	}
-
-	private static String getColorSpaceUniqueIdentifier(org.verapdf.pd.colors.PDColorSpace base, int opm,
-			boolean overprintFlag) {
-		if (ICC_BASED.equals(base.getType().toString()) && base.getNumberOfComponents() == 4) {
-			return String.valueOf(base.hashCode() + " " + opm + " " + overprintFlag);
-		}
-		return String.valueOf(base.hashCode());
-	}
 }
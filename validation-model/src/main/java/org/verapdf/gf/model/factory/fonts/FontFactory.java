@@ -22,9 +22,10 @@ package org.verapdf.gf.model.factory.fonts;
 
 import org.verapdf.gf.model.factory.operators.GraphicState;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.font.*;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.gf.model.tools.COSIdentity;
 import org.verapdf.gf.model.tools.GFIDGenerator;
 import org.verapdf.model.pdlayer.PDFont;
 import org.verapdf.pd.PDResources;
@@ -33,6 +34,10 @@ import org.verapdf.pd.font.truetype.PDTrueTypeFont;
 import org.verapdf.pd.font.type1.PDType1Font;
 import org.verapdf.pd.font.type3.PDType3Font;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Timur Kamalov
  */
@@ -58,36 +63,58 @@ public class FontFactory {
 
 	public static PDFont parseFont(org.verapdf.pd.font.PDFont rawFont,
 								   RenderingMode renderingMode, PDResourcesHandler resources,
-								   GraphicState inheritedGraphicState) {
+								   GraphicState inheritedGraphicState, ValidationContext context) {
 		if (rawFont == null) {
-			return new GFPDEmptyFont();
+			return new GFPDEmptyFont(context);
 		}
 		if (TYPE_3.equals(rawFont.getSubtype().getValue())) {
-			PDResources fontResources = ((PDType3Font) rawFont).getResources();
-			PDResourcesHandler pdResources = resources.getExtendedResources(fontResources);
-			return new GFPDType3Font((PDType3Font) rawFont, renderingMode, pdResources,
-					inheritedGraphicState);
+			return parseType3Font((PDType3Font) rawFont, renderingMode, resources, inheritedGraphicState, context);
 		}
 		String id = GFIDGenerator.generateID(rawFont, renderingMode);
-		PDFont res = StaticContainers.getCachedFonts().get(id);
+		PDFont res = context.getCachedFonts().get(id);
 		if (res == null) {
 			switch (rawFont.getSubtype().getValue()) {
 				case TYPE_0:
-					res =  new GFPDType0Font((PDType0Font) rawFont, renderingMode);
+					res =  new GFPDType0Font((PDType0Font) rawFont, renderingMode, context);
 					break;
 				case TYPE_1:
 				case MM_TYPE_1:
-					res = new GFPDType1Font((PDType1Font) rawFont, renderingMode);
+					res = new GFPDType1Font((PDType1Font) rawFont, renderingMode, context);
 					break;
 				case TRUE_TYPE:
-					res = new GFPDTrueTypeFont((PDTrueTypeFont) rawFont, renderingMode);
+					res = new GFPDTrueTypeFont((PDTrueTypeFont) rawFont, renderingMode, context);
 					break;
 				default:
 					res = null;
 			}
-			StaticContainers.getCachedFonts().put(id, res);
+			context.getCachedFonts().put(id, res);
 		}
 		return res;
 	}
 
+	/**
+	 * Type3 font model depends on the resources and graphic state its glyph
+	 * procedures are parsed with, so it is cached by the font together with
+	 * page resources and fingerprint of the inherited graphic state. Glyph
+	 * procedures may resolve names in page resources, which is known only
+	 * after their lazy parsing, so the font is shared by pages with the same
+	 * resources object only, not by the whole document.
+	 */
+	private static PDFont parseType3Font(PDType3Font rawFont, RenderingMode renderingMode,
+										 PDResourcesHandler resources, GraphicState inheritedGraphicState,
+										 ValidationContext context) {
+		List<Object> key = inheritedGraphicState == null ? null : Arrays.<Object>asList(COSIdentity.of(rawFont),
+				renderingMode, COSIdentity.of(resources.getPageResources()), inheritedGraphicState.getFingerprint());
+		Map<List<Object>, GFPDType3Font> cache = context.getCachedType3Fonts();
+		GFPDType3Font res = key == null ? null : cache.get(key);
+		if (res == null) {
+			PDResources fontResources = rawFont.getResources();
+			PDResourcesHandler pdResources = resources.getExtendedResources(fontResources);
+			res = new GFPDType3Font(rawFont, renderingMode, pdResources, inheritedGraphicState, context);
+			if (key != null) {
+				cache.put(key, res);
+			}
+		}
+		return res;
+	}
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.factory.functions;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.functions.*;
 import org.verapdf.pd.function.PDFunction;
 import org.verapdf.pd.function.PDType3Function;
@@ -34,25 +35,25 @@ public class FunctionFactory {
         //Disable default constructor
     }
 
-    public static GFPDFunction createFunction(PDFunction function) {
+    public static GFPDFunction createFunction(PDFunction function, ValidationContext context) {
         Long functionType = function.getFunctionType();
 
         if (functionType == null) {
-            return new GFPDFunction(function);
+            return new GFPDFunction(function, context);
         }
 
         switch (functionType.intValue()) {
             case 0:
-                return new GFPDType0Function(function);
+                return new GFPDType0Function(function, context);
             case 2:
-                return new GFPDType2Function(function);
+                return new GFPDType2Function(function, context);
             case 3:
-                return new GFPDType3Function((PDType3Function) function);
+                return new GFPDType3Function((PDType3Function) function, context);
             case 4:
-                return new GFPDType4Function(function);
+                return new GFPDType4Function(function, context);
             default:
                 LOGGER.warning("Function type key must be {0, 2, 3, 4}");
-                return new GFPDFunction(function);
+                return new GFPDFunction(function, context);
         }
     }
 }
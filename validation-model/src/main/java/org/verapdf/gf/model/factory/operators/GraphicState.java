@@ -22,10 +22,15 @@ package org.verapdf.gf.model.factory.operators;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.gf.model.tools.COSIdentity;
 import org.verapdf.pd.PDExtGState;
+import org.verapdf.pd.PDResource;
 import org.verapdf.pd.colors.PDColorSpace;
 import org.verapdf.pd.font.PDFont;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * @author Timur Kamalov
  */
@@ -172,6 +177,28 @@ public class GraphicState implements Cloneable {
 		}
 	}
 
+	/**
+	 * @return value that is equal for graphic states which produce the same model
+	 * of the content streams inheriting them
+	 */
+	public List<Object> getFingerprint() {
+		return Arrays.asList(getResourceFingerprint(this.fillColorSpace),
+				getResourceFingerprint(this.strokeColorSpace),
+				getResourceFingerprint(this.fillLastPatternUnderlyingColorSpace),
+				getResourceFingerprint(this.strokeLastPatternUnderlyingColorSpace),
+				this.renderingMode, getResourceFingerprint(this.font),
+				Boolean.valueOf(this.overprintingFlagStroke), Boolean.valueOf(this.overprintingFlagNonStroke),
+				Integer.valueOf(this.opm), Boolean.valueOf(this.processColorOperators),
+				this.initialGraphicState == null ? null : this.initialGraphicState.getFingerprint());
+	}
+
+	private static Object getResourceFingerprint(PDResource resource) {
+		if (resource == null) {
+			return null;
+		}
+		return Arrays.asList(COSIdentity.of(resource), resource.getClass(), Boolean.valueOf(resource.isInherited()));
+	}
+
 	@Override
 	protected GraphicState clone() {
 		GraphicState clone = new GraphicState();
@@ -0,0 +1,206 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.factory.operators;
+
+import org.verapdf.model.tools.constants.Operators;
+
+import java.util.Arrays;
+
+/**
+ * Codes of content stream operators. Name of every operator token is looked up
+ * once in a table indexed by its first two characters, without hashing of the
+ * name, then {@link OperatorParser} switches on the code and
+ * {@link OperatorFactory} uses it as a key of enum maps and sets.
+ */
+enum OperatorCode {
+
+	// GENERAL GS
+	D_SET_DASH(Operators.D_SET_DASH),
+	GS(Operators.GS),
+	I_SETFLAT(Operators.I_SETFLAT),
+	J_LINE_CAP(Operators.J_LINE_CAP),
+	J_LINE_JOIN(Operators.J_LINE_JOIN),
+	M_MITER_LIMIT(Operators.M_MITER_LIMIT),
+	RI(Operators.RI),
+	W_LINE_WIDTH(Operators.W_LINE_WIDTH),
+
+	// MARKED CONTENT
+	BMC(Operators.BMC),
+	BDC(Operators.BDC),
+	EMC(Operators.EMC),
+	MP(Operators.MP),
+	DP(Operators.DP),
+
+	// CLIP
+	W_CLIP(Operators.W_CLIP),
+	W_STAR_EOCLIP(Operators.W_STAR_EOCLIP),
+
+	// COLOR
+	G_STROKE(Operators.G_STROKE),
+	G_FILL(Operators.G_FILL),
+	RG_STROKE(Operators.RG_STROKE),
+	RG_FILL(Operators.RG_FILL),
+	K_STROKE(Operators.K_STROKE),
+	K_FILL(Operators.K_FILL),
+	CS_STROKE(Operators.CS_STROKE),
+	CS_FILL(Operators.CS_FILL),
+	SCN_STROKE(Operators.SCN_STROKE),
+	SCN_FILL(Operators.SCN_FILL),
+	SC_STROKE(Operators.SC_STROKE),
+	SC_FILL(Operators.SC_FILL),
+
+	// TEXT OBJECT
+	ET(Operators.ET),
+	BT(Operators.BT),
+
+	// TEXT POSITION
+	TD_MOVE(Operators.TD_MOVE),
+	TD_MOVE_SET_LEADING(Operators.TD_MOVE_SET_LEADING),
+	TM(Operators.TM),
+	T_STAR(Operators.T_STAR),
+
+	// TEXT SHOW
+	TJ_SHOW(Operators.TJ_SHOW),
+	TJ_SHOW_POS(Operators.TJ_SHOW_POS),
+	QUOTE(Operators.QUOTE),
+	DOUBLE_QUOTE(Operators.DOUBLE_QUOTE),
+
+	// TEXT STATE
+	TZ(Operators.TZ),
+	TR(Operators.TR),
+	TF(Operators.TF),
+	TC(Operators.TC),
+	TW(Operators.TW),
+	TL(Operators.TL),
+	TS(Operators.TS),
+
+	// TYPE 3 FONT
+	D0(Operators.D0),
+	D1(Operators.D1),
+
+	// INLINE IMAGE
+	BI(Operators.BI),
+	// is not dispatched by the parser, only checked for transparency
+	EI(Operators.EI),
+
+	// COMPABILITY
+	BX(Operators.BX),
+	EX(Operators.EX),
+
+	// PATH CONSTRUCTION
+	C_CURVE_TO(Operators.C_CURVE_TO),
+	H_CLOSEPATH(Operators.H_CLOSEPATH),
+	L_LINE_TO(Operators.L_LINE_TO),
+	M_MOVE_TO(Operators.M_MOVE_TO),
+	RE(Operators.RE),
+	V(Operators.V),
+	Y(Operators.Y),
+
+	// PATH PAINT
+	B_CLOSEPATH_FILL_STROKE(Operators.B_CLOSEPATH_FILL_STROKE),
+	B_FILL_STROKE(Operators.B_FILL_STROKE),
+	B_STAR_CLOSEPATH_EOFILL_STROKE(Operators.B_STAR_CLOSEPATH_EOFILL_STROKE),
+	B_STAR_EOFILL_STROKE(Operators.B_STAR_EOFILL_STROKE),
+	F_FILL(Operators.F_FILL),
+	F_FILL_OBSOLETE(Operators.F_FILL_OBSOLETE),
+	F_STAR_FILL(Operators.F_STAR_FILL),
+	N(Operators.N),
+	S_CLOSE_STROKE(Operators.S_CLOSE_STROKE),
+	S_STROKE(Operators.S_STROKE),
+
+	// SHADING
+	SH(Operators.SH),
+
+	// SPECIAL GS
+	CM_CONCAT(Operators.CM_CONCAT),
+	Q_GRESTORE(Operators.Q_GRESTORE),
+	Q_GSAVE(Operators.Q_GSAVE),
+
+	// XOBJECT
+	DO(Operators.DO),
+
+	/** Operator that is not defined in PDF specification */
+	UNDEFINED(null);
+
+	// operator names are short ASCII strings, codes are indexed by their first two characters
+	private static final int SECOND_CHAR_BITS = 7;
+	private static final int MAX_CHAR = 1 << SECOND_CHAR_BITS;
+	private static final OperatorCode[][] CODES = new OperatorCode[MAX_CHAR * MAX_CHAR][];
+
+	static {
+		for (OperatorCode code : values()) {
+			if (code.operatorName != null) {
+				int index = getIndex(code.operatorName);
+				if (index < 0) {
+					throw new IllegalStateException("Operator name can't be indexed: " + code.operatorName);
+				}
+				OperatorCode[] codes = CODES[index];
+				if (codes == null) {
+					codes = new OperatorCode[]{code};
+				} else {
+					codes = Arrays.copyOf(codes, codes.length + 1);
+					codes[codes.length - 1] = code;
+				}
+				CODES[index] = codes;
+			}
+		}
+	}
+
+	private final String operatorName;
+
+	OperatorCode(String operatorName) {
+		this.operatorName = operatorName;
+	}
+
+	static OperatorCode getOperatorCode(String operatorName) {
+		int index = getIndex(operatorName);
+		if (index >= 0) {
+			OperatorCode[] codes = CODES[index];
+			if (codes != null) {
+				for (OperatorCode code : codes) {
+					if (code.operatorName.equals(operatorName)) {
+						return code;
+					}
+				}
+			}
+		}
+		return UNDEFINED;
+	}
+
+	String getOperatorName() {
+		return this.operatorName;
+	}
+
+	/**
+	 * @return index of the name in the code table, or -1 if no operator has such first characters
+	 */
+	private static int getIndex(String operatorName) {
+		if (operatorName == null || operatorName.isEmpty()) {
+			return -1;
+		}
+		char first = operatorName.charAt(0);
+		char second = operatorName.length() > 1 ? operatorName.charAt(1) : 0;
+		if (first >= MAX_CHAR || second >= MAX_CHAR) {
+			return -1;
+		}
+		return (first << SECOND_CHAR_BITS) | second;
+	}
+}
@@ -21,12 +21,15 @@
 package org.verapdf.gf.model.factory.operators;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.gf.model.tools.TransparencyBehaviour;
-import org.verapdf.model.tools.constants.Operators;
 import org.verapdf.operator.Operator;
+import org.verapdf.parser.PDFStreamParser;
 import org.verapdf.pd.structure.StructureElementAccessObject;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,39 +45,44 @@ public final class OperatorFactory {
 
 	private static final String MSG_UNEXPECTED_OBJECT_TYPE = "Unexpected type of object in tokens: ";
 
+	private final ValidationContext context;
+
 	private boolean isLastParsedContainsTransparency = false;
 
-	private static final Map<String, TransparencyBehaviour> PAINT_OPERATORS_WITHOUT_TEXT;
+	// operands of the current operator, reused for all operators of the stream
+	private final List<COSBase> arguments = new ArrayList<>();
+
+	private static final Map<OperatorCode, TransparencyBehaviour> PAINT_OPERATORS_WITHOUT_TEXT;
 
 	static {
-		Map<String, TransparencyBehaviour> aMap = new HashMap<>();
+		Map<OperatorCode, TransparencyBehaviour> aMap = new EnumMap<>(OperatorCode.class);
 		TransparencyBehaviour fill = TransparencyBehaviour.createFillInstance();
 		TransparencyBehaviour fillXObject = TransparencyBehaviour.createFillXObjectInstance();
 		TransparencyBehaviour fillCS = TransparencyBehaviour.createFillColorSpaceInstance();
 		TransparencyBehaviour strokeCS = TransparencyBehaviour.createStrokeColorSpaceInstance();
 		TransparencyBehaviour fillStrokeCS = TransparencyBehaviour.createFillStrokeColorSpaceInstance();
-		aMap.put(Operators.S_STROKE, strokeCS);
-		aMap.put(Operators.S_CLOSE_STROKE, strokeCS);
-		aMap.put(Operators.F_FILL, fillCS);
-		aMap.put(Operators.F_FILL_OBSOLETE, fillCS);
-		aMap.put(Operators.F_STAR_FILL, fillCS);
-		aMap.put(Operators.B_FILL_STROKE, fillStrokeCS);
-		aMap.put(Operators.B_STAR_EOFILL_STROKE, fillStrokeCS);
-		aMap.put(Operators.B_CLOSEPATH_FILL_STROKE, fillStrokeCS);
-		aMap.put(Operators.B_STAR_CLOSEPATH_EOFILL_STROKE, fillStrokeCS);
-		aMap.put(Operators.SH, fill);
-		aMap.put(Operators.DO, fillXObject);
-		aMap.put(Operators.EI, fill);
+		aMap.put(OperatorCode.S_STROKE, strokeCS);
+		aMap.put(OperatorCode.S_CLOSE_STROKE, strokeCS);
+		aMap.put(OperatorCode.F_FILL, fillCS);
+		aMap.put(OperatorCode.F_FILL_OBSOLETE, fillCS);
+		aMap.put(OperatorCode.F_STAR_FILL, fillCS);
+		aMap.put(OperatorCode.B_FILL_STROKE, fillStrokeCS);
+		aMap.put(OperatorCode.B_STAR_EOFILL_STROKE, fillStrokeCS);
+		aMap.put(OperatorCode.B_CLOSEPATH_FILL_STROKE, fillStrokeCS);
+		aMap.put(OperatorCode.B_STAR_CLOSEPATH_EOFILL_STROKE, fillStrokeCS);
+		aMap.put(OperatorCode.SH, fill);
+		aMap.put(OperatorCode.DO, fillXObject);
+		aMap.put(OperatorCode.EI, fill);
 		PAINT_OPERATORS_WITHOUT_TEXT = Collections.unmodifiableMap(aMap);
 	}
 
-	private static final Set<String> PAINT_OPERATORS_TEXT = new HashSet<>(Arrays.asList(
-			new String[] { Operators.TJ_SHOW, Operators.QUOTE, Operators.DOUBLE_QUOTE, Operators.TJ_SHOW_POS }));
+	private static final Set<OperatorCode> PAINT_OPERATORS_TEXT = Collections.unmodifiableSet(EnumSet.of(
+			OperatorCode.TJ_SHOW, OperatorCode.QUOTE, OperatorCode.DOUBLE_QUOTE, OperatorCode.TJ_SHOW_POS));
 
 	private static final Map<RenderingMode, TransparencyBehaviour> RENDERING_MODE;
 
 	static {
-		Map<RenderingMode, TransparencyBehaviour> aMap = new HashMap<>();
+		Map<RenderingMode, TransparencyBehaviour> aMap = new EnumMap<>(RenderingMode.class);
 		TransparencyBehaviour strokeCSFont = TransparencyBehaviour.createStrokeColorSpaceFontInstance();
 		TransparencyBehaviour fillCSFont = TransparencyBehaviour.createFillColorSpaceFontInstance();
 		TransparencyBehaviour fillStrokeCSFont = TransparencyBehaviour.createFillStrokeColorSpaceFontInstance();
@@ -87,6 +95,10 @@ public final class OperatorFactory {
 		RENDERING_MODE = Collections.unmodifiableMap(aMap);
 	}
 
+	public OperatorFactory(ValidationContext context) {
+		this.context = context;
+	}
+
 	/**
 	 * @return true if during the last call of parsing method there was any
 	 *         transparency
@@ -99,34 +111,84 @@ public final class OperatorFactory {
 																		 PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicState,
 																		 StructureElementAccessObject structureElementAccessObject) {
 		List<org.verapdf.model.operator.Operator> result = new ArrayList<>();
-		List<COSBase> arguments = new ArrayList<>();
+		this.arguments.clear();
 		this.isLastParsedContainsTransparency = false;
-		OperatorParser parser = new OperatorParser(inheritedGraphicState, structureElementAccessObject, resourcesHandler);
+		OperatorParser parser = new OperatorParser(inheritedGraphicState, structureElementAccessObject,
+				resourcesHandler, this.context);
 
 		for (Object rawToken : rawTokens) {
-			if (rawToken instanceof COSBase) {
-				arguments.add((COSBase) rawToken);
-			} else if (rawToken instanceof Operator) {
-				parser.parseOperator(result, ((Operator) rawToken), resourcesHandler, arguments);
-				String parsedOperatorType = ((Operator) rawToken).getOperator();
-				TransparencyGraphicsState graphicState = parser.getTransparencyGraphicState();
-				if (PAINT_OPERATORS_WITHOUT_TEXT.containsKey(parsedOperatorType)) {
-					isLastParsedContainsTransparency |= PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType)
-							.containsTransparency(graphicState);
-				} else {
-					RenderingMode renderingMode = parser.getGSRenderingMode();
-					if (PAINT_OPERATORS_TEXT.contains(parsedOperatorType)
-							&& RENDERING_MODE.containsKey(renderingMode)) {
-						isLastParsedContainsTransparency |= RENDERING_MODE.get(renderingMode)
-								.containsTransparency(graphicState);
-					}
-				}
+			processToken(rawToken, parser, result, resourcesHandler);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts tokens to operators while reading them from the stream parser, so
+	 * only operands of the current operator are kept in memory besides the result.
+	 *
+	 * @param streamParser parser of the content stream, tokens are pulled one by one
+	 * @return list of parsed operators
+	 * @throws IOException if the content stream can't be tokenized
+	 */
+	public List<org.verapdf.model.operator.Operator> operatorsFromStream(PDFStreamParser streamParser,
+																		 PDResourcesHandler resourcesHandler, GraphicState inheritedGraphicState,
+																		 StructureElementAccessObject structureElementAccessObject) throws IOException {
+		List<org.verapdf.model.operator.Operator> result = new ArrayList<>();
+		this.arguments.clear();
+		this.isLastParsedContainsTransparency = false;
+		OperatorParser parser = new OperatorParser(inheritedGraphicState, structureElementAccessObject,
+				resourcesHandler, this.context);
 
-				arguments = new ArrayList<>();
-			} else {
-				LOGGER.log(Level.FINE, MSG_UNEXPECTED_OBJECT_TYPE + rawToken.getClass().getName());
+		Object rawToken = streamParser.parseNextToken();
+		while (rawToken != null) {
+			// the same unwrapping is done by PDFStreamParser.parseTokens()
+			if (rawToken instanceof COSObject) {
+				rawToken = ((COSObject) rawToken).get();
 			}
+			processToken(rawToken, parser, result, resourcesHandler);
+			rawToken = streamParser.parseNextToken();
 		}
 		return result;
 	}
+
+	private void processToken(Object rawToken, OperatorParser parser,
+							  List<org.verapdf.model.operator.Operator> result,
+							  PDResourcesHandler resourcesHandler) {
+		if (rawToken instanceof COSBase) {
+			this.arguments.add((COSBase) rawToken);
+		} else if (rawToken instanceof Operator) {
+			OperatorCode operatorCode = OperatorCode.getOperatorCode(((Operator) rawToken).getOperator());
+			parser.parseOperator(result, operatorCode, (Operator) rawToken, resourcesHandler,
+					takeArguments(operatorCode));
+			TransparencyBehaviour behaviour = PAINT_OPERATORS_WITHOUT_TEXT.get(operatorCode);
+			if (behaviour != null) {
+				isLastParsedContainsTransparency |= behaviour.containsTransparency(
+						parser.getCurrentTransparencyGraphicState());
+			} else if (PAINT_OPERATORS_TEXT.contains(operatorCode)) {
+				behaviour = RENDERING_MODE.get(parser.getGSRenderingMode());
+				if (behaviour != null) {
+					isLastParsedContainsTransparency |= behaviour.containsTransparency(
+							parser.getCurrentTransparencyGraphicState());
+				}
+			}
+		} else {
+			LOGGER.log(Level.FINE, MSG_UNEXPECTED_OBJECT_TYPE + rawToken.getClass().getName());
+		}
+	}
+
+	/**
+	 * Copies collected operands into an exactly sized list owned by the
+	 * operator. Operators keep their operands, so the buffer itself is never
+	 * handed out, and the operand array of a new list would have the default
+	 * capacity.
+	 */
+	private List<COSBase> takeArguments(OperatorCode operatorCode) {
+		if (this.arguments.isEmpty()) {
+			// inline image parameters are appended to the operands of BI
+			return operatorCode == OperatorCode.BI ? new ArrayList<COSBase>(1) : Collections.<COSBase>emptyList();
+		}
+		List<COSBase> operands = new ArrayList<>(this.arguments);
+		this.arguments.clear();
+		return operands;
+	}
 }
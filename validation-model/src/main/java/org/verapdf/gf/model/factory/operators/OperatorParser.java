@@ -26,7 +26,7 @@ package org.verapdf.gf.model.factory.operators;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.color.GFOpColor;
 import org.verapdf.gf.model.impl.operator.color.GFOpSetColor;
 import org.verapdf.gf.model.impl.operator.generalgs.*;
@@ -60,7 +60,6 @@ import org.verapdf.gf.model.impl.pd.font.GFPDFont;
 import org.verapdf.gf.model.impl.pd.images.GFPDXObject;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.gf.model.tools.FileSpecificationKeysHelper;
-import org.verapdf.model.tools.constants.Operators;
 import org.verapdf.operator.InlineImageOperator;
 import org.verapdf.operator.Operator;
 import org.verapdf.pd.PDExtGState;
@@ -93,11 +92,15 @@ class OperatorParser {
 	private StructureElementAccessObject structureElementAccessObject;
 	private TransparencyGraphicsState transparencyGraphicState = new TransparencyGraphicsState();
 
+	private final ValidationContext context;
+
 	private boolean insideText = false;
 
 	OperatorParser(GraphicState inheritedGraphicState,
 				   StructureElementAccessObject structureElementAccessObject,
-				   PDResourcesHandler resourcesHandler) {
+				   PDResourcesHandler resourcesHandler,
+				   ValidationContext context) {
+		this.context = context;
 		if (inheritedGraphicState == null) {
 			this.graphicState = new GraphicState(resourcesHandler);
 		} else {
@@ -107,355 +110,359 @@ class OperatorParser {
 		this.structureElementAccessObject = structureElementAccessObject;
 	}
 
-	public TransparencyGraphicsState getTransparencyGraphicState() {
-		TransparencyGraphicsState tgs = new TransparencyGraphicsState();
-		tgs.copyProperties(this.transparencyGraphicState);
-		return tgs;
+	/**
+	 * @return current transparency graphic state without copying, it must not be modified
+	 */
+	TransparencyGraphicsState getCurrentTransparencyGraphicState() {
+		return this.transparencyGraphicState;
 	}
 
 	public RenderingMode getGSRenderingMode() {
 		return graphicState.getRenderingMode();
 	}
 
-	void parseOperator(List<org.verapdf.model.operator.Operator> processedOperators, Operator rawOperator,
-					   PDResourcesHandler resourcesHandler, List<COSBase> arguments) {
-		String operatorName = rawOperator.getOperator();
-		switch (operatorName) {
+	void parseOperator(List<org.verapdf.model.operator.Operator> processedOperators, OperatorCode operatorCode,
+					   Operator rawOperator, PDResourcesHandler resourcesHandler, List<COSBase> arguments) {
+		switch (operatorCode) {
 			// GENERAL GS
-			case Operators.D_SET_DASH:
-				processedOperators.add(new GFOp_d(arguments));
+			case D_SET_DASH:
+				processedOperators.add(new GFOp_d(arguments, this.context));
 				break;
-			case Operators.GS:
-				processExtGState(processedOperators, arguments, resourcesHandler, this.graphicState, this.transparencyGraphicState);
+			case GS:
+				processExtGState(processedOperators, arguments, resourcesHandler, this.graphicState,
+						this.transparencyGraphicState, this.context);
 				break;
-			case Operators.I_SETFLAT:
-				processedOperators.add(new GFOp_i(arguments));
+			case I_SETFLAT:
+				processedOperators.add(new GFOp_i(arguments, this.context));
 				break;
-			case Operators.J_LINE_CAP:
-				processedOperators.add(new GFOp_J_line_cap(arguments));
+			case J_LINE_CAP:
+				processedOperators.add(new GFOp_J_line_cap(arguments, this.context));
 				break;
-			case Operators.J_LINE_JOIN:
-				processedOperators.add(new GFOp_j_line_join(arguments));
+			case J_LINE_JOIN:
+				processedOperators.add(new GFOp_j_line_join(arguments, this.context));
 				break;
-			case Operators.M_MITER_LIMIT:
-				processedOperators.add(new GFOp_M_miter_limit(arguments));
+			case M_MITER_LIMIT:
+				processedOperators.add(new GFOp_M_miter_limit(arguments, this.context));
 				break;
-			case Operators.RI:
+			case RI:
 				if (this.graphicState.isProcessColorOperators()) {
-					processedOperators.add(new GFOp_ri(arguments));
+					processedOperators.add(new GFOp_ri(arguments, this.context));
 				}
 				break;
-			case Operators.W_LINE_WIDTH:
-				processedOperators.add(new GFOp_w_line_width(arguments));
+			case W_LINE_WIDTH:
+				processedOperators.add(new GFOp_w_line_width(arguments, this.context));
 				break;
 
 			// MARKED CONTENT
-			case Operators.BMC:
-				GFOp_BMC bmcOp = new GFOp_BMC(arguments, resourcesHandler);
+			case BMC:
+				GFOp_BMC bmcOp = new GFOp_BMC(arguments, resourcesHandler, this.context);
 				processedOperators.add(bmcOp);
 				this.markedContentStack.push(bmcOp);
 				break;
-			case Operators.BDC:
-				PDFAFlavour.Specification specification = StaticContainers.getFlavour().getPart();
+			case BDC:
+				PDFAFlavour.Specification specification = this.context.getFlavour().getPart();
 				if (specification == PDFAFlavour.Specification.ISO_19005_3
 						|| specification == PDFAFlavour.Specification.ISO_19005_4) {
-					checkAFKey(arguments, resourcesHandler);
+					checkAFKey(arguments, resourcesHandler, this.context);
 				}
-				GFOp_BDC bdcOp = new GFOp_BDC(arguments, resourcesHandler);
+				GFOp_BDC bdcOp = new GFOp_BDC(arguments, resourcesHandler, this.context);
 				processedOperators.add(bdcOp);
 				this.markedContentStack.push(bdcOp);
 				break;
-			case Operators.EMC:
-				processedOperators.add(new GFOp_EMC(arguments));
+			case EMC:
+				processedOperators.add(new GFOp_EMC(arguments, this.context));
 				if (!this.markedContentStack.empty()) {
 					this.markedContentStack.pop();
 				}
 				break;
-			case Operators.MP:
-				processedOperators.add(new GFOp_MP(arguments));
+			case MP:
+				processedOperators.add(new GFOp_MP(arguments, this.context));
 				break;
-			case Operators.DP:
-				processedOperators.add(new GFOp_DP(arguments, resourcesHandler));
+			case DP:
+				processedOperators.add(new GFOp_DP(arguments, resourcesHandler, this.context));
 				break;
 
 			// CLIP
-			case Operators.W_CLIP:
-				processedOperators.add(new GFOp_W_clip(arguments));
+			case W_CLIP:
+				processedOperators.add(new GFOp_W_clip(arguments, this.context));
 				break;
-			case Operators.W_STAR_EOCLIP:
-				processedOperators.add(new GFOp_WStar(arguments));
+			case W_STAR_EOCLIP:
+				processedOperators.add(new GFOp_WStar(arguments, this.context));
 				break;
 
 			// COLOR
-			case Operators.G_STROKE: {
+			case G_STROKE: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceGray.INSTANCE,
 					                  ASAtom.DEVICEGRAY, true);
-					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.G_FILL: {
+			case G_FILL: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceGray.INSTANCE,
 					                  ASAtom.DEVICEGRAY, false);
-					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.RG_STROKE: {
+			case RG_STROKE: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceRGB.INSTANCE,
 					                  ASAtom.DEVICERGB, true);
-					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.RG_FILL: {
+			case RG_FILL: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceRGB.INSTANCE,
 					                  ASAtom.DEVICERGB, false);
-					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.K_STROKE: {
+			case K_STROKE: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceCMYK.INSTANCE,
 					                  ASAtom.DEVICECMYK, true);
-					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.K_FILL: {
+			case K_FILL: {
 				if (this.graphicState.isProcessColorOperators()) {
 					processColorSpace(this.graphicState, resourcesHandler, PDDeviceCMYK.INSTANCE,
 					                  ASAtom.DEVICECMYK, false);
-					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
 			}
-			case Operators.CS_STROKE:
+			case CS_STROKE:
 				if (this.graphicState.isProcessColorOperators()) {
 					this.graphicState.setStrokeColorSpace(resourcesHandler.getColorSpace(getLastCOSName(arguments)));
-					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
-			case Operators.CS_FILL:
+			case CS_FILL:
 				if (this.graphicState.isProcessColorOperators()) {
 					this.graphicState.setFillColorSpace(resourcesHandler.getColorSpace(getLastCOSName(arguments)));
-					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
-			case Operators.SCN_STROKE:
+			case SCN_STROKE:
 				if (this.graphicState.isProcessColorOperators()) {
 					processPatternColorSpace(arguments, this.graphicState, resourcesHandler, true);
-					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getStrokeColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
-			case Operators.SCN_FILL:
+			case SCN_FILL:
 				if (this.graphicState.isProcessColorOperators()) {
 					processPatternColorSpace(arguments, this.graphicState, resourcesHandler,false);
-					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState));
+					processedOperators.add(getFillColorOperator(arguments, resourcesHandler, graphicState, this.context));
 				}
 				break;
-			case Operators.SC_STROKE:
-			case Operators.SC_FILL:
+			case SC_STROKE:
+			case SC_FILL:
 				if (this.graphicState.isProcessColorOperators()) {
-					processedOperators.add(new GFOpSetColor(arguments));
+					processedOperators.add(new GFOpSetColor(arguments, this.context));
 				}
 				break;
 
 			// TEXT OBJECT
-			case Operators.ET:
+			case ET:
 				insideText = false;
-				processedOperators.add(new GFOpTextObject(arguments));
+				processedOperators.add(new GFOpTextObject(arguments, this.context));
 				break;
-			case Operators.BT:
+			case BT:
 				insideText = true;
-				processedOperators.add(new GFOpTextObject(arguments));
+				processedOperators.add(new GFOpTextObject(arguments, this.context));
 				break;
 
 			// TEXT POSITION
-			case Operators.TD_MOVE:
-				processedOperators.add(new GFOp_Td(arguments));
+			case TD_MOVE:
+				processedOperators.add(new GFOp_Td(arguments, this.context));
 				break;
-			case Operators.TD_MOVE_SET_LEADING:
-				processedOperators.add(new GFOp_TD_Big(arguments));
+			case TD_MOVE_SET_LEADING:
+				processedOperators.add(new GFOp_TD_Big(arguments, this.context));
 				break;
-			case Operators.TM:
-				processedOperators.add(new GFOp_Tm(arguments));
+			case TM:
+				processedOperators.add(new GFOp_Tm(arguments, this.context));
 				break;
-			case Operators.T_STAR:
-				processedOperators.add(new GFOpTextPosition(arguments));
+			case T_STAR:
+				processedOperators.add(new GFOpTextPosition(arguments, this.context));
 				break;
 
 			// TEXT SHOW
-			case Operators.TJ_SHOW:
+			case TJ_SHOW:
 				GFOp_Tj tj = new GFOp_Tj(arguments, this.graphicState.clone(),
-						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject);
+						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject, this.context);
 				addFontAndColorSpace(tj, this.transparencyGraphicState);
 				processedOperators.add(tj);
 				break;
-			case Operators.TJ_SHOW_POS:
+			case TJ_SHOW_POS:
 				GFOp_TJ_Big tjBig = new GFOp_TJ_Big(arguments, this.graphicState.clone(),
-						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject);
+						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject, this.context);
 				addFontAndColorSpace(tjBig, this.transparencyGraphicState);
 				processedOperators.add(tjBig);
 				break;
-			case Operators.QUOTE:
+			case QUOTE:
 				GFOp_Quote quote = new GFOp_Quote(arguments, this.graphicState.clone(),
-						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject);
+						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject, this.context);
 				addFontAndColorSpace(quote, this.transparencyGraphicState);
 				processedOperators.add(quote);
 				break;
-			case Operators.DOUBLE_QUOTE:
+			case DOUBLE_QUOTE:
 				GFOp_DoubleQuote doubleQuote = new GFOp_DoubleQuote(arguments, this.graphicState.clone(),
-						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject);
+						resourcesHandler, getCurrentMarkedContent(), structureElementAccessObject, this.context);
 				addFontAndColorSpace(doubleQuote, this.transparencyGraphicState);
 				processedOperators.add(doubleQuote);
 				break;
 
 			// TEXT STATE
-			case Operators.TZ:
-				processedOperators.add(new GFOp_Tz(arguments));
+			case TZ:
+				processedOperators.add(new GFOp_Tz(arguments, this.context));
 				break;
-			case Operators.TR:
+			case TR:
 				this.graphicState.setRenderingMode(getRenderingMode(arguments));
-				processedOperators.add(new GFOp_Tr(arguments));
+				processedOperators.add(new GFOp_Tr(arguments, this.context));
 				break;
-			case Operators.TF:
+			case TF:
 				this.graphicState.setFont(resourcesHandler.getFont(getFirstCOSName(arguments)));
-				processedOperators.add(new GFOp_Tf(arguments));
+				processedOperators.add(new GFOp_Tf(arguments, this.context));
 				break;
-			case Operators.TC:
-				processedOperators.add(new GFOp_Tc(arguments));
+			case TC:
+				processedOperators.add(new GFOp_Tc(arguments, this.context));
 				break;
-			case Operators.TW:
-				processedOperators.add(new GFOp_Tw(arguments));
+			case TW:
+				processedOperators.add(new GFOp_Tw(arguments, this.context));
 				break;
-			case Operators.TL:
-				processedOperators.add(new GFOp_Tl(arguments));
+			case TL:
+				processedOperators.add(new GFOp_Tl(arguments, this.context));
 				break;
-			case Operators.TS:
-				processedOperators.add(new GFOp_Ts(arguments));
+			case TS:
+				processedOperators.add(new GFOp_Ts(arguments, this.context));
 				break;
 
 			// TYPE 3 FONT
-			case Operators.D0:
-				processedOperators.add(new GFOp_d0(arguments));
+			case D0:
+				processedOperators.add(new GFOp_d0(arguments, this.context));
 				break;
-			case Operators.D1:
-				processedOperators.add(new GFOp_d1(arguments));
+			case D1:
+				processedOperators.add(new GFOp_d1(arguments, this.context));
 				this.graphicState.disableColorOperators();
 				break;
 
 			// INLINE IMAGE
-			case Operators.BI:
+			case BI:
 				processInlineImage(processedOperators,
 						(InlineImageOperator) rawOperator,
 						resourcesHandler,
 						arguments,
-						this.graphicState);
+						this.graphicState, this.context);
 				break;
 
 			// COMPABILITY
-			case Operators.BX:
-				processedOperators.add(new GFOp_BX(arguments));
+			case BX:
+				processedOperators.add(new GFOp_BX(arguments, this.context));
 				break;
-			case Operators.EX:
-				processedOperators.add(new GFOp_EX(arguments));
+			case EX:
+				processedOperators.add(new GFOp_EX(arguments, this.context));
 				break;
 
 			// PATH CONSTRUCTION
-			case Operators.C_CURVE_TO:
-				processedOperators.add(new GFOp_c(arguments));
+			case C_CURVE_TO:
+				processedOperators.add(new GFOp_c(arguments, this.context));
 				break;
-			case Operators.H_CLOSEPATH:
-				processedOperators.add(new GFOp_h(arguments));
+			case H_CLOSEPATH:
+				processedOperators.add(new GFOp_h(arguments, this.context));
 				break;
-			case Operators.L_LINE_TO:
-				processedOperators.add(new GFOp_l(arguments));
+			case L_LINE_TO:
+				processedOperators.add(new GFOp_l(arguments, this.context));
 				break;
-			case Operators.M_MOVE_TO:
-				processedOperators.add(new GFOp_m_moveto(arguments));
+			case M_MOVE_TO:
+				processedOperators.add(new GFOp_m_moveto(arguments, this.context));
 				break;
-			case Operators.RE:
-				processedOperators.add(new GFOp_re(arguments));
+			case RE:
+				processedOperators.add(new GFOp_re(arguments, this.context));
 				break;
-			case Operators.V:
-				processedOperators.add(new GFOp_v(arguments));
+			case V:
+				processedOperators.add(new GFOp_v(arguments, this.context));
 				break;
-			case Operators.Y:
-				processedOperators.add(new GFOp_y(arguments));
+			case Y:
+				processedOperators.add(new GFOp_y(arguments, this.context));
 				break;
 
 			// PATH PAINT
-			case Operators.B_CLOSEPATH_FILL_STROKE:
-				GFOp_b_closepath_fill_stroke b_closepath_fill_stroke = new GFOp_b_closepath_fill_stroke(arguments, this.graphicState, resourcesHandler);
+			case B_CLOSEPATH_FILL_STROKE:
+				GFOp_b_closepath_fill_stroke b_closepath_fill_stroke = new GFOp_b_closepath_fill_stroke(arguments,
+						this.graphicState, resourcesHandler, this.context);
 				addColorSpace(b_closepath_fill_stroke, this.transparencyGraphicState);
 				processedOperators.add(b_closepath_fill_stroke);
 				break;
-			case Operators.B_FILL_STROKE:
-				GFOp_B_fill_stroke b_fill_stroke = new GFOp_B_fill_stroke(arguments, this.graphicState, resourcesHandler);
+			case B_FILL_STROKE:
+				GFOp_B_fill_stroke b_fill_stroke = new GFOp_B_fill_stroke(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(b_fill_stroke, this.transparencyGraphicState);
 				processedOperators.add(b_fill_stroke);
 				break;
-			case Operators.B_STAR_CLOSEPATH_EOFILL_STROKE:
-				GFOp_bstar_closepath_eofill_stroke bstar_closepath_eofill_stroke = new GFOp_bstar_closepath_eofill_stroke(arguments, this.graphicState, resourcesHandler);
+			case B_STAR_CLOSEPATH_EOFILL_STROKE:
+				GFOp_bstar_closepath_eofill_stroke bstar_closepath_eofill_stroke = new GFOp_bstar_closepath_eofill_stroke(arguments,
+						this.graphicState, resourcesHandler, this.context);
 				addColorSpace(bstar_closepath_eofill_stroke, this.transparencyGraphicState);
 				processedOperators.add(bstar_closepath_eofill_stroke);
 				break;
-			case Operators.B_STAR_EOFILL_STROKE:
-				GFOp_BStar_eofill_stroke bStar_eofill_stroke = new GFOp_BStar_eofill_stroke(arguments, this.graphicState, resourcesHandler);
+			case B_STAR_EOFILL_STROKE:
+				GFOp_BStar_eofill_stroke bStar_eofill_stroke = new GFOp_BStar_eofill_stroke(arguments, this.graphicState,
+						resourcesHandler, this.context);
 				addColorSpace(bStar_eofill_stroke, this.transparencyGraphicState);
 				processedOperators.add(bStar_eofill_stroke);
 				break;
-			case Operators.F_FILL:
-				GFOp_f_fill f_fill = new GFOp_f_fill(arguments, this.graphicState, resourcesHandler);
+			case F_FILL:
+				GFOp_f_fill f_fill = new GFOp_f_fill(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(f_fill, this.transparencyGraphicState);
 				processedOperators.add(f_fill);
 				break;
-			case Operators.F_FILL_OBSOLETE:
-				GFOp_F_fill_obsolete f_fill_obsolete = new GFOp_F_fill_obsolete(arguments, this.graphicState, resourcesHandler);
+			case F_FILL_OBSOLETE:
+				GFOp_F_fill_obsolete f_fill_obsolete = new GFOp_F_fill_obsolete(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(f_fill_obsolete, this.transparencyGraphicState);
 				processedOperators.add(f_fill_obsolete);
 				break;
-			case Operators.F_STAR_FILL:
-				GFOp_FStar fStar = new GFOp_FStar(arguments, this.graphicState, resourcesHandler);
+			case F_STAR_FILL:
+				GFOp_FStar fStar = new GFOp_FStar(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(fStar, this.transparencyGraphicState);
 				processedOperators.add(fStar);
 				break;
-			case Operators.N:
-				GFOp_n op_n = new GFOp_n(arguments);
+			case N:
+				GFOp_n op_n = new GFOp_n(arguments, this.context);
 				addColorSpace(op_n, this.transparencyGraphicState);
 				processedOperators.add(op_n);
 				break;
-			case Operators.S_CLOSE_STROKE:
-				GFOp_s_close_stroke s_close_stroke = new GFOp_s_close_stroke(arguments, this.graphicState, resourcesHandler);
+			case S_CLOSE_STROKE:
+				GFOp_s_close_stroke s_close_stroke = new GFOp_s_close_stroke(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(s_close_stroke, this.transparencyGraphicState);
 				processedOperators.add(s_close_stroke);
 				break;
-			case Operators.S_STROKE:
-				GFOp_S_stroke s_stroke = new GFOp_S_stroke(arguments, this.graphicState, resourcesHandler);
+			case S_STROKE:
+				GFOp_S_stroke s_stroke = new GFOp_S_stroke(arguments, this.graphicState, resourcesHandler, this.context);
 				addColorSpace(s_stroke, this.transparencyGraphicState);
 				processedOperators.add(s_stroke);
 
 			// SHADING
-			case Operators.SH:
+			case SH:
 				if (this.graphicState.isProcessColorOperators()) {
-					processedOperators.add(new GFOp_sh(arguments, resourcesHandler.getShading(getLastCOSName(arguments))));
+					processedOperators.add(new GFOp_sh(arguments, resourcesHandler.getShading(getLastCOSName(arguments)), this.context));
 				}
 				break;
 
 			// SPECIAL GS
-			case Operators.CM_CONCAT:
+			case CM_CONCAT:
 				if (insideText) {
 					LOGGER.log(Level.WARNING, "Special graphics state operator (cm) inside Text object");
 				}
-				processedOperators.add(new GFOp_cm(arguments));
+				processedOperators.add(new GFOp_cm(arguments, this.context));
 				break;
-			case Operators.Q_GRESTORE:
+			case Q_GRESTORE:
 				if (insideText) {
 					LOGGER.log(Level.WARNING, "Special graphics state operator (Q) inside Text object");
 				}
@@ -465,21 +472,21 @@ class OperatorParser {
 				if (!transparencyGraphicStateStack.isEmpty()) {
 					this.transparencyGraphicState.copyProperties(this.transparencyGraphicStateStack.pop());
 				}
-				processedOperators.add(new GFOp_Q_grestore(arguments));
+				processedOperators.add(new GFOp_Q_grestore(arguments, this.context));
 				break;
-			case Operators.Q_GSAVE:
+			case Q_GSAVE:
 				if (insideText) {
 					LOGGER.log(Level.WARNING, "Special graphics state operator (q) inside Text object");
 				}
 				this.graphicStateStack.push(this.graphicState.clone());
 				this.transparencyGraphicStateStack.push(this.transparencyGraphicState.clone());
-				processedOperators.add(new GFOp_q_gsave(arguments, this.graphicStateStack.size()));
+				processedOperators.add(new GFOp_q_gsave(arguments, this.graphicStateStack.size(), this.context));
 				break;
 
 			// XOBJECT
-			case Operators.DO:
+			case DO:
 				GFOp_Do op_do = new GFOp_Do(arguments, resourcesHandler.getXObject(getLastCOSName(arguments)),
-						resourcesHandler, this.graphicState.clone());
+						resourcesHandler, this.graphicState.clone(), this.context);
 				List<org.verapdf.model.pdlayer.PDXObject> pdxObjects = op_do.getXObject();
 				if (!pdxObjects.isEmpty()) {
 					GFPDXObject xobj = (GFPDXObject) pdxObjects.get(0);
@@ -489,36 +496,36 @@ class OperatorParser {
 				break;
 
 			default:
-				processedOperators.add(new GFOp_Undefined(arguments));
+				processedOperators.add(new GFOp_Undefined(arguments, this.context));
 				break;
 		}
 	}
 
 	private static GFOpColor getStrokeColorOperator(List<COSBase> arguments,
 													PDResourcesHandler resourcesHandler,
-													GraphicState graphicState) {
+													GraphicState graphicState, ValidationContext context) {
 		// OP and opm are not passed to color space factory: color space is being specified (not used yet)
 		org.verapdf.model.pdlayer.PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getStrokeColorSpace(), resourcesHandler, graphicState);
-		return new GFOpColor(arguments, colorSpace);
+				graphicState.getStrokeColorSpace(), resourcesHandler, graphicState, context);
+		return new GFOpColor(arguments, colorSpace, context);
 	}
 
 	private static GFOpColor getFillColorOperator(List<COSBase> arguments,
 													PDResourcesHandler resourcesHandler,
-													GraphicState graphicState) {
+													GraphicState graphicState, ValidationContext context) {
 		// op and opm are not passed to color space factory: color space is being specified (not used yet)
 		org.verapdf.model.pdlayer.PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getFillColorSpace(), resourcesHandler, graphicState);
-		return new GFOpColor(arguments, colorSpace);
+				graphicState.getFillColorSpace(), resourcesHandler, graphicState, context);
+		return new GFOpColor(arguments, colorSpace, context);
 	}
 
 	private static void processExtGState(List<org.verapdf.model.operator.Operator> processedOperators, List<COSBase> arguments,
 										 PDResourcesHandler resourcesHandler, GraphicState graphicState,
-										 TransparencyGraphicsState transparencyGraphicsState) {
+										 TransparencyGraphicsState transparencyGraphicsState, ValidationContext context) {
 		PDExtGState extGState = resourcesHandler.getExtGState(getLastCOSName(arguments));
 		graphicState.copyPropertiesFormExtGState(extGState);
 		transparencyGraphicsState.copyPropertiesFormExtGState(extGState);
-		processedOperators.add(new GFOp_gs(arguments, extGState));
+		processedOperators.add(new GFOp_gs(arguments, extGState, context));
 	}
 
 	private static void processColorSpace(GraphicState graphicState, PDResourcesHandler resourcesHandler,
@@ -553,15 +560,15 @@ class OperatorParser {
 	private static void processInlineImage(List<org.verapdf.model.operator.Operator> processedOperators,
 										   InlineImageOperator rawOperator, PDResourcesHandler resourcesHandler,
 										   List<COSBase> arguments,
-										   GraphicState gs) {
+										   GraphicState gs, ValidationContext context) {
 		COSDictionary imageParameters = rawOperator.getImageParameters();
 		if (imageParameters != null
 		    && (gs.isProcessColorOperators() || Boolean.TRUE.equals(imageParameters.getBooleanKey(ASAtom.IM)))) {
 
 			arguments.add(imageParameters);
-			processedOperators.add(new GFOp_BI(new ArrayList<COSBase>()));
-			processedOperators.add(new GFOp_ID(arguments));
-			processedOperators.add(new GFOp_EI(arguments, resourcesHandler, gs.getFillColorSpace()));
+			processedOperators.add(new GFOp_BI(new ArrayList<COSBase>(), context));
+			processedOperators.add(new GFOp_ID(arguments, context));
+			processedOperators.add(new GFOp_EI(arguments, resourcesHandler, gs.getFillColorSpace(), context));
 		}
 	}
 
@@ -609,7 +616,8 @@ class OperatorParser {
 		transparencyGraphicsState.setVeraStrokeColorSpace(strokeCS);
 	}
 
-	private static void checkAFKey(List<COSBase> arguments, PDResourcesHandler resourcesHandler) {
+	private static void checkAFKey(List<COSBase> arguments, PDResourcesHandler resourcesHandler,
+								   ValidationContext context) {
 		int argumentsSize = arguments.size();
 		if (argumentsSize > 1) {
 			COSBase tag = arguments.get(argumentsSize - 2);
@@ -619,7 +627,8 @@ class OperatorParser {
 				if (properties != null) {
 					COSObject cosProperties = properties.getObject();
 					if (cosProperties != null && cosProperties.getType() == COSObjType.COS_ARRAY) {
-						FileSpecificationKeysHelper.registerFileSpecificationKeys((COSArray) cosProperties.getDirectBase());
+						FileSpecificationKeysHelper.registerFileSpecificationKeys((COSArray) cosProperties.getDirectBase(),
+								context);
 					}
 				}
 			}
@@ -22,10 +22,11 @@ package org.verapdf.gf.model.impl.containers;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSKey;
-import org.verapdf.gf.model.impl.pd.colors.GFPDSeparation;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.factory.colors.ColorSpaceCache;
 import org.verapdf.gf.model.impl.pd.util.TaggedPDFRoleMapHelper;
+import org.verapdf.gf.model.tools.GlyphKey;
 import org.verapdf.model.operator.Glyph;
-import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDFont;
 import org.verapdf.pd.PDDocument;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -33,158 +34,151 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 import java.util.*;
 
 /**
+ * Compatibility shim over {@link ValidationContext}.
+ * <p>
+ * Keeps the {@link ValidationContext} bound to the current thread for callers
+ * outside of the model, which has no model object at hand. Model objects,
+ * factories and helpers receive their context explicitly and never read it
+ * from here.
+ *
  * @author Timur Kamalov
  */
 public class StaticContainers {
 
-	private static ThreadLocal<PDDocument> document = new ThreadLocal<>();
-	private static ThreadLocal<PDFAFlavour> flavour = new ThreadLocal<>();
-
-	// TaggedPDF
-	private static ThreadLocal<TaggedPDFRoleMapHelper> roleMapHelper = new ThreadLocal<>();
+	private static final ThreadLocal<ValidationContext> context = new ThreadLocal<>();
 
-	//PBoxPDSeparation
-	private static ThreadLocal<Map<String, List<GFPDSeparation>>> separations = new ThreadLocal<>();
-	private static ThreadLocal<List<String>> inconsistentSeparations = new ThreadLocal<>();
-
-	//ColorSpaceFactory
-	private static ThreadLocal<Map<String, PDColorSpace>> cachedColorSpaces = new ThreadLocal<>();
+	/**
+	 * @return context bound to the current thread
+	 * @throws IllegalStateException if no context is bound to the current thread
+	 */
+	public static ValidationContext getContext() {
+		ValidationContext current = context.get();
+		if (current == null) {
+			throw new IllegalStateException("No validation context is bound to the current thread");
+		}
+		return current;
+	}
 
-	//FontFactory
-	private static ThreadLocal<Map<String, PDFont>> cachedFonts = new ThreadLocal<>();
+	/**
+	 * @return context bound to the current thread or null if there is none
+	 */
+	public static ValidationContext getBoundContext() {
+		return context.get();
+	}
 
-	private static ThreadLocal<Set<COSKey>> fileSpecificationKeys = new ThreadLocal<>();
+	/**
+	 * @param validationContext context to check
+	 * @return true if the given context is bound to the current thread
+	 */
+	public static boolean isBound(ValidationContext validationContext) {
+		return validationContext != null && context.get() == validationContext;
+	}
 
-	private static ThreadLocal<Stack<COSKey>> transparencyVisitedContentStreams = new ThreadLocal<>();
-	private static ThreadLocal<Boolean> validPDF = new ThreadLocal<>();
+	public static void setContext(ValidationContext validationContext) {
+		context.set(validationContext);
+	}
 
-	private static ThreadLocal<Map<String, Glyph>> cachedGlyphs = new ThreadLocal<>();
+	/**
+	 * Unbinds context from the current thread, so pooled threads don't keep
+	 * references to already validated documents.
+	 */
+	public static void removeContext() {
+		context.remove();
+	}
 
 	public static void clearAllContainers() {
-		document.set(null);
-		flavour.set(null);
-		roleMapHelper.set(null);
-		separations.set(new HashMap<>());
-		inconsistentSeparations.set(new ArrayList<>());
-		cachedColorSpaces.set(new HashMap<>());
-		cachedFonts.set(new HashMap<>());
-		fileSpecificationKeys.set(new HashSet<>());
-		transparencyVisitedContentStreams.set(new Stack<>());
-		cachedGlyphs.set(new HashMap<>());
-		validPDF.set(true);
+		context.set(new ValidationContext(null, null));
 	}
 
 	public static PDDocument getDocument() {
-		return document.get();
+		return getContext().getDocument();
 	}
 
 	public static void setDocument(PDDocument document) {
-		StaticContainers.document.set(document);
+		getContext().setDocument(document);
 	}
 
 	public static PDFAFlavour getFlavour() {
-		return flavour.get();
+		return getContext().getFlavour();
 	}
 
 	public static void setFlavour(PDFAFlavour flavour) {
-		StaticContainers.flavour.set(flavour);
+		getContext().setFlavour(flavour);
 	}
 
 	public static TaggedPDFRoleMapHelper getRoleMapHelper() {
-		return roleMapHelper.get();
+		return getContext().getRoleMapHelper();
 	}
 
 	public static void setRoleMapHelper(Map<ASAtom, ASAtom> roleMap) {
-		StaticContainers.roleMapHelper = new ThreadLocal<>();
-		roleMapHelper.set(new TaggedPDFRoleMapHelper(roleMap));
+		getContext().setRoleMapHelper(roleMap);
 	}
 
 	public static void setRoleMapHelper(TaggedPDFRoleMapHelper roleMapHelper) {
-		StaticContainers.roleMapHelper.set(roleMapHelper);
+		getContext().setRoleMapHelper(roleMapHelper);
 	}
 
-	public static Map<String, List<GFPDSeparation>> getSeparations() {
-		if (separations.get() == null) {
-			separations.set(new HashMap<>());
-		}
-		return separations.get();
+	public static Map<String, List<COSObject>> getSeparationFingerprints() {
+		return getContext().getSeparationFingerprints();
 	}
 
-	public static void setSeparations(Map<String, List<GFPDSeparation>> separations) {
-		StaticContainers.separations.set(separations);
+	public static void setSeparationFingerprints(Map<String, List<COSObject>> separationFingerprints) {
+		getContext().setSeparationFingerprints(separationFingerprints);
 	}
 
-	public static List<String> getInconsistentSeparations() {
-		if (inconsistentSeparations.get() == null) {
-			inconsistentSeparations.set(new ArrayList<>());
-		}
-		return inconsistentSeparations.get();
+	public static Set<String> getInconsistentSeparations() {
+		return getContext().getInconsistentSeparations();
 	}
 
-	public static void setInconsistentSeparations(List<String> inconsistentSeparations) {
-		StaticContainers.inconsistentSeparations.set(inconsistentSeparations);
+	public static void setInconsistentSeparations(Set<String> inconsistentSeparations) {
+		getContext().setInconsistentSeparations(inconsistentSeparations);
 	}
 
-	public static Map<String, PDColorSpace> getCachedColorSpaces() {
-		if (cachedColorSpaces.get() == null) {
-			cachedColorSpaces.set(new HashMap<>());
-		}
-		return cachedColorSpaces.get();
+	public static ColorSpaceCache getColorSpaceCache() {
+		return getContext().getColorSpaceCache();
 	}
 
-	public static void setCachedColorSpaces(Map<String, PDColorSpace> cachedColorSpaces) {
-		StaticContainers.cachedColorSpaces.set(cachedColorSpaces);
+	public static void setColorSpaceCache(ColorSpaceCache colorSpaceCache) {
+		getContext().setColorSpaceCache(colorSpaceCache);
 	}
 
 	public static Map<String, PDFont> getCachedFonts() {
-		if (cachedFonts.get() == null) {
-			cachedFonts.set(new HashMap<>());
-		}
-		return cachedFonts.get();
+		return getContext().getCachedFonts();
 	}
 
 	public static void setCachedFonts(Map<String, PDFont> cachedFonts) {
-		StaticContainers.cachedFonts.set(cachedFonts);
+		getContext().setCachedFonts(cachedFonts);
 	}
 
 	public static Set<COSKey> getFileSpecificationKeys() {
-		if (fileSpecificationKeys.get() == null) {
-			fileSpecificationKeys.set(new HashSet<>());
-		}
-		return fileSpecificationKeys.get();
+		return getContext().getFileSpecificationKeys();
 	}
 
 	public static void setFileSpecificationKeys(Set<COSKey> fileSpecificationKeys) {
-		StaticContainers.fileSpecificationKeys.set(fileSpecificationKeys);
+		getContext().setFileSpecificationKeys(fileSpecificationKeys);
 	}
 
 	public static Stack<COSKey> getTransparencyVisitedContentStreams() {
-		if (transparencyVisitedContentStreams.get() == null) {
-			transparencyVisitedContentStreams.set(new Stack<>());
-		}
-		return transparencyVisitedContentStreams.get();
+		return getContext().getTransparencyVisitedContentStreams();
 	}
 
 	public static void setTransparencyVisitedContentStreams(Stack<COSKey> transparencyVisitedContentStreams) {
-		StaticContainers.transparencyVisitedContentStreams.set(transparencyVisitedContentStreams);
+		getContext().setTransparencyVisitedContentStreams(transparencyVisitedContentStreams);
 	}
 
 	public static boolean getValidPDF() {
-		return validPDF.get();
+		return getContext().getValidPDF();
 	}
 
 	public static void setValidPDF(boolean validPDF) {
-		StaticContainers.validPDF.set(validPDF);
+		getContext().setValidPDF(validPDF);
 	}
 
-	public static Map<String, Glyph> getCachedGlyphs() {
-		if (cachedGlyphs.get() == null) {
-			cachedGlyphs.set(new HashMap<>());
-		}
-		return cachedGlyphs.get();
+	public static Map<GlyphKey, Glyph> getCachedGlyphs() {
+		return getContext().getCachedGlyphs();
 	}
 
-	public static void setCachedGlyphs(Map<String, Glyph> cachedGlyphs) {
-		StaticContainers.cachedGlyphs.set(cachedGlyphs);
+	public static void setCachedGlyphs(Map<GlyphKey, Glyph> cachedGlyphs) {
+		getContext().setCachedGlyphs(cachedGlyphs);
 	}
 }
@@ -0,0 +1,353 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.containers;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSKey;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.factory.colors.ColorSpaceCache;
+import org.verapdf.gf.model.impl.external.EmbeddedFileResultCache;
+import org.verapdf.gf.model.impl.external.EmbeddedFileValidator;
+import org.verapdf.gf.model.impl.operator.markedcontent.ActualTextIndex;
+import org.verapdf.gf.model.impl.operator.textshow.FontGlyphFacts;
+import org.verapdf.gf.model.impl.pd.GFPDContentStream;
+import org.verapdf.gf.model.impl.pd.PageModelWindow;
+import org.verapdf.gf.model.impl.pd.font.GFPDType3Font;
+import org.verapdf.gf.model.impl.pd.signature.SignatureByteRangeIndex;
+import org.verapdf.gf.model.impl.pd.util.PageContentPrefetcher;
+import org.verapdf.gf.model.impl.pd.util.TaggedPDFRoleMapHelper;
+import org.verapdf.gf.model.impl.pd.util.XMPCache;
+import org.verapdf.gf.model.tools.GlyphKey;
+import org.verapdf.model.operator.Glyph;
+import org.verapdf.model.pdlayer.PDFont;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pd.structure.PDStructTreeRoot;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * Holds all caches and flags that belong to validation of a single document.
+ * <p>
+ * Context is created by {@link org.verapdf.gf.model.GFModelParser} and is carried
+ * by every model object built for the document, so model objects don't depend on
+ * the thread they are accessed from.
+ */
+public class ValidationContext {
+
+	private static final int MAX_CACHED_X_FORM_CONTENT_STREAMS = 256;
+	private static final int MAX_CACHED_TYPE3_FONTS = 256;
+
+	private PDDocument document;
+	private PDFAFlavour flavour;
+
+	// TaggedPDF
+	private TaggedPDFRoleMapHelper roleMapHelper;
+
+	//PBoxPDSeparation
+	// alternate space and tint transform of the first separation with the given colorant name
+	private Map<String, List<COSObject>> separationFingerprints = new HashMap<>();
+	private Set<String> inconsistentSeparations = new HashSet<>();
+
+	//ColorSpaceFactory
+	private ColorSpaceCache colorSpaceCache = new ColorSpaceCache();
+
+	//FontFactory
+	private Map<String, PDFont> cachedFonts = new HashMap<>();
+	private Map<List<Object>, GFPDType3Font> cachedType3Fonts = new LinkedHashMap<List<Object>, GFPDType3Font>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, GFPDType3Font> eldest) {
+			return size() > MAX_CACHED_TYPE3_FONTS;
+		}
+	};
+
+	private Set<COSKey> fileSpecificationKeys = new HashSet<>();
+
+	private Stack<COSKey> transparencyVisitedContentStreams = new Stack<>();
+	private int contentStreamLoopsCount = 0;
+	private boolean validPDF = true;
+
+	//GFPDXForm
+	private Map<List<Object>, GFPDContentStream> cachedXFormContentStreams = new LinkedHashMap<List<Object>, GFPDContentStream>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, GFPDContentStream> eldest) {
+			return size() > MAX_CACHED_X_FORM_CONTENT_STREAMS;
+		}
+	};
+
+	private Map<GlyphKey, Glyph> cachedGlyphs = new HashMap<>();
+	private Map<org.verapdf.pd.font.PDFont, FontGlyphFacts> cachedFontGlyphFacts = new IdentityHashMap<>();
+
+	//MarkedContentHelper
+	private ActualTextIndex actualTextIndex;
+
+	//GFPDMetadata, XMPChecker
+	private XMPCache xmpCache = new XMPCache();
+
+	// Parallel page parsing, disabled if executor is null
+	private Executor pageExecutor;
+	private PageContentPrefetcher pageContentPrefetcher;
+
+	// Validation of embedded files, in parallel if executor is not null
+	private Executor embeddedFileExecutor;
+	private EmbeddedFileResultCache embeddedFileResultCache;
+	private long embeddedFileMemoryThreshold = EmbeddedFileValidator.DEFAULT_MEMORY_THRESHOLD;
+	private EmbeddedFileValidator embeddedFileValidator;
+
+	//GFPDSignature
+	private SignatureByteRangeIndex signatureByteRangeIndex;
+
+	//GFPKCSDataObject, whether encoded certificates can be decoded
+	private Map<ByteBuffer, Boolean> cachedCertificates = new HashMap<>();
+
+	// Pull tokens of content streams one operator at a time instead of tokenizing whole stream
+	private boolean streamingContentParsing = false;
+
+	// Release parsed content of validated pages, disabled if null
+	private PageModelWindow pageModelWindow;
+
+	public ValidationContext(PDDocument document, PDFAFlavour flavour) {
+		this.document = document;
+		this.flavour = flavour;
+	}
+
+	public PDDocument getDocument() {
+		return this.document;
+	}
+
+	public void setDocument(PDDocument document) {
+		this.document = document;
+	}
+
+	public PDFAFlavour getFlavour() {
+		return this.flavour;
+	}
+
+	public void setFlavour(PDFAFlavour flavour) {
+		this.flavour = flavour;
+	}
+
+	public TaggedPDFRoleMapHelper getRoleMapHelper() {
+		return this.roleMapHelper;
+	}
+
+	public void setRoleMapHelper(Map<ASAtom, ASAtom> roleMap) {
+		this.roleMapHelper = new TaggedPDFRoleMapHelper(roleMap);
+	}
+
+	public void setRoleMapHelper(TaggedPDFRoleMapHelper roleMapHelper) {
+		this.roleMapHelper = roleMapHelper;
+	}
+
+	public Map<String, List<COSObject>> getSeparationFingerprints() {
+		return this.separationFingerprints;
+	}
+
+	public void setSeparationFingerprints(Map<String, List<COSObject>> separationFingerprints) {
+		this.separationFingerprints = separationFingerprints;
+	}
+
+	public Set<String> getInconsistentSeparations() {
+		return this.inconsistentSeparations;
+	}
+
+	public void setInconsistentSeparations(Set<String> inconsistentSeparations) {
+		this.inconsistentSeparations = inconsistentSeparations;
+	}
+
+	public ColorSpaceCache getColorSpaceCache() {
+		return this.colorSpaceCache;
+	}
+
+	public void setColorSpaceCache(ColorSpaceCache colorSpaceCache) {
+		this.colorSpaceCache = colorSpaceCache;
+	}
+
+	public Map<String, PDFont> getCachedFonts() {
+		return this.cachedFonts;
+	}
+
+	public void setCachedFonts(Map<String, PDFont> cachedFonts) {
+		this.cachedFonts = cachedFonts;
+	}
+
+	public Set<COSKey> getFileSpecificationKeys() {
+		return this.fileSpecificationKeys;
+	}
+
+	public void setFileSpecificationKeys(Set<COSKey> fileSpecificationKeys) {
+		this.fileSpecificationKeys = fileSpecificationKeys;
+	}
+
+	public Stack<COSKey> getTransparencyVisitedContentStreams() {
+		return this.transparencyVisitedContentStreams;
+	}
+
+	public void setTransparencyVisitedContentStreams(Stack<COSKey> transparencyVisitedContentStreams) {
+		this.transparencyVisitedContentStreams = transparencyVisitedContentStreams;
+	}
+
+	/**
+	 * @return number of content stream loops found so far, content streams that
+	 * were parsed while a loop has been found depend on the parsing path
+	 */
+	public int getContentStreamLoopsCount() {
+		return this.contentStreamLoopsCount;
+	}
+
+	public void registerContentStreamLoop() {
+		++this.contentStreamLoopsCount;
+	}
+
+	public Map<List<Object>, GFPDType3Font> getCachedType3Fonts() {
+		return this.cachedType3Fonts;
+	}
+
+	public void setCachedType3Fonts(Map<List<Object>, GFPDType3Font> cachedType3Fonts) {
+		this.cachedType3Fonts = cachedType3Fonts;
+	}
+
+	public Map<List<Object>, GFPDContentStream> getCachedXFormContentStreams() {
+		return this.cachedXFormContentStreams;
+	}
+
+	public void setCachedXFormContentStreams(Map<List<Object>, GFPDContentStream> cachedXFormContentStreams) {
+		this.cachedXFormContentStreams = cachedXFormContentStreams;
+	}
+
+	public boolean getValidPDF() {
+		return this.validPDF;
+	}
+
+	public void setValidPDF(boolean validPDF) {
+		this.validPDF = validPDF;
+	}
+
+	public Map<GlyphKey, Glyph> getCachedGlyphs() {
+		return this.cachedGlyphs;
+	}
+
+	public void setCachedGlyphs(Map<GlyphKey, Glyph> cachedGlyphs) {
+		this.cachedGlyphs = cachedGlyphs;
+	}
+
+	public ActualTextIndex getActualTextIndex() {
+		if (this.actualTextIndex == null) {
+			PDStructTreeRoot structTreeRoot = this.document == null ? null : this.document.getStructTreeRoot();
+			this.actualTextIndex = new ActualTextIndex(structTreeRoot == null ? null : structTreeRoot.getParentTree());
+		}
+		return this.actualTextIndex;
+	}
+
+	public FontGlyphFacts getFontGlyphFacts(org.verapdf.pd.font.PDFont font) {
+		FontGlyphFacts facts = this.cachedFontGlyphFacts.get(font);
+		if (facts == null) {
+			facts = new FontGlyphFacts(font, this);
+			this.cachedFontGlyphFacts.put(font, facts);
+		}
+		return facts;
+	}
+
+	public XMPCache getXMPCache() {
+		return this.xmpCache;
+	}
+
+	public void setXMPCache(XMPCache xmpCache) {
+		this.xmpCache = xmpCache;
+	}
+
+	public Executor getPageExecutor() {
+		return this.pageExecutor;
+	}
+
+	public void setPageExecutor(Executor pageExecutor) {
+		this.pageExecutor = pageExecutor;
+	}
+
+	public PageContentPrefetcher getPageContentPrefetcher() {
+		return this.pageContentPrefetcher;
+	}
+
+	public void setPageContentPrefetcher(PageContentPrefetcher pageContentPrefetcher) {
+		this.pageContentPrefetcher = pageContentPrefetcher;
+	}
+
+	public Executor getEmbeddedFileExecutor() {
+		return this.embeddedFileExecutor;
+	}
+
+	public void setEmbeddedFileExecutor(Executor embeddedFileExecutor) {
+		this.embeddedFileExecutor = embeddedFileExecutor;
+	}
+
+	public EmbeddedFileResultCache getEmbeddedFileResultCache() {
+		return this.embeddedFileResultCache;
+	}
+
+	public void setEmbeddedFileResultCache(EmbeddedFileResultCache embeddedFileResultCache) {
+		this.embeddedFileResultCache = embeddedFileResultCache;
+	}
+
+	public long getEmbeddedFileMemoryThreshold() {
+		return this.embeddedFileMemoryThreshold;
+	}
+
+	public void setEmbeddedFileMemoryThreshold(long embeddedFileMemoryThreshold) {
+		this.embeddedFileMemoryThreshold = embeddedFileMemoryThreshold;
+	}
+
+	public EmbeddedFileValidator getEmbeddedFileValidator() {
+		if (this.embeddedFileValidator == null) {
+			this.embeddedFileValidator = new EmbeddedFileValidator(this.embeddedFileExecutor,
+					this.embeddedFileResultCache, this.embeddedFileMemoryThreshold);
+		}
+		return this.embeddedFileValidator;
+	}
+
+	public SignatureByteRangeIndex getSignatureByteRangeIndex() {
+		if (this.signatureByteRangeIndex == null) {
+			this.signatureByteRangeIndex = new SignatureByteRangeIndex(this.document);
+		}
+		return this.signatureByteRangeIndex;
+	}
+
+	public Map<ByteBuffer, Boolean> getCachedCertificates() {
+		return this.cachedCertificates;
+	}
+
+	public boolean isStreamingContentParsing() {
+		return this.streamingContentParsing;
+	}
+
+	public void setStreamingContentParsing(boolean streamingContentParsing) {
+		this.streamingContentParsing = streamingContentParsing;
+	}
+
+	public PageModelWindow getPageModelWindow() {
+		return this.pageModelWindow;
+	}
+
+	public void setPageModelWindow(PageModelWindow pageModelWindow) {
+		this.pageModelWindow = pageModelWindow;
+	}
+}
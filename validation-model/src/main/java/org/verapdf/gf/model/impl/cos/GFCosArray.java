@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosArray;
 import org.verapdf.model.coslayer.CosObject;
@@ -46,8 +47,8 @@ public class GFCosArray extends GFCosObject implements CosArray {
      * Default constructor
      * @param array greenfield COSArray
      */
-    public GFCosArray(COSArray array) {
-        this(array, COS_ARRAY_TYPE);
+    public GFCosArray(COSArray array, ValidationContext context) {
+        this(array, COS_ARRAY_TYPE, context);
     }
 
     /**
@@ -56,8 +57,8 @@ public class GFCosArray extends GFCosObject implements CosArray {
      * @param array greenfield COSArray
      * @param type type of object
      */
-    public GFCosArray(COSArray array, String type) {
-        super(array, type);
+    public GFCosArray(COSArray array, String type, ValidationContext context) {
+        super(array, type, context);
         this.size = array.size().intValue();
     }
 
@@ -90,7 +91,7 @@ public class GFCosArray extends GFCosObject implements CosArray {
         while (iterator.hasNext()) {
             COSObject object = (COSObject) iterator.next();
             if (object != null && object.get() != null) {
-                list.add(getFromValue(object.get()));
+                list.add(getFromValue(object.get(), this.context));
             }
         }
         return Collections.unmodifiableList(list);
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.cos;
 import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSNumber;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosBBox;
 
 import java.util.logging.Level;
@@ -46,8 +47,8 @@ public class GFCosBBox extends GFCosArray implements CosBBox {
      *
      * @param array greenfield COSArray
      */
-    public GFCosBBox(COSArray array) {
-        super(array, COS_BBOX_TYPE);
+    public GFCosBBox(COSArray array, ValidationContext context) {
+        super(array, COS_BBOX_TYPE, context);
     }
 
     /**
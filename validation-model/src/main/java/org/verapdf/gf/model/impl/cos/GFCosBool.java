@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSBoolean;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosBool;
 
 /**
@@ -28,15 +29,16 @@ import org.verapdf.model.coslayer.CosBool;
  */
 public class GFCosBool extends GFCosObject implements CosBool {
 
-    public static final CosBool TRUE = new GFCosBool(COSBoolean.TRUE);
-    public static final CosBool FALSE = new GFCosBool(COSBoolean.FALSE);
+    // boolean objects have no document state and are shared between documents
+    public static final CosBool TRUE = new GFCosBool(COSBoolean.TRUE, null);
+    public static final CosBool FALSE = new GFCosBool(COSBoolean.FALSE, null);
 
     /** Type name for GFCosBool */
     public static final String COS_BOOLEAN_TYPE = "CosBool";
     private boolean value;
 
-    private GFCosBool(COSBoolean cosBoolean) {
-        super(cosBoolean, COS_BOOLEAN_TYPE);
+    private GFCosBool(COSBoolean cosBoolean, ValidationContext context) {
+        super(cosBoolean, COS_BOOLEAN_TYPE, context);
         this.value = cosBoolean.getBoolean().booleanValue();
     }
 
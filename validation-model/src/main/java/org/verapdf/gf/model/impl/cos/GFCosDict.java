@@ -25,6 +25,7 @@ import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDMetadata;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
@@ -54,8 +55,8 @@ public class GFCosDict extends GFCosObject implements CosDict {
      *
      * @param dictionary greenfield COSDictionary
      */
-    public GFCosDict(COSDictionary dictionary) {
-        this(dictionary, COS_DICT_TYPE);
+    public GFCosDict(COSDictionary dictionary, ValidationContext context) {
+        this(dictionary, COS_DICT_TYPE, context);
     }
 
     /**
@@ -64,8 +65,8 @@ public class GFCosDict extends GFCosObject implements CosDict {
      * @param dictionary greenfield COSDictionary
      * @param type       type of child class
      */
-    protected GFCosDict(COSDictionary dictionary, final String type) {
-        super(dictionary, type);
+    protected GFCosDict(COSDictionary dictionary, final String type, ValidationContext context) {
+        super(dictionary, type, context);
         this.size = dictionary.size().intValue();
     }
 
@@ -99,7 +100,7 @@ public class GFCosDict extends GFCosObject implements CosDict {
         for (ASAtom key : this.baseObject.getKeySet()) {
             if (key != null) {
                 COSBase name = COSName.fromValue(key);
-                list.add((CosName) getFromValue(name));
+                list.add((CosName) getFromValue(name, this.context));
             }
         }
         return Collections.unmodifiableList(list);
@@ -112,7 +113,7 @@ public class GFCosDict extends GFCosObject implements CosDict {
         List<CosObject> list = new ArrayList<>(this.baseObject.size().intValue());
         for (COSObject value : this.baseObject.getValues()) {
             if (value != null) {
-                list.add(getFromValue(value.get()));
+                list.add(getFromValue(value.get(), this.context));
             }
         }
         return Collections.unmodifiableList(list);
@@ -129,7 +130,7 @@ public class GFCosDict extends GFCosObject implements CosDict {
                 && type != ASAtom.CATALOG) {
             ArrayList<PDMetadata> pdMetadatas = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             org.verapdf.pd.PDMetadata md = new org.verapdf.pd.PDMetadata(meta);
-            pdMetadatas.add(new GFPDMetadata(md, Boolean.FALSE));
+            pdMetadatas.add(new GFPDMetadata(md, Boolean.FALSE, this.context));
             return Collections.unmodifiableList(pdMetadatas);
         }
 
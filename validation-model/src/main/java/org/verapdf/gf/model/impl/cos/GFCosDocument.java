@@ -22,7 +22,7 @@ package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDDocument;
 import org.verapdf.gf.model.impl.pd.util.XMPChecker;
 import org.verapdf.gf.model.tools.FileSpecificationKeysHelper;
@@ -68,13 +68,16 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	private final String lastID;
 
 	/**
-	 * Constructor using greenfield COSDocument
-	 * 
+	 * Constructor using greenfield COSDocument and validation context of the
+	 * document
+	 *
 	 * @param cosDocument
 	 *            greenfield COSDocument
+	 * @param context
+	 *            validation context of the document
 	 */
-	public GFCosDocument(COSDocument cosDocument) {
-		super(cosDocument, COS_DOCUMENT_TYPE);
+	public GFCosDocument(COSDocument cosDocument, ValidationContext context) {
+		super(cosDocument, COS_DOCUMENT_TYPE, context);
 		this.catalog = this.getCatalog();
 
 		COSHeader cosHeader = cosDocument.getHeader();
@@ -91,10 +94,10 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 		this.isLinearised = cosDocument.getTrailer() != cosDocument.getLastTrailer() && cosDocument.isLinearized();
 		this.lastID = getTrailerID(cosDocument.getLastTrailer().getKey(ASAtom.ID));
 		this.firstPageID = getTrailerID(cosDocument.getFirstTrailer().getKey(ASAtom.ID));
-		PDFAFlavour.Specification specification = StaticContainers.getFlavour().getPart();
+		PDFAFlavour.Specification specification = this.context.getFlavour().getPart();
 		if (specification == PDFAFlavour.Specification.ISO_19005_3
 				|| specification == PDFAFlavour.Specification.ISO_19005_4) {
-			FileSpecificationKeysHelper.registerFileSpecificationKeys(cosDocument);
+			FileSpecificationKeysHelper.registerFileSpecificationKeys(cosDocument, this.context);
 		}
 	}
 
@@ -177,7 +180,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	 */
 	@Override
 	public String getlastID() {
-		if (StaticContainers.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_1) {
+		if (this.context.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_1) {
 			return this.lastID;
 		} else if (this.isLinearised) {
 			return this.firstPageID;
@@ -221,7 +224,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	 */
 	@Override
 	public Boolean getdoesInfoMatchXMP() {
-		return XMPChecker.doesInfoMatchXMP(cosDocument);
+		return XMPChecker.doesInfoMatchXMP(cosDocument, this.context.getXMPCache());
 	}
 
 	@Override
@@ -307,7 +310,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 		case INDIRECT_OBJECTS:
 			return this.getIndirectObjects();
 		case DOCUMENT:
-			return GFCosDocument.getDocument();
+			return this.getDocument();
 		case XREF:
 			return this.getXRefs();
 		case EMBEDDED_FILES:
@@ -339,7 +342,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 		Map<String, COSObject> names = node.getNames();
 		for (COSObject value : names.values()) {
 			if (value != null && value.getType().isDictionaryBased()) {
-				files.add(new GFCosFileSpecification((COSDictionary) value.getDirectBase()));
+				files.add(new GFCosFileSpecification((COSDictionary) value.getDirectBase(), this.context));
 			}
 		}
 		for (PDNameTreeNode kid : node.getKids()) {
@@ -352,7 +355,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	 */
 	private List<CosTrailer> getTrailer() {
 		List<CosTrailer> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		list.add(new GFCosTrailer((COSDictionary) cosDocument.getTrailer().getObject().getDirectBase()));
+		list.add(new GFCosTrailer((COSDictionary) cosDocument.getTrailer().getObject().getDirectBase(), this.context));
 		return Collections.unmodifiableList(list);
 	}
 
@@ -363,7 +366,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 		Map<COSKey, COSObject> objects = cosDocument.getObjectsMap();
 		List<CosIndirect> list = new ArrayList<>(objects.size());
 		for (Map.Entry<COSKey, COSObject> entry : objects.entrySet()) {
-			list.add(new GFCosIndirect(entry.getKey(), entry.getValue()));
+			list.add(new GFCosIndirect(entry.getKey(), entry.getValue(), this.context));
 		}
 		return Collections.unmodifiableList(list);
 	}
@@ -371,10 +374,10 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	/**
 	 * link to the high-level PDF Document structure
 	 */
-	private static List<org.verapdf.model.pdlayer.PDDocument> getDocument() {
-		if (StaticContainers.getDocument() != null) {
+	private List<org.verapdf.model.pdlayer.PDDocument> getDocument() {
+		if (this.context.getDocument() != null) {
 			List<org.verapdf.model.pdlayer.PDDocument> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFPDDocument(StaticContainers.getDocument()));
+			list.add(new GFPDDocument(this.context.getDocument(), this.context));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
@@ -386,7 +389,7 @@ public class GFCosDocument extends GFCosObject implements CosDocument {
 	private List<CosXRef> getXRefs() {
 		List<CosXRef> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		list.add(new GFCosXRef(Boolean.valueOf(cosDocument.isSubsectionHeaderSpaceSeparated()),
-				Boolean.valueOf(cosDocument.isXrefEOLMarkersComplyPDFA())));
+				Boolean.valueOf(cosDocument.isXrefEOLMarkersComplyPDFA()), this.context));
 		return Collections.unmodifiableList(list);
 	}
 
@@ -25,7 +25,7 @@ import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSEmbeddedFileDict;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSStream;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.external.GFEmbeddedFile;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosFileSpecification;
@@ -55,8 +55,8 @@ public class GFCosFileSpecification extends GFCosDict implements CosFileSpecific
 	 * @param dictionary
 	 *            greenfield COSDictionary
 	 */
-	public GFCosFileSpecification(COSDictionary dictionary) {
-		super(dictionary, COS_FILE_SPECIFICATION_TYPE);
+	public GFCosFileSpecification(COSDictionary dictionary, ValidationContext context) {
+		super(dictionary, COS_FILE_SPECIFICATION_TYPE, context);
 		this.f = this.baseObject.getStringKey(ASAtom.F);
 		this.uf = this.baseObject.getStringKey(ASAtom.UF);
 		this.afrelationship = dictionary.getStringKey(ASAtom.AF_RELATIONSHIP);
@@ -80,7 +80,7 @@ public class GFCosFileSpecification extends GFCosDict implements CosFileSpecific
 	@Override
 	public Boolean getisAssociatedFile() {
 		return Boolean.valueOf(this.baseObject != null
-				&& StaticContainers.getFileSpecificationKeys().contains(this.baseObject.getObjectKey()));
+				&& this.context.getFileSpecificationKeys().contains(this.baseObject.getObjectKey()));
 	}
 
 	@Override
@@ -103,7 +103,7 @@ public class GFCosFileSpecification extends GFCosDict implements CosFileSpecific
 					COSEmbeddedFileDict((COSDictionary) efDictionary.getDirectBase());
 			ArrayList<EmbeddedFile> list = new ArrayList<>();
 			for (COSStream embeddedFileStream : embeddedFileDict.getEmbeddedFileStreams()) {
-				list.add(new GFEmbeddedFile(embeddedFileStream));
+				list.add(new GFEmbeddedFile(embeddedFileStream, this.context));
 			}
 			return Collections.unmodifiableList(list);
 		}
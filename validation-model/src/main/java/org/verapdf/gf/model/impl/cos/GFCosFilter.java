@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.cos;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosFilter;
 
 /**
@@ -38,8 +39,8 @@ public class GFCosFilter extends GFCosName implements CosFilter {
 
     private final String decodeParms;
 
-    public GFCosFilter(final COSName filterName, final COSDictionary decodeParms) {
-        super(filterName, COS_FILTER_TYPE);
+    public GFCosFilter(final COSName filterName, final COSDictionary decodeParms, ValidationContext context) {
+        super(filterName, COS_FILTER_TYPE, context);
         if (filterName.getName() == ASAtom.CRYPT) {
             if (decodeParms == null) {
                 this.decodeParms = IDENTITY;
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosIIFilter;
 
 /**
@@ -30,12 +31,12 @@ public class GFCosIIFilter extends GFCosName implements CosIIFilter {
 
     public static final String COS_II_FILTER_TYPE = "CosIIFilter";
 
-    public GFCosIIFilter(final COSName filter) {
-        super(filter, COS_II_FILTER_TYPE);
+    public GFCosIIFilter(final COSName filter, ValidationContext context) {
+        super(filter, COS_II_FILTER_TYPE, context);
     }
 
-    public GFCosIIFilter(final String filter) {
-        this((COSName) COSName.fromValue(filter));
+    public GFCosIIFilter(final String filter, ValidationContext context) {
+        this((COSName) COSName.fromValue(filter), context);
     }
 
 }
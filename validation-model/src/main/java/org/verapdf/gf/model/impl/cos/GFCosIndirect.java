@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.cos;
 import org.verapdf.cos.COSIndirect;
 import org.verapdf.cos.COSKey;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.tools.GFIDGenerator;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosIndirect;
@@ -46,8 +47,8 @@ public class GFCosIndirect extends GFCosObject implements CosIndirect {
 
     private final String id;
 
-    public GFCosIndirect(final COSKey key, final COSObject object) {
-        super(object.get(), COS_INDIRECT_TYPE);
+    public GFCosIndirect(final COSKey key, final COSObject object, ValidationContext context) {
+        super(object.get(), COS_INDIRECT_TYPE, context);
         this.isSpacingPDFACompliant = getspacingCompliesPDFA(object);
         this.id = GFIDGenerator.generateID(key);
     }
@@ -55,8 +56,8 @@ public class GFCosIndirect extends GFCosObject implements CosIndirect {
     /**
      * Default constructor
      */
-    public GFCosIndirect(final COSIndirect object) {
-        super(object.get(), COS_INDIRECT_TYPE);
+    public GFCosIndirect(final COSIndirect object, ValidationContext context) {
+        super(object.get(), COS_INDIRECT_TYPE, context);
         this.isSpacingPDFACompliant = getspacingCompliesPDFA(object.getDirect());
         this.id = GFIDGenerator.generateID(object.getKey());
     }
@@ -80,7 +81,7 @@ public class GFCosIndirect extends GFCosObject implements CosIndirect {
      */
     private List<CosObject> parseDirectObject() {
         List<CosObject> list = new ArrayList<>();
-        list.add(baseObject != null ? getFromValue(baseObject) : GFCosNull.getInstance());
+        list.add(baseObject != null ? getFromValue(baseObject, this.context) : GFCosNull.getInstance());
         return Collections.unmodifiableList(list);
     }
 
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSInteger;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosInteger;
 
 /**
@@ -35,8 +36,8 @@ public class GFCosInteger extends GFCosNumber implements CosInteger {
      * Default constructor
      * @param value greenfield COSInteger
      */
-    public GFCosInteger(COSInteger value) {
-        super(value, COS_INTEGER_TYPE);
+    public GFCosInteger(COSInteger value, ValidationContext context) {
+        super(value, COS_INTEGER_TYPE, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSString;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosLang;
 
 /**
@@ -36,8 +37,8 @@ public class GFCosLang extends GFCosTextString implements CosLang {
      * Default constructor
      * @param cosString is Lang object COSString.
      */
-    public GFCosLang(COSString cosString) {
-        this(cosString, COS_LANG_TYPE);
+    public GFCosLang(COSString cosString, ValidationContext context) {
+        this(cosString, COS_LANG_TYPE, context);
     }
 
     /**
@@ -45,8 +46,8 @@ public class GFCosLang extends GFCosTextString implements CosLang {
      * @param cosString is Lang COSString.
      * @param type child class type.
      */
-    public GFCosLang(COSString cosString, final String type) {
-        super(cosString, type);
+    public GFCosLang(COSString cosString, final String type, ValidationContext context) {
+        super(cosString, type, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosName;
 
 /**
@@ -37,8 +38,8 @@ public class GFCosName extends GFCosObject implements CosName {
      * Default constructor
      * @param cosName greenfield COSName
      */
-    public GFCosName(COSName cosName) {
-        this(cosName, COS_NAME_TYPE);
+    public GFCosName(COSName cosName, ValidationContext context) {
+        this(cosName, COS_NAME_TYPE, context);
     }
 
     /**
@@ -46,8 +47,8 @@ public class GFCosName extends GFCosObject implements CosName {
      * @param cosName greenfield COSName
      * @param type child class type
      */
-    protected GFCosName(COSName cosName, final String type) {
-        super(cosName, type);
+    protected GFCosName(COSName cosName, final String type, ValidationContext context) {
+        super(cosName, type, context);
         this.internalRepresentation = cosName.getString();
     }
 
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSNull;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosNull;
 
 /**
@@ -36,8 +37,8 @@ public class GFCosNull extends GFCosObject implements CosNull {
 	 */
 	private static CosNull NULL;
 
-	private GFCosNull(COSNull nil) {
-		super(nil, COS_NULL_TYPE);
+	private GFCosNull(COSNull nil, ValidationContext context) {
+		super(nil, COS_NULL_TYPE, context);
 	}
 
 	/**
@@ -45,7 +46,8 @@ public class GFCosNull extends GFCosObject implements CosNull {
 	 * @return PBCosNull object
 	 */
 	public static CosNull getInstance() {
-		return NULL == null ? NULL = new GFCosNull(COSNull.NULL) : NULL;
+		// null object has no document state and is shared between documents
+		return NULL == null ? NULL = new GFCosNull(COSNull.NULL, null) : NULL;
 	}
 
 }
@@ -25,6 +25,7 @@ import org.verapdf.cos.COSInteger;
 import org.verapdf.cos.COSNumber;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSReal;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosNumber;
 
 /**
@@ -35,17 +36,17 @@ public class GFCosNumber extends GFCosObject implements CosNumber {
     private final long longVal;
     private final double doubleVal;
 
-    protected GFCosNumber(COSNumber number, final String type) {
-        super(number, type);
+    protected GFCosNumber(COSNumber number, final String type, ValidationContext context) {
+        super(number, type, context);
         this.longVal = number.getInteger().longValue();
         this.doubleVal = number.getReal().doubleValue();
     }
 
-    public static GFCosNumber fromPDFParserNumber(COSBase number) {
+    public static GFCosNumber fromPDFParserNumber(COSBase number, ValidationContext context) {
         if (number.getType() == COSObjType.COS_INTEGER) {
-            return new GFCosInteger((COSInteger) number);
+            return new GFCosInteger((COSInteger) number, context);
         } else if (number.getType() == COSObjType.COS_REAL) {
-            return new GFCosReal((COSReal) number);
+            return new GFCosReal((COSReal) number, context);
         }
         return null;
     }
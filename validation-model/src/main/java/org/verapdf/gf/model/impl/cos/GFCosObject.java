@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.cos;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSDocument;
 import org.verapdf.cos.COSIndirect;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.visitor.cos.pb.GFCosVisitor;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.coslayer.CosObject;
@@ -34,23 +35,27 @@ public class GFCosObject extends GenericModelObject implements CosObject {
 
     public static final int MAX_NUMBER_OF_ELEMENTS = 1;
 
+    protected final ValidationContext context;
     protected final COSDocument cosDocument;
     protected final COSBase baseObject;
 
-    protected GFCosObject(final String type) {
+    protected GFCosObject(final String type, ValidationContext context) {
         super(type);
+        this.context = context;
         this.baseObject = null;
         this.cosDocument = null;
     }
 
-    protected GFCosObject(final COSBase baseObject, final String type) {
+    protected GFCosObject(final COSBase baseObject, final String type, ValidationContext context) {
         super(type);
+        this.context = context;
         this.baseObject = baseObject;
         this.cosDocument = null;
     }
 
-    protected GFCosObject(final COSDocument cosDocument, final String type) {
+    protected GFCosObject(final COSDocument cosDocument, final String type, final ValidationContext context) {
         super(type);
+        this.context = context;
         this.baseObject = null;
         this.cosDocument = cosDocument;
     }
@@ -60,14 +65,15 @@ public class GFCosObject extends GenericModelObject implements CosObject {
      * implementation. For transforming using {@code PBCosVisitor}.
      *
      * @param base
+     * @param context validation context of the document
      * @return object of abstract model implementation, transformed from
      *         {@code base}
      */
-    public static CosObject getFromValue(COSBase base) {
+    public static CosObject getFromValue(COSBase base, ValidationContext context) {
         if (base != null) {
-            GFCosVisitor visitor = GFCosVisitor.getInstance();
+            GFCosVisitor visitor = GFCosVisitor.getInstance(context);
             if (base.isIndirect().booleanValue()) {
-                return (CosObject) GFCosVisitor.visitFromIndirect((COSIndirect) base);
+                return (CosObject) GFCosVisitor.visitFromIndirect((COSIndirect) base, context);
             }
             return (CosObject) base.accept(visitor);
         }
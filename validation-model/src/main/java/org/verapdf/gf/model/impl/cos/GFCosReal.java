@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSNumber;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosReal;
 
 /**
@@ -35,8 +36,8 @@ public class GFCosReal extends GFCosNumber implements CosReal {
      * Default constructor
      * @param value greenfield COSNumber
      */
-    public GFCosReal(COSNumber value) {
-        super(value, COS_REAL_TYPE);
+    public GFCosReal(COSNumber value, ValidationContext context) {
+        super(value, COS_REAL_TYPE, context);
     }
 
 }
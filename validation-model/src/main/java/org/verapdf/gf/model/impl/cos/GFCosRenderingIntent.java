@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosRenderingIntent;
 
 /**
@@ -36,8 +37,8 @@ public class GFCosRenderingIntent extends GFCosName implements CosRenderingInten
      * Default constructor
      * @param cosName is rendering intent COSName.
      */
-    public GFCosRenderingIntent(COSName cosName) {
-        this(cosName, COS_RENDERING_INTENT_TYPE);
+    public GFCosRenderingIntent(COSName cosName, ValidationContext context) {
+        this(cosName, COS_RENDERING_INTENT_TYPE, context);
     }
 
     /**
@@ -45,7 +46,7 @@ public class GFCosRenderingIntent extends GFCosName implements CosRenderingInten
      * @param cosName is rendering intent COSName.
      * @param type child class type.
      */
-    public GFCosRenderingIntent(COSName cosName, final String type) {
-        super(cosName, type);
+    public GFCosRenderingIntent(COSName cosName, final String type, ValidationContext context) {
+        super(cosName, type, context);
     }
 }
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosFilter;
 import org.verapdf.model.coslayer.CosStream;
@@ -58,8 +59,8 @@ public class GFCosStream extends GFCosDict implements CosStream {
 	 * Default constructor
 	 * @param stream greenfield COSStream
 	 */
-	public GFCosStream(COSStream stream) {
-		super(stream, COS_STREAM_TYPE);
+	public GFCosStream(COSStream stream, ValidationContext context) {
+		super(stream, COS_STREAM_TYPE, context);
 		this.length = parseLength(stream);
 		COSObject fileSpec = stream.getKey(ASAtom.F);
 		this.fileSpec = fileSpec.empty() ? null : fileSpec.toString();
@@ -155,17 +156,17 @@ public class GFCosStream extends GFCosDict implements CosStream {
 			}
 			ASAtom filter = filters.getFilters().get(0);
 			COSName filterName = (COSName) COSName.fromValue(filter);
-			result.add(createFilter(filterName, decodeParms));
+			result.add(createFilter(filterName, decodeParms, this.context));
 		} else if (filters.size() > 1) {
 			List<ASAtom> filtersList = filters.getFilters();
 			int i = 0;
 			for (ASAtom filter : filtersList) {
 				if (decodeParms == null) {
-					result.add(createFilter((COSName) COSName.fromValue(filter), null));
+					result.add(createFilter((COSName) COSName.fromValue(filter), null, this.context));
 					//TODO : check this for pdfbox implementation
 				} else if (decodeParms.getType() == COSObjType.COS_ARRAY && decodeParms.size().intValue() > i) {
 					decodeParms = decodeParms.at(i).get();
-					result.add(createFilter((COSName) COSName.fromValue(filter), decodeParms));
+					result.add(createFilter((COSName) COSName.fromValue(filter), decodeParms, this.context));
 				} else {
 					LOGGER.log(Level.FINE, "Invalid decodeParms type. Ignoring decodeParms.");
 				}
@@ -175,14 +176,14 @@ public class GFCosStream extends GFCosDict implements CosStream {
 		return result;
 	}
 
-	private static CosFilter createFilter(final COSName filter, final COSBase decodeParms) {
+	private static CosFilter createFilter(final COSName filter, final COSBase decodeParms, ValidationContext context) {
 		if (decodeParms == null) {
-			return new GFCosFilter(filter, null);
+			return new GFCosFilter(filter, null, context);
 		} else if (decodeParms instanceof COSDictionary) {
-			return new GFCosFilter(filter, (COSDictionary) decodeParms);
+			return new GFCosFilter(filter, (COSDictionary) decodeParms, context);
 		} else {
 			LOGGER.log(Level.FINE, "Invalid decodeParms type. Ignoring decodeParms.");
-			return new GFCosFilter(filter, null);
+			return new GFCosFilter(filter, null, context);
 		}
 	}
 
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSString;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosString;
 
 /**
@@ -39,8 +40,8 @@ public class GFCosString extends GFCosObject implements CosString {
 	 * Default constructor
 	 * @param cosString greenfield COSString
 	 */
-	public GFCosString(COSString cosString) {
-		this(cosString, COS_STRING_TYPE);
+	public GFCosString(COSString cosString, ValidationContext context) {
+		this(cosString, COS_STRING_TYPE, context);
 	}
 
 	/**
@@ -48,8 +49,8 @@ public class GFCosString extends GFCosObject implements CosString {
 	 * @param cosString is greenfield COSString.
 	 * @param type child class type.
 	 */
-	public GFCosString(COSString cosString, final String type) {
-		super(cosString, type);
+	public GFCosString(COSString cosString, final String type, ValidationContext context) {
+		super(cosString, type, context);
 		this.value = cosString.get();
 		this.isHex = cosString.isHexadecimal();
 		this.containsOnlyHex = cosString.isContainsOnlyHex();
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSString;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosTextString;
 
 /**
@@ -36,8 +37,8 @@ public class GFCosTextString extends GFCosString implements CosTextString {
      * Default constructor
      * @param cosString is COSTextString object COSString.
      */
-    public GFCosTextString(COSString cosString) {
-        this(cosString, COS_TEXT_STRING_TYPE);
+    public GFCosTextString(COSString cosString, ValidationContext context) {
+        this(cosString, COS_TEXT_STRING_TYPE, context);
     }
 
     /**
@@ -45,8 +46,8 @@ public class GFCosTextString extends GFCosString implements CosTextString {
      * @param cosString is COSString.
      * @param type child class type.
      */
-    public GFCosTextString(COSString cosString, final String type) {
-        super(cosString, type);
+    public GFCosTextString(COSString cosString, final String type, ValidationContext context) {
+        super(cosString, type, context);
         this.unicodeValue = cosString.getString();
     }
 
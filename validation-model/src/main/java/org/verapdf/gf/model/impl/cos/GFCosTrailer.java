@@ -24,6 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSIndirect;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
@@ -52,8 +53,8 @@ public class GFCosTrailer extends GFCosDict implements CosTrailer {
 	 * Default constructor
 	 * @param dictionary greenfield COSDictionary
 	 */
-	public GFCosTrailer(COSDictionary dictionary) {
-		super(dictionary, COS_TRAILER_TYPE);
+	public GFCosTrailer(COSDictionary dictionary, ValidationContext context) {
+		super(dictionary, COS_TRAILER_TYPE, context);
 		this.isEncrypted = dictionary.getKey(ASAtom.ENCRYPT).get() != null;
 	}
 
@@ -77,7 +78,7 @@ public class GFCosTrailer extends GFCosDict implements CosTrailer {
 		List<CosIndirect> result = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		COSObject catalog = this.baseObject.getKey(ASAtom.ROOT);
 		if (catalog.isIndirect().booleanValue()) {
-			result.add(new GFCosIndirect((COSIndirect) catalog.get()));
+			result.add(new GFCosIndirect((COSIndirect) catalog.get(), this.context));
 		} else {
 			LOGGER.log(Level.WARNING, "Catalog shall be an indirect reference");
 		}
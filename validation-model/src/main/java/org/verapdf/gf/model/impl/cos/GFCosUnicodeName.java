@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.cos;
 
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosUnicodeName;
 
 import java.io.UnsupportedEncodingException;
@@ -44,8 +45,8 @@ public class GFCosUnicodeName extends GFCosName implements CosUnicodeName {
 	 *
 	 * @param cosName
 	 */
-	public GFCosUnicodeName(COSName cosName) {
-		super(cosName, COS_UNICODE_NAME_TYPE);
+	public GFCosUnicodeName(COSName cosName, ValidationContext context) {
+		super(cosName, COS_UNICODE_NAME_TYPE, context);
 	}
 
 	/**
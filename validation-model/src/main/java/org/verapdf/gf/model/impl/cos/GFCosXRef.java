@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.cos;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.coslayer.CosXRef;
 
 /**
@@ -39,8 +40,8 @@ public class GFCosXRef extends GFCosObject implements CosXRef {
 	 * @param xrefEOLMarkersComplyPDFA is xref eol spacings comply pdfa
 	 */
 	public GFCosXRef(Boolean subsectionHeaderSpaceSeparated,
-					 Boolean xrefEOLMarkersComplyPDFA) {
-		super(COS_XREF_TYPE);
+					 Boolean xrefEOLMarkersComplyPDFA, ValidationContext context) {
+		super(COS_XREF_TYPE, context);
 		this.subsectionHeaderSpaceSeparated = subsectionHeaderSpaceSeparated;
 		this.xrefEOLMarkersComplyPDFA = xrefEOLMarkersComplyPDFA;
 	}
@@ -0,0 +1,169 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps PDF/A-1/2 compliance verdicts of embedded files by the digest of their
+ * decoded data, so an attachment embedded into many documents is validated
+ * once. Verdicts are kept in memory in least recently used order and, if the
+ * directory is given, are also stored on disk, one small file per digest.
+ * <p>
+ * The cache may be shared by parsers of different documents and threads.
+ * Stored verdicts are not tied to the validator version, the directory has to
+ * be cleared when validation profiles are updated.
+ */
+public class EmbeddedFileResultCache {
+
+	private static final Logger LOGGER = Logger.getLogger(EmbeddedFileResultCache.class.getCanonicalName());
+
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	private static final int DIGEST_LENGTH = 64;
+
+	private static final String VALID = "valid";
+	private static final String INVALID = "invalid";
+
+	private final Map<String, Boolean> entries;
+	private final Path directory;
+
+	/**
+	 * Creates in-memory cache with {@link #DEFAULT_MAX_ENTRIES} entries.
+	 */
+	public EmbeddedFileResultCache() {
+		this(DEFAULT_MAX_ENTRIES, null);
+	}
+
+	/**
+	 * @param maxEntries maximal number of verdicts kept in memory
+	 * @param directory  directory for verdicts stored on disk, null disables
+	 *                   the disk store
+	 */
+	public EmbeddedFileResultCache(final int maxEntries, File directory) {
+		this.entries = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > maxEntries;
+			}
+		};
+		this.directory = directory == null ? null : directory.toPath();
+	}
+
+	/**
+	 * @param digest lowercase hex SHA-256 digest of the decoded embedded file
+	 * @return cached verdict or null if there is no one for the given digest
+	 * @throws IllegalArgumentException if digest is not 64 lowercase hex digits
+	 */
+	public Boolean get(String digest) {
+		checkDigest(digest);
+		synchronized (this.entries) {
+			Boolean result = this.entries.get(digest);
+			if (result != null) {
+				return result;
+			}
+		}
+		Boolean result = readFromDisk(digest);
+		if (result != null) {
+			synchronized (this.entries) {
+				this.entries.put(digest, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param digest  lowercase hex SHA-256 digest of the decoded embedded file
+	 * @param isValid true if the embedded file is PDF/A-1 or PDF/A-2 compliant
+	 * @throws IllegalArgumentException if digest is not 64 lowercase hex digits
+	 */
+	public void put(String digest, boolean isValid) {
+		checkDigest(digest);
+		synchronized (this.entries) {
+			this.entries.put(digest, Boolean.valueOf(isValid));
+		}
+		writeToDisk(digest, isValid);
+	}
+
+	// digests are used as file names, so nothing but hex digits may get into the path
+	private static void checkDigest(String digest) {
+		if (digest == null || digest.length() != DIGEST_LENGTH) {
+			throw new IllegalArgumentException("Embedded file digest has to be " + DIGEST_LENGTH + " hex digits");
+		}
+		for (int i = 0; i < DIGEST_LENGTH; ++i) {
+			char c = digest.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				throw new IllegalArgumentException("Embedded file digest has to be " + DIGEST_LENGTH +
+						" lowercase hex digits");
+			}
+		}
+	}
+
+	private Boolean readFromDisk(String digest) {
+		if (this.directory == null) {
+			return null;
+		}
+		Path file = this.directory.resolve(digest);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try {
+			String value = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+			if (VALID.equals(value)) {
+				return Boolean.TRUE;
+			} else if (INVALID.equals(value)) {
+				return Boolean.FALSE;
+			}
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Can't read cached embedded file verdict", e);
+		}
+		return null;
+	}
+
+	private void writeToDisk(String digest, boolean isValid) {
+		if (this.directory == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(this.directory);
+			// the verdict is written to a temporary file first, so concurrent readers never see a partial file
+			Path temp = Files.createTempFile(this.directory, digest, ".tmp");
+			try {
+				Files.write(temp, (isValid ? VALID : INVALID).getBytes(StandardCharsets.US_ASCII));
+				Files.move(temp, this.directory.resolve(digest), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Can't store embedded file verdict", e);
+		}
+	}
+}
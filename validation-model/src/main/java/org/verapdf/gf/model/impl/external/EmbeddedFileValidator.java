@@ -0,0 +1,412 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.as.io.ASInputStream;
+import org.verapdf.as.io.ASMemoryInStream;
+import org.verapdf.core.VeraPDFException;
+import org.verapdf.cos.*;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.pd.PDCatalog;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pd.PDNameTreeNode;
+import org.verapdf.pd.PDNamesDictionary;
+import org.verapdf.pd.font.FontProgram;
+import org.verapdf.pd.font.cmap.CMap;
+import org.verapdf.pd.structure.PDStructureNameSpace;
+import org.verapdf.pdfa.PDFAValidator;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+import org.verapdf.pdfa.validation.validators.ValidatorFactory;
+import org.verapdf.tools.StaticResources;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Checks whether files embedded into the document are PDF/A-1 or PDF/A-2
+ * compliant.
+ * <p>
+ * Without executor every embedded file is validated on the calling thread when
+ * its result is requested. With executor files from the EmbeddedFiles name
+ * tree are validated in parallel, and the thread requesting the result of a
+ * file that is not started yet validates it itself instead of waiting, so
+ * nested embedded files validated on the same executor never wait for queued
+ * tasks. The embedded document binds its own {@link StaticContainers} context
+ * and parser caches to the thread it is validated on, on the calling thread
+ * the state of the parent document is restored afterwards. Decoded data of the
+ * embedded file is read on the calling thread, as parser objects of the parent
+ * document are not thread safe. The embedded document is parsed once and the
+ * same parsed document is validated against PDF/A-1b and, if it is not
+ * compliant, against PDF/A-2b.
+ * <p>
+ * If {@link EmbeddedFileResultCache} is given, the digest of decoded data is
+ * computed in a streaming pass first, and the embedded file is decoded again
+ * and validated only if there is no verdict for that digest in the cache.
+ * Only verdicts of completed validations are cached, the ones failed with an
+ * exception are reported as non-compliant and not stored.
+ * <p>
+ * Decoded data up to the memory threshold is kept in memory, larger embedded
+ * files are written to a temporary file that the embedded document is parsed
+ * from, so the heap usage does not depend on the size of attachments. At most
+ * {@link #MAX_PREFETCHED_FILES} files are decoded ahead of their validation,
+ * the rest are decoded when their results are requested, so the number of
+ * decoded files held at once does not depend on the number of attachments.
+ */
+public class EmbeddedFileValidator {
+
+	private static final Logger LOGGER = Logger.getLogger(EmbeddedFileValidator.class.getCanonicalName());
+
+	private static final PDFAFlavour[] FLAVOURS = {PDFAFlavour.PDFA_1_B, PDFAFlavour.PDFA_2_B};
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	public static final long DEFAULT_MEMORY_THRESHOLD = 8 * 1024 * 1024;
+
+	public static final int MAX_PREFETCHED_FILES = 4;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 16;
+
+	private final Executor executor;
+	private final EmbeddedFileResultCache resultCache;
+	private final long memoryThreshold;
+	private final Map<COSBase, FutureTask<Boolean>> results = new IdentityHashMap<>();
+	private final Semaphore prefetchPermits = new Semaphore(MAX_PREFETCHED_FILES);
+
+	/**
+	 * @param executor    executor for validation of embedded files, null runs
+	 *                    every validation on the calling thread when its result
+	 *                    is requested
+	 * @param resultCache     cache of verdicts by content of embedded files,
+	 *                        may be null
+	 * @param memoryThreshold maximal size of decoded embedded file kept in
+	 *                        memory, larger files are stored in temporary files
+	 */
+	public EmbeddedFileValidator(Executor executor, EmbeddedFileResultCache resultCache, long memoryThreshold) {
+		this.executor = executor;
+		this.resultCache = resultCache;
+		this.memoryThreshold = memoryThreshold;
+	}
+
+	/**
+	 * Starts validation of files from the EmbeddedFiles name tree of the
+	 * document. Files over the {@link #MAX_PREFETCHED_FILES} limit and files
+	 * rejected by the executor are validated when their results are requested.
+	 *
+	 * @param document parent document
+	 */
+	public void prefetchEmbeddedFiles(PDDocument document) {
+		PDCatalog catalog = document.getCatalog();
+		PDNamesDictionary names = catalog == null ? null : catalog.getNamesDictionary();
+		PDNameTreeNode root = names == null ? null : names.getEmbeddedFiles();
+		if (root == null) {
+			return;
+		}
+		Set<COSBase> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>());
+		Deque<PDNameTreeNode> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			PDNameTreeNode node = stack.pop();
+			if (!visitedNodes.add(node.getObject().getDirectBase())) {
+				continue;
+			}
+			for (COSObject fileSpec : node.getNames().values()) {
+				COSObject ef = fileSpec == null ? null : fileSpec.getKey(ASAtom.EF);
+				if (ef != null && ef.getType().isDictionaryBased()) {
+					COSEmbeddedFileDict embeddedFileDict = new COSEmbeddedFileDict((COSDictionary) ef.getDirectBase());
+					for (COSStream stream : embeddedFileDict.getEmbeddedFileStreams()) {
+						submit(stream, true);
+					}
+				}
+			}
+			for (PDNameTreeNode kid : node.getKids()) {
+				stack.push(kid);
+			}
+		}
+	}
+
+	/**
+	 * Waits for the validation result of the embedded file, validating it on
+	 * the calling thread if validation was not started yet.
+	 *
+	 * @param stream embedded file stream
+	 * @return true if the embedded file is PDF/A-1b or PDF/A-2b compliant
+	 */
+	public boolean isValidPDFA12(COSStream stream) {
+		FutureTask<Boolean> task = submit(stream, false);
+		if (!task.isDone()) {
+			// does nothing if the task is already run by the executor
+			runOnCurrentThread(task);
+		}
+		try {
+			return task.get().booleanValue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.log(Level.FINE, "Interrupted while waiting for validation of embedded file", e);
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.FINE, "Exception during validation of embedded file", e);
+		}
+		return false;
+	}
+
+	private FutureTask<Boolean> submit(COSStream stream, final boolean isPrefetch) {
+		FutureTask<Boolean> task = this.results.get(stream);
+		if (task != null) {
+			return task;
+		}
+		if (isPrefetch && !this.prefetchPermits.tryAcquire()) {
+			// the file is decoded when its result is requested
+			return null;
+		}
+		final String digestValue = this.resultCache == null ? null : computeDigest(stream);
+		final Boolean cached = digestValue == null ? null : this.resultCache.get(digestValue);
+		if (isPrefetch && cached != null) {
+			this.prefetchPermits.release();
+		}
+		final EmbeddedFileData data = cached == null ? readData(stream, this.memoryThreshold) : null;
+		final Executor nestedExecutor = this.executor;
+		final EmbeddedFileResultCache cache = this.resultCache;
+		final long threshold = this.memoryThreshold;
+		task = new FutureTask<>(new Callable<Boolean>() {
+			@Override
+			public Boolean call() {
+				if (cached != null) {
+					return cached;
+				}
+				Boolean isValid;
+				try {
+					isValid = data == null ? null : isValidPDFA12(data, nestedExecutor, cache, threshold);
+				} finally {
+					if (isPrefetch) {
+						EmbeddedFileValidator.this.prefetchPermits.release();
+					}
+				}
+				if (isValid == null) {
+					return Boolean.FALSE;
+				}
+				if (digestValue != null) {
+					cache.put(digestValue, isValid.booleanValue());
+				}
+				return isValid;
+			}
+		});
+		this.results.put(stream, task);
+		if (cached != null) {
+			task.run();
+		} else if (this.executor != null) {
+			try {
+				this.executor.execute(task);
+			} catch (RejectedExecutionException e) {
+				LOGGER.log(Level.FINE, "Validation of embedded file is rejected by executor", e);
+				if (isPrefetch) {
+					// the file is decoded and validated again when its result is requested
+					this.results.remove(stream);
+					if (data != null) {
+						data.release();
+					}
+					this.prefetchPermits.release();
+					return null;
+				}
+				// the file is validated on the calling thread
+			}
+		}
+		return task;
+	}
+
+	private static void runOnCurrentThread(FutureTask<Boolean> task) {
+		ValidationContext parentContext = StaticContainers.getBoundContext();
+		Map<String, CMap> cMaps = StaticResources.getcMapCache();
+		Map<String, CMap> cMapCache = cMaps == null ? null : new HashMap<>(cMaps);
+		Map<COSKey, PDStructureNameSpace> structureNameSpaces = StaticResources.getStructureNameSpaceCache();
+		Map<COSKey, PDStructureNameSpace> structureNameSpaceCache =
+				structureNameSpaces == null ? null : new HashMap<>(structureNameSpaces);
+		Map<String, FontProgram> fonts = StaticResources.getCachedFonts();
+		Map<String, FontProgram> cachedFonts = fonts == null ? null : new HashMap<>(fonts);
+		try {
+			task.run();
+		} finally {
+			StaticContainers.setContext(parentContext);
+			StaticResources.setcMapCache(cMapCache);
+			StaticResources.setStructureNameSpaceCache(structureNameSpaceCache);
+			StaticResources.setCachedFonts(cachedFonts);
+		}
+	}
+
+	private static String computeDigest(COSStream stream) {
+		MessageDigest digest = createDigest();
+		if (digest == null) {
+			return null;
+		}
+		try (ASInputStream data = stream.getData(COSStream.FilterFlags.DECODE)) {
+			if (data == null) {
+				return null;
+			}
+			byte[] chunk = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = data.read(chunk, chunk.length)) != -1) {
+				digest.update(chunk, 0, read);
+			}
+			return toHex(digest.digest());
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Exception during decoding of embedded file", e);
+			return null;
+		}
+	}
+
+	private static EmbeddedFileData readData(COSStream stream, long memoryThreshold) {
+		File file = null;
+		try (ASInputStream data = stream.getData(COSStream.FilterFlags.DECODE)) {
+			if (data == null) {
+				return null;
+			}
+			long limit = Math.max(0, Math.min(memoryThreshold, MAX_ARRAY_SIZE));
+			byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, limit + 1)];
+			byte[] chunk = new byte[BUFFER_SIZE];
+			int length = 0;
+			int read;
+			while ((read = data.read(chunk, chunk.length)) != -1) {
+				if (length + (long) read > limit) {
+					file = File.createTempFile("embedded", ".pdf");
+					try (OutputStream out = new FileOutputStream(file)) {
+						out.write(buffer, 0, length);
+						out.write(chunk, 0, read);
+						while ((read = data.read(chunk, chunk.length)) != -1) {
+							out.write(chunk, 0, read);
+						}
+					}
+					return new EmbeddedFileData(null, file);
+				}
+				if (length + read > buffer.length) {
+					buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(2L * buffer.length, length + read), limit));
+				}
+				System.arraycopy(chunk, 0, buffer, length, read);
+				length += read;
+			}
+			return new EmbeddedFileData(new ASMemoryInStream(buffer, length, false), null);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Exception during decoding of embedded file", e);
+			if (file != null && !file.delete()) {
+				LOGGER.log(Level.FINE, "Can't delete temporary file " + file);
+			}
+			return null;
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			LOGGER.log(Level.FINE, "Embedded file digest is not supported", e);
+			return null;
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return verdict of the completed validation or null if validation failed
+	 * with an exception
+	 */
+	private static Boolean isValidPDFA12(EmbeddedFileData data, Executor executor,
+										 EmbeddedFileResultCache resultCache, long memoryThreshold) {
+		PDDocument document = null;
+		try {
+			document = data.open();
+			for (PDFAFlavour flavour : FLAVOURS) {
+				if (isValidPDFA(document, flavour, executor, resultCache, memoryThreshold)) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		} catch (VeraPDFException | IOException e) {
+			LOGGER.log(Level.FINE, "Exception during validation of embedded file", e);
+			return null;
+		} finally {
+			if (document != null) {
+				document.close();
+			}
+			data.release();
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static boolean isValidPDFA(PDDocument document, PDFAFlavour flavour, Executor executor,
+									   EmbeddedFileResultCache resultCache, long memoryThreshold)
+			throws VeraPDFException {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(document, flavour)) {
+			// attachments of the embedded document share the settings with the parent
+			parser.setEmbeddedFileValidationExecutor(executor);
+			parser.setEmbeddedFileResultCache(resultCache);
+			parser.setEmbeddedFileMemoryThreshold(memoryThreshold);
+			PDFAValidator validator = ValidatorFactory.createValidator(flavour, false, 1);
+			return validator.validate(parser).isCompliant();
+		}
+	}
+
+	/**
+	 * Decoded embedded file, either in memory or in a temporary file.
+	 */
+	private static class EmbeddedFileData {
+
+		private final ASInputStream memoryData;
+		private final File file;
+
+		private EmbeddedFileData(ASInputStream memoryData, File file) {
+			this.memoryData = memoryData;
+			this.file = file;
+		}
+
+		private PDDocument open() throws IOException {
+			if (this.file != null) {
+				return new PDDocument(this.file.getAbsolutePath());
+			}
+			return new PDDocument(this.memoryData);
+		}
+
+		private void release() {
+			if (this.file != null && this.file.exists() && !this.file.delete()) {
+				LOGGER.log(Level.FINE, "Can't delete temporary file " + this.file);
+			}
+		}
+	}
+}
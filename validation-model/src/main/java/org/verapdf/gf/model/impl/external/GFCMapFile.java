@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.cos.COSStream;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.CMapFile;
 
 import java.util.logging.Logger;
@@ -46,8 +47,8 @@ public class GFCMapFile extends GFExternal implements CMapFile {
      *
      * @param stream is CMap stream.
      */
-    public GFCMapFile(COSStream stream) {
-        super(CMAP_FILE_TYPE);
+    public GFCMapFile(COSStream stream, ValidationContext context) {
+        super(CMAP_FILE_TYPE, context);
         this.cMapFile = new org.verapdf.pd.font.cmap.CMapFile(stream);
     }
 
@@ -21,47 +21,22 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.as.ASAtom;
-import org.verapdf.core.VeraPDFException;
-import org.verapdf.cos.COSKey;
 import org.verapdf.cos.COSStream;
-import org.verapdf.gf.model.GFModelParser;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
-import org.verapdf.gf.model.impl.pd.colors.GFPDSeparation;
-import org.verapdf.gf.model.impl.pd.util.TaggedPDFRoleMapHelper;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.EmbeddedFile;
-import org.verapdf.model.operator.Glyph;
-import org.verapdf.model.pdlayer.PDColorSpace;
-import org.verapdf.model.pdlayer.PDFont;
-import org.verapdf.pd.PDDocument;
-import org.verapdf.pd.font.FontProgram;
-import org.verapdf.pd.font.cmap.CMap;
-import org.verapdf.pd.structure.PDStructureNameSpace;
-import org.verapdf.pdfa.PDFAValidator;
-import org.verapdf.pdfa.flavours.PDFAFlavour;
-import org.verapdf.pdfa.results.ValidationResult;
-import org.verapdf.pdfa.validation.validators.ValidatorFactory;
-import org.verapdf.tools.StaticResources;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.*;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * @author Maksim Bezrukov
  */
 public class GFEmbeddedFile extends GFExternal implements EmbeddedFile {
 
-	private static final Logger LOGGER = Logger.getLogger(GFEmbeddedFile.class.getCanonicalName());
-
 	/** Type name for {@code PBoxEmbeddedFile} */
 	public static final String EMBEDDED_FILE_TYPE = "EmbeddedFile";
 
 	private final COSStream stream;
 
-	public GFEmbeddedFile(COSStream stream) {
-		super(EMBEDDED_FILE_TYPE);
+	public GFEmbeddedFile(COSStream stream, ValidationContext context) {
+		super(EMBEDDED_FILE_TYPE, context);
 		this.stream = stream;
 	}
 
@@ -79,88 +54,6 @@ public class GFEmbeddedFile extends GFExternal implements EmbeddedFile {
 		if (this.stream == null) {
 			return Boolean.TRUE;
 		}
-		boolean retVal = false;
-		saveStaticContainersState();
-		try (InputStream unfilteredStream = stream.getData(COSStream.FilterFlags.DECODE)) {
-			retVal = isValidPdfaStream(unfilteredStream, PDFAFlavour.PDFA_1_B);
-			if (!retVal) {
-				unfilteredStream.reset();
-				retVal = isValidPdfaStream(unfilteredStream, PDFAFlavour.PDFA_2_B);
-			}
-		} catch (VeraPDFException | IOException e) {
-			LOGGER.log(Level.FINE, "Exception during validation of embedded file", e);
-		}
-		restoreSavedSCState();
-		return Boolean.valueOf(retVal);
-	}
-
-	private static boolean isValidPdfaStream(final InputStream toValidate, final PDFAFlavour flavour)
-			throws VeraPDFException {
-		try (GFModelParser parser = GFModelParser.createModelWithFlavour(toValidate, flavour)) {
-			PDFAValidator validator1b = ValidatorFactory.createValidator(flavour, false, 1);
-			ValidationResult result1b = validator1b.validate(parser);
-			parser.close();
-			return result1b.isCompliant();
-		}
-	}
-
-	// We need to save data from StaticContainers before validating embedded
-	// documents
-	private PDDocument document;
-	private PDFAFlavour flavour;
-	private TaggedPDFRoleMapHelper roleMapHelper;
-	private Map<String, List<GFPDSeparation>> separations;
-	private List<String> inconsistentSeparations;
-	private Map<String, PDColorSpace> cachedColorSpaces;
-	private Set<COSKey> fileSpecificationKeys;
-	private Stack<COSKey> transparencyVisitedContentStreams;
-	private Map<String, PDFont> cachedPDFonts;
-	private Map<String, Glyph> cachedGlyphs;
-	private boolean validPDF;
-
-	// StaticResources have to be saved too
-	private Map<String, CMap> cMapCache;
-	private Map<COSKey, PDStructureNameSpace> structureNameSpaceCache;
-	private Map<String, FontProgram> cachedFonts;
-
-	private void saveStaticContainersState() {
-		this.document = StaticContainers.getDocument();
-		this.flavour = StaticContainers.getFlavour();
-		this.separations = StaticContainers.getSeparations();
-		this.inconsistentSeparations = StaticContainers.getInconsistentSeparations();
-		this.cachedColorSpaces = StaticContainers.getCachedColorSpaces();
-		this.cachedPDFonts = StaticContainers.getCachedFonts();
-		this.roleMapHelper = StaticContainers.getRoleMapHelper();
-		this.fileSpecificationKeys = StaticContainers.getFileSpecificationKeys();
-		this.transparencyVisitedContentStreams = StaticContainers.getTransparencyVisitedContentStreams();
-		this.validPDF = StaticContainers.getValidPDF();
-		this.cachedGlyphs = StaticContainers.getCachedGlyphs();
-
-		Map<String, CMap> cMaps = StaticResources.getcMapCache();
-		this.cMapCache = cMaps == null ? null : new HashMap<>(cMaps);
-
-		Map<COSKey, PDStructureNameSpace> structureNameSpaceMap = StaticResources.getStructureNameSpaceCache();
-		this.structureNameSpaceCache = structureNameSpaceMap == null ? null : new HashMap<>(structureNameSpaceMap);
-
-		Map<String, FontProgram> cachedFonts = StaticResources.getCachedFonts();
-		this.cachedFonts = cachedFonts == null ? null : new HashMap<>(cachedFonts);
-	}
-
-	private void restoreSavedSCState() {
-		StaticContainers.setDocument(this.document);
-		StaticContainers.setFlavour(this.flavour);
-		StaticContainers.setSeparations(this.separations);
-		StaticContainers.setInconsistentSeparations(this.inconsistentSeparations);
-		StaticContainers.setCachedColorSpaces(this.cachedColorSpaces);
-		StaticContainers.setCachedFonts(this.cachedPDFonts);
-		StaticContainers.setRoleMapHelper(this.roleMapHelper);
-		StaticContainers.setFileSpecificationKeys(this.fileSpecificationKeys);
-		StaticContainers.setTransparencyVisitedContentStreams(this.transparencyVisitedContentStreams);
-		StaticContainers.setValidPDF(this.validPDF);
-		StaticContainers.setCachedGlyphs(this.cachedGlyphs);
-
-		StaticResources.setcMapCache(this.cMapCache);
-		StaticResources.setStructureNameSpaceCache(this.structureNameSpaceCache);
-		StaticResources.setCachedFonts(this.cachedFonts);
+		return Boolean.valueOf(this.context.getEmbeddedFileValidator().isValidPDFA12(this.stream));
 	}
 }
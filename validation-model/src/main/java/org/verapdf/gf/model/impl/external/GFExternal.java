@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.external;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.external.External;
 
@@ -29,8 +30,11 @@ import org.verapdf.model.external.External;
  */
 public class GFExternal extends GenericModelObject implements External  {
 
-    protected GFExternal(String type) {
+    protected final ValidationContext context;
+
+    protected GFExternal(String type, ValidationContext context) {
         super(type);
+        this.context = context;
     }
 
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.external;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.font.GFPDFont;
 import org.verapdf.model.external.FontProgram;
 
@@ -32,16 +33,16 @@ public class GFFontProgram extends GFExternal implements FontProgram {
 
     public static final String FONT_PROGRAM_TYPE = "FontProgram";
 
-    protected GFFontProgram(String type) {
-        super(type);
+    protected GFFontProgram(String type, ValidationContext context) {
+        super(type, context);
     }
 
     private String id;
     private org.verapdf.pd.font.FontProgram fontProgram;
 
     public GFFontProgram(org.verapdf.pd.font.FontProgram fontProgram,
-                         GFPDFont font) {
-        super(FONT_PROGRAM_TYPE);
+                         GFPDFont font, ValidationContext context) {
+        super(FONT_PROGRAM_TYPE, context);
         this.fontProgram = fontProgram;
         this.id = font.getID() + " font program";
     }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.external.ICCProfile;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.ICCInputProfile;
 
 /**
@@ -36,7 +37,7 @@ public class GFICCInputProfile extends GFICCProfile implements ICCInputProfile {
 	 *
 	 * @param iccProfile iccprofile object of profile
 	 */
-	public GFICCInputProfile(ICCProfile iccProfile) {
-		super(iccProfile, ICC_INPUT_PROFILE_TYPE);
+	public GFICCInputProfile(ICCProfile iccProfile, ValidationContext context) {
+		super(iccProfile, ICC_INPUT_PROFILE_TYPE, context);
 	}
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.external.ICCProfile;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.ICCOutputProfile;
 
 /**
@@ -39,8 +40,8 @@ public class GFICCOutputProfile extends GFICCProfile implements ICCOutputProfile
 	 * @param profile icc profile object
 	 * @param subtype subtype value for current profile
 	 */
-	public GFICCOutputProfile(ICCProfile profile, String subtype) {
-		super(profile, ICC_OUTPUT_PROFILE_TYPE);
+	public GFICCOutputProfile(ICCProfile profile, String subtype, ValidationContext context) {
+		super(profile, ICC_OUTPUT_PROFILE_TYPE, context);
 		this.subtype = subtype;
 	}
 
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.external.ICCProfile;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.pd.colors.PDColorSpace;
 
 import java.util.logging.Logger;
@@ -34,8 +35,8 @@ public class GFICCProfile extends GFExternal implements org.verapdf.model.extern
 
 	private final ICCProfile iccProfile;
 
-	protected GFICCProfile(ICCProfile iccProfile, String type) {
-		super(type);
+	protected GFICCProfile(ICCProfile iccProfile, String type, ValidationContext context) {
+		super(type, context);
 		this.iccProfile = iccProfile;
 		checkAlternateComponentsNumber();
 	}
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.JPEG2000;
 import org.verapdf.model.pdlayer.PDColorSpace;
 
@@ -33,8 +34,8 @@ public class GFJPEG2000 extends GFExternal implements JPEG2000 {
 
     private final org.verapdf.external.JPEG2000 jpeg2000;
 
-    public GFJPEG2000(org.verapdf.external.JPEG2000 jpeg2000) {
-        super(JPEG_2000_TYPE);
+    public GFJPEG2000(org.verapdf.external.JPEG2000 jpeg2000, ValidationContext context) {
+        super(JPEG_2000_TYPE, context);
         this.jpeg2000 = jpeg2000;
     }
 
@@ -74,6 +75,6 @@ public class GFJPEG2000 extends GFExternal implements JPEG2000 {
     }
 
     public PDColorSpace getImageColorSpace() {
-        return ColorSpaceFactory.getColorSpace(this.jpeg2000.getImageColorSpace());
+        return ColorSpaceFactory.getColorSpace(this.jpeg2000.getImageColorSpace(), this.context);
     }
 }
@@ -21,14 +21,19 @@
 package org.verapdf.gf.model.impl.external;
 
 import org.verapdf.cos.COSString;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.PKCSDataObject;
-import sun.security.pkcs.ContentInfo;
 import sun.security.pkcs.PKCS7;
 import sun.security.pkcs.SignerInfo;
-import sun.security.x509.AlgorithmId;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,24 +49,19 @@ public class GFPKCSDataObject extends GFExternal implements PKCSDataObject {
      */
     public static final String PKCS_DATA_OBJECT_TYPE = "PKCSDataObject";
 
-    private PKCS7 pkcs7;
+    private static final String CERTIFICATE_TYPE = "X.509";
+
+    private final COSString pkcsData;
+    private boolean isDecoded = false;
+    private long signerInfoCount;
+    private boolean signingCertificatePresent;
 
     /**
      * @param pkcsData {@link COSString} containing encoded PKCS#7 object.
      */
-    public GFPKCSDataObject(COSString pkcsData) {
-        super(PKCS_DATA_OBJECT_TYPE);
-        try {
-            if (!pkcsData.isHexadecimal()) {
-                pkcs7 = new PKCS7(pkcsData.get());
-            } else {
-                byte[] decodedData = pkcsData.get();
-                pkcs7 = new PKCS7(decodedData);
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.FINE, "Passed PKCS7 object can't be read", e);
-            pkcs7 = getEmptyPKCS7();
-        }
+    public GFPKCSDataObject(COSString pkcsData, ValidationContext context) {
+        super(PKCS_DATA_OBJECT_TYPE, context);
+        this.pkcsData = pkcsData;
     }
 
     /**
@@ -69,7 +69,8 @@ public class GFPKCSDataObject extends GFExternal implements PKCSDataObject {
      */
     @Override
     public Long getSignerInfoCount() {
-        return new Long(pkcs7.getSignerInfos().length);
+        decode();
+        return Long.valueOf(this.signerInfoCount);
     }
 
     /**
@@ -78,21 +79,82 @@ public class GFPKCSDataObject extends GFExternal implements PKCSDataObject {
      */
     @Override
     public Boolean getsigningCertificatePresent() {
-        X509Certificate[] certificates = pkcs7.getCertificates();
-        if (certificates.length == 0) {
-            return Boolean.FALSE;
+        decode();
+        return Boolean.valueOf(this.signingCertificatePresent);
+    }
+
+    /**
+     * Decodes PKCS#7 object on the first request. If its structure is
+     * recognized by {@link PKCSDataScanner}, certificates are decoded in the
+     * same way as by {@link PKCS7}, and the result of decoding is cached by the
+     * certificate encoding, so certificates repeated in several signatures of
+     * the document are decoded once. The rest of the object is decoded by
+     * {@code PKCS7} without the certificates.
+     */
+    private void decode() {
+        if (this.isDecoded) {
+            return;
+        }
+        this.isDecoded = true;
+        byte[] data = this.pkcsData.get();
+        PKCSDataScanner.Summary summary = PKCSDataScanner.scan(data);
+        if (summary != null && !areCertificatesDecoded(summary.getCertificates())) {
+            // PKCS7 rejects the whole object if any of its certificates can't be decoded
+            this.signerInfoCount = 0;
+            this.signingCertificatePresent = false;
+            return;
         }
-		for (X509Certificate cert : certificates) {
-		    if (cert == null) {
-	            return Boolean.FALSE;
-		    }
-		}
-        return Boolean.TRUE;
+        PKCS7 pkcs7;
+        try {
+            pkcs7 = new PKCS7(summary == null ? data : summary.getDataWithoutCertificates());
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Passed PKCS7 object can't be read", e);
+            this.signerInfoCount = 0;
+            this.signingCertificatePresent = false;
+            return;
+        }
+        SignerInfo[] signerInfos = pkcs7.getSignerInfos();
+        this.signerInfoCount = signerInfos == null ? 0 : signerInfos.length;
+        this.signingCertificatePresent = summary == null ? isSigningCertificatePresent(pkcs7.getCertificates()) :
+                !summary.getCertificates().isEmpty();
     }
 
-    private static PKCS7 getEmptyPKCS7() {
-        return new PKCS7(new AlgorithmId[]{}, new ContentInfo(new byte[]{}),
-                new X509Certificate[]{}, new SignerInfo[]{});
+    private boolean areCertificatesDecoded(List<byte[]> certificates) {
+        Map<ByteBuffer, Boolean> cachedCertificates = this.context.getCachedCertificates();
+        for (byte[] certificate : certificates) {
+            ByteBuffer key = ByteBuffer.wrap(certificate);
+            Boolean isDecoded = cachedCertificates.get(key);
+            if (isDecoded == null) {
+                isDecoded = Boolean.valueOf(isCertificateDecoded(certificate));
+                cachedCertificates.put(key, isDecoded);
+            }
+            if (!isDecoded.booleanValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCertificateDecoded(byte[] certificate) {
+        try {
+            CertificateFactory.getInstance(CERTIFICATE_TYPE).generateCertificate(new ByteArrayInputStream(certificate));
+            return true;
+        } catch (CertificateException e) {
+            LOGGER.log(Level.FINE, "Certificate of PKCS7 object can't be read", e);
+            return false;
+        }
+    }
+
+    private static boolean isSigningCertificatePresent(X509Certificate[] certificates) {
+        if (certificates == null || certificates.length == 0) {
+            return false;
+        }
+        for (X509Certificate cert : certificates) {
+            if (cert == null) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
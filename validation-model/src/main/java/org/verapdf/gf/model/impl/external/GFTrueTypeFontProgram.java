@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.external;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.external.TrueTypeFontProgram;
 import org.verapdf.pd.font.FontProgram;
 import org.verapdf.pd.font.opentype.OpenTypeFontProgram;
@@ -45,8 +46,8 @@ public class GFTrueTypeFontProgram extends GFFontProgram implements TrueTypeFont
      */
     public static final String TRUE_TYPE_PROGRAM_TYPE = "TrueTypeFontProgram";
 
-    public GFTrueTypeFontProgram(FontProgram trueTypeFont) {
-        super(TRUE_TYPE_PROGRAM_TYPE);
+    public GFTrueTypeFontProgram(FontProgram trueTypeFont, ValidationContext context) {
+        super(TRUE_TYPE_PROGRAM_TYPE, context);
         try {
             if (trueTypeFont instanceof OpenTypeFontProgram) {
                 this.trueTypeFont = (org.verapdf.pd.font.truetype.TrueTypeFontProgram)
@@ -0,0 +1,295 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Splits the DER encoded PKCS#7 signed data into the encoded certificates and
+ * the same signed data without the certificates element, so the certificates
+ * can be decoded separately and the rest is still decoded by
+ * {@link sun.security.pkcs.PKCS7}. Certificates are only checked to have the
+ * shape of X.509 certificate, whether they can be decoded is left to the
+ * caller.
+ * <p>
+ * {@code PKCS7} decodes every element of the certificates element with the
+ * sequence tag by X.509 {@link java.security.cert.CertificateFactory} and
+ * rejects the whole object if any of them can't be decoded, no other element
+ * depends on the certificates. So the signed data is decoded by {@code PKCS7}
+ * in the same way as the original one if all certificates can be decoded.
+ * <p>
+ * Only minimal definite length encoding of the structure expected by
+ * {@code PKCS7} is recognized, so the encoding of the rebuilt elements and of
+ * the certificates is the same as {@code PKCS7} gets. For anything else the
+ * scanner gives no answer and the data should be decoded by {@code PKCS7}.
+ */
+public class PKCSDataScanner {
+
+    private static final int TAG_INTEGER = 0x02;
+    private static final int TAG_BIT_STRING = 0x03;
+    private static final int TAG_OID = 0x06;
+    private static final int TAG_SEQUENCE = 0x30;
+    private static final int TAG_SET = 0x31;
+    private static final int TAG_CONTEXT_0 = 0xA0;
+    private static final int CONSTRUCTED = 0x20;
+
+    // 1.2.840.113549.1.7.2
+    private static final byte[] SIGNED_DATA_OID = {0x2A, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xF7, 0x0D, 0x01, 0x07, 0x02};
+
+    private final byte[] data;
+
+    private PKCSDataScanner(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * @param data DER encoded PKCS#7 object
+     * @return summary of the object or null if its structure is not recognized
+     */
+    public static Summary scan(byte[] data) {
+        return data == null ? null : new PKCSDataScanner(data).scanContentInfo();
+    }
+
+    private Summary scanContentInfo() {
+        Element contentInfo = read(0, this.data.length, TAG_SEQUENCE);
+        if (contentInfo == null || !isWellFormed(contentInfo)) {
+            return null;
+        }
+        Element contentType = read(contentInfo.start, contentInfo.end, TAG_OID);
+        if (contentType == null || !Arrays.equals(SIGNED_DATA_OID,
+                Arrays.copyOfRange(this.data, contentType.start, contentType.end))) {
+            return null;
+        }
+        Element content = read(contentType.end, contentInfo.end, TAG_CONTEXT_0);
+        if (content == null || content.end != contentInfo.end) {
+            return null;
+        }
+        Element signedData = read(content.start, content.end, TAG_SEQUENCE);
+        if (signedData == null || signedData.end != content.end) {
+            return null;
+        }
+        Element encapsulatedContentInfo = getEncapsulatedContentInfo(signedData);
+        if (encapsulatedContentInfo == null) {
+            return null;
+        }
+        Element certificates = read(encapsulatedContentInfo.end, signedData.end, -1);
+        if (certificates == null || certificates.tag != TAG_CONTEXT_0) {
+            return new Summary(this.data, Collections.<byte[]>emptyList());
+        }
+        Element next = read(certificates.end, signedData.end, -1);
+        if (next != null && next.tag == TAG_CONTEXT_0) {
+            // PKCS7 would read the next element as certificates once the first one is removed
+            return null;
+        }
+        List<byte[]> encodedCertificates = getCertificates(certificates);
+        if (encodedCertificates == null) {
+            return null;
+        }
+        return new Summary(removeCertificates(contentInfo, contentType, signedData, certificates),
+                encodedCertificates);
+    }
+
+    private Element getEncapsulatedContentInfo(Element signedData) {
+        Element version = read(signedData.start, signedData.end, TAG_INTEGER);
+        if (version == null) {
+            return null;
+        }
+        Element digestAlgorithms = read(version.end, signedData.end, TAG_SET);
+        if (digestAlgorithms == null) {
+            return null;
+        }
+        return read(digestAlgorithms.end, signedData.end, TAG_SEQUENCE);
+    }
+
+    private List<byte[]> getCertificates(Element certificates) {
+        List<byte[]> result = new ArrayList<>();
+        for (int offset = certificates.start; offset < certificates.end; ) {
+            Element certificate = read(offset, certificates.end, TAG_SEQUENCE);
+            if (certificate == null || !isCertificate(certificate)) {
+                return null;
+            }
+            result.add(Arrays.copyOfRange(this.data, offset, certificate.end));
+            offset = certificate.end;
+        }
+        return result;
+    }
+
+    private boolean isCertificate(Element certificate) {
+        Element tbsCertificate = read(certificate.start, certificate.end, TAG_SEQUENCE);
+        if (tbsCertificate == null) {
+            return false;
+        }
+        Element signatureAlgorithm = read(tbsCertificate.end, certificate.end, TAG_SEQUENCE);
+        if (signatureAlgorithm == null) {
+            return false;
+        }
+        Element signature = read(signatureAlgorithm.end, certificate.end, TAG_BIT_STRING);
+        return signature != null && signature.end == certificate.end;
+    }
+
+    private byte[] removeCertificates(Element contentInfo, Element contentType, Element signedData,
+                                      Element certificates) {
+        ByteArrayOutputStream signedDataContent = new ByteArrayOutputStream();
+        signedDataContent.write(this.data, signedData.start, certificates.offset - signedData.start);
+        signedDataContent.write(this.data, certificates.end, signedData.end - certificates.end);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        writeElement(content, TAG_SEQUENCE, signedDataContent.toByteArray());
+        ByteArrayOutputStream contentInfoContent = new ByteArrayOutputStream();
+        contentInfoContent.write(this.data, contentInfo.start, contentType.end - contentInfo.start);
+        writeElement(contentInfoContent, TAG_CONTEXT_0, content.toByteArray());
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeElement(result, TAG_SEQUENCE, contentInfoContent.toByteArray());
+        return result.toByteArray();
+    }
+
+    private static void writeElement(ByteArrayOutputStream out, int tag, byte[] content) {
+        out.write(tag);
+        int length = content.length;
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int lengthBytes = length < 0x100 ? 1 : length < 0x10000 ? 2 : length < 0x1000000 ? 3 : 4;
+            out.write(0x80 | lengthBytes);
+            for (int i = lengthBytes - 1; i >= 0; --i) {
+                out.write(length >>> (8 * i));
+            }
+        }
+        out.write(content, 0, content.length);
+    }
+
+    /**
+     * Checks that all nested elements are valid and fill their parents exactly.
+     */
+    private boolean isWellFormed(Element element) {
+        Deque<Integer> ends = new ArrayDeque<>();
+        ends.push(element.end);
+        int offset = element.start;
+        while (!ends.isEmpty()) {
+            int end = ends.peek();
+            if (offset == end) {
+                ends.pop();
+                continue;
+            }
+            Element child = read(offset, end, -1);
+            if (child == null) {
+                return false;
+            }
+            if ((child.tag & CONSTRUCTED) != 0) {
+                ends.push(child.end);
+                offset = child.start;
+            } else {
+                offset = child.end;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the header of the element with minimal definite length encoding.
+     *
+     * @param offset offset of the element
+     * @param limit end of the enclosing element
+     * @param tag expected tag or -1 if any tag is allowed
+     * @return element or null if there is no valid element of the expected type
+     */
+    private Element read(int offset, int limit, int tag) {
+        if (offset + 2 > limit) {
+            return null;
+        }
+        int actualTag = this.data[offset] & 0xFF;
+        if ((actualTag & 0x1F) == 0x1F || (tag != -1 && actualTag != tag)) {
+            return null;
+        }
+        int length = this.data[offset + 1] & 0xFF;
+        int start = offset + 2;
+        if (length > 0x7F) {
+            int lengthBytes = length & 0x7F;
+            // zero length bytes mean indefinite length encoding
+            if (lengthBytes == 0 || lengthBytes > 3 || start + lengthBytes > limit) {
+                return null;
+            }
+            // the first length byte is not zero and short lengths have one byte form in DER
+            if (this.data[start] == 0) {
+                return null;
+            }
+            length = 0;
+            for (int i = 0; i < lengthBytes; ++i) {
+                length = (length << 8) | (this.data[start++] & 0xFF);
+            }
+            if (length < 0x80) {
+                return null;
+            }
+        }
+        if (length > limit - start) {
+            return null;
+        }
+        return new Element(actualTag, offset, start, start + length);
+    }
+
+    private static class Element {
+
+        private final int tag;
+        private final int offset;
+        private final int start;
+        private final int end;
+
+        private Element(int tag, int offset, int start, int end) {
+            this.tag = tag;
+            this.offset = offset;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Certificates of PKCS#7 object and the object without them.
+     */
+    public static class Summary {
+
+        private final byte[] dataWithoutCertificates;
+        private final List<byte[]> certificates;
+
+        private Summary(byte[] dataWithoutCertificates, List<byte[]> certificates) {
+            this.dataWithoutCertificates = dataWithoutCertificates;
+            this.certificates = certificates;
+        }
+
+        /**
+         * @return DER encoded PKCS#7 object without certificates element
+         */
+        public byte[] getDataWithoutCertificates() {
+            return this.dataWithoutCertificates;
+        }
+
+        /**
+         * @return DER encodings of the certificates in the order of the object
+         */
+        public List<byte[]> getCertificates() {
+            return this.certificates;
+        }
+    }
+}
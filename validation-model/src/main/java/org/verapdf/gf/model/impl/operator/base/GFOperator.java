@@ -29,6 +29,7 @@ import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSInteger;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosInteger;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.model.GenericModelObject;
@@ -43,10 +44,12 @@ public class GFOperator extends GenericModelObject implements Operator {
 
 	public static final int MAX_NUMBER_OF_ELEMENTS = 1;
 
+	protected final ValidationContext context;
 	protected final List<COSBase> arguments;
 
-	protected GFOperator(List<COSBase> arguments, final String opType) {
+	protected GFOperator(List<COSBase> arguments, final String opType, ValidationContext context) {
 		super(opType);
+		this.context = context;
 		this.arguments = arguments;
 	}
 
@@ -55,7 +58,7 @@ public class GFOperator extends GenericModelObject implements Operator {
 			COSBase base = this.arguments.get(this.arguments.size() - 1);
 			if (base.getType().isNumber()) {
 				List<CosNumber> cosNumbers = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				cosNumbers.add(GFCosNumber.fromPDFParserNumber(base));
+				cosNumbers.add(GFCosNumber.fromPDFParserNumber(base, this.context));
 				return Collections.unmodifiableList(cosNumbers);
 			}
 		}
@@ -67,7 +70,7 @@ public class GFOperator extends GenericModelObject implements Operator {
 			COSBase number = this.arguments.get(this.arguments.size() - 1);
 			if (number.getType() == COSObjType.COS_INTEGER) {
 				List<CosInteger> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosInteger((COSInteger) number));
+				list.add(new GFCosInteger((COSInteger) number, this.context));
 				return Collections.unmodifiableList(list);
 			}
 		}
@@ -78,17 +81,17 @@ public class GFOperator extends GenericModelObject implements Operator {
 		List<CosNumber> list = new ArrayList<>();
 		for (COSBase base : this.arguments) {
 			if (base.getType() == COSObjType.COS_ARRAY) {
-				addArrayElementsAsNumbers(list, (COSArray) base);
+				addArrayElementsAsNumbers(list, (COSArray) base, this.context);
 			} else if (base.getType().isNumber()) {
-				list.add(GFCosNumber.fromPDFParserNumber(base));
+				list.add(GFCosNumber.fromPDFParserNumber(base, this.context));
 			}
 		}
 		return Collections.unmodifiableList(list);
 	}
 
-	private static void addArrayElementsAsNumbers(List<CosNumber> list, COSArray base) {
+	private static void addArrayElementsAsNumbers(List<CosNumber> list, COSArray base, ValidationContext context) {
 		for (COSObject arg : base) {
-			list.add(GFCosNumber.fromPDFParserNumber(arg.get()));
+			list.add(GFCosNumber.fromPDFParserNumber(arg.get(), context));
 		}
 	}
 
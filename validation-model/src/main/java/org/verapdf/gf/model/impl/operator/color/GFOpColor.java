@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.color;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosName;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.baselayer.Object;
@@ -46,8 +47,8 @@ public class GFOpColor extends GFOpSetColor implements OpColor {
 
     private PDColorSpace colorSpace;
 
-    public GFOpColor(List<COSBase> arguments, PDColorSpace colorSpace) {
-        super(arguments, OP_COLOR_TYPE);
+    public GFOpColor(List<COSBase> arguments, PDColorSpace colorSpace, ValidationContext context) {
+        super(arguments, OP_COLOR_TYPE, context);
         this.colorSpace = colorSpace;
     }
 
@@ -69,7 +70,7 @@ public class GFOpColor extends GFOpSetColor implements OpColor {
             COSBase cosBase = this.arguments.get(size - 1);
             if (cosBase.getType() == COSObjType.COS_NAME) {
                 List<CosName> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-                res.add(new GFCosName((COSName) cosBase));
+                res.add(new GFCosName((COSName) cosBase, this.context));
                 return Collections.unmodifiableList(res);
             }
         }
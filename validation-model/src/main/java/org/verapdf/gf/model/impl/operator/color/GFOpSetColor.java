@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.color;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.baselayer.Object;
@@ -43,12 +44,12 @@ public class GFOpSetColor extends GFOperator implements OpSetColor {
     public static final String OP_SET_COLOR_TYPE = "OpSetColor";
     public static final String COLOR_VALUES = "colorValues";
 
-    protected GFOpSetColor(List<COSBase> arguments, String type) {
-        super(arguments, type);
+    protected GFOpSetColor(List<COSBase> arguments, String type, ValidationContext context) {
+        super(arguments, type, context);
     }
 
-    public GFOpSetColor(List<COSBase> arguments) {
-        this(arguments, OP_SET_COLOR_TYPE);
+    public GFOpSetColor(List<COSBase> arguments, ValidationContext context) {
+        this(arguments, OP_SET_COLOR_TYPE, context);
     }
 
     @Override
@@ -65,7 +66,7 @@ public class GFOpSetColor extends GFOperator implements OpSetColor {
         List<CosNumber> list = new ArrayList<>();
         for (COSBase base : this.arguments) {
             if (base != null && base.getType().isNumber()) {
-                list.add(GFCosNumber.fromPDFParserNumber(base));
+                list.add(GFCosNumber.fromPDFParserNumber(base, this.context));
             }
         }
         return Collections.unmodifiableList(list);
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpGeneralGS;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public abstract class GFOpGeneralGS extends GFOperator implements OpGeneralGS {
 
-    protected GFOpGeneralGS(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    protected GFOpGeneralGS(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosInteger;
 import org.verapdf.model.operator.Op_J_line_cap;
@@ -38,8 +39,8 @@ public class GFOp_J_line_cap extends GFOpGeneralGS implements Op_J_line_cap {
 	/** Name of link to the line cap */
     public static final String LINE_CAP = "lineCap";
 
-    public GFOp_J_line_cap(List<COSBase> arguments) {
-        super(arguments, OP_J_LINE_CAP_TYPE);
+    public GFOp_J_line_cap(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_J_LINE_CAP_TYPE, context);
     }
 
     @Override
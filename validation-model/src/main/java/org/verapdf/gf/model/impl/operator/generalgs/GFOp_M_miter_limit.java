@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_M_miter_limit;
@@ -38,8 +39,8 @@ public class GFOp_M_miter_limit extends GFOpGeneralGS implements Op_M_miter_limi
 	/** Name of link to the miter limit */
     public static final String MITER_LIMIT = "miterLimit";
 
-    public GFOp_M_miter_limit(List<COSBase> arguments) {
-        super(arguments, OP_M_MITER_LIMIT_TYPE);
+    public GFOp_M_miter_limit(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_M_MITER_LIMIT_TYPE, context);
     }
 
     @Override
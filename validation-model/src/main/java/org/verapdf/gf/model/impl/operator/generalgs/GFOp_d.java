@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.generalgs;
 import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosArray;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.baselayer.Object;
@@ -47,8 +48,8 @@ public class GFOp_d extends GFOpGeneralGS implements Op_d {
 	/** Name of link to the dash phase */
     public static final String DASH_PHASE = "dashPhase";
 
-    public GFOp_d(List<COSBase> arguments) {
-        super(arguments, OP_D_TYPE);
+    public GFOp_d(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_D_TYPE, context);
     }
 
     @Override
@@ -68,7 +69,7 @@ public class GFOp_d extends GFOpGeneralGS implements Op_d {
             COSBase array = this.arguments.get(this.arguments.size() - 2);
             if (array.getType() == COSObjType.COS_ARRAY) {
                 List<CosArray> list = new ArrayList<>(GFOperator.MAX_NUMBER_OF_ELEMENTS);
-                list.add(new GFCosArray((COSArray) array));
+                list.add(new GFCosArray((COSArray) array, this.context));
                 return Collections.unmodifiableList(list);
             }
         }
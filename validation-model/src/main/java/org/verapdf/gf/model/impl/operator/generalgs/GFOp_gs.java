@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.gf.model.impl.pd.GFPDExtGState;
 import org.verapdf.model.baselayer.Object;
@@ -46,8 +47,8 @@ public class GFOp_gs extends GFOpGeneralGS implements Op_gs {
 
     private final org.verapdf.pd.PDExtGState extGState;
 
-    public GFOp_gs(List<COSBase> arguments, org.verapdf.pd.PDExtGState extGState) {
-        super(arguments, OP_GS_TYPE);
+    public GFOp_gs(List<COSBase> arguments, org.verapdf.pd.PDExtGState extGState, ValidationContext context) {
+        super(arguments, OP_GS_TYPE, context);
         this.extGState = extGState;
     }
 
@@ -62,7 +63,7 @@ public class GFOp_gs extends GFOpGeneralGS implements Op_gs {
     private List<PDExtGState> getExtGState() {
         if (this.extGState != null) {
             List<PDExtGState> extGStates = new ArrayList<>(GFOperator.MAX_NUMBER_OF_ELEMENTS);
-            extGStates.add(new GFPDExtGState(this.extGState));
+            extGStates.add(new GFPDExtGState(this.extGState, this.context));
             return Collections.unmodifiableList(extGStates);
         }
         return Collections.emptyList();
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_i;
@@ -38,8 +39,8 @@ public class GFOp_i extends GFOpGeneralGS implements Op_i {
 	/** Name of link to the flatness */
     public static final String FLATNESS = "flatness";
 
-    public GFOp_i(List<COSBase> arguments) {
-        super(arguments, OP_I_TYPE);
+    public GFOp_i(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_I_TYPE, context);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosInteger;
 import org.verapdf.model.operator.Op_j_line_join;
@@ -38,8 +39,8 @@ public class GFOp_j_line_join extends GFOpGeneralGS implements Op_j_line_join {
 	/** Name of link to the line join for */
     public static final String LINE_JOIN = "lineJoin";
 
-    public GFOp_j_line_join(List<COSBase> arguments) {
-        super(arguments, OP_J_LINE_JOIN_TYPE);
+    public GFOp_j_line_join(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_J_LINE_JOIN_TYPE, context);
     }
 
     @Override
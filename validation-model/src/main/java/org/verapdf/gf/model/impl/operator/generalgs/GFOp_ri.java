@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.generalgs;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosRenderingIntent;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosRenderingIntent;
@@ -43,8 +44,8 @@ public class GFOp_ri extends GFOpGeneralGS implements Op_ri {
 	/** Name of link to the rendering intent */
     public static final String RENDERING_INTENT = "renderingIntent";
 
-    public GFOp_ri(List<COSBase> arguments) {
-        super(arguments, OP_RI_TYPE);
+    public GFOp_ri(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_RI_TYPE, context);
     }
 
     @Override
@@ -60,7 +61,7 @@ public class GFOp_ri extends GFOpGeneralGS implements Op_ri {
 			COSBase base = this.arguments.get(this.arguments.size() - 1);
 			if (base.getType() == COSObjType.COS_NAME) {
 				List<CosRenderingIntent> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosRenderingIntent((COSName) base));
+				list.add(new GFCosRenderingIntent((COSName) base, this.context));
 				return Collections.unmodifiableList(list);
 			}
 		}
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.generalgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_w_line_width;
@@ -41,8 +42,8 @@ public class GFOp_w_line_width extends GFOpGeneralGS
 	/** Name of link to the width for */
     public static final String LINE_WIDTH = "lineWidth";
 
-    public GFOp_w_line_width(List<COSBase> arguments) {
-        super(arguments, OP_W_LINE_WIDTH_TYPE);
+    public GFOp_w_line_width(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_W_LINE_WIDTH_TYPE, context);
     }
 
     @Override
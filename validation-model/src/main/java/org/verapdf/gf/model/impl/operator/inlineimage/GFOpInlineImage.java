@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.inlineimage;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpInlineImage;
 
@@ -33,8 +34,8 @@ import java.util.List;
  */
 public class GFOpInlineImage extends GFOperator implements OpInlineImage {
 
-    protected GFOpInlineImage(List<COSBase> arguments, final String type) {
-        super(arguments, type);
+    protected GFOpInlineImage(List<COSBase> arguments, final String type, ValidationContext context) {
+        super(arguments, type, context);
     }
 
 }
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.inlineimage;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.images.GFPDInlineImage;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
@@ -45,10 +46,12 @@ public class GFOp_EI extends GFOpInlineImage implements Op_EI {
 	private org.verapdf.pd.colors.PDColorSpace inheritedFillCS;
 
 	public GFOp_EI(List<COSBase> arguments, PDResourcesHandler resourcesHandler,
-				   org.verapdf.pd.colors.PDColorSpace inheritedFillCS) {
-		super(arguments, OP_EI_TYPE);
+				   org.verapdf.pd.colors.PDColorSpace inheritedFillCS, ValidationContext context) {
+		super(arguments, OP_EI_TYPE, context);
 		this.resourcesHandler = resourcesHandler;
 		this.inheritedFillCS = inheritedFillCS;
+		// color space names of the image are resolved in page resources when the image is created
+		resourcesHandler.setPageResourcesUsed();
 	}
 
 	@Override
@@ -65,7 +68,7 @@ public class GFOp_EI extends GFOpInlineImage implements Op_EI {
 				new org.verapdf.pd.images.PDInlineImage(new COSObject(parameters),
 						resourcesHandler.getObjectResources(), resourcesHandler.getPageResources());
 		List<PDInlineImage> inlineImages = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		inlineImages.add(new GFPDInlineImage(inlineImage, this.inheritedFillCS));
+		inlineImages.add(new GFPDInlineImage(inlineImage, this.inheritedFillCS, this.context));
 		return Collections.unmodifiableList(inlineImages);
 	}
 
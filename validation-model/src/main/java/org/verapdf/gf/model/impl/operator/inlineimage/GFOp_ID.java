@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.inlineimage;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosDict;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
@@ -44,8 +45,8 @@ public class GFOp_ID extends GFOpInlineImage implements Op_ID {
 	public static final String INLINE_IMAGE_DICTIONARY =
 			"inlineImageDictionary";
 
-	public GFOp_ID(List<COSBase> arguments) {
-		super(arguments, OP_ID_TYPE);
+	public GFOp_ID(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_ID_TYPE, context);
 	}
 
 	@Override
@@ -63,7 +64,7 @@ public class GFOp_ID extends GFOpInlineImage implements Op_ID {
 					.get(this.arguments.size() - 1);
 			if (dict.getType() == COSObjType.COS_DICT) {
 				List<CosDict> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosDict((COSDictionary) dict));
+				list.add(new GFCosDict((COSDictionary) dict, this.context));
 				return Collections.unmodifiableList(list);
 			}
 		}
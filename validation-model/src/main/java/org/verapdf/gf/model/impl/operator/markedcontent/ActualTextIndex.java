@@ -0,0 +1,116 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.operator.markedcontent;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSObjType;
+import org.verapdf.cos.COSObject;
+import org.verapdf.pd.structure.PDNumberTreeNode;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Presence of ActualText in structure elements referenced from the structure
+ * parent tree. Parent tree entry of a page is resolved once and ActualText of
+ * all its structure elements is stored in a bit set indexed by MCID, so glyphs
+ * don't walk the number tree for every lookup.
+ */
+public class ActualTextIndex {
+
+    private final PDNumberTreeNode parentTreeRoot;
+
+    private final Map<Long, BitSet> structParentsIndex = new HashMap<>();
+    private final Map<Long, Boolean> structParentIndex = new HashMap<>();
+
+    /**
+     * @param parentTreeRoot parent tree of the document, may be null
+     */
+    public ActualTextIndex(PDNumberTreeNode parentTreeRoot) {
+        this.parentTreeRoot = parentTreeRoot;
+    }
+
+    /**
+     * Gives the same result as checking ActualText of the structure element
+     * returned by {@link IndexedStructureElementAccessObject#getStructureElement(PDNumberTreeNode, Long)}.
+     *
+     * @param accessObject access object of the content stream owner
+     * @param mcid MCID of the marked content sequence, may be null
+     * @return true if the structure element has ActualText string
+     */
+    public boolean containsActualText(IndexedStructureElementAccessObject accessObject, Long mcid) {
+        if (this.parentTreeRoot == null) {
+            return false;
+        }
+        Long structParent = accessObject.getStructParent();
+        if (structParent != null) {
+            Boolean result = this.structParentIndex.get(structParent);
+            if (result == null) {
+                result = Boolean.valueOf(hasActualText(this.parentTreeRoot.getObject(structParent)));
+                this.structParentIndex.put(structParent, result);
+            }
+            return result.booleanValue();
+        }
+        Long structParents = accessObject.getStructParents();
+        if (mcid == null || structParents == null || mcid.longValue() < 0 || mcid.longValue() > Integer.MAX_VALUE) {
+            return false;
+        }
+        BitSet index = this.structParentsIndex.get(structParents);
+        if (index == null) {
+            index = buildIndex(this.parentTreeRoot.getObject(structParents));
+            this.structParentsIndex.put(structParents, index);
+        }
+        return index.get(mcid.intValue());
+    }
+
+    /**
+     * Removes index of the parent tree entry, it is rebuilt if requested again.
+     *
+     * @param structParents StructParents value of the page
+     */
+    public void release(Long structParents) {
+        this.structParentsIndex.remove(structParents);
+    }
+
+    private static BitSet buildIndex(COSObject structureElements) {
+        BitSet index = new BitSet();
+        if (structureElements != null && !structureElements.empty() &&
+                structureElements.getType() == COSObjType.COS_ARRAY) {
+            int size = structureElements.size().intValue();
+            for (int i = 0; i < size; ++i) {
+                if (hasActualText(structureElements.at(i))) {
+                    index.set(i);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static boolean hasActualText(COSObject structureElement) {
+        if (structureElement != null && !structureElement.empty()) {
+            COSObject actualText = structureElement.getKey(ASAtom.ACTUAL_TEXT);
+            return actualText != null && !actualText.empty() &&
+                    actualText.getType() == COSObjType.COS_STRING;
+        }
+        return false;
+    }
+}
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.markedcontent;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosDict;
 import org.verapdf.gf.model.impl.cos.GFCosLang;
 import org.verapdf.gf.model.impl.cos.GFCosName;
@@ -51,8 +52,9 @@ public abstract class GFOpMarkedContent extends GFOperator implements OpMarkedCo
 
 	private COSDictionary propertiesDict;
 
-    public GFOpMarkedContent(List<COSBase> arguments, final String opType, PDResourcesHandler resources) {
-        super(arguments, opType);
+    public GFOpMarkedContent(List<COSBase> arguments, final String opType, PDResourcesHandler resources,
+                             ValidationContext context) {
+        super(arguments, opType, context);
 		initializePropertiesDict(resources);
     }
 
@@ -79,7 +81,7 @@ public abstract class GFOpMarkedContent extends GFOperator implements OpMarkedCo
 			COSBase name = this.arguments.get(this.arguments.size() - 2);
 			if (name.getType() == COSObjType.COS_NAME) {
 				List<CosName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosName((COSName) name));
+				list.add(new GFCosName((COSName) name, this.context));
 				return Collections.unmodifiableList(list);
 			}
         }
@@ -89,7 +91,7 @@ public abstract class GFOpMarkedContent extends GFOperator implements OpMarkedCo
     protected List<CosDict> getPropertiesDict() {
 		if (this.propertiesDict != null) {
 			List<CosDict> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFCosDict(this.propertiesDict));
+			list.add(new GFCosDict(this.propertiesDict, this.context));
 			return Collections.unmodifiableList(list);
 		}
         return Collections.emptyList();
@@ -99,7 +101,7 @@ public abstract class GFOpMarkedContent extends GFOperator implements OpMarkedCo
     	COSObject lang = getAttribute(ASAtom.LANG, COSObjType.COS_STRING);
     	if (lang != null) {
 			List<CosLang> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFCosLang((COSString) lang.getDirectBase()));
+			list.add(new GFCosLang((COSString) lang.getDirectBase(), this.context));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
@@ -20,10 +20,10 @@
  */
 package org.verapdf.gf.model.impl.operator.markedcontent;
 
-
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosName;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
@@ -42,8 +42,8 @@ public class GFOp_BMC extends GFOpMarkedContent implements Op_BMC {
 	/** Type name for {@code GFOp_BMC} */
     public static final String OP_BMC_TYPE = "Op_BMC";
 
-    public GFOp_BMC(List<COSBase> arguments, PDResourcesHandler resources) {
-        super(arguments, OP_BMC_TYPE, resources);
+    public GFOp_BMC(List<COSBase> arguments, PDResourcesHandler resources, ValidationContext context) {
+        super(arguments, OP_BMC_TYPE, resources, context);
     }
 
     @Override
@@ -64,7 +64,7 @@ public class GFOp_BMC extends GFOpMarkedContent implements Op_BMC {
 			COSBase name = this.arguments.get(this.arguments.size() - 1);
 			if (name.getType() == COSObjType.COS_NAME) {
 				List<CosName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosName((COSName) name));
+				list.add(new GFCosName((COSName) name, this.context));
 				return Collections.unmodifiableList(list);
 			}
 		}
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.markedcontent;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_EMC;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_EMC extends GFOpMarkedContent implements Op_EMC {
 	/** Type name for {@code GFOp_EMC} */
     public static final String OP_EMC_TYPE = "Op_EMC";
 
-    public GFOp_EMC(List<COSBase> arguments) {
-        super(arguments, OP_EMC_TYPE, null);
+    public GFOp_EMC(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_EMC_TYPE, null, context);
     }
 
 }
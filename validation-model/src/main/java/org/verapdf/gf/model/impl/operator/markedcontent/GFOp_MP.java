@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.markedcontent;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosName;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosName;
@@ -40,8 +41,8 @@ public class GFOp_MP extends GFOpMarkedContent implements Op_MP {
 	/** Type name for {@code GFOp_MP} */
     public static final String OP_MP_TYPE = "Op_MP";
 
-    public GFOp_MP(List<COSBase> arguments) {
-        super(arguments, OP_MP_TYPE, null);
+    public GFOp_MP(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_MP_TYPE, null, context);
     }
 
     @Override
@@ -59,7 +60,7 @@ public class GFOp_MP extends GFOpMarkedContent implements Op_MP {
 			COSBase name = this.arguments.get(this.arguments.size() - 1);
 			if (name.getType() == COSObjType.COS_NAME) {
 				List<CosName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new GFCosName((COSName) name));
+				list.add(new GFCosName((COSName) name, this.context));
 				return Collections.unmodifiableList(list);
 			}
 		}
@@ -0,0 +1,90 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.operator.markedcontent;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.tools.COSIdentity;
+import org.verapdf.pd.structure.StructureElementAccessObject;
+
+import java.util.Arrays;
+
+/**
+ * Structure element access object that keeps StructParent and StructParents
+ * values of the content stream owner, so structure elements of all its marked
+ * content sequences can be resolved at once by {@link ActualTextIndex}.
+ * <p>
+ * Objects created for the same owner and content stream are equal, so IDs of
+ * glyphs, which contain the hash code of this object, are the same for every
+ * parsing of the content stream, such as every invocation of a form XObject.
+ */
+public class IndexedStructureElementAccessObject extends StructureElementAccessObject {
+
+    private final Long structParent;
+    private final Long structParents;
+    private final Object identity;
+
+    public IndexedStructureElementAccessObject(COSObject object) {
+        this(object, null);
+    }
+
+    /**
+     * @param object        owner of the content stream
+     * @param contentStream content stream, if the owner has several of them
+     */
+    public IndexedStructureElementAccessObject(COSObject object, COSObject contentStream) {
+        super(object);
+        if (object != null) {
+            this.structParent = object.getIntegerKey(ASAtom.STRUCT_PARENT);
+            this.structParents = object.getIntegerKey(ASAtom.STRUCT_PARENTS);
+            this.identity = contentStream == null ? COSIdentity.of(object) :
+                    Arrays.asList(COSIdentity.of(object), COSIdentity.of(contentStream));
+        } else {
+            this.structParent = null;
+            this.structParents = null;
+            this.identity = null;
+        }
+    }
+
+    public Long getStructParent() {
+        return this.structParent;
+    }
+
+    public Long getStructParents() {
+        return this.structParents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass() || this.identity == null) {
+            return false;
+        }
+        return this.identity.equals(((IndexedStructureElementAccessObject) o).identity);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.identity == null ? System.identityHashCode(this) : this.identity.hashCode();
+    }
+}
@@ -23,7 +23,7 @@ package org.verapdf.gf.model.impl.operator.markedcontent;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.pd.structure.PDNumberTreeNode;
 import org.verapdf.pd.structure.PDStructTreeRoot;
 import org.verapdf.pd.structure.StructureElementAccessObject;
@@ -34,14 +34,19 @@ import org.verapdf.pd.structure.StructureElementAccessObject;
 public class MarkedContentHelper {
 
     public static boolean containsActualText(GFOpMarkedContent markedContent,
-                                             StructureElementAccessObject accessObject) {
+                                             StructureElementAccessObject accessObject,
+                                             ValidationContext context) {
         if (markedContent != null) {
             if (markedContent.getActualText() != null) {
                 return true;
             }
 
             Long mcid = markedContent.getMCID();
-            PDStructTreeRoot structTreeRoot = StaticContainers.getDocument().getStructTreeRoot();
+            if (accessObject instanceof IndexedStructureElementAccessObject) {
+                return context.getActualTextIndex().containsActualText(
+                        (IndexedStructureElementAccessObject) accessObject, mcid);
+            }
+            PDStructTreeRoot structTreeRoot = context.getDocument().getStructTreeRoot();
             if (structTreeRoot != null) {
                 PDNumberTreeNode parentTreeRoot = structTreeRoot.getParentTree();
                 COSObject structureElement = parentTreeRoot == null ? null : accessObject.getStructureElement(parentTreeRoot, mcid);
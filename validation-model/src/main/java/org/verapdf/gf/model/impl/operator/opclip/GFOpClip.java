@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.opclip;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpClip;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public abstract class GFOpClip extends GFOperator implements OpClip {
 
-    protected GFOpClip(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    protected GFOpClip(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
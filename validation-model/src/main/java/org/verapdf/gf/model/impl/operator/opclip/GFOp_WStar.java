@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.opclip;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_WStar;
 
 import java.util.List;
@@ -34,8 +35,8 @@ public class GFOp_WStar extends GFOpClip implements Op_WStar {
 	/** Type name for {@code GFOp_WStar} */
     public static final String OP_WSTAR_TYPE = "Op_WStar";
 
-    public GFOp_WStar(List<COSBase> arguments) {
-        super(arguments, OP_WSTAR_TYPE);
+    public GFOp_WStar(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_WSTAR_TYPE, context);
     }
 
 }
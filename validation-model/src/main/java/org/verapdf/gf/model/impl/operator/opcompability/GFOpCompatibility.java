@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.opcompability;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpCompatibility;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public abstract class GFOpCompatibility extends GFOperator implements OpCompatibility {
 
-    public GFOpCompatibility(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    public GFOpCompatibility(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.opcompability;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_BX;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_BX extends GFOpCompatibility implements Op_BX {
 	/** Type name for {@code GFOp_BX} */
     public static final String OP_BX_TYPE = "Op_BX";
 
-    public GFOp_BX(List<COSBase> arguments) {
-        super(arguments, OP_BX_TYPE);
+    public GFOp_BX(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_BX_TYPE, context);
     }
 
 }
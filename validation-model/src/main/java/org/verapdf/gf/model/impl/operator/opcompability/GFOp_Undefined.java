@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.opcompability;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_Undefined;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_Undefined extends GFOpCompatibility implements Op_Undefined {
 	/** Type name for {@code GFOp_Undefined} */
     public static final String OP_UNDEFINED_TYPE = "Op_Undefined";
 
-    public GFOp_Undefined(List<COSBase> arguments) {
-        super(arguments, OP_UNDEFINED_TYPE);
+    public GFOp_Undefined(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_UNDEFINED_TYPE, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpPathConstruction;
 
@@ -35,8 +36,8 @@ public abstract class GFOpPathConstruction extends GFOperator
 	/** Name of link to the control points */
     public static final String CONTROL_POINTS = "controlPoints";
 
-    public GFOpPathConstruction(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    public GFOpPathConstruction(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
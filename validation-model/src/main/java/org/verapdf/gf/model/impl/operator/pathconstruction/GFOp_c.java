@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_c;
@@ -35,8 +36,8 @@ public class GFOp_c extends GFOpPathConstruction implements Op_c {
 	/** Type name for {@code GFOp_c} */
     public static final String OP_C_TYPE = "Op_c";
 
-    public GFOp_c(List<COSBase> arguments) {
-        super(arguments, OP_C_TYPE);
+    public GFOp_c(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_C_TYPE, context);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_h;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_h extends GFOpPathConstruction implements Op_h {
 	/** Type name for {@code GFOp_h} */
     public static final String OP_H_TYPE = "Op_h";
 
-    public GFOp_h(List<COSBase> arguments) {
-        super(arguments, OP_H_TYPE);
+    public GFOp_h(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_H_TYPE, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_m_moveto;
@@ -38,8 +39,8 @@ public class GFOp_m_moveto extends GFOpPathConstruction implements Op_m_moveto {
 	/** Name of link to the point */
     public static final String POINT = "point";
 
-    public GFOp_m_moveto(List<COSBase> arguments) {
-        super(arguments, OP_M_MOVETO_TYPE);
+    public GFOp_m_moveto(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_M_MOVETO_TYPE, context);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_re;
@@ -38,8 +39,8 @@ public class GFOp_re extends GFOpPathConstruction implements Op_re {
 	/** Name of link to the rectangle box */
     public static final String RECT_BOX = "rectBox";
 
-    public GFOp_re(List<COSBase> arguments) {
-        super(arguments, OP_RE_TYPE);
+    public GFOp_re(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_RE_TYPE, context);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_v;
@@ -35,8 +36,8 @@ public class GFOp_v extends GFOpPathConstruction implements Op_v {
 	/** Type name for {@code GFOp_v} */
     public static final String OP_V_TYPE = "Op_v";
 
-    public GFOp_v(List<COSBase> arguments) {
-        super(arguments, OP_V_TYPE);
+    public GFOp_v(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_V_TYPE, context);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.pathconstruction;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_y;
@@ -35,8 +36,8 @@ public class GFOp_y extends GFOpPathConstruction implements Op_y {
 	/** Type name for {@code GFOp_y} */
     public static final String OP_Y_TYPE = "Op_y";
 
-    public GFOp_y(List<COSBase> arguments) {
-        super(arguments, OP_Y_TYPE);
+    public GFOp_y(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_Y_TYPE, context);
     }
 
     @Override
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
 
@@ -33,8 +34,8 @@ import java.util.List;
 public abstract class GFOpFillAndStroke extends GFOpPathPaint {
 
 	protected GFOpFillAndStroke(List<COSBase> arguments, final GraphicState state,
-								final PDResourcesHandler resourcesHandler, final String opType) {
-		super(arguments, state, resourcesHandler, opType);
+								final PDResourcesHandler resourcesHandler, final String opType, ValidationContext context) {
+		super(arguments, state, resourcesHandler, opType, context);
 	}
 
 	@Override
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.OpPathPaint;
@@ -57,18 +58,18 @@ public abstract class GFOpPathPaint extends GFOperator implements OpPathPaint {
 	private List<org.verapdf.model.pdlayer.PDColorSpace> strokeCS = null;
 
     protected GFOpPathPaint(List<COSBase> arguments, final GraphicState state,
-							final PDResourcesHandler resourcesHandler, final String operatorType) {
+							final PDResourcesHandler resourcesHandler, final String operatorType, ValidationContext context) {
 		this(arguments, state.getFillColorSpace(), state.getStrokeColorSpace(),
 				state.getOpm(), state.isOverprintingFlagStroke(), state.isOverprintingFlagNonStroke(),
-				resourcesHandler, operatorType, state);
+				resourcesHandler, operatorType, state, context);
     }
 
 	protected GFOpPathPaint(List<COSBase> arguments,
 							final PDColorSpace rawFillColorSpace, final PDColorSpace rawStrokeColorSpace,
 							int opm, boolean overprintingFlagStroke, boolean overprintingFlagNonStroke,
 							final PDResourcesHandler resourcesHandler, final String operatorType,
-							GraphicState inheritedGraphicState) {
-		super(arguments, operatorType);
+							GraphicState inheritedGraphicState, ValidationContext context) {
+		super(arguments, operatorType, context);
 		this.rawFillColorSpace = rawFillColorSpace;
 		this.rawStrokeColorSpace = rawStrokeColorSpace;
 		this.opm = opm;
@@ -108,7 +109,7 @@ public abstract class GFOpPathPaint extends GFOperator implements OpPathPaint {
 
 	private List<org.verapdf.model.pdlayer.PDColorSpace> getColorSpace(PDColorSpace rawColorSpace, boolean op) {
 		org.verapdf.model.pdlayer.PDColorSpace veraColorSpace =
-				ColorSpaceFactory.getColorSpace(rawColorSpace, this.resourcesHandler, this.opm, op, inheritedGraphicState);
+				ColorSpaceFactory.getColorSpace(rawColorSpace, this.resourcesHandler, this.opm, op, inheritedGraphicState, this.context);
 		if (veraColorSpace != null) {
 			List<org.verapdf.model.pdlayer.PDColorSpace> list =	new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			list.add(veraColorSpace);
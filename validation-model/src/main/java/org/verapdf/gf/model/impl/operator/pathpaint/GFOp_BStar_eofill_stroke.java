@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_BStar_eofill_stroke;
 
@@ -37,8 +38,8 @@ public class GFOp_BStar_eofill_stroke extends GFOpFillAndStroke
 	public static final String OP_BSTAR_EOFILL_STROKE_TYPE = "Op_BStar_eofill_stroke";
 
 	public GFOp_BStar_eofill_stroke(List<COSBase> arguments, final GraphicState state,
-									final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_BSTAR_EOFILL_STROKE_TYPE);
+									final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_BSTAR_EOFILL_STROKE_TYPE, context);
 	}
 
 }
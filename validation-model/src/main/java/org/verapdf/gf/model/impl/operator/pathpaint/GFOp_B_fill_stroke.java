@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_B_fill_stroke;
 
@@ -37,8 +38,8 @@ public class GFOp_B_fill_stroke extends GFOpFillAndStroke
 	public static final String OP_B_FILL_STROKE_TYPE = "Op_B_fill_stroke";
 
 	public GFOp_B_fill_stroke(List<COSBase> arguments, final GraphicState state,
-							  final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_B_FILL_STROKE_TYPE);
+							  final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_B_FILL_STROKE_TYPE, context);
 	}
 
 }
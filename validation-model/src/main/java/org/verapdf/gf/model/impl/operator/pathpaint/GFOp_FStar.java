@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_FStar;
 
@@ -37,8 +38,8 @@ public class GFOp_FStar extends GFOpFillPaint implements Op_FStar {
 
 	public GFOp_FStar(List<COSBase> arguments,
 					  final GraphicState state,
-					  final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_FSTAR_TYPE);
+					  final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_FSTAR_TYPE, context);
 	}
 
 }
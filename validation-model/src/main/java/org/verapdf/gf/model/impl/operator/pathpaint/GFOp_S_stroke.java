@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_S_stroke;
 
@@ -36,8 +37,8 @@ public class GFOp_S_stroke extends GFOpStrokePaint implements Op_S_stroke {
 	public static final String OP_S_STROKE_TYPE = "Op_S_stroke";
 
 	public GFOp_S_stroke(List<COSBase> arguments, final GraphicState state,
-						 final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_S_STROKE_TYPE);
+						 final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_S_STROKE_TYPE, context);
 	}
 
 }
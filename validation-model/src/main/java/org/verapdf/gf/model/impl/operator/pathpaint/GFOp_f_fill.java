@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_f_fill;
 
@@ -36,8 +37,8 @@ public class GFOp_f_fill extends GFOpFillPaint implements Op_f_fill {
 	public static final String OP_F_FILL_TYPE = "Op_f_fill";
 
 	public GFOp_f_fill(List<COSBase> arguments, final GraphicState state,
-					   final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_F_FILL_TYPE);
+					   final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_F_FILL_TYPE, context);
 	}
 
 }
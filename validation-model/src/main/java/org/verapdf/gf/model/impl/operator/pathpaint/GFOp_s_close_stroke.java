@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.pathpaint;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_s_close_stroke;
 
@@ -38,8 +39,8 @@ public class GFOp_s_close_stroke extends GFOpStrokePaint implements
 
 	public GFOp_s_close_stroke(List<COSBase> arguments,
 							   final GraphicState state,
-							   final PDResourcesHandler resourcesHandler) {
-		super(arguments, state, resourcesHandler, OP_S_CLOSE_STROKE_TYPE);
+							   final PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_S_CLOSE_STROKE_TYPE, context);
 	}
 
 }
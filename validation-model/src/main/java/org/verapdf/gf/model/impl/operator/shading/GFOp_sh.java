@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.shading;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.gf.model.impl.pd.patterns.GFPDShading;
 import org.verapdf.model.baselayer.Object;
@@ -44,8 +45,8 @@ public class GFOp_sh extends GFOperator implements Op_sh {
 
     private final org.verapdf.pd.patterns.PDShading rawShading;
 
-    public GFOp_sh(List<COSBase> arguments, org.verapdf.pd.patterns.PDShading rawShading) {
-        super(arguments, OP_SH_TYPE);
+    public GFOp_sh(List<COSBase> arguments, org.verapdf.pd.patterns.PDShading rawShading, ValidationContext context) {
+        super(arguments, OP_SH_TYPE, context);
         this.rawShading = rawShading;
     }
 
@@ -62,7 +63,7 @@ public class GFOp_sh extends GFOperator implements Op_sh {
         if (this.rawShading != null) {
             List<PDShading> list =
                     new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new GFPDShading(this.rawShading));
+            list.add(new GFPDShading(this.rawShading, this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.specialgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpSpecialGS;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public abstract class GFOpSpecialGS extends GFOperator implements OpSpecialGS {
 
-    public GFOpSpecialGS(List<COSBase> arguments, String opType) {
-        super(arguments, opType);
+    public GFOpSpecialGS(List<COSBase> arguments, String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
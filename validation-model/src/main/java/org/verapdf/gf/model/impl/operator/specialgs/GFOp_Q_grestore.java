@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.specialgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_Q_grestore;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_Q_grestore extends GFOpSpecialGS implements Op_Q_grestore {
 	/** Type name for {@code GFOp_Q_grestore} */
     public static final String OP_Q_GRESTORE_TYPE = "Op_Q_grestore";
 
-    public GFOp_Q_grestore(List<COSBase> arguments) {
-        super(arguments, OP_Q_GRESTORE_TYPE);
+    public GFOp_Q_grestore(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_Q_GRESTORE_TYPE, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.specialgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_cm;
@@ -38,8 +39,8 @@ public class GFOp_cm extends GFOpSpecialGS implements Op_cm {
 	/** Name of link to the concatenate matrix values */
     public static final String MATRIX = "matrix";
 
-    public GFOp_cm(List<COSBase> arguments) {
-        super(arguments, OP_CM_TYPE);
+    public GFOp_cm(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_CM_TYPE, context);
     }
 
     @Override
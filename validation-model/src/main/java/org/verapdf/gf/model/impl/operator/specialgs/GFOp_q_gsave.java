@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.specialgs;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.generalgs.GFOpGeneralGS;
 import org.verapdf.model.operator.Op_q_gsave;
 
@@ -36,8 +37,8 @@ public class GFOp_q_gsave extends GFOpGeneralGS implements Op_q_gsave {
 
     private final int nestingLevel;
 
-    public GFOp_q_gsave(List<COSBase> arguments, int nestingLevel) {
-        super(arguments, OP_Q_GSAVE_TYPE);
+    public GFOp_q_gsave(List<COSBase> arguments, int nestingLevel, ValidationContext context) {
+        super(arguments, OP_Q_GSAVE_TYPE, context);
         this.nestingLevel = nestingLevel;
     }
 
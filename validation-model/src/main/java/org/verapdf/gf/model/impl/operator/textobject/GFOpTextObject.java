@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textobject;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpTextObject;
 
@@ -34,8 +35,8 @@ public class GFOpTextObject extends GFOperator implements OpTextObject {
 	/** Type name for {@code GFOpTextObject} */
     public static final String OP_TEXT_OBJECT_TYPE = "OpTextObject";
 
-    public GFOpTextObject(List<COSBase> arguments) {
-        super(arguments, OP_TEXT_OBJECT_TYPE);
+    public GFOpTextObject(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_TEXT_OBJECT_TYPE, context);
     }
 
 }
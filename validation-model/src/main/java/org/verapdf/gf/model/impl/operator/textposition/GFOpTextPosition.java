@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textposition;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpTextPosition;
 
@@ -39,12 +40,12 @@ public class GFOpTextPosition extends GFOperator implements OpTextPosition {
 	 */
     public static final String OP_TEXT_POSITION_TYPE = "OpTextPosition";
 
-    public GFOpTextPosition(List<COSBase> arguments) {
-        this(arguments, OP_TEXT_POSITION_TYPE);
+    public GFOpTextPosition(List<COSBase> arguments, ValidationContext context) {
+        this(arguments, OP_TEXT_POSITION_TYPE, context);
     }
 
-    public GFOpTextPosition(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    public GFOpTextPosition(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
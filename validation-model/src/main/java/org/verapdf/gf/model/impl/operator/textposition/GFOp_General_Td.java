@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textposition;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.baselayer.Object;
@@ -43,8 +44,8 @@ public abstract class GFOp_General_Td extends GFOpTextPosition {
 	/** Name of link to the vertical offset for Td and TD operators */
 	public static final String VERTICAL_OFFSET = "verticalOffset";
 
-    protected GFOp_General_Td(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    protected GFOp_General_Td(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 	@Override
@@ -65,7 +66,7 @@ public abstract class GFOp_General_Td extends GFOpTextPosition {
 					.get(this.arguments.size() - 2);
 			if (number.getType().isNumber()) {
 				List<CosNumber> offset = new ArrayList<>(GFOperator.MAX_NUMBER_OF_ELEMENTS);
-				offset.add(GFCosNumber.fromPDFParserNumber(number));
+				offset.add(GFCosNumber.fromPDFParserNumber(number, this.context));
 				return Collections.unmodifiableList(offset);
 			}
 		}
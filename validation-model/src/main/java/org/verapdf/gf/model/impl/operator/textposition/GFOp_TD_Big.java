@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textposition;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_TD_Big;
 
 import java.util.List;
@@ -33,8 +34,8 @@ public class GFOp_TD_Big extends GFOp_General_Td implements Op_TD_Big {
 	/** Type name for {@code GFOp_TD_Big} */
     public static final String OP_TD_BIG_TYPE = "Op_TD_Big";
 
-    public GFOp_TD_Big(List<COSBase> arguments) {
-        super(arguments, OP_TD_BIG_TYPE);
+    public GFOp_TD_Big(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_TD_BIG_TYPE, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textposition;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Tm;
@@ -36,8 +37,8 @@ public class GFOp_Tm extends GFOpTextPosition implements Op_Tm {
 
 	public static final String CONTROL_POINTS = "controlPoints";
 
-	public GFOp_Tm(List<COSBase> arguments) {
-		super(arguments, OP_TM_TYPE);
+	public GFOp_Tm(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TM_TYPE, context);
 	}
 
 	@Override
@@ -0,0 +1,235 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.operator.textshow;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.pd.font.*;
+import org.verapdf.pd.font.truetype.PDTrueTypeFont;
+import org.verapdf.pd.font.type3.PDType3Font;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Properties of glyphs of one font that depend only on the glyph code. They are
+ * computed once per code and shared by all glyphs of the font, which only add
+ * rendering mode and marked content context.
+ */
+public final class FontGlyphFacts {
+
+    private static final Logger LOGGER = Logger.getLogger(FontGlyphFacts.class.getCanonicalName());
+
+    private static final int SINGLE_BYTE_CODES = 256;
+
+    private static final int[] UNICODE_PRIVATE_USE_AREA_ARRAY = {0xE000, 0xF8FF, 0xF0000, 0xFFFFD, 0x100000, 0x10FFFD};
+
+    private final PDFont font;
+    private final ValidationContext context;
+
+    private GlyphFacts[] singleByteFacts;
+    private Map<Integer, GlyphFacts> multiByteFacts;
+
+    public FontGlyphFacts(PDFont font, ValidationContext context) {
+        this.font = font;
+        this.context = context;
+    }
+
+    public GlyphFacts getGlyphFacts(int glyphCode) {
+        if (glyphCode >= 0 && glyphCode < SINGLE_BYTE_CODES) {
+            if (this.singleByteFacts == null) {
+                this.singleByteFacts = new GlyphFacts[SINGLE_BYTE_CODES];
+            }
+            GlyphFacts facts = this.singleByteFacts[glyphCode];
+            if (facts == null) {
+                facts = computeGlyphFacts(glyphCode);
+                this.singleByteFacts[glyphCode] = facts;
+            }
+            return facts;
+        }
+        if (this.multiByteFacts == null) {
+            this.multiByteFacts = new HashMap<>();
+        }
+        GlyphFacts facts = this.multiByteFacts.get(glyphCode);
+        if (facts == null) {
+            facts = computeGlyphFacts(glyphCode);
+            this.multiByteFacts.put(glyphCode, facts);
+        }
+        return facts;
+    }
+
+    private GlyphFacts computeGlyphFacts(int glyphCode) {
+        GlyphFacts facts = new GlyphFacts();
+        FontProgram fontProgram = font.getFontProgram();
+        boolean fontProgramIsInvalid = (fontProgram == null || !font.isSuccessfullyParsed())
+                && font.getSubtype() != ASAtom.TYPE3;
+
+        if (font.getSubtype() != ASAtom.TYPE3) {
+            initForNotType3(facts, fontProgramIsInvalid, fontProgram, glyphCode);
+        } else {
+            initForType3(facts, glyphCode);
+        }
+
+        if (font instanceof PDSimpleFont) {
+            Encoding encoding = font.getEncodingMapping();
+            facts.name = encoding == null ? null : encoding.getName(glyphCode);
+            if (facts.name == null && glyphCode == 0 && font instanceof PDTrueTypeFont) {
+                facts.name = ".notdef";
+            }
+        } else if (font instanceof PDType0Font) {
+            try {
+                FontProgram pr = font.getFontProgram();
+                if (pr == null || !pr.isSuccessfulParsing()) {
+                    facts.name = null;
+                } else {
+                    pr.parseFont();
+                    if (glyphCode == 0 || !font.glyphIsPresent(glyphCode)) {
+                        facts.name = ".notdef";
+                    } else {
+                        facts.name = null;
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Can't convert code to glyph", e);
+                facts.name = null;
+            }
+        }
+        if (this.context.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_1) {
+            facts.toUnicode = getToUnicodePDFA1(glyphCode);
+        } else {
+            facts.toUnicode = font.toUnicode(glyphCode);
+        }
+        facts.unicodePUA = isUnicodePUA(facts.toUnicode);
+        if (font.getSubtype() == ASAtom.CID_FONT_TYPE0 || font.getSubtype() == ASAtom.CID_FONT_TYPE2 ||
+                font.getSubtype() == ASAtom.TYPE0) {
+            facts.cid = ((PDType0Font) font).toCID(glyphCode);
+        }
+        return facts;
+    }
+
+    private String getToUnicodePDFA1(int glyphCode) {
+        if (font instanceof PDType3Font) {
+            return font.cMapToUnicode(glyphCode);
+        } else if (font instanceof org.verapdf.pd.font.type1.PDType1Font) {
+            return ((org.verapdf.pd.font.type1.PDType1Font) font).toUnicodePDFA1(glyphCode);
+        } else {
+            return font.toUnicode(glyphCode);
+        }
+    }
+
+    private void initForType3(GlyphFacts facts, int glyphCode) {
+        facts.glyphPresent = ((PDType3Font) font).containsCharString(glyphCode);
+        facts.widthsConsistent = checkWidths(glyphCode, font);
+    }
+
+    private void initForNotType3(GlyphFacts facts, boolean fontProgramIsInvalid, FontProgram fontProgram,
+                                 int glyphCode) {
+        try {
+            facts.glyphPresent = null;
+            facts.widthsConsistent = null;
+            if (!fontProgramIsInvalid) {
+                fontProgram.parseFont();
+                // every font contains notdef glyph. But if we call method
+                // of font program we can't distinguish case of code 0
+                // and glyph that is not present indeed.
+                facts.glyphPresent = glyphCode == 0 ? true :
+                        Boolean.valueOf(font.glyphIsPresent(glyphCode));
+                facts.widthsConsistent = checkWidths(glyphCode, font);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Error in parsing font program", e);
+            this.context.setValidPDF(false);
+        }
+    }
+
+    private static Boolean checkWidths(int glyphCode, PDFont font) {
+        Double fontWidth = font.getWidth(glyphCode);
+        double expectedWidth = fontWidth == null ? 0 : fontWidth.doubleValue();
+        double foundWidth = font.getWidthFromProgram(glyphCode);
+        if (foundWidth == -1) {
+            foundWidth = font.getDefaultWidth() == null ? 0 : font.getDefaultWidth().doubleValue();
+        }
+        // consistent is defined to be a difference of no more than 1/1000 unit.
+        return Math.abs(foundWidth - expectedWidth) > 1 ? Boolean.FALSE : Boolean.TRUE;
+    }
+
+    private static boolean isUnicodePUA(String toUnicode) {
+        if (toUnicode == null) {
+            return false;
+        }
+        for (int i = 0; i < toUnicode.length(); ++i) {
+            int unicode = toUnicode.codePointAt(i);
+            if ((unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[0] &&
+                    unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[1]) ||
+                    (unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[2] &&
+                            unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[3]) ||
+                    (unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[4] &&
+                            unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[5])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Properties of one glyph code of the font.
+     */
+    public static final class GlyphFacts {
+
+        private Boolean glyphPresent;
+        private Boolean widthsConsistent;
+        private String name;
+        private String toUnicode;
+        private boolean unicodePUA;
+        private int cid;
+
+        private GlyphFacts() {
+        }
+
+        public Boolean getGlyphPresent() {
+            return this.glyphPresent;
+        }
+
+        public Boolean getWidthsConsistent() {
+            return this.widthsConsistent;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String getToUnicode() {
+            return this.toUnicode;
+        }
+
+        public boolean isUnicodePUA() {
+            return this.unicodePUA;
+        }
+
+        public int getCID() {
+            return this.cid;
+        }
+    }
+}
@@ -20,10 +20,10 @@
  */
 package org.verapdf.gf.model.impl.operator.textshow;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
+import org.verapdf.gf.model.tools.GlyphKey;
 import org.verapdf.model.operator.CIDGlyph;
-import org.verapdf.pd.font.PDFont;
-import org.verapdf.pd.font.PDType0Font;
 import org.verapdf.pd.structure.StructureElementAccessObject;
 
 /**
@@ -35,12 +35,14 @@ public class GFCIDGlyph extends GFGlyph implements CIDGlyph {
 
     public final static String CID_GLYPH_TYPE = "CIDGlyph";
 
-    private int cid;
+    private final int cid;
 
-    protected GFCIDGlyph(PDFont font, int glyphCode, int renderingMode, String id,
-                      GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
-        super(font, glyphCode, CID_GLYPH_TYPE, renderingMode, id, markedContent, structureElementAccessObject);
-        this.cid = ((PDType0Font) font).toCID(glyphCode);
+    protected GFCIDGlyph(FontGlyphFacts.GlyphFacts facts, int renderingMode, GlyphKey key,
+                      GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject,
+                      ValidationContext context) {
+        super(facts, CID_GLYPH_TYPE, renderingMode, key, markedContent, structureElementAccessObject,
+              context);
+        this.cid = facts.getCID();
     }
 
     @Override
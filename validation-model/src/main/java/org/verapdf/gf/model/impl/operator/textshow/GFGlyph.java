@@ -21,216 +21,118 @@
 package org.verapdf.gf.model.impl.operator.textshow;
 
 import org.verapdf.as.ASAtom;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
 import org.verapdf.gf.model.impl.operator.markedcontent.MarkedContentHelper;
-import org.verapdf.gf.model.tools.GFIDGenerator;
+import org.verapdf.gf.model.impl.pd.PageModelWindow;
+import org.verapdf.gf.model.tools.GlyphKey;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.operator.Glyph;
-import org.verapdf.pd.font.*;
-import org.verapdf.pd.font.truetype.PDTrueTypeFont;
-import org.verapdf.pd.font.type3.PDType3Font;
+import org.verapdf.pd.font.PDFont;
 import org.verapdf.pd.structure.StructureElementAccessObject;
-import org.verapdf.pdfa.flavours.PDFAFlavour;
-
-import java.io.IOException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
- * Represents glyph used in text.
+ * Represents glyph used in text. Properties of the glyph code are shared by all
+ * glyphs of the font, see {@link FontGlyphFacts}.
  *
  * @author Sergey Shemyakov
  */
 public class GFGlyph extends GenericModelObject implements Glyph {
 
-    private static final Logger LOGGER = Logger.getLogger(GFGlyph.class.getCanonicalName());
-
     public final static String GLYPH_TYPE = "Glyph";
 
-    private static final int[] UNICODE_PRIVATE_USE_AREA_ARRAY = {0xE000, 0xF8FF, 0xF0000, 0xFFFFD, 0x100000, 0x10FFFD};
+    private final ValidationContext context;
+    private final GlyphKey key;
+    private String id;
 
-    private final String id;
+    private final FontGlyphFacts.GlyphFacts facts;
+    private final int renderingMode;
+    private final GFOpMarkedContent markedContent;
+    private final StructureElementAccessObject structureElementAccessObject;
 
-    private Boolean glyphPresent;
-    private Boolean widthsConsistent;
-    private String name;
-    private String toUnicode;
-    private Long renderingMode;
-    private GFOpMarkedContent markedContent;
-    private StructureElementAccessObject structureElementAccessObject;
-
-    protected GFGlyph(PDFont font, int glyphCode, int renderingMode, String id,
-                   GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
-        this(font, glyphCode, GLYPH_TYPE, renderingMode, id, markedContent, structureElementAccessObject);
+    protected GFGlyph(FontGlyphFacts.GlyphFacts facts, int renderingMode, GlyphKey key,
+                   GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject,
+                   ValidationContext context) {
+        this(facts, GLYPH_TYPE, renderingMode, key, markedContent, structureElementAccessObject, context);
     }
 
-    protected GFGlyph(PDFont font, int glyphCode, String type, int renderingMode, String id,
-                   GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
+    protected GFGlyph(FontGlyphFacts.GlyphFacts facts, String type, int renderingMode, GlyphKey key,
+                   GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject,
+                   ValidationContext context) {
         super(type);
-
-        FontProgram fontProgram = font.getFontProgram();
-        boolean fontProgramIsInvalid = (fontProgram == null || !font.isSuccessfullyParsed())
-                && font.getSubtype() != ASAtom.TYPE3;
-
-        if (font.getSubtype() != ASAtom.TYPE3) {
-            initForNotType3(fontProgramIsInvalid, fontProgram, font, glyphCode);
-        } else {
-            initForType3(font, glyphCode);
-        }
-        this.renderingMode = Long.valueOf(renderingMode);
+        this.context = context;
+        this.facts = facts;
+        this.renderingMode = renderingMode;
         this.markedContent = markedContent;
         this.structureElementAccessObject = structureElementAccessObject;
-
-        if (font instanceof PDSimpleFont) {
-            Encoding encoding = font.getEncodingMapping();
-            this.name = encoding == null ? null : encoding.getName(glyphCode);
-            if (this.name == null && glyphCode == 0 && font instanceof PDTrueTypeFont) {
-                this.name = ".notdef";
-            }
-        } else if (font instanceof PDType0Font) {
-            try {
-                FontProgram pr = font.getFontProgram();
-                if (pr == null || !pr.isSuccessfulParsing()) {
-                    this.name = null;
-                } else {
-                    pr.parseFont();
-                    if (glyphCode == 0 || !font.glyphIsPresent(glyphCode)) {
-                        this.name = ".notdef";
-                    } else {
-                        this.name = null;
-                    }
-                }
-            } catch (IOException e) {
-                LOGGER.log(Level.FINE, "Can't convert code to glyph", e);
-                this.name = null;
-            }
-        }
-        if (StaticContainers.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_1) {
-            this.toUnicode = getToUnicodePDFA1(font, glyphCode);
-        } else {
-            this.toUnicode = font.toUnicode(glyphCode);
-        }
-        getactualTextPresent();
-        this.id = id;
+        this.key = key;
     }
 
     public static Glyph getGlyph(PDFont font, int glyphCode, int renderingMode,
-                                 GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
-        String id = GFIDGenerator.generateID(font.getDictionary().hashCode(),
+                                 GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject,
+                                 ValidationContext context) {
+        GlyphKey key = new GlyphKey(font.getDictionary().hashCode(),
                 font.getName(), glyphCode, renderingMode, markedContent, structureElementAccessObject);
-        Glyph cachedGlyph = StaticContainers.getCachedGlyphs().get(id);
+        Glyph cachedGlyph = context.getCachedGlyphs().get(key);
         if (cachedGlyph == null) {
+            FontGlyphFacts.GlyphFacts facts = context.getFontGlyphFacts(font).getGlyphFacts(glyphCode);
             if (font.getSubtype() == ASAtom.CID_FONT_TYPE0 || font.getSubtype() == ASAtom.CID_FONT_TYPE2 ||
                     font.getSubtype() == ASAtom.TYPE0) {
-                cachedGlyph = new GFCIDGlyph(font, glyphCode, renderingMode, id,
-                        markedContent, structureElementAccessObject);
+                cachedGlyph = new GFCIDGlyph(facts, renderingMode, key,
+                        markedContent, structureElementAccessObject, context);
             } else {
-                cachedGlyph = new GFGlyph(font, glyphCode, GLYPH_TYPE, renderingMode, id,
-                        markedContent, structureElementAccessObject);
+                cachedGlyph = new GFGlyph(facts, GLYPH_TYPE, renderingMode, key,
+                        markedContent, structureElementAccessObject, context);
             }
-            StaticContainers.getCachedGlyphs().put(id, cachedGlyph);
-        }
-        return cachedGlyph;
-    }
-
-    private String getToUnicodePDFA1(PDFont font, int glyphCode) {
-        if (font instanceof PDType3Font) {
-            return font.cMapToUnicode(glyphCode);
-        } else if (font instanceof org.verapdf.pd.font.type1.PDType1Font) {
-            return ((org.verapdf.pd.font.type1.PDType1Font) font).toUnicodePDFA1(glyphCode);
-        } else {
-            return font.toUnicode(glyphCode);
-        }
-    }
-
-    private void initForType3(PDFont font, int glyphCode) {
-        glyphPresent = ((PDType3Font) font).containsCharString(glyphCode);
-        this.widthsConsistent = checkWidths(glyphCode, font);
-    }
-
-    private void initForNotType3(boolean fontProgramIsInvalid, FontProgram fontProgram,
-                                 PDFont font, int glyphCode) {
-        try {
-            glyphPresent = null;
-            widthsConsistent = null;
-            if (!fontProgramIsInvalid) {
-                fontProgram.parseFont();
-                // every font contains notdef glyph. But if we call method
-                // of font program we can't distinguish case of code 0
-                // and glyph that is not present indeed.
-                glyphPresent = glyphCode == 0 ? true :
-                        Boolean.valueOf(font.glyphIsPresent(glyphCode));
-                widthsConsistent = checkWidths(glyphCode, font);
+            context.getCachedGlyphs().put(key, cachedGlyph);
+            PageModelWindow window = context.getPageModelWindow();
+            if (window != null) {
+                window.registerGlyph(key);
             }
-        } catch (IOException e) {
-            LOGGER.log(Level.FINE, "Error in parsing font program", e);
-            StaticContainers.setValidPDF(false);
-        }
-    }
-
-    private static Boolean checkWidths(int glyphCode, org.verapdf.pd.font.PDFont font) {
-        Double fontWidth = font.getWidth(glyphCode);
-        double expectedWidth = fontWidth == null ? 0 : fontWidth.doubleValue();
-        double foundWidth = font.getWidthFromProgram(glyphCode);
-        if (foundWidth == -1) {
-            foundWidth = font.getDefaultWidth() == null ? 0 : font.getDefaultWidth().doubleValue();
         }
-        // consistent is defined to be a difference of no more than 1/1000 unit.
-        return Math.abs(foundWidth - expectedWidth) > 1 ? Boolean.FALSE : Boolean.TRUE;
+        return cachedGlyph;
     }
 
     @Override
     public String getname() {
-        return this.name;
+        return this.facts.getName();
     }
 
     @Override
     public Boolean getisWidthConsistent() {
-        return this.widthsConsistent;
+        return this.facts.getWidthsConsistent();
     }
 
     @Override
     public Boolean getisGlyphPresent() {
-        return this.glyphPresent;
+        return this.facts.getGlyphPresent();
     }
 
     @Override
     public String gettoUnicode() {
-        return this.toUnicode;
+        return this.facts.getToUnicode();
     }
 
     @Override
     public Long getrenderingMode() {
-        return this.renderingMode;
+        return Long.valueOf(this.renderingMode);
     }
 
     @Override
     public String getID() {
+        if (this.id == null) {
+            this.id = this.key.toID();
+        }
         return this.id;
     }
 
     @Override
     public Boolean getunicodePUA() {
-        if (toUnicode == null) {
-            return false;
-        }
-        for (int i = 0; i < toUnicode.length(); ++i) {
-            int unicode = this.toUnicode.codePointAt(i);
-            if ((unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[0] &&
-                    unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[1]) ||
-                    (unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[2] &&
-                            unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[3]) ||
-                    (unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[4] &&
-                            unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[5])) {
-                return true;
-            }
-        }
-        return false;
+        return this.facts.isUnicodePUA();
     }
 
     @Override
     public Boolean getactualTextPresent() {
-        return MarkedContentHelper.containsActualText(markedContent, structureElementAccessObject);
+        return MarkedContentHelper.containsActualText(markedContent, structureElementAccessObject, this.context);
     }
 }
@@ -24,6 +24,7 @@ import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSString;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosString;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
@@ -45,8 +46,9 @@ public abstract class GFOpStringTextShow extends GFOpTextShow {
 
     protected GFOpStringTextShow(List<COSBase> arguments, GraphicState state,
                                  PDResourcesHandler resources, final String opType,
-                                 GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
-        super(arguments, state, resources, opType, markedContent, structureElementAccessObject);
+                                 GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject,
+                                 ValidationContext context) {
+        super(arguments, state, resources, opType, markedContent, structureElementAccessObject, context);
     }
 
     @Override
@@ -63,7 +65,7 @@ public abstract class GFOpStringTextShow extends GFOpTextShow {
 			COSBase base = this.arguments.get(this.arguments.size() - 1);
 			if (base.getType() == COSObjType.COS_STRING) {
 				List<CosString> string = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				string.add(new GFCosString((COSString) base));
+				string.add(new GFCosString((COSString) base, this.context));
 				return Collections.unmodifiableList(string);
 			}
 		}
@@ -25,7 +25,7 @@ import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.gf.model.factory.fonts.FontFactory;
 import org.verapdf.gf.model.factory.operators.GraphicState;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
@@ -91,8 +91,8 @@ public abstract class GFOpTextShow extends GFOperator implements OpTextShow {
 
 	protected GFOpTextShow(List<COSBase> arguments, GraphicState state, PDResourcesHandler resourcesHandler,
 						   final String opType, GFOpMarkedContent markedContent,
-						   StructureElementAccessObject structureElementAccessObject) {
-		super(arguments, opType);
+						   StructureElementAccessObject structureElementAccessObject, ValidationContext context) {
+		super(arguments, opType, context);
 		this.rawFillColorSpace = state.getFillColorSpace();
 		this.rawStrokeColorSpace = state.getStrokeColorSpace();
 		this.font = state.getFont();
@@ -142,7 +142,7 @@ public abstract class GFOpTextShow extends GFOperator implements OpTextShow {
 		}
 		FontProgram fontProgram = font.getFontProgram();
 		if (fontProgram instanceof CFFFontProgram) {
-			StaticContainers.getDocument().getDocument().getResourceHandler().addResource(
+			this.context.getDocument().getDocument().getResourceHandler().addResource(
 					fontProgram.getFontProgramResource());
 		}
 
@@ -154,12 +154,12 @@ public abstract class GFOpTextShow extends GFOperator implements OpTextShow {
 					int code = font.readCode(inputStream);
 					Glyph glyph;
 					glyph = GFGlyph.getGlyph(font, code, this.renderingMode.getValue(),
-							markedContent, structureElementAccessObject);
+							markedContent, structureElementAccessObject, this.context);
 						res.add(glyph);
 				}
 			} catch (IOException e) {
 				LOGGER.log(Level.FINE, "Error processing text show operator's string argument : " + new String(string), e);
-				StaticContainers.setValidPDF(false);
+				this.context.setValidPDF(false);
 			}
 		}
 		return Collections.unmodifiableList(res);
@@ -196,7 +196,7 @@ public abstract class GFOpTextShow extends GFOperator implements OpTextShow {
 
 	private List<PDFont> parseFont() {
 		PDFont font = FontFactory.parseFont(this.font, renderingMode,
-				this.resourcesHandler, this.inheritedGraphicState);
+				this.resourcesHandler, this.inheritedGraphicState, this.context);
 		if (font != null) {
 			List<PDFont> result = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			result.add(font);
@@ -222,7 +222,7 @@ public abstract class GFOpTextShow extends GFOperator implements OpTextShow {
 	private List<org.verapdf.model.pdlayer.PDColorSpace> getColorSpace(org.verapdf.pd.colors.PDColorSpace rawColorSpace,
 			boolean op) {
 		org.verapdf.model.pdlayer.PDColorSpace veraColorSpace = ColorSpaceFactory.getColorSpace(rawColorSpace,
-				this.resourcesHandler, this.opm, op, inheritedGraphicState);
+				this.resourcesHandler, this.opm, op, inheritedGraphicState, this.context);
 		if (veraColorSpace != null) {
 			List<org.verapdf.model.pdlayer.PDColorSpace> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			list.add(veraColorSpace);
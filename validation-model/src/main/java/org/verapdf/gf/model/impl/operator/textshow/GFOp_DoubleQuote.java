@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.textshow;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
@@ -56,8 +57,8 @@ public class GFOp_DoubleQuote extends GFOpStringTextShow implements Op_DoubleQuo
 	public static final int COUNT_OF_OPERATOR_OPERANDS = 3;
 
 	public GFOp_DoubleQuote(List<COSBase> arguments, GraphicState state, PDResourcesHandler resourcesHandler,
-							GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
-		super(arguments, state, resourcesHandler, OP_DOUBLIE_QUOTE_TYPE, markedContent, structureElementAccessObject);
+							GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject, ValidationContext context) {
+		super(arguments, state, resourcesHandler, OP_DOUBLIE_QUOTE_TYPE, markedContent, structureElementAccessObject, context);
 	}
 
 	@Override
@@ -87,7 +88,7 @@ public class GFOp_DoubleQuote extends GFOpStringTextShow implements Op_DoubleQuo
 			COSBase base = this.arguments.get(index);
 			if (base.getType().isNumber()) {
 				List<CosNumber> number = new ArrayList<>(GFOperator.MAX_NUMBER_OF_ELEMENTS);
-				number.add(GFCosNumber.fromPDFParserNumber(base));
+				number.add(GFCosNumber.fromPDFParserNumber(base, this.context));
 				return Collections.unmodifiableList(number);
 			}
 		}
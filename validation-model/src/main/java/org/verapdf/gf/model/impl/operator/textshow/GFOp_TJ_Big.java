@@ -24,6 +24,7 @@ import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosArray;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
@@ -49,8 +50,8 @@ public class GFOp_TJ_Big extends GFOpTextShow implements Op_TJ_Big {
 
     public GFOp_TJ_Big(List<COSBase> arguments, GraphicState state,
                        PDResourcesHandler resourcesHandler, GFOpMarkedContent markedContent,
-                       StructureElementAccessObject structureElementAccessObject) {
-        super(arguments, state, resourcesHandler, OP_TJ_BIG_TYPE, markedContent, structureElementAccessObject);
+                       StructureElementAccessObject structureElementAccessObject, ValidationContext context) {
+        super(arguments, state, resourcesHandler, OP_TJ_BIG_TYPE, markedContent, structureElementAccessObject, context);
     }
 
     @Override
@@ -68,7 +69,7 @@ public class GFOp_TJ_Big extends GFOpTextShow implements Op_TJ_Big {
 					this.arguments.size() - 1);
 			if (base.getType() == COSObjType.COS_ARRAY) {
 				List<CosArray> array = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				array.add(new GFCosArray((COSArray) base));
+				array.add(new GFCosArray((COSArray) base, this.context));
 				return Collections.unmodifiableList(array);
 			}
 		}
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.textshow;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.operator.Op_Tj;
@@ -39,7 +40,7 @@ public class GFOp_Tj extends GFOpStringTextShow implements Op_Tj {
 
     public GFOp_Tj(List<COSBase> arguments, GraphicState state,
                    PDResourcesHandler resourcesHandler, GFOpMarkedContent markedContent,
-                   StructureElementAccessObject structureElementAccessObject) {
-        super(arguments, state, resourcesHandler, OP_TJ_TYPE, markedContent, structureElementAccessObject);
+                   StructureElementAccessObject structureElementAccessObject, ValidationContext context) {
+        super(arguments, state, resourcesHandler, OP_TJ_TYPE, markedContent, structureElementAccessObject, context);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpTextState;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public class GFOpTextState extends GFOperator implements OpTextState {
 
-    protected GFOpTextState(List<COSBase> arguments, final String opType) {
-        super(arguments, opType);
+    protected GFOpTextState(List<COSBase> arguments, final String opType, ValidationContext context) {
+        super(arguments, opType, context);
     }
 
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Tc;
@@ -36,8 +37,8 @@ public class GFOp_Tc extends GFOpTextState implements Op_Tc {
 
 	public static final String CHAR_SPACING = "charSpace";
 
-	public GFOp_Tc(List<COSBase> arguments) {
-		super(arguments, OP_TC_TYPE);
+	public GFOp_Tc(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TC_TYPE, context);
 	}
 
 	@Override
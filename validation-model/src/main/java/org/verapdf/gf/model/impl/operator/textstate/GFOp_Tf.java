@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSName;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosName;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosName;
@@ -42,8 +43,8 @@ public class GFOp_Tf extends GFOpTextState implements Op_Tf {
 	public static final String SIZE = "size";
 	public static final String FONT_NAME = "fontName";
 
-	public GFOp_Tf(List<COSBase> arguments) {
-		super(arguments, OP_TF_TYPE);
+	public GFOp_Tf(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TF_TYPE, context);
 	}
 
 	@Override
@@ -67,7 +68,7 @@ public class GFOp_Tf extends GFOpTextState implements Op_Tf {
 			COSBase base = this.arguments.get(this.arguments.size() - 2);
 			if (base instanceof COSName) {
 				List<CosName> names = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				names.add(new GFCosName((COSName) base));
+				names.add(new GFCosName((COSName) base, this.context));
 				return Collections.unmodifiableList(names);
 			}
 		}
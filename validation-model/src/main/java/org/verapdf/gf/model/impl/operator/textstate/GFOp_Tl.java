@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Tl;
@@ -36,8 +37,8 @@ public class GFOp_Tl extends GFOpTextState implements Op_Tl {
 
 	public static final String LEADING = "leading";
 
-	public GFOp_Tl(List<COSBase> arguments) {
-		super(arguments, OP_TL_TYPE);
+	public GFOp_Tl(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TL_TYPE, context);
 	}
 
 	@Override
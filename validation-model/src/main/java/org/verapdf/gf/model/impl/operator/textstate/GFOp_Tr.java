@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
 import org.verapdf.cos.COSObjType;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.operator.Op_Tr;
 
 import java.util.List;
@@ -34,8 +35,8 @@ public class GFOp_Tr extends GFOpTextState implements Op_Tr {
 	/** Type name for {@code GFOp_Tr} */
     public static final String OP_TR_TYPE = "Op_Tr";
 
-    public GFOp_Tr(List<COSBase> arguments) {
-        super(arguments, OP_TR_TYPE);
+    public GFOp_Tr(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_TR_TYPE, context);
     }
 
     @Override
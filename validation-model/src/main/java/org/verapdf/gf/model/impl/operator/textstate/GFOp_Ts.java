@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Ts;
@@ -36,8 +37,8 @@ public class GFOp_Ts extends GFOpTextState implements Op_Ts {
 
 	public static final String RISE = "rise";
 
-	public GFOp_Ts(List<COSBase> arguments) {
-		super(arguments, OP_TS_TYPE);
+	public GFOp_Ts(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TS_TYPE, context);
 	}
 
 	@Override
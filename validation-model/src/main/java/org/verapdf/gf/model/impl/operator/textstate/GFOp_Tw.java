@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Tw;
@@ -36,8 +37,8 @@ public class GFOp_Tw extends GFOpTextState implements Op_Tw {
 
 	public static final String WORD_SPACE = "wordSpace";
 
-	public GFOp_Tw(List<COSBase> arguments) {
-		super(arguments, OP_TW_TYPE);
+	public GFOp_Tw(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_TW_TYPE, context);
 	}
 
 	@Override
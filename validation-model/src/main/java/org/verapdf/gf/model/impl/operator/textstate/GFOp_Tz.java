@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.textstate;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_Tz;
@@ -38,8 +39,8 @@ public class GFOp_Tz extends GFOpTextState implements Op_Tz {
 	/** Name of link to the scale */
     public static final String SCALE = "scale";
 
-    public GFOp_Tz(List<COSBase> arguments) {
-        super(arguments, OP_TZ_TYPE);
+    public GFOp_Tz(List<COSBase> arguments, ValidationContext context) {
+        super(arguments, OP_TZ_TYPE, context);
     }
 
     @Override
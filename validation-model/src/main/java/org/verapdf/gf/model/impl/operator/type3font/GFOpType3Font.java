@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.type3font;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.operator.base.GFOperator;
 import org.verapdf.model.operator.OpType3Font;
 
@@ -31,8 +32,8 @@ import java.util.List;
  */
 public class GFOpType3Font extends GFOperator implements OpType3Font {
 
-	protected GFOpType3Font(List<COSBase> arguments, String type) {
-		super(arguments, type);
+	protected GFOpType3Font(List<COSBase> arguments, String type, ValidationContext context) {
+		super(arguments, type, context);
 	}
 
 }
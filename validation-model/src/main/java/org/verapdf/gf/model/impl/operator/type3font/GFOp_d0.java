@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.type3font;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
@@ -40,8 +41,8 @@ public class GFOp_d0 extends GFOpType3Font implements Op_d0 {
 	public static final String HORIZONTAL_DISPLACEMENT = "horizontalDisplacement";
 	public static final String VERTICAL_DISPLACEMENT = "verticalDisplacement";
 
-	public GFOp_d0(List<COSBase> arguments) {
-		super(arguments, OP_D0_TYPE);
+	public GFOp_d0(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_D0_TYPE, context);
 	}
 
 	@Override
@@ -61,7 +62,7 @@ public class GFOp_d0 extends GFOpType3Font implements Op_d0 {
 			COSBase base = this.arguments.get(this.arguments.size() - 2);
 			if (base.getType().isNumber()) {
 				List<CosNumber> real = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				real.add(GFCosNumber.fromPDFParserNumber(base));
+				real.add(GFCosNumber.fromPDFParserNumber(base, this.context));
 				return Collections.unmodifiableList(real);
 			}
 		}
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.operator.type3font;
 
 import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.operator.Op_d1;
@@ -36,8 +37,8 @@ public class GFOp_d1 extends GFOpType3Font implements Op_d1 {
 
 	public static final String CONTROL_POINTS = "controlPoints";
 
-	public GFOp_d1(List<COSBase> arguments) {
-		super(arguments, OP_D1_TYPE);
+	public GFOp_d1(List<COSBase> arguments, ValidationContext context) {
+		super(arguments, OP_D1_TYPE, context);
 	}
 
 	@Override
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDAcroForm;
 import org.verapdf.model.pdlayer.PDFormField;
@@ -44,8 +45,8 @@ public class GFPDAcroForm extends GFPDObject implements PDAcroForm {
 
     public static final String FORM_FIELDS = "formFields";
 
-    public GFPDAcroForm(org.verapdf.pd.form.PDAcroForm acroForm) {
-        super(acroForm, ACRO_FORM_TYPE);
+    public GFPDAcroForm(org.verapdf.pd.form.PDAcroForm acroForm, ValidationContext context) {
+        super(acroForm, ACRO_FORM_TYPE, context);
     }
 
     @Override
@@ -84,7 +85,7 @@ public class GFPDAcroForm extends GFPDObject implements PDAcroForm {
         List<PDFormField> formFields =
                 new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
         for (org.verapdf.pd.form.PDFormField field : fields) {
-            formFields.add(GFPDFormField.createTypedFormField(field));
+            formFields.add(GFPDFormField.createTypedFormField(field, this.context));
         }
         return Collections.unmodifiableList(formFields);
     }
@@ -24,7 +24,9 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSInteger;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
 import org.verapdf.gf.model.impl.pd.actions.GFPDAction;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
@@ -37,7 +39,6 @@ import org.verapdf.pd.PDAppearanceEntry;
 import org.verapdf.pd.PDAppearanceStream;
 import org.verapdf.pd.PDGroup;
 import org.verapdf.pd.actions.PDAnnotationAdditionalActions;
-import org.verapdf.pd.structure.StructureElementAccessObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -68,8 +69,8 @@ public class GFPDAnnot extends GFPDObject implements PDAnnot {
 	private List<PDContentStream> appearance = null;
 	private boolean containsTransparency = false;
 
-	public GFPDAnnot(PDAnnotation annot, PDResourcesHandler pageResources) {
-		super(annot, ANNOTATION_TYPE);
+	public GFPDAnnot(PDAnnotation annot, PDResourcesHandler pageResources, ValidationContext context) {
+		super(annot, ANNOTATION_TYPE, context);
 		this.resources = pageResources;
 	}
 
@@ -213,7 +214,7 @@ public class GFPDAnnot extends GFPDObject implements PDAnnot {
 		org.verapdf.pd.actions.PDAction action = ((PDAnnotation) simplePDObject).getA();
 		if (action != null) {
 			List<PDAction> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			res.add(GFPDAction.getAction(action));
+			res.add(GFPDAction.getAction(action, this.context));
 			return Collections.unmodifiableList(res);
 		}
 		return Collections.emptyList();
@@ -222,7 +223,7 @@ public class GFPDAnnot extends GFPDObject implements PDAnnot {
 	private List<CosNumber> getIC() {
 		COSObject ic = ((PDAnnotation) simplePDObject).getCOSIC();
 		if (ic != null) {
-			return GFPDAnnot.getNumbersFromArray(ic);
+			return GFPDAnnot.getNumbersFromArray(ic, this.context);
 		}
 		return Collections.emptyList();
 	}
@@ -230,24 +231,24 @@ public class GFPDAnnot extends GFPDObject implements PDAnnot {
 	private List<CosNumber> getC() {
 		COSObject c = ((PDAnnotation) simplePDObject).getCOSC();
 		if (c != null) {
-			return GFPDAnnot.getNumbersFromArray(c);
+			return GFPDAnnot.getNumbersFromArray(c, this.context);
 		}
 		return Collections.emptyList();
 	}
 
-	private static List<CosNumber> getNumbersFromArray(COSObject array) {
+	private static List<CosNumber> getNumbersFromArray(COSObject array, ValidationContext context) {
 		if (array.size().intValue() > 0) {
 			List<CosNumber> color = new ArrayList<>();
 			for (COSObject colorValue : (COSArray) array.getDirectBase()) {
 				if (colorValue.getType().isNumber()) {
-					color.add(GFCosNumber.fromPDFParserNumber(colorValue.get()));
+					color.add(GFCosNumber.fromPDFParserNumber(colorValue.get(), context));
 				}
 			}
 			return Collections.unmodifiableList(color);
 		} else {
 			// Array size is 0 but it is present
 			List<CosNumber> res = new ArrayList<>(1);
-			res.add(GFCosNumber.fromPDFParserNumber(COSInteger.construct(0).getDirectBase()));
+			res.add(GFCosNumber.fromPDFParserNumber(COSInteger.construct(0).getDirectBase(), context));
 			return res;
 		}
 	}
@@ -301,7 +302,7 @@ public class GFPDAnnot extends GFPDObject implements PDAnnot {
 		if (toAdd != null) {
 			PDResourcesHandler resources = this.resources.getExtendedResources(toAdd.getResources());
 			GFPDContentStream stream = new GFPDContentStream(toAdd, resources, null,
-					new StructureElementAccessObject(this.simpleCOSObject));
+					new IndexedStructureElementAccessObject(this.simpleCOSObject, toAdd.getObject()), this.context);
 			this.containsTransparency |= stream.isContainsTransparency();
 			PDGroup group = toAdd.getGroup();
 			this.containsTransparency |= group != null && ASAtom.TRANSPARENCY.equals(group.getSubtype());
@@ -20,7 +20,6 @@
  */
 package org.verapdf.gf.model.impl.pd;
 
-
 import org.verapdf.as.io.ASInputStream;
 import org.verapdf.cos.COSKey;
 import org.verapdf.cos.COSObjType;
@@ -28,13 +27,15 @@ import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSStream;
 import org.verapdf.gf.model.factory.operators.GraphicState;
 import org.verapdf.gf.model.factory.operators.OperatorFactory;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.gf.model.impl.pd.util.PageContentPrefetcher;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.parser.PDFStreamParser;
 import org.verapdf.pd.structure.StructureElementAccessObject;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -62,8 +63,8 @@ public class GFPDContentStream extends GFPDObject implements PDContentStream {
 	public GFPDContentStream(org.verapdf.pd.PDContentStream contentStream,
 							 PDResourcesHandler resourcesHandler,
 							 GraphicState inheritedGraphicState,
-							 StructureElementAccessObject structureElementAccessObject) {
-		super(contentStream, CONTENT_STREAM_TYPE);
+							 StructureElementAccessObject structureElementAccessObject, ValidationContext context) {
+		super(contentStream, CONTENT_STREAM_TYPE, context);
 		this.resourcesHandler = resourcesHandler;
 		this.inheritedGraphicState = inheritedGraphicState;
 		this.structureElementAccessObject = structureElementAccessObject;
@@ -93,48 +94,76 @@ public class GFPDContentStream extends GFPDObject implements PDContentStream {
 				if (contentStream.getType() == COSObjType.COS_STREAM || contentStream.getType() == COSObjType.COS_ARRAY) {
 					COSKey key = contentStream.getObjectKey();
 					if (key != null) {
-						if (StaticContainers.getTransparencyVisitedContentStreams().contains(key)) {
+						if (this.context.getTransparencyVisitedContentStreams().contains(key)) {
 							LOGGER.log(Level.FINE, "Parsing content stream loop");
-							StaticContainers.setValidPDF(false);
+							this.context.registerContentStreamLoop();
+							this.context.setValidPDF(false);
 							this.containsTransparency = false;
 							this.operators = Collections.emptyList();
 							return;
 						} else {
-							StaticContainers.getTransparencyVisitedContentStreams().push(key);
+							this.context.getTransparencyVisitedContentStreams().push(key);
 						}
 					}
-					try (ASInputStream opStream = contentStream.getDirectBase().getData(COSStream.FilterFlags.DECODE)) {
-						PDFStreamParser streamParser = new PDFStreamParser(opStream);
-						try {
-							streamParser.parseTokens();
-							OperatorFactory operatorFactory = new OperatorFactory();
-							List<Operator> result = operatorFactory.operatorsFromTokens(streamParser.getTokens(),
-									resourcesHandler, inheritedGraphicState, structureElementAccessObject);
-							this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
-							this.operators = Collections.unmodifiableList(result);
-						} finally {
-							streamParser.close();
-							if (StaticContainers.getDocument() != null &&
-									StaticContainers.getDocument().getDocument() != null) {
-								StaticContainers.getDocument().getDocument().getResourceHandler().addAll(
-										streamParser.getImageDataStreams());
+					PageContentPrefetcher prefetcher = this.context.getPageContentPrefetcher();
+					PageContentPrefetcher.PrefetchedContentStream prefetched = prefetcher == null ? null :
+							prefetcher.take(contentStream.getDirectBase());
+					if (prefetched != null && prefetched.getTokens() != null) {
+						addImageDataStreams(prefetched.getImageDataStreams());
+						parseOperators(prefetched.getTokens());
+					} else {
+						try (ASInputStream opStream = contentStream.getDirectBase().getData(COSStream.FilterFlags.DECODE)) {
+							PDFStreamParser streamParser = new PDFStreamParser(opStream);
+							try {
+								if (this.context.isStreamingContentParsing()) {
+									parseOperators(streamParser);
+								} else {
+									streamParser.parseTokens();
+									parseOperators(streamParser.getTokens());
+								}
+							} finally {
+								streamParser.close();
+								addImageDataStreams(streamParser.getImageDataStreams());
 							}
 						}
 					}
-					if (key != null && StaticContainers.getTransparencyVisitedContentStreams().peek().equals(key)) {
-						StaticContainers.getTransparencyVisitedContentStreams().pop();
+					if (key != null && this.context.getTransparencyVisitedContentStreams().peek().equals(key)) {
+						this.context.getTransparencyVisitedContentStreams().pop();
 					}
 				} else {
 					this.operators = Collections.emptyList();
 				}
 			} catch (IOException e) {
 				LOGGER.log(Level.FINE, "Error while parsing content stream. " + e.getMessage(), e);
-				StaticContainers.setValidPDF(false);
+				this.context.setValidPDF(false);
 				this.operators = Collections.emptyList();
 			}
 		}
 	}
 
+	private void parseOperators(List<Object> tokens) {
+		OperatorFactory operatorFactory = new OperatorFactory(this.context);
+		List<Operator> result = operatorFactory.operatorsFromTokens(tokens,
+				resourcesHandler, inheritedGraphicState, structureElementAccessObject);
+		this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
+		this.operators = Collections.unmodifiableList(result);
+	}
+
+	private void parseOperators(PDFStreamParser streamParser) throws IOException {
+		OperatorFactory operatorFactory = new OperatorFactory(this.context);
+		List<Operator> result = operatorFactory.operatorsFromStream(streamParser,
+				resourcesHandler, inheritedGraphicState, structureElementAccessObject);
+		this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
+		this.operators = Collections.unmodifiableList(result);
+	}
+
+	private void addImageDataStreams(List<Closeable> imageDataStreams) {
+		if (this.context.getDocument() != null &&
+				this.context.getDocument().getDocument() != null) {
+			this.context.getDocument().getDocument().getResourceHandler().addAll(imageDataStreams);
+		}
+	}
+
 	public boolean isContainsTransparency() {
 		if (this.operators == null) {
 			parseOperators();
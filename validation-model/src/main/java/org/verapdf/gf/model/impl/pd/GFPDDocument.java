@@ -24,10 +24,11 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSString;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosLang;
 import org.verapdf.gf.model.impl.pd.actions.GFPDAction;
 import org.verapdf.gf.model.impl.pd.signature.GFPDPerms;
+import org.verapdf.gf.model.impl.pd.util.PageContentPrefetcher;
 import org.verapdf.gf.model.tools.OutlinesHelper;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosLang;
@@ -100,8 +101,8 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
 
     private final PDCatalog catalog;
 
-    public GFPDDocument(org.verapdf.pd.PDDocument document) {
-        super(document, PD_DOCUMENT_TYPE);
+    public GFPDDocument(org.verapdf.pd.PDDocument document, ValidationContext context) {
+        super(document, PD_DOCUMENT_TYPE, context);
         PDCatalog catalog;
         catalog = document.getCatalog();
         this.catalog = catalog;
@@ -126,7 +127,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
 
     @Override
     public Boolean getvalidPDF() {
-        return Boolean.valueOf(StaticContainers.getValidPDF());
+        return Boolean.valueOf(this.context.getValidPDF());
     }
 
     @Override
@@ -144,7 +145,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
             case ACTIONS:
                 return this.getActions();
             case PAGES:
-                return GFPDDocument.getPages();
+                return this.getPages();
             case METADATA:
                 return this.getMetadata();
             case OUTPUT_INTENTS:
@@ -165,14 +166,14 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
     }
 
     private List<PDOutline> getOutlines() {
-        return OutlinesHelper.getOutlines(this.catalog);
+        return OutlinesHelper.getOutlines(this.catalog, this.context);
     }
 
     private List<PDAction> getOpenAction() {
         List<PDAction> actions = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
         org.verapdf.pd.actions.PDAction action = this.catalog.getOpenAction();
         if (action != null) {
-            actions.add(GFPDAction.getAction(action));
+            actions.add(GFPDAction.getAction(action, this.context));
         }
         return Collections.unmodifiableList(actions);
     }
@@ -206,13 +207,14 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
         return Collections.emptyList();
     }
 
-	private static List<PDPage> getPages() {
-		List<PDPage> result = new ArrayList<>();
-		List<org.verapdf.pd.PDPage> rawPages = StaticContainers.getDocument().getPages();
-		for (org.verapdf.pd.PDPage rawPage : rawPages) {
-			result.add(new GFPDPage(rawPage));
+	private List<PDPage> getPages() {
+		List<org.verapdf.pd.PDPage> rawPages = this.document.getPages();
+		PageContentPrefetcher prefetcher = null;
+		if (this.context.getPageExecutor() != null && !this.context.isStreamingContentParsing()) {
+			prefetcher = new PageContentPrefetcher(rawPages, this.context.getPageExecutor());
+			this.context.setPageContentPrefetcher(prefetcher);
 		}
-		return Collections.unmodifiableList(result);
+		return new LazyPageList(rawPages, prefetcher, this.context);
 	}
 
     private List<PDMetadata> getMetadata() {
@@ -220,7 +222,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
             org.verapdf.pd.PDMetadata meta = this.catalog.getMetadata();
             if (meta != null && GFPDMetadata.isMetadataObject(meta.getObject())) {
                 List<PDMetadata> metadata = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-                metadata.add(new GFPDMetadata(meta, Boolean.TRUE));
+                metadata.add(new GFPDMetadata(meta, Boolean.TRUE, this.context));
                 return Collections.unmodifiableList(metadata);
             }
         }
@@ -232,7 +234,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
         if (outInts.size() > 0) {
             List<PDOutputIntent> res = new ArrayList<>(outInts.size());
             for (org.verapdf.pd.PDOutputIntent outInt : outInts) {
-                res.add(new GFPDOutputIntent(outInt));
+                res.add(new GFPDOutputIntent(outInt, this.context));
             }
             return Collections.unmodifiableList(res);
         }
@@ -243,7 +245,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
         org.verapdf.pd.form.PDAcroForm acroForm = document.getAcroForm();
         if (acroForm != null) {
             List<PDAcroForm> forms = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            forms.add(new GFPDAcroForm(acroForm));
+            forms.add(new GFPDAcroForm(acroForm, this.context));
             return Collections.unmodifiableList(forms);
         }
         return Collections.emptyList();
@@ -253,7 +255,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
         org.verapdf.pd.structure.PDStructTreeRoot root = document.getStructTreeRoot();
         if (root != null) {
             List<PDStructTreeRoot> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            res.add(new GFPDStructTreeRoot(root));
+            res.add(new GFPDStructTreeRoot(root, this.context));
             return Collections.unmodifiableList(res);
         }
         return Collections.emptyList();
@@ -264,7 +266,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
             COSObject perms = this.catalog.getKey(ASAtom.PERMS);
             if (perms != null && perms.getType().isDictionaryBased()) {
                 List<PDPerms> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-                list.add(new GFPDPerms(perms));
+                list.add(new GFPDPerms(perms, this.context));
                 return Collections.unmodifiableList(list);
             }
         }
@@ -277,7 +279,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
             if (ocProperties != null) {
                 List<PDOCProperties> result = new ArrayList<>();
 
-                PDOCProperties pdOCProperties = new GFPDOCProperties(ocProperties);
+                PDOCProperties pdOCProperties = new GFPDOCProperties(ocProperties, this.context);
                 result.add(pdOCProperties);
 
                 return result;
@@ -291,7 +293,7 @@ public class GFPDDocument extends GFPDObject implements PDDocument {
             COSObject baseLang = catalog.getKey(ASAtom.LANG);
             if (baseLang != null && baseLang.getType() == COSObjType.COS_STRING) {
                 List<CosLang> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-                list.add(new GFCosLang((COSString) baseLang.getDirectBase()));
+                list.add(new GFCosLang((COSString) baseLang.getDirectBase(), this.context));
                 return Collections.unmodifiableList(list);
             }
         }
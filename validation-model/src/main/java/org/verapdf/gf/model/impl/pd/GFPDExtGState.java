@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
 import org.verapdf.gf.model.factory.functions.FunctionFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.gf.model.impl.cos.GFCosRenderingIntent;
 import org.verapdf.gf.model.impl.pd.functions.GFPDFunction;
@@ -53,8 +54,8 @@ public class GFPDExtGState extends GFPDResource implements PDExtGState {
     public static final String HALFTONE = "HT";
     public static final String CUSTOM_FUNCTIONS = "customFunctions";
 
-    public GFPDExtGState(org.verapdf.pd.PDExtGState state) {
-        super(state, EXT_G_STATE_TYPE);
+    public GFPDExtGState(org.verapdf.pd.PDExtGState state, ValidationContext context) {
+        super(state, EXT_G_STATE_TYPE, context);
     }
 
     @Override
@@ -142,7 +143,7 @@ public class GFPDExtGState extends GFPDResource implements PDExtGState {
                 .getCOSRenderingIntentName();
         if (renderingIntent != null) {
             List<CosRenderingIntent> renderingIntents = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            renderingIntents.add(new GFCosRenderingIntent(renderingIntent));
+            renderingIntents.add(new GFCosRenderingIntent(renderingIntent, this.context));
             return Collections.unmodifiableList(renderingIntents);
         }
         return Collections.emptyList();
@@ -153,7 +154,7 @@ public class GFPDExtGState extends GFPDResource implements PDExtGState {
                 .getCOSFontSize();
         if (fontSize != null) {
             List<CosNumber> result = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            result.add(GFCosNumber.fromPDFParserNumber(fontSize));
+            result.add(GFCosNumber.fromPDFParserNumber(fontSize, this.context));
             return Collections.unmodifiableList(result);
         }
 
@@ -164,7 +165,7 @@ public class GFPDExtGState extends GFPDResource implements PDExtGState {
         org.verapdf.pd.PDHalftone halftone = ((org.verapdf.pd.PDExtGState) simplePDObject).getHalftone();
         if (halftone != null) {
             List<PDHalftone> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new GFPDHalftone(halftone));
+            list.add(new GFPDHalftone(halftone, this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -173,10 +174,10 @@ public class GFPDExtGState extends GFPDResource implements PDExtGState {
         org.verapdf.pd.PDExtGState extGState = (org.verapdf.pd.PDExtGState) this.simplePDObject;
         List<GFPDFunction> result = new ArrayList<>();
         for (PDFunction function : extGState.getTRFunctions()) {
-            result.add(FunctionFactory.createFunction(function));
+            result.add(FunctionFactory.createFunction(function, this.context));
         }
         for (PDFunction function : extGState.getTR2Functions()) {
-            result.add(FunctionFactory.createFunction(function));
+            result.add(FunctionFactory.createFunction(function, this.context));
         }
         return Collections.unmodifiableList(result);
     }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd;
 
 import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.signature.GFPDSignatureField;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDAction;
@@ -42,19 +43,19 @@ public class GFPDFormField extends GFPDObject implements PDFormField {
 
     public static final int MAX_NUMBER_OF_ACTIONS = 4;
 
-    public GFPDFormField(org.verapdf.pd.form.PDFormField simplePDObject) {
-        super(simplePDObject, FORM_FIELD_TYPE);
+    public GFPDFormField(org.verapdf.pd.form.PDFormField simplePDObject, ValidationContext context) {
+        super(simplePDObject, FORM_FIELD_TYPE, context);
     }
 
-    protected GFPDFormField(org.verapdf.pd.form.PDFormField field, final String type) {
-        super(field, type);
+    protected GFPDFormField(org.verapdf.pd.form.PDFormField field, final String type, ValidationContext context) {
+        super(field, type, context);
     }
 
-    public static GFPDFormField createTypedFormField(org.verapdf.pd.form.PDFormField field) {
+    public static GFPDFormField createTypedFormField(org.verapdf.pd.form.PDFormField field, ValidationContext context) {
         if (field.getFT() == ASAtom.SIG) {
-            return new GFPDSignatureField((PDSignatureField) field);
+            return new GFPDSignatureField((PDSignatureField) field, context);
         }
-		return new GFPDFormField(field);
+		return new GFPDFormField(field, context);
     }
 
     @Override
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.pd;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDGroup;
@@ -42,8 +43,8 @@ public class GFPDGroup extends GFPDObject implements PDGroup {
 
 	private final PDResources resources;
 
-	public GFPDGroup(org.verapdf.pd.PDGroup simplePDObject, PDResources resources) {
-		super(simplePDObject, GROUP_TYPE);
+	public GFPDGroup(org.verapdf.pd.PDGroup simplePDObject, PDResources resources, ValidationContext context) {
+		super(simplePDObject, GROUP_TYPE, context);
 		this.resources = resources;
 		this.contextDependent = true;
 	}
@@ -66,7 +67,7 @@ public class GFPDGroup extends GFPDObject implements PDGroup {
 		org.verapdf.pd.colors.PDColorSpace pbColorSpace =
 				((org.verapdf.pd.PDGroup) this.simplePDObject).getColorSpace(this.resources);
 		if (pbColorSpace != null) {
-			PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(pbColorSpace);
+			PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(pbColorSpace, this.context);
 			List<PDColorSpace> colorSpaces = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			colorSpaces.add(colorSpace);
 			return Collections.unmodifiableList(colorSpaces);
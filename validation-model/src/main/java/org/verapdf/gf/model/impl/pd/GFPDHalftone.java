@@ -24,6 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.functions.FunctionFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.functions.GFPDFunction;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.pd.PDHalftone;
@@ -45,12 +46,12 @@ public class GFPDHalftone extends GFPDObject implements org.verapdf.model.pdlaye
 
     private final ASAtom colorantName;
 
-    public GFPDHalftone(PDHalftone dict) {
-        this(dict, null);
+    public GFPDHalftone(PDHalftone dict, ValidationContext context) {
+        this(dict, null, context);
     }
 
-    public GFPDHalftone(PDHalftone dict, ASAtom colorantName) {
-        super(dict, HALFTONE_TYPE);
+    public GFPDHalftone(PDHalftone dict, ASAtom colorantName, ValidationContext context) {
+        super(dict, HALFTONE_TYPE, context);
         this.colorantName = colorantName;
     }
 
@@ -118,7 +119,7 @@ public class GFPDHalftone extends GFPDObject implements org.verapdf.model.pdlaye
                 COSObject value = object.getKey(key);
                 if (value.getType().isDictionaryBased()) {
                     PDHalftone halftone = new PDHalftone(value);
-                    GFPDHalftone gfPDHalftone = new GFPDHalftone(halftone, key);
+                    GFPDHalftone gfPDHalftone = new GFPDHalftone(halftone, key, this.context);
                     halftones.add(gfPDHalftone);
                 }
             }
@@ -130,7 +131,7 @@ public class GFPDHalftone extends GFPDObject implements org.verapdf.model.pdlaye
         if (transferFunction == null) {
             return Collections.emptyList();
         }
-        GFPDFunction gfpdFunction = FunctionFactory.createFunction(transferFunction);
+        GFPDFunction gfpdFunction = FunctionFactory.createFunction(transferFunction, this.context);
         return Collections.singletonList(gfpdFunction);
     }
 }
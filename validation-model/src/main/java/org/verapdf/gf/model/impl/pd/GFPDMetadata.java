@@ -27,8 +27,9 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSStream;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosStream;
+import org.verapdf.gf.model.impl.pd.util.XMPCache;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.impl.axl.AXLMainXMPPackage;
@@ -38,7 +39,6 @@ import org.verapdf.model.xmplayer.XMPPackage;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -60,11 +60,12 @@ public class GFPDMetadata extends GFPDObject implements PDMetadata {
     private boolean isMainMetadata;
     private org.verapdf.pd.PDMetadata mainMetadata;
 
-    public GFPDMetadata(org.verapdf.pd.PDMetadata simplePDObject, Boolean isMainMetadata) {
-        super(simplePDObject, METADATA_TYPE);
+    public GFPDMetadata(org.verapdf.pd.PDMetadata simplePDObject, Boolean isMainMetadata, ValidationContext context) {
+        super(simplePDObject, METADATA_TYPE, context);
         this.isMainMetadata = isMainMetadata.booleanValue();
-        if (StaticContainers.getDocument()!= null && StaticContainers.getDocument().getCatalog() != null && StaticContainers.getDocument().getCatalog().getMetadata() != null) {
-            this.mainMetadata = StaticContainers.getDocument().getCatalog().getMetadata();
+        org.verapdf.pd.PDDocument pdDocument = this.context.getDocument();
+        if (pdDocument != null && pdDocument.getCatalog() != null && pdDocument.getCatalog().getMetadata() != null) {
+            this.mainMetadata = pdDocument.getCatalog().getMetadata();
         } else {
             this.mainMetadata = null;
         }
@@ -98,21 +99,20 @@ public class GFPDMetadata extends GFPDObject implements PDMetadata {
 
     private List<XMPPackage> getXMPPackage() {
         List<XMPPackage> xmp = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-        PDFAFlavour flavour = StaticContainers.getFlavour();
-        try (InputStream stream = ((org.verapdf.pd.PDMetadata) this.simplePDObject).getStream()) {
-            if (stream != null) {
-                VeraPDFMeta metadata = VeraPDFMeta.parse(stream);
+        PDFAFlavour flavour = this.context.getFlavour();
+        XMPCache xmpCache = this.context.getXMPCache();
+        try {
+            VeraPDFMeta metadata = xmpCache.getMetadata((org.verapdf.pd.PDMetadata) this.simplePDObject);
+            if (metadata != null) {
                 if (isMainMetadata) {
                     xmp.add(new AXLMainXMPPackage(metadata, true, flavour));
                 } else if (flavour == null || flavour.getPart() != PDFAFlavour.Specification.ISO_19005_1) {
                     VeraPDFXMPNode mainExtensionNode = null;
-                    try (InputStream mainStream = mainMetadata.getStream()) {
-                        if (mainStream != null) {
-                            VeraPDFMeta mainMeta = VeraPDFMeta.parse(mainStream);
-                            mainExtensionNode = mainMeta.getExtensionSchemasNode();
-                        }
-                        xmp.add(new AXLXMPPackage(metadata, true, mainExtensionNode, flavour));
+                    VeraPDFMeta mainMeta = xmpCache.getMetadata(mainMetadata);
+                    if (mainMeta != null) {
+                        mainExtensionNode = mainMeta.getExtensionSchemasNode();
                     }
+                    xmp.add(new AXLXMPPackage(metadata, true, mainExtensionNode, flavour));
                 }
             }
         } catch (XMPException | IOException e) {
@@ -130,7 +130,7 @@ public class GFPDMetadata extends GFPDObject implements PDMetadata {
         COSStream stream = ((org.verapdf.pd.PDMetadata) this.simplePDObject).getCOSStream();
         if (stream != null) {
             List<CosStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            streams.add(new GFCosStream(stream));
+            streams.add(new GFCosStream(stream, this.context));
             return Collections.unmodifiableList(streams);
         }
         return Collections.emptyList();
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDOCConfig;
 import org.verapdf.pd.PDObject;
 
@@ -47,14 +48,14 @@ public class GFPDOCConfig extends GFPDObject implements PDOCConfig {
 	private final List<String> groupNames;
 	private final boolean duplicateName;
 
-	public GFPDOCConfig(PDObject simplePDObject) {
-		super(simplePDObject, OC_CONFIG_TYPE);
+	public GFPDOCConfig(PDObject simplePDObject, ValidationContext context) {
+		super(simplePDObject, OC_CONFIG_TYPE, context);
 		this.groupNames = Collections.emptyList();
 		this.duplicateName = false;
 	}
 
-	public GFPDOCConfig(PDObject simplePDObject, List<String> groupNames, boolean duplicateName) {
-		super(simplePDObject, OC_CONFIG_TYPE);
+	public GFPDOCConfig(PDObject simplePDObject, List<String> groupNames, boolean duplicateName, ValidationContext context) {
+		super(simplePDObject, OC_CONFIG_TYPE, context);
 		this.groupNames = groupNames == null ? Collections.<String>emptyList() : groupNames;
 		this.duplicateName = duplicateName;
 	}
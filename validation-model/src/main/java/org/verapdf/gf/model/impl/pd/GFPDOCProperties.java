@@ -24,6 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDOCConfig;
 import org.verapdf.model.pdlayer.PDOCProperties;
@@ -49,8 +50,8 @@ public class GFPDOCProperties extends GFPDObject implements PDOCProperties {
 	public static final String D = "D";
 	public static final String CONFIGS = "Configs";
 
-	public GFPDOCProperties(PDOptionalContentProperties simplePDObject) {
-		super(simplePDObject, OC_PROPERTIES_TYPE);
+	public GFPDOCProperties(PDOptionalContentProperties simplePDObject, ValidationContext context) {
+		super(simplePDObject, OC_PROPERTIES_TYPE, context);
 	}
 
 	@Override
@@ -76,14 +77,14 @@ public class GFPDOCProperties extends GFPDObject implements PDOCProperties {
 				List<String> groupNamesList = Arrays.asList(groupNames == null ?
 						new String[]{} : groupNames);
 
-				PDOCConfig pdConfig = new GFPDOCConfig(new PDObject(defaultConfig), groupNamesList, false);
+				PDOCConfig pdConfig = new GFPDOCConfig(new PDObject(defaultConfig), groupNamesList, false, this.context);
 
 				result.add(pdConfig);
 				return result;
 			}
 		} else {
 			LOGGER.log(Level.SEVERE, "Invalid object type of the default optional configuration dictionary. Returning empty config.");
-			PDOCConfig config = new GFPDOCConfig(new PDObject(COSDictionary.construct()));
+			PDOCConfig config = new GFPDOCConfig(new PDObject(COSDictionary.construct()), this.context);
 
 			result.add(config);
 			return result;
@@ -107,7 +108,8 @@ public class GFPDOCProperties extends GFPDObject implements PDOCProperties {
 			for (int i = 0; i < configs.size().intValue(); i++) {
 				COSObject config = configs.at(i);
 				if (!config.empty() && config.getType() == COSObjType.COS_DICT) {
-					PDOCConfig pdConfig = new GFPDOCConfig(new PDObject(config), groupNamesList, names.contains(config.getStringKey(ASAtom.NAME)));
+					PDOCConfig pdConfig = new GFPDOCConfig(new PDObject(config), groupNamesList,
+							names.contains(config.getStringKey(ASAtom.NAME)), this.context);
 					String name = pdConfig.getName();
 					if (name != null) {
 						names.add(name);
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.pd;
 
 import org.verapdf.cos.COSKey;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.actions.GFPDAction;
 import org.verapdf.gf.model.tools.GFIDGenerator;
 import org.verapdf.model.GenericModelObject;
@@ -41,6 +42,8 @@ public class GFPDObject extends GenericModelObject implements PDObject {
 
 	public static final int MAX_NUMBER_OF_ELEMENTS = 1;
 
+	protected final ValidationContext context;
+
 	protected PDDocument document;
 	protected PDContentStream contentStream;
 	protected org.verapdf.pd.PDObject simplePDObject;
@@ -50,13 +53,15 @@ public class GFPDObject extends GenericModelObject implements PDObject {
 
 	protected String id;
 
-	public GFPDObject(PDDocument document, final String type) {
+	public GFPDObject(PDDocument document, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.document = document;
 	}
 
-	public GFPDObject(PDContentStream contentStream, final String type) {
+	public GFPDObject(PDContentStream contentStream, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.contentStream = contentStream;
 
 		COSObject simpleObject = ((org.verapdf.pd.PDObject) contentStream).getObject();
@@ -68,8 +73,9 @@ public class GFPDObject extends GenericModelObject implements PDObject {
 		}
 	}
 
-	public GFPDObject(org.verapdf.pd.PDObject simplePDObject, final String type) {
+	public GFPDObject(org.verapdf.pd.PDObject simplePDObject, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.simplePDObject = simplePDObject;
 
 		if (simplePDObject != null && !simplePDObject.getObject().empty()) {
@@ -81,16 +87,18 @@ public class GFPDObject extends GenericModelObject implements PDObject {
 		}
 	}
 
-	public GFPDObject(PDFont font, final String type) {
+	public GFPDObject(PDFont font, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.pdFont = font;
 		if (font != null) {
 			this.id = GFIDGenerator.generateID(font);
 		}
 	}
 
-	public GFPDObject(PDCMap pdcMap, final String type) {
+	public GFPDObject(PDCMap pdcMap, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.pdcMap = pdcMap;
 		this.simplePDObject = pdcMap;
 
@@ -103,13 +111,14 @@ public class GFPDObject extends GenericModelObject implements PDObject {
 		}
 	}
 
-	public GFPDObject(COSObject simpleCOSObject, final String type) {
+	public GFPDObject(COSObject simpleCOSObject, final String type, ValidationContext context) {
 		super(type);
+		this.context = context;
 		this.simpleCOSObject = simpleCOSObject;
 	}
 
 	protected void addAction(List<PDAction> actions, org.verapdf.pd.actions.PDAction raw) {
-		PDAction action = GFPDAction.getAction(raw);
+		PDAction action = GFPDAction.getAction(raw, this.context);
 		if (action != null) {
 			actions.add(action);
 		}
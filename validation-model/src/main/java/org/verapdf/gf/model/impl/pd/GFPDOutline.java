@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.actions.GFPDAction;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDAction;
@@ -41,8 +42,8 @@ public class GFPDOutline extends GFPDObject implements PDOutline {
 
 	private final String id;
 
-	public GFPDOutline(PDOutlineItem simplePDObject, String id) {
-		super(simplePDObject, OUTLINE_TYPE);
+	public GFPDOutline(PDOutlineItem simplePDObject, String id, ValidationContext context) {
+		super(simplePDObject, OUTLINE_TYPE, context);
 		this.id = id;
 	}
 
@@ -63,7 +64,7 @@ public class GFPDOutline extends GFPDObject implements PDOutline {
 		org.verapdf.pd.actions.PDAction action = ((PDOutlineItem) this.simplePDObject).getAction();
 		if (action != null) {
 			List<PDAction> actions = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			PDAction pdAction = GFPDAction.getAction(action);
+			PDAction pdAction = GFPDAction.getAction(action, this.context);
 			actions.add(pdAction);
 			return Collections.unmodifiableList(actions);
 		}
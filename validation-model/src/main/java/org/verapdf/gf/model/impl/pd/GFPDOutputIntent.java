@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
 import org.verapdf.external.ICCProfile;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.external.GFICCOutputProfile;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.ICCOutputProfile;
@@ -41,8 +42,8 @@ public class GFPDOutputIntent extends GFPDObject implements PDOutputIntent {
 
     public static final String DEST_PROFILE = "destProfile";
 
-    public GFPDOutputIntent(org.verapdf.pd.PDOutputIntent simplePDObject) {
-        super(simplePDObject, OUTPUT_INTENT_TYPE);
+    public GFPDOutputIntent(org.verapdf.pd.PDOutputIntent simplePDObject, ValidationContext context) {
+        super(simplePDObject, OUTPUT_INTENT_TYPE, context);
     }
 
     @Override
@@ -89,7 +90,7 @@ public class GFPDOutputIntent extends GFPDObject implements PDOutputIntent {
         if (iccProfile != null) {
             List<ICCOutputProfile> profile = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             String subtype = ((org.verapdf.pd.PDOutputIntent) simplePDObject).getSubtype();
-            profile.add(new GFICCOutputProfile(iccProfile, subtype));
+            profile.add(new GFICCOutputProfile(iccProfile, subtype, this.context));
             return Collections.unmodifiableList(profile);
         }
         return Collections.emptyList();
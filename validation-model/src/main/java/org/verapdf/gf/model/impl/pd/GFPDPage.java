@@ -22,15 +22,16 @@ package org.verapdf.gf.model.impl.pd;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSArray;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosBBox;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.gf.model.impl.pd.util.PageContentPrefetcher;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosBBox;
 import org.verapdf.model.pdlayer.*;
 import org.verapdf.pd.PDAnnotation;
 import org.verapdf.pd.actions.PDPageAdditionalActions;
-import org.verapdf.pd.structure.StructureElementAccessObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -91,13 +92,27 @@ public class GFPDPage extends GFPDObject implements PDPage {
 	private List<PDContentStream> contentStreams = null;
 	private List<PDAnnot> annotations = null;
 
+	private final PageContentPrefetcher prefetcher;
+	private final int pageIndex;
+
 	/**
 	 * Default constructor
 	 *
 	 * @param pdPage is greenfield parser PDPage.
 	 */
-	public GFPDPage(org.verapdf.pd.PDPage pdPage) {
-		super(pdPage, PD_PAGE_TYPE);
+	public GFPDPage(org.verapdf.pd.PDPage pdPage, ValidationContext context) {
+		this(pdPage, null, -1, context);
+	}
+
+	/**
+	 * @param pdPage     is greenfield parser PDPage.
+	 * @param prefetcher prefetcher of page content streams, null if pages are parsed sequentially
+	 * @param pageIndex  index of the page in the document
+	 */
+	public GFPDPage(org.verapdf.pd.PDPage pdPage, PageContentPrefetcher prefetcher, int pageIndex, ValidationContext context) {
+		super(pdPage, PD_PAGE_TYPE, context);
+		this.prefetcher = prefetcher;
+		this.pageIndex = pageIndex;
 	}
 
 	@Override
@@ -133,7 +148,7 @@ public class GFPDPage extends GFPDObject implements PDPage {
 			List<PDGroup> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			PDResourcesHandler resourcesHandler = PDResourcesHandler.getInstance(page.getResources(),
 					page.isInheritedResources().booleanValue());
-			res.add(new GFPDGroup(group, resourcesHandler.getPageResources()));
+			res.add(new GFPDGroup(group, resourcesHandler.getPageResources(), this.context));
 			return Collections.unmodifiableList(res);
 		}
 		return Collections.emptyList();
@@ -148,22 +163,54 @@ public class GFPDPage extends GFPDObject implements PDPage {
 	}
 
 	private List<PDAnnot> parseAnnotataions() {
-		StaticContainers.getTransparencyVisitedContentStreams().clear();
+		this.context.getTransparencyVisitedContentStreams().clear();
+		startPageModel();
+		awaitPrefetchedContent();
 		List<PDAnnotation> annots = ((org.verapdf.pd.PDPage) simplePDObject).getAnnotations();
 		if (annots.size() > 0) {
 			List<PDAnnot> res = new ArrayList<>(annots.size());
 			for (PDAnnotation annot : annots) {
 				org.verapdf.pd.PDPage page = (org.verapdf.pd.PDPage) this.simplePDObject;
 				PDResourcesHandler resourcesHandler = PDResourcesHandler.getInstance(page.getResources(), page.isInheritedResources().booleanValue());
-				GFPDAnnot annotation = new GFPDAnnot(annot, resourcesHandler);
+				GFPDAnnot annotation = new GFPDAnnot(annot, resourcesHandler, this.context);
 				this.containsTransparency |= annotation.isContainsTransparency();
 				res.add(annotation);
 			}
+			releasePrefetchedContent(this.contentStreams != null);
 			return Collections.unmodifiableList(res);
 		}
+		releasePrefetchedContent(this.contentStreams != null);
 		return Collections.emptyList();
 	}
 
+	private void startPageModel() {
+		PageModelWindow window = this.context.getPageModelWindow();
+		if (window != null) {
+			window.pageStarted(this, this.pageIndex);
+		}
+	}
+
+	/**
+	 * Drops parsed content streams and annotations of the page, they are parsed
+	 * again if requested.
+	 */
+	void releaseParsedContent() {
+		this.contentStreams = null;
+		this.annotations = null;
+	}
+
+	private void awaitPrefetchedContent() {
+		if (this.prefetcher != null) {
+			this.prefetcher.awaitPage(this.pageIndex);
+		}
+	}
+
+	private void releasePrefetchedContent(boolean isPageParsed) {
+		if (this.prefetcher != null && isPageParsed) {
+			this.prefetcher.releasePage(this.pageIndex);
+		}
+	}
+
 	private List<PDAction> getActions() {
 		PDPageAdditionalActions additionalActions =
 				((org.verapdf.pd.PDPage) this.simplePDObject).getAdditionalActions();
@@ -191,43 +238,46 @@ public class GFPDPage extends GFPDObject implements PDPage {
 	}
 
 	private List<PDContentStream> parseContentStream() {
-		StaticContainers.getTransparencyVisitedContentStreams().clear();
+		this.context.getTransparencyVisitedContentStreams().clear();
+		startPageModel();
+		awaitPrefetchedContent();
 		List<PDContentStream> pdContentStreams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		org.verapdf.pd.PDPage page = (org.verapdf.pd.PDPage) this.simplePDObject;
 		if (page.getContent() != null) {
 			PDResourcesHandler resourcesHandler = PDResourcesHandler.getInstance(page.getResources(), page.isInheritedResources().booleanValue());
 			GFPDContentStream pdContentStream = new GFPDContentStream(page.getContent(), resourcesHandler, null,
-					new StructureElementAccessObject(this.simpleCOSObject));
+					new IndexedStructureElementAccessObject(this.simpleCOSObject), this.context);
 			this.containsTransparency |= pdContentStream.isContainsTransparency();
 			pdContentStreams.add(pdContentStream);
 		}
+		releasePrefetchedContent(this.annotations != null);
 		return pdContentStreams;
 	}
 
 	private List<CosBBox> getMediaBox() {
-		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSMediaBox());
+		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSMediaBox(), this.context);
 	}
 
 	private List<CosBBox> getCropBox() {
-		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSCropBox());
+		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSCropBox(), this.context);
 	}
 
 	private List<CosBBox> getBleedBox() {
-		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSBleedBox());
+		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSBleedBox(), this.context);
 	}
 
 	private List<CosBBox> getTrimBox() {
-		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSTrimBox());
+		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSTrimBox(), this.context);
 	}
 
 	private List<CosBBox> getArtBox() {
-		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSArtBox());
+		return getBBox(((org.verapdf.pd.PDPage) simplePDObject).getCOSArtBox(), this.context);
 	}
 
-	private static List<CosBBox> getBBox(COSArray array) {
+	private static List<CosBBox> getBBox(COSArray array, ValidationContext context) {
 		if (array != null) {
 			List<CosBBox> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			res.add(new GFCosBBox(array));
+			res.add(new GFCosBBox(array, context));
 			return Collections.unmodifiableList(res);
 		}
 		return Collections.emptyList();
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDResource;
 import org.verapdf.pd.font.PDFont;
 
@@ -30,12 +31,12 @@ public class GFPDResource extends GFPDObject implements PDResource {
 
     public static final String RESOURCE_TYPE = "PDResource";
 
-    protected GFPDResource(org.verapdf.pd.PDResource simplePDObject, final String type) {
-        super(simplePDObject, type);
+    protected GFPDResource(org.verapdf.pd.PDResource simplePDObject, final String type, ValidationContext context) {
+        super(simplePDObject, type, context);
     }
 
-    protected GFPDResource(PDFont font, final String type) {
-        super(font, type);
+    protected GFPDResource(PDFont font, final String type, ValidationContext context) {
+        super(font, type, context);
     }
 
     @Override
@@ -25,7 +25,7 @@ import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSString;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosLang;
 import org.verapdf.gf.model.impl.cos.GFCosUnicodeName;
 import org.verapdf.gf.model.impl.pd.gfse.GFSEGeneral;
@@ -40,8 +40,6 @@ import org.verapdf.tools.TaggedPDFHelper;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * @author Maksim Bezrukov
@@ -65,8 +63,8 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 	 */
 	public static final String LANG = "Lang";
 
-	protected GFPDStructElem(org.verapdf.pd.structure.PDStructElem structElemDictionary, String type) {
-		super(structElemDictionary, type);
+	protected GFPDStructElem(org.verapdf.pd.structure.PDStructElem structElemDictionary, String type, ValidationContext context) {
+		super(structElemDictionary, type, context);
 		ASAtom subtype = this.simplePDObject.getNameKey(ASAtom.S);
 		if (subtype != null) {
 			this.id = super.getID() + " " + subtype.getValue();
@@ -78,8 +76,8 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 	 *
 	 * @param structElemDictionary dictionary of structure element
 	 */
-	public GFPDStructElem(org.verapdf.pd.structure.PDStructElem structElemDictionary) {
-		this(structElemDictionary, STRUCTURE_ELEMENT_TYPE);
+	public GFPDStructElem(org.verapdf.pd.structure.PDStructElem structElemDictionary, ValidationContext context) {
+		this(structElemDictionary, STRUCTURE_ELEMENT_TYPE, context);
 	}
 
 	/**
@@ -93,11 +91,21 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 
 	@Override
 	public String getkidsStandardTypes() {
-		return this.getChildren()
-		           .stream()
-		           .map(PDStructElem::getstandardType)
-		           .filter(Objects::nonNull)
-		           .collect(Collectors.joining("&"));
+		List<org.verapdf.pd.structure.PDStructElem> elements =
+				((org.verapdf.pd.structure.PDStructElem) simplePDObject).getChildren();
+		StringBuilder result = new StringBuilder();
+		boolean isFirst = true;
+		for (org.verapdf.pd.structure.PDStructElem element : elements) {
+			String standardType = getStructureElementStandardType(element, this.context);
+			if (standardType != null) {
+				if (!isFirst) {
+					result.append('&');
+				}
+				result.append(standardType);
+				isFirst = false;
+			}
+		}
+		return result.toString();
 	}
 
 	@Override
@@ -122,11 +130,12 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 
 	@Override
 	public String getstandardType() {
-		return getStructureElementStandardType((org.verapdf.pd.structure.PDStructElem)simplePDObject);
+		return getStructureElementStandardType((org.verapdf.pd.structure.PDStructElem)simplePDObject, this.context);
 	}
 
-	public static String getStructureElementStandardType(org.verapdf.pd.structure.PDStructElem pdStructElem){
-		if (StaticContainers.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_4) {
+	public static String getStructureElementStandardType(org.verapdf.pd.structure.PDStructElem pdStructElem,
+	                                                     ValidationContext context) {
+		if (context.getFlavour().getPart() == PDFAFlavour.Specification.ISO_19005_4) {
 			StructureType defaultStructureType = pdStructElem.getDefaultStructureType();
 			if (defaultStructureType != null) {
 				return defaultStructureType.getType().getValue();
@@ -134,7 +143,7 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 		} else {
 			StructureType type = pdStructElem.getStructureType();
 			if (type != null) {
-				return StaticContainers.getRoleMapHelper().getStandardType(type.getType());
+				return context.getRoleMapHelper().getStandardType(type.getType(), context.getFlavour());
 			}
 		}
 		return null;
@@ -159,7 +168,7 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 		if (!elements.isEmpty()) {
 			List<PDStructElem> res = new ArrayList<>(elements.size());
 			for (org.verapdf.pd.structure.PDStructElem element : elements) {
-				res.add(GFSEGeneral.createTypedStructElem(element));
+				res.add(GFSEGeneral.createTypedStructElem(element, this.context));
 			}
 			return Collections.unmodifiableList(res);
 		}
@@ -170,7 +179,7 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 		COSName type = ((org.verapdf.pd.structure.PDStructElem) this.simplePDObject).getCOSStructureType();
 		if (type != null) {
 			List<CosUnicodeName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFCosUnicodeName(type));
+			list.add(new GFCosUnicodeName(type, this.context));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
@@ -180,7 +189,7 @@ public class GFPDStructElem extends GFPDObject implements PDStructElem {
 		COSString baseLang = ((org.verapdf.pd.structure.PDStructElem) this.simplePDObject).getLang();
 		if (baseLang != null) {
 			List<CosLang> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFCosLang(baseLang));
+			list.add(new GFCosLang(baseLang, this.context));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
@@ -24,7 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosUnicodeName;
 import org.verapdf.gf.model.impl.pd.gfse.GFSEGeneral;
 import org.verapdf.model.baselayer.Object;
@@ -59,9 +59,9 @@ public class GFPDStructTreeRoot extends GFPDObject implements PDStructTreeRoot {
 	 *
 	 * @param treeRoot structure tree root implementation
 	 */
-	public GFPDStructTreeRoot(org.verapdf.pd.structure.PDStructTreeRoot treeRoot) {
-		super(treeRoot, STRUCT_TREE_ROOT_TYPE);
-		StaticContainers.setRoleMapHelper(treeRoot.getRoleMap());
+	public GFPDStructTreeRoot(org.verapdf.pd.structure.PDStructTreeRoot treeRoot, ValidationContext context) {
+		super(treeRoot, STRUCT_TREE_ROOT_TYPE, context);
+		this.context.setRoleMapHelper(treeRoot.getRoleMap());
 	}
 
 	@Override
@@ -118,7 +118,7 @@ public class GFPDStructTreeRoot extends GFPDObject implements PDStructTreeRoot {
 		if (!elements.isEmpty()) {
 			List<PDStructElem> res = new ArrayList<>(elements.size());
 			for (org.verapdf.pd.structure.PDStructElem element : elements) {
-				res.add(GFSEGeneral.createTypedStructElem(element));
+				res.add(GFSEGeneral.createTypedStructElem(element, this.context));
 			}
 			return Collections.unmodifiableList(res);
 		}
@@ -132,8 +132,8 @@ public class GFPDStructTreeRoot extends GFPDObject implements PDStructTreeRoot {
 			if (roleMap != null) {
 				List<CosUnicodeName> res = new ArrayList<>();
 				for (Map.Entry<ASAtom, ASAtom> entry : roleMap.entrySet()) {
-					res.add(new GFCosUnicodeName((COSName) COSName.construct(entry.getKey()).get()));
-					res.add(new GFCosUnicodeName((COSName) COSName.construct(entry.getValue()).get()));
+					res.add(new GFCosUnicodeName((COSName) COSName.construct(entry.getKey()).get(), this.context));
+					res.add(new GFCosUnicodeName((COSName) COSName.construct(entry.getValue()).get(), this.context));
 				}
 				return res;
 			}
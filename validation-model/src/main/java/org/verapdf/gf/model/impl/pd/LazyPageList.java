@@ -0,0 +1,70 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd;
+
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.pd.util.PageContentPrefetcher;
+import org.verapdf.model.pdlayer.PDPage;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of document pages. Page model object is created on the
+ * first access and is kept by the list only weakly, so pages that were
+ * validated and left the {@link PageModelWindow} can be collected. Until then
+ * repeated access to a page returns the same object, as in a list of pages
+ * created in advance.
+ */
+class LazyPageList extends AbstractList<PDPage> implements RandomAccess {
+
+	private final List<org.verapdf.pd.PDPage> rawPages;
+	private final PageContentPrefetcher prefetcher;
+	private final ValidationContext context;
+	private final List<WeakReference<PDPage>> pages;
+
+	LazyPageList(List<org.verapdf.pd.PDPage> rawPages, PageContentPrefetcher prefetcher, ValidationContext context) {
+		this.context = context;
+		this.rawPages = rawPages;
+		this.prefetcher = prefetcher;
+		this.pages = new ArrayList<>(Collections.<WeakReference<PDPage>>nCopies(rawPages.size(), null));
+	}
+
+	@Override
+	public PDPage get(int index) {
+		WeakReference<PDPage> reference = this.pages.get(index);
+		PDPage page = reference == null ? null : reference.get();
+		if (page == null) {
+			page = new GFPDPage(this.rawPages.get(index), this.prefetcher, index, this.context);
+			this.pages.set(index, new WeakReference<>(page));
+		}
+		return page;
+	}
+
+	@Override
+	public int size() {
+		return this.rawPages.size();
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.tools.GlyphKey;
+
+import java.util.*;
+
+/**
+ * Keeps parsed content only for the pages around the page being validated.
+ * <p>
+ * When parsing of a page starts, pages that are farther than the window size
+ * from it release their operators and annotations, together with glyphs and
+ * parsed form XObjects that were cached while they were validated. Released objects are rebuilt if they
+ * are requested again, so validation result does not depend on the window.
+ */
+public class PageModelWindow {
+
+	public static final int DEFAULT_WINDOW = 2;
+
+	private final ValidationContext context;
+	private final int window;
+
+	private final Map<Integer, GFPDPage> startedPages = new HashMap<>();
+	private final Map<Integer, List<GlyphKey>> pageGlyphs = new HashMap<>();
+	private final Map<Integer, List<List<Object>>> pageXForms = new HashMap<>();
+	private int currentPage = -1;
+
+	public PageModelWindow(ValidationContext context) {
+		this(context, DEFAULT_WINDOW);
+	}
+
+	public PageModelWindow(ValidationContext context, int window) {
+		this.context = context;
+		this.window = Math.max(window, 0);
+	}
+
+	/**
+	 * Registers glyph cached while validating the current page.
+	 *
+	 * @param key key of the glyph in the glyph cache
+	 */
+	public void registerGlyph(GlyphKey key) {
+		if (this.currentPage < 0) {
+			return;
+		}
+		List<GlyphKey> glyphs = this.pageGlyphs.get(this.currentPage);
+		if (glyphs == null) {
+			glyphs = new ArrayList<>();
+			this.pageGlyphs.put(this.currentPage, glyphs);
+		}
+		glyphs.add(key);
+	}
+
+	/**
+	 * Registers parsed form XObject content stream cached while validating the
+	 * current page.
+	 *
+	 * @param key key of the content stream in the form XObject cache
+	 */
+	public void registerXFormContentStream(List<Object> key) {
+		if (this.currentPage < 0) {
+			return;
+		}
+		List<List<Object>> xForms = this.pageXForms.get(this.currentPage);
+		if (xForms == null) {
+			xForms = new ArrayList<>();
+			this.pageXForms.put(this.currentPage, xForms);
+		}
+		xForms.add(key);
+	}
+
+	void pageStarted(GFPDPage page, int pageIndex) {
+		if (pageIndex < 0) {
+			return;
+		}
+		this.currentPage = pageIndex;
+		this.startedPages.put(pageIndex, page);
+		Iterator<Map.Entry<Integer, GFPDPage>> iterator = this.startedPages.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Integer, GFPDPage> entry = iterator.next();
+			if (Math.abs(entry.getKey() - pageIndex) > this.window) {
+				iterator.remove();
+				releasePage(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private void releasePage(int pageIndex, GFPDPage page) {
+		page.releaseParsedContent();
+		List<GlyphKey> glyphs = this.pageGlyphs.remove(pageIndex);
+		if (glyphs != null) {
+			Map<GlyphKey, ?> cachedGlyphs = this.context.getCachedGlyphs();
+			for (GlyphKey key : glyphs) {
+				cachedGlyphs.remove(key);
+			}
+		}
+		List<List<Object>> xForms = this.pageXForms.remove(pageIndex);
+		if (xForms != null) {
+			Map<List<Object>, ?> cachedXForms = this.context.getCachedXFormContentStreams();
+			for (List<Object> key : xForms) {
+				cachedXForms.remove(key);
+			}
+		}
+		Long structParents = page.simpleCOSObject == null ? null :
+				page.simpleCOSObject.getIntegerKey(ASAtom.STRUCT_PARENTS);
+		if (structParents != null) {
+			this.context.getActualTextIndex().release(structParents);
+		}
+	}
+}
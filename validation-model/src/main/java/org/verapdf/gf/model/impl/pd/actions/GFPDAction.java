@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.actions;
 
 import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDAction;
@@ -43,14 +44,14 @@ public class GFPDAction extends GFPDObject implements PDAction {
 	public static final String GO_TO_R_SUBTYPE = "GoToR";
 
 	public GFPDAction(
-			org.verapdf.pd.actions.PDAction simplePDObject) {
-		this(simplePDObject, ACTION_TYPE);
+			org.verapdf.pd.actions.PDAction simplePDObject, ValidationContext context) {
+		this(simplePDObject, ACTION_TYPE, context);
 	}
 
 	public GFPDAction(
 			org.verapdf.pd.actions.PDAction simplePDObject,
-			final String type) {
-		super(simplePDObject, type);
+			final String type, ValidationContext context) {
+		super(simplePDObject, type, context);
 	}
 
 	@Override
@@ -75,7 +76,7 @@ public class GFPDAction extends GFPDObject implements PDAction {
 		if (!nextActionList.isEmpty()) {
 			List<PDAction> actions = new ArrayList<>(nextActionList.size());
 			for (org.verapdf.pd.actions.PDAction action : nextActionList) {
-				PDAction result = getAction(action);
+				PDAction result = getAction(action, this.context);
 				if (result != null) {
 					actions.add(result);
 				}
@@ -85,24 +86,24 @@ public class GFPDAction extends GFPDObject implements PDAction {
 		return Collections.emptyList();
 	}
 
-	public static PDAction getAction(org.verapdf.pd.actions.PDAction action) {
+	public static PDAction getAction(org.verapdf.pd.actions.PDAction action, ValidationContext context) {
 		if (action == null) {
 			return null;
 		}
 		ASAtom subtype = action.getSubtype();
 		if (subtype == null) {
-			return new GFPDAction(action);
+			return new GFPDAction(action, context);
 		}
 
 		switch (subtype.getValue()) {
 			case NAMED_SUBTYPE:
-				return new GFPDNamedAction(action);
+				return new GFPDNamedAction(action, context);
 			case GO_TO_SUBTYPE:
-				return new GFPDGoToAction(action);
+				return new GFPDGoToAction(action, context);
 			case GO_TO_R_SUBTYPE:
-				return new GFPDGoToRemoteAction(action);
+				return new GFPDGoToRemoteAction(action, context);
 			default:
-				return new GFPDAction(action);
+				return new GFPDAction(action, context);
 		}
 	}
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.actions;
 
 import org.verapdf.cos.COSNumber;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosNumber;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
@@ -39,12 +40,12 @@ public class GFPDGoToAction extends GFPDAction implements PDGoToAction {
 
 	public static final String D = "D";
 
-	public GFPDGoToAction(PDAction simplePDObject) {
-		super(simplePDObject, GOTO_ACTION_TYPE);
+	public GFPDGoToAction(PDAction simplePDObject, ValidationContext context) {
+		super(simplePDObject, GOTO_ACTION_TYPE, context);
 	}
 
-	protected GFPDGoToAction(PDAction simplePDObject, String type) {
-		super(simplePDObject, type);
+	protected GFPDGoToAction(PDAction simplePDObject, String type, ValidationContext context) {
+		super(simplePDObject, type, context);
 	}
 
 	@Override
@@ -60,7 +61,7 @@ public class GFPDGoToAction extends GFPDAction implements PDGoToAction {
 		if (!numbers.isEmpty()) {
 			List<CosNumber> result = new ArrayList<>(numbers.size());
 			for (COSNumber number : numbers) {
-				result.add(GFCosNumber.fromPDFParserNumber(number));
+				result.add(GFCosNumber.fromPDFParserNumber(number, this.context));
 			}
 			return Collections.unmodifiableList(result);
 		}
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.actions;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDGoToRemoteAction;
 import org.verapdf.pd.actions.PDAction;
 
@@ -30,7 +31,7 @@ public class GFPDGoToRemoteAction extends GFPDGoToAction implements PDGoToRemote
 
 	public static final String GOTO_REMOTE_ACTION_TYPE = "PDGoToRemoteAction";
 
-	public GFPDGoToRemoteAction(PDAction simplePDObject) {
-		super(simplePDObject, GOTO_REMOTE_ACTION_TYPE);
+	public GFPDGoToRemoteAction(PDAction simplePDObject, ValidationContext context) {
+		super(simplePDObject, GOTO_REMOTE_ACTION_TYPE, context);
 	}
 }
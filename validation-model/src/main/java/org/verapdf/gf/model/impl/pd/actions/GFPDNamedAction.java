@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.actions;
 
 import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDNamedAction;
 import org.verapdf.pd.actions.PDAction;
 
@@ -30,8 +31,8 @@ import org.verapdf.pd.actions.PDAction;
 public class GFPDNamedAction extends GFPDAction implements PDNamedAction {
 	public static final String NAMED_ACTION_TYPE = "PDNamedAction";
 
-	public GFPDNamedAction(PDAction simplePDObject) {
-		super(simplePDObject, NAMED_ACTION_TYPE);
+	public GFPDNamedAction(PDAction simplePDObject, ValidationContext context) {
+		super(simplePDObject, NAMED_ACTION_TYPE, context);
 	}
 
 	@Override
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDCalGray;
 
 /**
@@ -30,7 +31,7 @@ public class GFPDCalGray extends GFPDColorSpace implements PDCalGray {
     public static final String CAL_GRAY_TYPE = "PDCalGray";
 
     public GFPDCalGray(
-            org.verapdf.pd.colors.PDCalGray simplePDObject) {
-        super(simplePDObject, CAL_GRAY_TYPE);
+            org.verapdf.pd.colors.PDCalGray simplePDObject, ValidationContext context) {
+        super(simplePDObject, CAL_GRAY_TYPE, context);
     }
 }
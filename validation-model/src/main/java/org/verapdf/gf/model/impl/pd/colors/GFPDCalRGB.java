@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDCalRGB;
 
 /**
@@ -30,7 +31,7 @@ public class GFPDCalRGB extends GFPDColorSpace implements PDCalRGB {
     public static final String CAL_RGB_TYPE = "PDCalRGB";
 
     public GFPDCalRGB(
-            org.verapdf.pd.colors.PDCalRGB simplePDObject) {
-        super(simplePDObject, CAL_RGB_TYPE);
+            org.verapdf.pd.colors.PDCalRGB simplePDObject, ValidationContext context) {
+        super(simplePDObject, CAL_RGB_TYPE, context);
     }
 }
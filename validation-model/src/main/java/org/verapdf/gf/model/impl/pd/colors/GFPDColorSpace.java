@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDResource;
 import org.verapdf.model.pdlayer.PDColorSpace;
 
@@ -28,8 +29,8 @@ import org.verapdf.model.pdlayer.PDColorSpace;
  */
 public class GFPDColorSpace extends GFPDResource implements PDColorSpace {
 
-    protected GFPDColorSpace(org.verapdf.pd.colors.PDColorSpace simplePDObject, String type) {
-        super(simplePDObject, type);
+    protected GFPDColorSpace(org.verapdf.pd.colors.PDColorSpace simplePDObject, String type, ValidationContext context) {
+        super(simplePDObject, type, context);
     }
 
     @Override
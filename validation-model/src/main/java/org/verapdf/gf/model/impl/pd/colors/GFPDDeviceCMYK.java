@@ -20,23 +20,25 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDDeviceCMYK;
 
 /**
  * @author Maksim Bezrukov
  */
 public class GFPDDeviceCMYK extends GFPDColorSpace implements PDDeviceCMYK {
+    // device colour spaces have no document state and are shared between documents
 
     private static final PDDeviceCMYK INSTANCE = new GFPDDeviceCMYK(
-            org.verapdf.pd.colors.PDDeviceCMYK.INSTANCE);
+            org.verapdf.pd.colors.PDDeviceCMYK.INSTANCE, null);
     private static final PDDeviceCMYK INHERITED_INSTANCE = new GFPDDeviceCMYK(
-            org.verapdf.pd.colors.PDDeviceCMYK.INHERITED_INSTANCE);
+            org.verapdf.pd.colors.PDDeviceCMYK.INHERITED_INSTANCE, null);
 
     public static final String DEVICE_CMYK_TYPE = "PDDeviceCMYK";
 
     private GFPDDeviceCMYK(
-            org.verapdf.pd.colors.PDDeviceCMYK simplePDObject) {
-        super(simplePDObject, DEVICE_CMYK_TYPE);
+            org.verapdf.pd.colors.PDDeviceCMYK simplePDObject, ValidationContext context) {
+        super(simplePDObject, DEVICE_CMYK_TYPE, context);
     }
 
     public static PDDeviceCMYK getInstance() {
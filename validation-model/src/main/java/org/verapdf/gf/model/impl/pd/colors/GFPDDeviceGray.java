@@ -20,23 +20,25 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDDeviceGray;
 
 /**
  * @author Maksim Bezrukov
  */
 public class GFPDDeviceGray extends GFPDColorSpace implements PDDeviceGray {
+    // device colour spaces have no document state and are shared between documents
 
     private static final PDDeviceGray INSTANCE = new GFPDDeviceGray(
-            org.verapdf.pd.colors.PDDeviceGray.INSTANCE);
+            org.verapdf.pd.colors.PDDeviceGray.INSTANCE, null);
     private static final PDDeviceGray INHERITED_INSTANCE = new GFPDDeviceGray(
-            org.verapdf.pd.colors.PDDeviceGray.INHERITED_INSTANCE);
+            org.verapdf.pd.colors.PDDeviceGray.INHERITED_INSTANCE, null);
 
     public static final String DEVICE_GRAY_TYPE = "PDDeviceGray";
 
     private GFPDDeviceGray(
-            org.verapdf.pd.colors.PDDeviceGray simplePDObject) {
-        super(simplePDObject, DEVICE_GRAY_TYPE);
+            org.verapdf.pd.colors.PDDeviceGray simplePDObject, ValidationContext context) {
+        super(simplePDObject, DEVICE_GRAY_TYPE, context);
     }
 
     public static PDDeviceGray getInstance() {
@@ -24,6 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.gf.model.factory.functions.FunctionFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.functions.GFPDFunction;
 import org.verapdf.gf.model.impl.cos.GFCosUnicodeName;
 import org.verapdf.model.baselayer.Object;
@@ -61,8 +62,8 @@ public class GFPDDeviceN extends GFPDColorSpace implements PDDeviceN {
 
 	private final boolean areColorantsPresent;
 
-	public GFPDDeviceN(org.verapdf.pd.colors.PDDeviceN simplePDObject) {
-		super(simplePDObject, DEVICE_N_TYPE);
+	public GFPDDeviceN(org.verapdf.pd.colors.PDDeviceN simplePDObject, ValidationContext context) {
+		super(simplePDObject, DEVICE_N_TYPE, context);
 		this.areColorantsPresent = GFPDDeviceN.areColorantsPresent(simplePDObject);
 	}
 
@@ -155,13 +156,13 @@ public class GFPDDeviceN extends GFPDColorSpace implements PDDeviceN {
 			return Collections.emptyList();
 		}
 
-		return Collections.singletonList(ColorSpaceFactory.getColorSpace(colorSpace));
+		return Collections.singletonList(ColorSpaceFactory.getColorSpace(colorSpace, this.context));
 	}
 
 	private List<PDColorSpace> getAlternate() {
 		org.verapdf.pd.colors.PDColorSpace alternateColorSpace = ((org.verapdf.pd.colors.PDDeviceN) this.simplePDObject)
 				.getAlternateSpace();
-		PDColorSpace space = ColorSpaceFactory.getColorSpace(alternateColorSpace);
+		PDColorSpace space = ColorSpaceFactory.getColorSpace(alternateColorSpace, this.context);
 		if (space != null) {
 			List<PDColorSpace> colorSpace = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			colorSpace.add(space);
@@ -176,7 +177,7 @@ public class GFPDDeviceN extends GFPDColorSpace implements PDDeviceN {
 			ArrayList<CosUnicodeName> list = new ArrayList<>(colorants.size());
 			for (COSObject colorant : colorants) {
 				if (colorant.getType() == COSObjType.COS_NAME) {
-					list.add(new GFCosUnicodeName((COSName) colorant.getDirectBase()));
+					list.add(new GFCosUnicodeName((COSName) colorant.getDirectBase(), this.context));
 				}
 			}
 			return Collections.unmodifiableList(list);
@@ -189,19 +190,19 @@ public class GFPDDeviceN extends GFPDColorSpace implements PDDeviceN {
 		if (attributes != null && attributes.getType() == COSObjType.COS_DICT) {
 			COSObject colorantsDict = attributes.getKey(ASAtom.COLORANTS);
 			if (colorantsDict.getType() == COSObjType.COS_DICT && colorantsDict.size().intValue() > 0) {
-				return GFPDDeviceN.getColorants(colorantsDict);
+				return GFPDDeviceN.getColorants(colorantsDict, this.context);
 			}
 		}
 		return Collections.emptyList();
 	}
 
-	private static List<PDSeparation> getColorants(COSObject colorantsDict) {
+	private static List<PDSeparation> getColorants(COSObject colorantsDict, ValidationContext context) {
 		List<PDSeparation> list = new ArrayList<>(colorantsDict.size().intValue());
 		for (COSObject value : colorantsDict.getValues()) {
 			org.verapdf.pd.colors.PDColorSpace colorSpace = org.verapdf.factory.colors.ColorSpaceFactory
 					.getColorSpace(value);
 			if (ASAtom.SEPARATION.equals(colorSpace.getType())) {
-				list.add((GFPDSeparation) ColorSpaceFactory.getColorSpace(colorSpace));
+				list.add((GFPDSeparation) ColorSpaceFactory.getColorSpace(colorSpace, context));
 			}
 		}
 		return Collections.unmodifiableList(list);
@@ -211,7 +212,7 @@ public class GFPDDeviceN extends GFPDColorSpace implements PDDeviceN {
 		if (pdFunction == null) {
 			return Collections.emptyList();
 		}
-		GFPDFunction gfpdFunction = FunctionFactory.createFunction(pdFunction);
+		GFPDFunction gfpdFunction = FunctionFactory.createFunction(pdFunction, this.context);
 		return Collections.singletonList(gfpdFunction);
 	}
 
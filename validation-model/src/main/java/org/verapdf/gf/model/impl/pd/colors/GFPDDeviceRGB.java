@@ -20,22 +20,24 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDDeviceRGB;
 
 /**
  * @author Maksim Bezrukov
  */
 public class GFPDDeviceRGB extends GFPDColorSpace implements PDDeviceRGB {
+    // device colour spaces have no document state and are shared between documents
     private static final PDDeviceRGB INSTANCE = new GFPDDeviceRGB(
-            org.verapdf.pd.colors.PDDeviceRGB.INSTANCE);
+            org.verapdf.pd.colors.PDDeviceRGB.INSTANCE, null);
     private static final PDDeviceRGB INHERITED_INSTANCE = new GFPDDeviceRGB(
-            org.verapdf.pd.colors.PDDeviceRGB.INHERITED_INSTANCE);
+            org.verapdf.pd.colors.PDDeviceRGB.INHERITED_INSTANCE, null);
 
     public static final String DEVICE_RGB_TYPE = "PDDeviceRGB";
 
     private GFPDDeviceRGB(
-            org.verapdf.pd.colors.PDDeviceRGB simplePDObject) {
-        super(simplePDObject, DEVICE_RGB_TYPE);
+            org.verapdf.pd.colors.PDDeviceRGB simplePDObject, ValidationContext context) {
+        super(simplePDObject, DEVICE_RGB_TYPE, context);
     }
 
     public static PDDeviceRGB getInstance() {
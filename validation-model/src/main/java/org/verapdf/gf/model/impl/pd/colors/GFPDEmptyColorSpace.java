@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 
 import java.util.List;
@@ -31,8 +32,8 @@ import static org.verapdf.gf.model.impl.pd.colors.GFPDDeviceGray.DEVICE_GRAY_TYP
  */
 public class GFPDEmptyColorSpace extends GFPDColorSpace {
 
-    public GFPDEmptyColorSpace() {
-        super(null, DEVICE_GRAY_TYPE);
+    public GFPDEmptyColorSpace(ValidationContext context) {
+        super(null, DEVICE_GRAY_TYPE, context);
     }
 
     @Override
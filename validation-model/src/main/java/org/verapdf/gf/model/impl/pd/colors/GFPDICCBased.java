@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.colors;
 
 import org.verapdf.external.ICCProfile;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.external.GFICCInputProfile;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.ICCInputProfile;
@@ -43,13 +44,13 @@ public class GFPDICCBased extends GFPDColorSpace implements PDICCBased {
 
     public static final String ICC_PROFILE = "iccProfile";
 
-    public GFPDICCBased(org.verapdf.pd.colors.PDICCBased simplePDObject) {
-        super(simplePDObject, ICC_BASED_TYPE);
+    public GFPDICCBased(org.verapdf.pd.colors.PDICCBased simplePDObject, ValidationContext context) {
+        super(simplePDObject, ICC_BASED_TYPE, context);
         checkAlternateComponentsNumber();
     }
 
-    protected GFPDICCBased(org.verapdf.pd.colors.PDICCBased simplePDObject, String type) {
-        super(simplePDObject, type);
+    protected GFPDICCBased(org.verapdf.pd.colors.PDICCBased simplePDObject, String type, ValidationContext context) {
+        super(simplePDObject, type, context);
         checkAlternateComponentsNumber();
     }
 
@@ -65,7 +66,7 @@ public class GFPDICCBased extends GFPDColorSpace implements PDICCBased {
         ICCProfile iccProfile = ((org.verapdf.pd.colors.PDICCBased) simplePDObject).getICCProfile();
         if (iccProfile != null) {
             List<ICCInputProfile> profiles = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            profiles.add(new GFICCInputProfile(iccProfile));
+            profiles.add(new GFICCInputProfile(iccProfile, this.context));
             return Collections.unmodifiableList(profiles);
         }
         return Collections.emptyList();
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDICCBasedCMYK;
 
 /**
@@ -32,8 +33,9 @@ public class GFPDICCBasedCMYK extends GFPDICCBased implements PDICCBasedCMYK {
     private final Long opm;
     private final Boolean overprintingFlag;
 
-    public GFPDICCBasedCMYK(org.verapdf.pd.colors.PDICCBased simplePDObject, int op, boolean overprintingFlag) {
-        super(simplePDObject, ICC_BASED_CMYK_TYPE);
+    public GFPDICCBasedCMYK(org.verapdf.pd.colors.PDICCBased simplePDObject, int op, boolean overprintingFlag,
+                            ValidationContext context) {
+        super(simplePDObject, ICC_BASED_CMYK_TYPE, context);
         this.opm = Long.valueOf(op);
         this.overprintingFlag = Boolean.valueOf(overprintingFlag);
     }
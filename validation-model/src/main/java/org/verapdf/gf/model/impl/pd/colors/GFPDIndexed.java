@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.colors;
 
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDIndexed;
@@ -39,8 +40,8 @@ public class GFPDIndexed extends GFPDColorSpace implements PDIndexed {
     public static final String BASE = "base";
 
     public GFPDIndexed(
-            org.verapdf.pd.colors.PDIndexed simplePDObject) {
-        super(simplePDObject, INDEXED_TYPE);
+            org.verapdf.pd.colors.PDIndexed simplePDObject, ValidationContext context) {
+        super(simplePDObject, INDEXED_TYPE, context);
     }
 
     @Override
@@ -54,7 +55,7 @@ public class GFPDIndexed extends GFPDColorSpace implements PDIndexed {
     private List<PDColorSpace> getBase() {
         org.verapdf.pd.colors.PDColorSpace baseColorSpace =
                 ((org.verapdf.pd.colors.PDIndexed) this.simplePDObject).getBase();
-        PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(baseColorSpace);
+        PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(baseColorSpace, this.context);
         if (colorSpace != null) {
             List<PDColorSpace> base = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             base.add(colorSpace);
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.colors;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDLab;
 
 /**
@@ -30,7 +31,7 @@ public class GFPDLab extends GFPDColorSpace implements PDLab {
     public static final String LAB_COLOR_SPACE_TYPE = "PDLab";
 
     public GFPDLab(
-            org.verapdf.pd.colors.PDLab simplePDObject) {
-        super(simplePDObject, LAB_COLOR_SPACE_TYPE);
+            org.verapdf.pd.colors.PDLab simplePDObject, ValidationContext context) {
+        super(simplePDObject, LAB_COLOR_SPACE_TYPE, context);
     }
 }
@@ -25,7 +25,7 @@ import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.gf.model.factory.functions.FunctionFactory;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosUnicodeName;
 import org.verapdf.gf.model.impl.pd.functions.GFPDFunction;
 import org.verapdf.model.baselayer.Object;
@@ -35,6 +35,7 @@ import org.verapdf.model.pdlayer.PDSeparation;
 import org.verapdf.pd.function.PDFunction;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,50 +49,24 @@ public class GFPDSeparation extends GFPDColorSpace implements PDSeparation {
     public static final String ALTERNATE = "alternate";
     public static final String COLORANT_NAME = "colorantName";
 
-    public GFPDSeparation(org.verapdf.pd.colors.PDSeparation simplePDObject) {
-        super(simplePDObject, SEPARATION_TYPE);
+    public GFPDSeparation(org.verapdf.pd.colors.PDSeparation simplePDObject, ValidationContext context) {
+        super(simplePDObject, SEPARATION_TYPE, context);
         String name = simplePDObject.getColorantName().getString();
-        if (StaticContainers.getSeparations().containsKey(name)) {
-            StaticContainers.getSeparations().get(name).add(this);
-        } else {
-            final List<GFPDSeparation> separationList = new ArrayList<>();
-            separationList.add(this);
-            StaticContainers.getSeparations().put(name, separationList);
+        org.verapdf.pd.colors.PDColorSpace alternate = simplePDObject.getAlternate();
+        List<COSObject> fingerprint = Arrays.asList(alternate == null ? null : alternate.getObject(),
+                simplePDObject.getCosTintTransform());
+        List<COSObject> firstFingerprint = this.context.getSeparationFingerprints().get(name);
+        if (firstFingerprint == null) {
+            this.context.getSeparationFingerprints().put(name, fingerprint);
+        } else if (!firstFingerprint.equals(fingerprint)) {
+            this.context.getInconsistentSeparations().add(name);
         }
     }
 
     @Override
     public Boolean getareTintAndAlternateConsistent() {
         String name = ((org.verapdf.pd.colors.PDSeparation) simplePDObject).getColorantName().getString();
-
-        if (StaticContainers.getInconsistentSeparations().contains(name)) {
-            return Boolean.FALSE;
-        }
-
-        if (StaticContainers.getSeparations().get(name).size() > 1) {
-            for (GFPDSeparation gfPDSeparation : StaticContainers.getSeparations().get(name)) {
-                if (gfPDSeparation.equals(this)) {
-                    continue;
-                }
-
-                COSObject alternateSpaceToCompare =
-                        ((org.verapdf.pd.colors.PDSeparation) gfPDSeparation.simplePDObject).getAlternate().getObject();
-                COSObject tintTransformToCompare =
-                        ((org.verapdf.pd.colors.PDSeparation) gfPDSeparation.simplePDObject).getCosTintTransform();
-
-                COSObject alternateSpaceCurrent =
-                        ((org.verapdf.pd.colors.PDSeparation) simplePDObject).getAlternate().getObject();
-                COSObject tintTransformCurrent =
-                        ((org.verapdf.pd.colors.PDSeparation) simplePDObject).getCosTintTransform();
-
-                if (!alternateSpaceToCompare.equals(alternateSpaceCurrent) || !tintTransformToCompare.equals(tintTransformCurrent)) {
-                    StaticContainers.getInconsistentSeparations().add(name);
-                    return Boolean.FALSE;
-                }
-            }
-        }
-
-        return Boolean.TRUE;
+        return Boolean.valueOf(!this.context.getInconsistentSeparations().contains(name));
     }
 
     @Override
@@ -114,7 +89,7 @@ public class GFPDSeparation extends GFPDColorSpace implements PDSeparation {
     public List<PDColorSpace> getAlternate() {
         org.verapdf.pd.colors.PDColorSpace space =
                 ((org.verapdf.pd.colors.PDSeparation) this.simplePDObject).getAlternate();
-        PDColorSpace currentSpace = ColorSpaceFactory.getColorSpace(space);
+        PDColorSpace currentSpace = ColorSpaceFactory.getColorSpace(space, this.context);
         if (currentSpace != null) {
             List<PDColorSpace> colorSpace = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             colorSpace.add(currentSpace);
@@ -127,7 +102,7 @@ public class GFPDSeparation extends GFPDColorSpace implements PDSeparation {
         COSObject name = ((org.verapdf.pd.colors.PDSeparation) this.simplePDObject).getColorantName();
         if (name.getType() == COSObjType.COS_NAME) {
             List<CosUnicodeName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new GFCosUnicodeName((COSName) name.getDirectBase()));
+            list.add(new GFCosUnicodeName((COSName) name.getDirectBase(), this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -138,7 +113,7 @@ public class GFPDSeparation extends GFPDColorSpace implements PDSeparation {
         if (pdFunction == null) {
             return Collections.emptyList();
         }
-        GFPDFunction gfpdFunction = FunctionFactory.createFunction(pdFunction);
+        GFPDFunction gfpdFunction = FunctionFactory.createFunction(pdFunction, this.context);
         return Collections.singletonList(gfpdFunction);
     }
 }
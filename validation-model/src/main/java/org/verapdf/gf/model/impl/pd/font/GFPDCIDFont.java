@@ -25,7 +25,7 @@ import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSStream;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosStream;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
@@ -59,12 +59,12 @@ public class GFPDCIDFont extends GFPDFont implements PDCIDFont {
     public static final String IDENTITY = "Identity";
     public static final String CUSTOM = "Custom";
 
-    public GFPDCIDFont(PDFont font, RenderingMode renderingMode) {
-        super(font, renderingMode, CID_FONT_TYPE);
+    public GFPDCIDFont(PDFont font, RenderingMode renderingMode, ValidationContext context) {
+        super(font, renderingMode, CID_FONT_TYPE, context);
         if(font != null) {
             FontProgram program = font.getFontProgram();
             if (program != null) {
-                StaticContainers.getDocument().getDocument().getResourceHandler().addResource(
+                this.context.getDocument().getDocument().getResourceHandler().addResource(
                         program.getFontProgramResource());
             }
             if(program != null) {
@@ -99,7 +99,7 @@ public class GFPDCIDFont extends GFPDFont implements PDCIDFont {
         COSStream cidSet = ((org.verapdf.pd.font.PDCIDFont) this.pdFont).getCIDSet();
         if (cidSet != null) {
             List<CosStream> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new GFCosStream(cidSet));
+            list.add(new GFCosStream(cidSet, this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -153,7 +153,7 @@ public class GFPDCIDFont extends GFPDFont implements PDCIDFont {
                     }
                 }
 
-                PDFAFlavour flavour = StaticContainers.getFlavour();
+                PDFAFlavour flavour = this.context.getFlavour();
                 if (flavour.getPart() != PDFAFlavour.Specification.ISO_19005_1) {
                     //on this levels we need to ensure that all glyphs present in font program are described in cid set
                     List<Integer> fontCIDs;
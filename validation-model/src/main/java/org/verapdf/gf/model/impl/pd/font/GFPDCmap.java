@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd.font;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.cos.COSStream;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.external.GFCMapFile;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.baselayer.Object;
@@ -45,12 +46,12 @@ public class GFPDCmap extends GFPDObject implements PDCMap {
     public static final String EMBEDDED_FILE = "embeddedFile";
     public static final String USE_C_MAP = "UseCMap";
 
-    public GFPDCmap(org.verapdf.pd.font.cmap.PDCMap pdcMap) {
-        super(pdcMap, CMAP_TYPE);
+    public GFPDCmap(org.verapdf.pd.font.cmap.PDCMap pdcMap, ValidationContext context) {
+        super(pdcMap, CMAP_TYPE, context);
     }
 
-    public GFPDCmap(org.verapdf.pd.font.cmap.PDCMap pdcMap, String type) {
-        super(pdcMap, type);
+    public GFPDCmap(org.verapdf.pd.font.cmap.PDCMap pdcMap, String type, ValidationContext context) {
+        super(pdcMap, type, context);
     }
 
     /**
@@ -79,7 +80,7 @@ public class GFPDCmap extends GFPDObject implements PDCMap {
     private List<CMapFile> getEmbeddedFile() {
         if (this.pdcMap.getcMap().getType() == COSObjType.COS_STREAM) {
             List<CMapFile> result = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            result.add(new GFCMapFile((COSStream) this.pdcMap.getcMap().getDirectBase()));
+            result.add(new GFCMapFile((COSStream) this.pdcMap.getcMap().getDirectBase(), this.context));
             return Collections.unmodifiableList(result);
         }
         return Collections.emptyList();
@@ -94,7 +95,7 @@ public class GFPDCmap extends GFPDObject implements PDCMap {
             return Collections.emptyList();
         }
         List<PDReferencedCMap> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-        list.add(new GFPDReferencedCMap(new org.verapdf.pd.font.cmap.PDCMap(useCMap)));
+        list.add(new GFPDReferencedCMap(new org.verapdf.pd.font.cmap.PDCMap(useCMap), this.context));
         return Collections.unmodifiableList(list);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.font;
 
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 
 import java.util.List;
@@ -30,8 +31,8 @@ import java.util.List;
  */
 public class GFPDEmptyFont extends GFPDFont {
 
-    public GFPDEmptyFont() {
-        super(null, RenderingMode.NEITHER, RESOURCE_TYPE);
+    public GFPDEmptyFont(ValidationContext context) {
+        super(null, RenderingMode.NEITHER, RESOURCE_TYPE, context);
     }
 
     @Override
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd.font;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSName;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosUnicodeName;
 import org.verapdf.gf.model.impl.external.GFFontProgram;
 import org.verapdf.gf.model.impl.external.GFTrueTypeFontProgram;
@@ -52,8 +53,8 @@ public class GFPDFont extends GFPDResource implements PDFont {
     protected final RenderingMode renderingMode;
 
     protected GFPDFont(org.verapdf.pd.font.PDFont font,
-                       RenderingMode renderingMode, final String type) {
-        super(font, type);
+                       RenderingMode renderingMode, final String type, ValidationContext context) {
+        super(font, type, context);
         this.renderingMode = renderingMode;
     }
 
@@ -137,16 +138,16 @@ public class GFPDFont extends GFPDResource implements PDFont {
             ASAtom subType = this.pdFont.getSubtype();
             if (ASAtom.TRUE_TYPE == subType) {
                 GFTrueTypeFontProgram font = new GFTrueTypeFontProgram(
-                        fontProgram);
+                        fontProgram, this.context);
                 return getFontProgramList(font);
             }
 			if(TYPE0_STRING.equals(this.getSubtype())) {
 			    GFFontProgram font = new GFFontProgram(fontProgram,
-			            (GFPDFont) ((GFPDType0Font) this).getLinkedObjects(GFPDType0Font.DESCENDANT_FONTS).get(0));
+			            (GFPDFont) ((GFPDType0Font) this).getLinkedObjects(GFPDType0Font.DESCENDANT_FONTS).get(0), this.context);
 			    return getFontProgramList(font);
 			}
 			GFFontProgram font = new GFFontProgram(fontProgram,
-			        this);
+			        this, this.context);
 			return getFontProgramList(font);
         }
 		return Collections.emptyList();
@@ -166,7 +167,7 @@ public class GFPDFont extends GFPDResource implements PDFont {
         if (name != null) {
             ArrayList<CosUnicodeName> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             list.add(new GFCosUnicodeName((COSName)
-                    COSName.construct(ASAtom.getASAtom(name)).get()));
+                    COSName.construct(ASAtom.getASAtom(name)).get(), this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
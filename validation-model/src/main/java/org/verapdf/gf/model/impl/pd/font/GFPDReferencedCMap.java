@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.font;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDReferencedCMap;
 import org.verapdf.pd.font.cmap.PDCMap;
 
@@ -30,7 +31,7 @@ public class GFPDReferencedCMap extends GFPDCmap implements PDReferencedCMap {
 
     public static final String REFERENCED_CMAP_TYPE = "PDReferencedCMap";
 
-    public GFPDReferencedCMap(PDCMap pdcMap) {
-        super(pdcMap, REFERENCED_CMAP_TYPE);
+    public GFPDReferencedCMap(PDCMap pdcMap, ValidationContext context) {
+        super(pdcMap, REFERENCED_CMAP_TYPE, context);
     }
 }
@@ -24,6 +24,7 @@ import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDSimpleFont;
 
 /**
@@ -36,8 +37,8 @@ public abstract class GFPDSimpleFont extends GFPDFont implements PDSimpleFont {
     public static final String CUSTOM_ENCODING = "Custom";
 
     protected GFPDSimpleFont(org.verapdf.pd.font.PDSimpleFont font,
-                             RenderingMode renderingMode, final String type) {
-        super(font, renderingMode, type);
+                             RenderingMode renderingMode, final String type, ValidationContext context) {
+        super(font, renderingMode, type, context);
     }
 
     /**
@@ -25,6 +25,7 @@ import org.verapdf.cos.COSArray;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDTrueTypeFont;
 import org.verapdf.pd.font.FontProgram;
 import org.verapdf.pd.font.opentype.OpenTypeFontProgram;
@@ -47,8 +48,8 @@ public class GFPDTrueTypeFont extends GFPDSimpleFont implements PDTrueTypeFont {
     public static final String TRUETYPE_FONT_TYPE = "PDTrueTypeFont";
 
     public GFPDTrueTypeFont(org.verapdf.pd.font.truetype.PDTrueTypeFont font,
-                            RenderingMode renderingMode) {
-        super(font, renderingMode, TRUETYPE_FONT_TYPE);
+                            RenderingMode renderingMode, ValidationContext context) {
+        super(font, renderingMode, TRUETYPE_FONT_TYPE, context);
         if (font != null) {
             FontProgram program = font.getFontProgram();
             if (program != null) {
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd.font;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDCIDFont;
@@ -52,8 +53,8 @@ public class GFPDType0Font extends GFPDFont implements PDType0Font {
 	private PDCIDFont descendantFont;
 	private org.verapdf.pd.font.PDCIDFont cidFont;
 
-	public GFPDType0Font(org.verapdf.pd.font.PDType0Font font, RenderingMode renderingMode) {
-		super(font, renderingMode, TYPE_0_FONT_TYPE);
+	public GFPDType0Font(org.verapdf.pd.font.PDType0Font font, RenderingMode renderingMode, ValidationContext context) {
+		super(font, renderingMode, TYPE_0_FONT_TYPE, context);
 		this.descendantFont = this.getDescendantFont();
 		((org.verapdf.pd.font.PDType0Font) this.pdFont).setFontProgramFromDescendant(this.cidFont);
 		this.fontProgramParsed = this.descendantFont != null
@@ -92,7 +93,7 @@ public class GFPDType0Font extends GFPDFont implements PDType0Font {
 					((org.verapdf.pd.font.PDType0Font) this.pdFont).getCMap().getCMapFile(),
 					this.pdFont.getFontProgram(), this.pdFont.isSuccessfullyParsed());
 			this.cidFont = cidFont;
-			PDCIDFont pdCIDFont = new GFPDCIDFont(cidFont, renderingMode);
+			PDCIDFont pdCIDFont = new GFPDCIDFont(cidFont, renderingMode, this.context);
 			return pdCIDFont;
 		}
 		return null;
@@ -103,7 +104,7 @@ public class GFPDType0Font extends GFPDFont implements PDType0Font {
 	 */
 	private List<PDCMap> getEncoding() {
 		if (((org.verapdf.pd.font.PDType0Font) this.pdFont).getCMap() != null) {
-			PDCMap res = new GFPDCmap(((org.verapdf.pd.font.PDType0Font) this.pdFont).getCMap());
+			PDCMap res = new GFPDCmap(((org.verapdf.pd.font.PDType0Font) this.pdFont).getCMap(), this.context);
 			List<PDCMap> list = new ArrayList<>(GFPDObject.MAX_NUMBER_OF_ELEMENTS);
 			list.add(res);
 			return Collections.unmodifiableList(list);
@@ -22,7 +22,7 @@ package org.verapdf.gf.model.impl.pd.font;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDType1Font;
 import org.verapdf.pd.font.FontProgram;
 import org.verapdf.pd.font.cff.CFFFontProgram;
@@ -50,12 +50,12 @@ public class GFPDType1Font extends GFPDSimpleFont implements PDType1Font {
     public static final String NOTDEF_STRING = ".notdef";
 
     public GFPDType1Font(org.verapdf.pd.font.type1.PDType1Font pdFont,
-                         RenderingMode renderingMode) {
-        super(pdFont, renderingMode, TYPE1_FONT_TYPE);
+                         RenderingMode renderingMode, ValidationContext context) {
+        super(pdFont, renderingMode, TYPE1_FONT_TYPE, context);
         if (pdFont != null) {
             FontProgram program = pdFont.getFontProgram();
             if (program != null) {
-                StaticContainers.getDocument().getDocument().getResourceHandler().addResource(
+                this.context.getDocument().getDocument().getResourceHandler().addResource(
                         program.getFontProgramResource());
             }
             if (program != null) {
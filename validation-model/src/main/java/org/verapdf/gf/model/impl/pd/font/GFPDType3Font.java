@@ -26,6 +26,8 @@ import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.operators.GraphicState;
 import org.verapdf.gf.model.factory.operators.RenderingMode;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
 import org.verapdf.gf.model.impl.pd.GFPDContentStream;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
@@ -33,7 +35,6 @@ import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDType3Font;
 import org.verapdf.pd.PDResources;
 import org.verapdf.pd.font.type3.PDType3CharProc;
-import org.verapdf.pd.structure.StructureElementAccessObject;
 
 import java.util.*;
 import java.util.logging.Level;
@@ -57,8 +58,8 @@ public class GFPDType3Font extends GFPDSimpleFont implements PDType3Font {
 
     public GFPDType3Font(org.verapdf.pd.font.type3.PDType3Font font,
                          RenderingMode renderingMode, PDResourcesHandler resources,
-                         GraphicState inheritedGraphicState) {
-        super(font, renderingMode, TYPE3_FONT_TYPE);
+                         GraphicState inheritedGraphicState, ValidationContext context) {
+        super(font, renderingMode, TYPE3_FONT_TYPE, context);
         this.resources = resources;
         this.inheritedGraphicState = inheritedGraphicState;
     }
@@ -110,7 +111,7 @@ public class GFPDType3Font extends GFPDSimpleFont implements PDType3Font {
                     GFPDContentStream contentStream =
                             new GFPDContentStream(charProc, glyphResources == null ?
                                     this.resources : glyphResources, inheritedGraphicState,
-                                    new StructureElementAccessObject(this.simpleCOSObject));
+                                    new IndexedStructureElementAccessObject(this.simpleCOSObject, charProcStream), this.context);
                     map.put(glyphName.getValue(), contentStream);
                 } else {
                     LOGGER.log(Level.SEVERE, "Invalid entry in the char proc dictionary, dictionary is expected.");
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.functions;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.pdlayer.PDFunction;
 
@@ -27,12 +28,12 @@ public class GFPDFunction extends GFPDObject implements PDFunction {
 
     public static final String PD_FUNCTION_TYPE = "PDFunction";
 
-    protected GFPDFunction(org.verapdf.pd.function.PDFunction function, String type) {
-        super(function, type);
+    protected GFPDFunction(org.verapdf.pd.function.PDFunction function, String type, ValidationContext context) {
+        super(function, type, context);
     }
 
-    public GFPDFunction(org.verapdf.pd.function.PDFunction function) {
-        super(function, PD_FUNCTION_TYPE);
+    public GFPDFunction(org.verapdf.pd.function.PDFunction function, ValidationContext context) {
+        super(function, PD_FUNCTION_TYPE, context);
     }
 
     @Override
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.functions;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.pdlayer.PDType0Function;
 import org.verapdf.pd.function.PDFunction;
 
@@ -28,8 +29,8 @@ public class GFPDType0Function extends GFPDFunction implements PDType0Function {
 
     public static final String PD_TYPE0_FUNCTION_TYPE = "PDType0Function";
 
-    public GFPDType0Function(PDFunction function) {
-        super(function, PD_TYPE0_FUNCTION_TYPE);
+    public GFPDType0Function(PDFunction function, ValidationContext context) {
+        super(function, PD_TYPE0_FUNCTION_TYPE, context);
     }
 
 }
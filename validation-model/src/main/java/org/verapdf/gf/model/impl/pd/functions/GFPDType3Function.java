@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.functions;
 
 import org.verapdf.gf.model.factory.functions.FunctionFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDType3Function;
 import org.verapdf.pd.function.PDFunction;
@@ -36,8 +37,8 @@ public class GFPDType3Function extends GFPDFunction implements PDType3Function {
     public static final String FUNCTIONS = "Functions";
 
 
-    public GFPDType3Function(org.verapdf.pd.function.PDType3Function function) {
-        super(function, PD_TYPE3_FUNCTION_TYPE);
+    public GFPDType3Function(org.verapdf.pd.function.PDType3Function function, ValidationContext context) {
+        super(function, PD_TYPE3_FUNCTION_TYPE, context);
     }
 
     @Override
@@ -53,7 +54,7 @@ public class GFPDType3Function extends GFPDFunction implements PDType3Function {
     private List<GFPDFunction> getFunctions() {
         List<GFPDFunction> functionList = new ArrayList<>();
         for (PDFunction pdFunction : ((org.verapdf.pd.function.PDType3Function)this.simplePDObject).getFunctions()) {
-            GFPDFunction function = FunctionFactory.createFunction(pdFunction);
+            GFPDFunction function = FunctionFactory.createFunction(pdFunction, this.context);
             functionList.add(function);
         }
         return Collections.unmodifiableList(functionList);
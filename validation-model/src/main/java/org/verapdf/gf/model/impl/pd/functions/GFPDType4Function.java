@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.functions;
 
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosObject;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosObject;
@@ -37,8 +38,8 @@ public class GFPDType4Function extends GFPDFunction implements PDType4Function {
     public static final String OPERATORS = "operators";
 
 
-    public GFPDType4Function(PDFunction function) {
-        super(function, PD_TYPE4_FUNCTION_TYPE);
+    public GFPDType4Function(PDFunction function, ValidationContext context) {
+        super(function, PD_TYPE4_FUNCTION_TYPE, context);
     }
 
     @Override
@@ -55,7 +56,7 @@ public class GFPDType4Function extends GFPDFunction implements PDType4Function {
         PDFunction function = (PDFunction)this.simplePDObject;
         List<CosObject> result = new ArrayList<>();
         for (COSObject obj : function.getOperators()) {
-            result.add(GFCosObject.getFromValue(obj.get()));
+            result.add(GFCosObject.getFromValue(obj.get(), this.context));
         }
         return Collections.unmodifiableList(result);
     }
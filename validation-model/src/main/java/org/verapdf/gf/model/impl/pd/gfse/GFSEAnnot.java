@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEAnnot;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEAnnot extends GFSEGeneral implements SEAnnot {
 
     public static final String ANNOT_STRUCTURE_ELEMENT_TYPE = "SEAnnot";
 
-    public GFSEAnnot(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.ANNOT, ANNOT_STRUCTURE_ELEMENT_TYPE);
+    public GFSEAnnot(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.ANNOT, ANNOT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEArt;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEArt extends GFSEGeneral implements SEArt {
 
     public static final String ART_STRUCTURE_ELEMENT_TYPE = "SEArt";
 
-    public GFSEArt(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.ART, ART_STRUCTURE_ELEMENT_TYPE);
+    public GFSEArt(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.ART, ART_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEArtifact;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEArtifact extends GFSEGeneral implements SEArtifact {
 
     public static final String ARTIFACT_STRUCTURE_ELEMENT_TYPE = "SEArtifact";
 
-    public GFSEArtifact(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.ARTIFACT, ARTIFACT_STRUCTURE_ELEMENT_TYPE);
+    public GFSEArtifact(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.ARTIFACT, ARTIFACT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
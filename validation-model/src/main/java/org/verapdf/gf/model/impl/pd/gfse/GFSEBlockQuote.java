@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEBlockQuote;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEBlockQuote extends GFSEGeneral implements SEBlockQuote {
 
     public static final String BLOCK_QUOTE_STRUCTURE_ELEMENT_TYPE = "SEBlockQuote";
 
-    public GFSEBlockQuote(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.BLOCK_QUOTE, BLOCK_QUOTE_STRUCTURE_ELEMENT_TYPE);
+    public GFSEBlockQuote(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.BLOCK_QUOTE, BLOCK_QUOTE_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SECaption;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSECaption extends GFSEGeneral implements SECaption {
 
     public static final String CAPTION_STRUCTURE_ELEMENT_TYPE = "SECaption";
 
-    public GFSECaption(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.CAPTION, CAPTION_STRUCTURE_ELEMENT_TYPE);
+    public GFSECaption(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.CAPTION, CAPTION_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEDiv;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEDiv extends GFSEGeneral implements SEDiv {
 
     public static final String DIV_STRUCTURE_ELEMENT_TYPE = "SEDiv";
 
-    public GFSEDiv(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.DIV, DIV_STRUCTURE_ELEMENT_TYPE);
+    public GFSEDiv(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.DIV, DIV_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
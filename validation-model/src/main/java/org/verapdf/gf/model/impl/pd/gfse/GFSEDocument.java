@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEDocument;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEDocument extends GFSEGeneral implements SEDocument {
 
     public static final String DOCUMENT_STRUCTURE_ELEMENT_TYPE = "SEDocument";
 
-    public GFSEDocument(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.DOCUMENT, DOCUMENT_STRUCTURE_ELEMENT_TYPE);
+    public GFSEDocument(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.DOCUMENT, DOCUMENT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
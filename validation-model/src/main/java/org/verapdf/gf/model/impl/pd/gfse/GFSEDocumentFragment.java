@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEDocumentFragment;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEDocumentFragment extends GFSEGeneral implements SEDocumentFragm
 
     public static final String DOCUMENT_FRAGMENT_STRUCTURE_ELEMENT_TYPE = "SEDocumentFragment";
 
-    public GFSEDocumentFragment(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.DOCUMENT_FRAGMENT, DOCUMENT_FRAGMENT_STRUCTURE_ELEMENT_TYPE);
+    public GFSEDocumentFragment(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.DOCUMENT_FRAGMENT, DOCUMENT_FRAGMENT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
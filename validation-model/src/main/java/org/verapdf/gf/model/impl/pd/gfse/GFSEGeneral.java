@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDStructElem;
 import org.verapdf.gf.model.impl.pd.GFPDStructTreeRoot;
 import org.verapdf.pd.structure.PDStructElem;
@@ -29,126 +30,126 @@ public abstract class GFSEGeneral extends GFPDStructElem {
 
     private final String standardType;
 
-    protected GFSEGeneral(PDStructElem structElemDictionary, String standardType, String type) {
-        super(structElemDictionary, type);
+    protected GFSEGeneral(PDStructElem structElemDictionary, String standardType, String type, ValidationContext context) {
+        super(structElemDictionary, type, context);
         this.standardType = standardType;
     }
 
-    public static GFSEGeneral createTypedStructElem(PDStructElem structElemDictionary){
-        String standardType = GFPDStructElem.getStructureElementStandardType(structElemDictionary);
+    public static GFSEGeneral createTypedStructElem(PDStructElem structElemDictionary, ValidationContext context){
+        String standardType = GFPDStructElem.getStructureElementStandardType(structElemDictionary, context);
 
         if (standardType == null) {
-            return new GFSENonStandard(structElemDictionary, null);
+            return new GFSENonStandard(structElemDictionary, null, context);
         }
 
         switch (standardType) {
             case TaggedPDFConstants.ANNOT:
-                return new GFSEAnnot(structElemDictionary);
+                return new GFSEAnnot(structElemDictionary, context);
             case TaggedPDFConstants.ART:
-                return new GFSEArt(structElemDictionary);
+                return new GFSEArt(structElemDictionary, context);
             case TaggedPDFConstants.ARTIFACT:
-                return new GFSEArtifact(structElemDictionary);
+                return new GFSEArtifact(structElemDictionary, context);
             case TaggedPDFConstants.ASIDE:
-                return new GFSEAside(structElemDictionary);
+                return new GFSEAside(structElemDictionary, context);
             case TaggedPDFConstants.BIB_ENTRY:
-                return new GFSEBibEntry(structElemDictionary);
+                return new GFSEBibEntry(structElemDictionary, context);
             case TaggedPDFConstants.BLOCK_QUOTE:
-                return new GFSEBlockQuote(structElemDictionary);
+                return new GFSEBlockQuote(structElemDictionary, context);
             case TaggedPDFConstants.CAPTION:
-                return new GFSECaption(structElemDictionary);
+                return new GFSECaption(structElemDictionary, context);
             case TaggedPDFConstants.CODE:
-                return new GFSECode(structElemDictionary);
+                return new GFSECode(structElemDictionary, context);
             case TaggedPDFConstants.DIV:
-                return new GFSEDiv(structElemDictionary);
+                return new GFSEDiv(structElemDictionary, context);
             case TaggedPDFConstants.DOCUMENT:
-                return new GFSEDocument(structElemDictionary);
+                return new GFSEDocument(structElemDictionary, context);
             case TaggedPDFConstants.DOCUMENT_FRAGMENT:
-                return new GFSEDocumentFragment(structElemDictionary);
+                return new GFSEDocumentFragment(structElemDictionary, context);
             case TaggedPDFConstants.EM:
-                return new GFSEEm(structElemDictionary);
+                return new GFSEEm(structElemDictionary, context);
             case TaggedPDFConstants.FENOTE:
-                return new GFSEFENote(structElemDictionary);
+                return new GFSEFENote(structElemDictionary, context);
             case TaggedPDFConstants.FIGURE:
-                return new GFSEFigure(structElemDictionary);
+                return new GFSEFigure(structElemDictionary, context);
             case TaggedPDFConstants.FORM:
-                return new GFSEForm(structElemDictionary);
+                return new GFSEForm(structElemDictionary, context);
             case TaggedPDFConstants.FORMULA:
-                return new GFSEFormula(structElemDictionary);
+                return new GFSEFormula(structElemDictionary, context);
             case TaggedPDFConstants.H:
-                return new GFSEH(structElemDictionary);
+                return new GFSEH(structElemDictionary, context);
             case TaggedPDFConstants.INDEX:
-                return new GFSEIndex(structElemDictionary);
+                return new GFSEIndex(structElemDictionary, context);
             case TaggedPDFConstants.L:
-                return new GFSEL(structElemDictionary);
+                return new GFSEL(structElemDictionary, context);
             case TaggedPDFConstants.LBL:
-                return new GFSELbl(structElemDictionary);
+                return new GFSELbl(structElemDictionary, context);
             case TaggedPDFConstants.LBODY:
-                return new GFSELBody(structElemDictionary);
+                return new GFSELBody(structElemDictionary, context);
             case TaggedPDFConstants.LI:
-                return new GFSELI(structElemDictionary);
+                return new GFSELI(structElemDictionary, context);
             case TaggedPDFConstants.LINK:
-                return new GFSELink(structElemDictionary);
+                return new GFSELink(structElemDictionary, context);
             case TaggedPDFConstants.NON_STRUCT:
-                return new GFSENonStruct(structElemDictionary);
+                return new GFSENonStruct(structElemDictionary, context);
             case TaggedPDFConstants.NOTE:
-                return new GFSENote(structElemDictionary);
+                return new GFSENote(structElemDictionary, context);
             case TaggedPDFConstants.P:
-                return new GFSEP(structElemDictionary);
+                return new GFSEP(structElemDictionary, context);
             case TaggedPDFConstants.PART:
-                return new GFSEPart(structElemDictionary);
+                return new GFSEPart(structElemDictionary, context);
             case TaggedPDFConstants.PRIVATE:
-                return new GFSEPrivate(structElemDictionary);
+                return new GFSEPrivate(structElemDictionary, context);
             case TaggedPDFConstants.QUOTE:
-                return new GFSEQuote(structElemDictionary);
+                return new GFSEQuote(structElemDictionary, context);
             case TaggedPDFConstants.RB:
-                return new GFSERB(structElemDictionary);
+                return new GFSERB(structElemDictionary, context);
             case TaggedPDFConstants.REFERENCE:
-                return new GFSEReference(structElemDictionary);
+                return new GFSEReference(structElemDictionary, context);
             case TaggedPDFConstants.RP:
-                return new GFSERP(structElemDictionary);
+                return new GFSERP(structElemDictionary, context);
             case TaggedPDFConstants.RT:
-                return new GFSERT(structElemDictionary);
+                return new GFSERT(structElemDictionary, context);
             case TaggedPDFConstants.RUBY:
-                return new GFSERuby(structElemDictionary);
+                return new GFSERuby(structElemDictionary, context);
             case TaggedPDFConstants.SECT:
-                return new GFSESect(structElemDictionary);
+                return new GFSESect(structElemDictionary, context);
             case TaggedPDFConstants.SPAN:
-                return new GFSESpan(structElemDictionary);
+                return new GFSESpan(structElemDictionary, context);
             case TaggedPDFConstants.STRONG:
-                return new GFSEStrong(structElemDictionary);
+                return new GFSEStrong(structElemDictionary, context);
             case TaggedPDFConstants.SUB:
-                return new GFSESub(structElemDictionary);
+                return new GFSESub(structElemDictionary, context);
             case TaggedPDFConstants.TABLE:
-                return new GFSETable(structElemDictionary);
+                return new GFSETable(structElemDictionary, context);
             case TaggedPDFConstants.TBODY:
-                return new GFSETBody(structElemDictionary);
+                return new GFSETBody(structElemDictionary, context);
             case TaggedPDFConstants.TD:
-                return new GFSETD(structElemDictionary);
+                return new GFSETD(structElemDictionary, context);
             case TaggedPDFConstants.TFOOT:
-                return new GFSETFoot(structElemDictionary);
+                return new GFSETFoot(structElemDictionary, context);
             case TaggedPDFConstants.TH:
-                return new GFSETH(structElemDictionary);
+                return new GFSETH(structElemDictionary, context);
             case TaggedPDFConstants.THEAD:
-                return new GFSETHead(structElemDictionary);
+                return new GFSETHead(structElemDictionary, context);
             case TaggedPDFConstants.TITLE:
-                return new GFSETitle(structElemDictionary);
+                return new GFSETitle(structElemDictionary, context);
             case TaggedPDFConstants.TOC:
-                return new GFSETOC(structElemDictionary);
+                return new GFSETOC(structElemDictionary, context);
             case TaggedPDFConstants.TOCI:
-                return new GFSETOCI(structElemDictionary);
+                return new GFSETOCI(structElemDictionary, context);
             case TaggedPDFConstants.TR:
-                return new GFSETR(structElemDictionary);
+                return new GFSETR(structElemDictionary, context);
             case TaggedPDFConstants.WARICHU:
-                return new GFSEWarichu(structElemDictionary);
+                return new GFSEWarichu(structElemDictionary, context);
             case TaggedPDFConstants.WP:
-                return new GFSEWP(structElemDictionary);
+                return new GFSEWP(structElemDictionary, context);
             case TaggedPDFConstants.WT:
-                return new GFSEWT(structElemDictionary);
+                return new GFSEWT(structElemDictionary, context);
             default:
                 if (standardType.matches(TaggedPDFConstants.HN_REGEXP)) {
-                    return new GFSEHn(structElemDictionary, standardType);
+                    return new GFSEHn(structElemDictionary, standardType, context);
                 } else {
-                    return new GFSENonStandard(structElemDictionary, standardType);
+                    return new GFSENonStandard(structElemDictionary, standardType, context);
                 }
         }
     }
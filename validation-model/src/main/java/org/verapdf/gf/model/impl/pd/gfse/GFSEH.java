@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEH;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEH extends GFSEGeneral implements SEH {
 
     public static final String H_STRUCTURE_ELEMENT_TYPE = "SEH";
 
-    public GFSEH(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.H, H_STRUCTURE_ELEMENT_TYPE);
+    public GFSEH(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.H, H_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEHn;
 import org.verapdf.pd.structure.PDStructElem;
 
@@ -27,7 +28,7 @@ public class GFSEHn extends GFSEGeneral implements SEHn {
 
     public static final String HN_STRUCTURE_ELEMENT_TYPE = "SEHn";
 
-    public GFSEHn(PDStructElem structElemDictionary, String standardType) {
-        super(structElemDictionary, standardType, HN_STRUCTURE_ELEMENT_TYPE);
+    public GFSEHn(PDStructElem structElemDictionary, String standardType, ValidationContext context) {
+        super(structElemDictionary, standardType, HN_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
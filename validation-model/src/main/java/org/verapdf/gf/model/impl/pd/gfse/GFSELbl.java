@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SELbl;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSELbl extends GFSEGeneral implements SELbl {
 
     public static final String LBL_STRUCTURE_ELEMENT_TYPE = "SELbl";
 
-    public GFSELbl(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.LBL, LBL_STRUCTURE_ELEMENT_TYPE);
+    public GFSELbl(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.LBL, LBL_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
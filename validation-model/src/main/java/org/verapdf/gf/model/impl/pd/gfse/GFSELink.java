@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SELink;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSELink extends GFSEGeneral implements SELink {
 
     public static final String LINK_STRUCTURE_ELEMENT_TYPE = "SELink";
 
-    public GFSELink(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.LINK, LINK_STRUCTURE_ELEMENT_TYPE);
+    public GFSELink(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.LINK, LINK_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SENonStandard;
 import org.verapdf.pd.structure.PDStructElem;
 
@@ -27,7 +28,7 @@ public class GFSENonStandard extends GFSEGeneral implements SENonStandard {
 
     public static final String NON_STANDARD_STRUCTURE_ELEMENT_TYPE = "SENonStandard";
 
-    public GFSENonStandard(PDStructElem structElemDictionary, String standardType) {
-        super(structElemDictionary, standardType, NON_STANDARD_STRUCTURE_ELEMENT_TYPE);
+    public GFSENonStandard(PDStructElem structElemDictionary, String standardType, ValidationContext context) {
+        super(structElemDictionary, standardType, NON_STANDARD_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEP;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEP extends GFSEGeneral implements SEP {
 
     public static final String P_STRUCTURE_ELEMENT_TYPE = "SEP";
 
-    public GFSEP(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.P, P_STRUCTURE_ELEMENT_TYPE);
+    public GFSEP(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.P, P_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEPart;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEPart extends GFSEGeneral implements SEPart {
 
     public static final String PART_STRUCTURE_ELEMENT_TYPE = "SEPart";
 
-    public GFSEPart(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.PART, PART_STRUCTURE_ELEMENT_TYPE);
+    public GFSEPart(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.PART, PART_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEPrivate;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEPrivate extends GFSEGeneral implements SEPrivate {
 
     public static final String PRIVATE_STRUCTURE_ELEMENT_TYPE = "SEPrivate";
 
-    public GFSEPrivate(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.PRIVATE, PRIVATE_STRUCTURE_ELEMENT_TYPE);
+    public GFSEPrivate(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.PRIVATE, PRIVATE_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
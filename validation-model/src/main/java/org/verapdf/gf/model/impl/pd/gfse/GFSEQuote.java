@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEQuote;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEQuote extends GFSEGeneral implements SEQuote {
 
     public static final String QUOTE_STRUCTURE_ELEMENT_TYPE = "SEQuote";
 
-    public GFSEQuote(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.QUOTE, QUOTE_STRUCTURE_ELEMENT_TYPE);
+    public GFSEQuote(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.QUOTE, QUOTE_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
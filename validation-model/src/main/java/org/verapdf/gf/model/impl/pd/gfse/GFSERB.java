@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SERB;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSERB extends GFSEGeneral implements SERB {
 
     public static final String RB_STRUCTURE_ELEMENT_TYPE = "SERB";
 
-    public GFSERB(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.RB, RB_STRUCTURE_ELEMENT_TYPE);
+    public GFSERB(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.RB, RB_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
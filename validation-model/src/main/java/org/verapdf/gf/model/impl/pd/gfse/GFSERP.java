@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SERP;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSERP extends GFSEGeneral implements SERP {
 
     public static final String RP_STRUCTURE_ELEMENT_TYPE = "SERP";
 
-    public GFSERP(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.RP, RP_STRUCTURE_ELEMENT_TYPE);
+    public GFSERP(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.RP, RP_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SERuby;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSERuby extends GFSEGeneral implements SERuby {
 
     public static final String RUBY_STRUCTURE_ELEMENT_TYPE = "SERuby";
 
-    public GFSERuby(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.RUBY, RUBY_STRUCTURE_ELEMENT_TYPE);
+    public GFSERuby(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.RUBY, RUBY_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SESect;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSESect extends GFSEGeneral implements SESect {
 
     public static final String SECT_STRUCTURE_ELEMENT_TYPE = "SESect";
 
-    public GFSESect(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.SECT, SECT_STRUCTURE_ELEMENT_TYPE);
+    public GFSESect(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.SECT, SECT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SESpan;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSESpan extends GFSEGeneral implements SESpan {
 
     public static final String SPAN_STRUCTURE_ELEMENT_TYPE = "SESpan";
 
-    public GFSESpan(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.SPAN, SPAN_STRUCTURE_ELEMENT_TYPE);
+    public GFSESpan(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.SPAN, SPAN_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SETFoot;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSETFoot extends GFSEGeneral implements SETFoot {
 
     public static final String TFOOT_STRUCTURE_ELEMENT_TYPE = "SETFoot";
 
-    public GFSETFoot(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.TFOOT, TFOOT_STRUCTURE_ELEMENT_TYPE);
+    public GFSETFoot(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.TFOOT, TFOOT_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
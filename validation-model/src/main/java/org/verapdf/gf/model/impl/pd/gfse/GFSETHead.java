@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SETHead;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSETHead extends GFSEGeneral implements SETHead {
 
     public static final String THEAD_STRUCTURE_ELEMENT_TYPE = "SETHead";
 
-    public GFSETHead(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.THEAD, THEAD_STRUCTURE_ELEMENT_TYPE);
+    public GFSETHead(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.THEAD, THEAD_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SETOC;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSETOC extends GFSEGeneral implements SETOC {
 
     public static final String TOC_STRUCTURE_ELEMENT_TYPE = "SETOC";
 
-    public GFSETOC(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.TOC, TOC_STRUCTURE_ELEMENT_TYPE);
+    public GFSETOC(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.TOC, TOC_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SETR;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSETR extends GFSEGeneral implements SETR {
 
     public static final String TR_STRUCTURE_ELEMENT_TYPE = "SETR";
 
-    public GFSETR(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.TR, TR_STRUCTURE_ELEMENT_TYPE);
+    public GFSETR(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.TR, TR_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SETitle;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSETitle extends GFSEGeneral implements SETitle {
 
     public static final String TITLE_STRUCTURE_ELEMENT_TYPE = "SETitle";
 
-    public GFSETitle(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.TITLE, TITLE_STRUCTURE_ELEMENT_TYPE);
+    public GFSETitle(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.TITLE, TITLE_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.gfse;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.selayer.SEWarichu;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.tools.TaggedPDFConstants;
@@ -28,7 +29,7 @@ public class GFSEWarichu extends GFSEGeneral implements SEWarichu {
 
     public static final String WARICHU_STRUCTURE_ELEMENT_TYPE = "SEWarichu";
 
-    public GFSEWarichu(PDStructElem structElemDictionary) {
-        super(structElemDictionary, TaggedPDFConstants.WARICHU, WARICHU_STRUCTURE_ELEMENT_TYPE);
+    public GFSEWarichu(PDStructElem structElemDictionary, ValidationContext context) {
+        super(structElemDictionary, TaggedPDFConstants.WARICHU, WARICHU_STRUCTURE_ELEMENT_TYPE, context);
     }
 }
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.impl.pd.images;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSName;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosIIFilter;
 import org.verapdf.gf.model.impl.cos.GFCosRenderingIntent;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
@@ -49,8 +50,8 @@ public class GFPDInlineImage extends GFPDResource implements PDInlineImage {
 	private org.verapdf.pd.colors.PDColorSpace inheritedFillCS;
 
 	public GFPDInlineImage(org.verapdf.pd.images.PDInlineImage simplePDObject,
-						   org.verapdf.pd.colors.PDColorSpace inheritedFillCS) {
-		super(simplePDObject, INLINE_IMAGE_TYPE);
+						   org.verapdf.pd.colors.PDColorSpace inheritedFillCS, ValidationContext context) {
+		super(simplePDObject, INLINE_IMAGE_TYPE, context);
 		this.inheritedFillCS = inheritedFillCS;
 	}
 
@@ -111,7 +112,7 @@ public class GFPDInlineImage extends GFPDResource implements PDInlineImage {
 		if (!filters.isEmpty()) {
 			List<CosIIFilter> result = new ArrayList<>(filters.size());
 			for (COSName filter : filters) {
-				result.add(new GFCosIIFilter(filter));
+				result.add(new GFCosIIFilter(filter, this.context));
 			}
 			return Collections.unmodifiableList(result);
 		}
@@ -122,7 +123,7 @@ public class GFPDInlineImage extends GFPDResource implements PDInlineImage {
 		if (!((org.verapdf.pd.images.PDInlineImage) this.simplePDObject).getImageMask()) {
 			PDColorSpace buffer = ColorSpaceFactory
 					.getColorSpace(((org.verapdf.pd.images.PDInlineImage) this.simplePDObject)
-							.getImageCS());
+							.getImageCS(), this.context);
 			if (buffer != null) {
 				List<PDColorSpace> colorSpaces =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
@@ -133,7 +134,7 @@ public class GFPDInlineImage extends GFPDResource implements PDInlineImage {
 			// for image mask we return current fill color space
 			List<PDColorSpace> colorSpaces =
 					new ArrayList<>(GFPDObject.MAX_NUMBER_OF_ELEMENTS);
-			colorSpaces.add(ColorSpaceFactory.getColorSpace(this.inheritedFillCS));
+			colorSpaces.add(ColorSpaceFactory.getColorSpace(this.inheritedFillCS, this.context));
 			return Collections.unmodifiableList(colorSpaces);
 		}
 		return Collections.emptyList();
@@ -144,7 +145,7 @@ public class GFPDInlineImage extends GFPDResource implements PDInlineImage {
 		if (intent != null) {
 			List<CosRenderingIntent> intents = new ArrayList<>(
 					MAX_NUMBER_OF_ELEMENTS);
-			intents.add(new GFCosRenderingIntent(intent));
+			intents.add(new GFCosRenderingIntent(intent, this.context));
 			return Collections.unmodifiableList(intents);
 		}
 		return Collections.emptyList();
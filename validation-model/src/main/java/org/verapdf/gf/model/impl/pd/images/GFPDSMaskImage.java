@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.images;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDSMaskImage;
@@ -35,8 +36,8 @@ public class GFPDSMaskImage extends GFPDXImage implements PDSMaskImage {
 
 	public static final String SMASK_IMAGE_TYPE = "PDSMaskImage";
 
-	public GFPDSMaskImage(PDXImage simplePDObject, PDResourcesHandler resourcesHandler) {
-		super(simplePDObject, resourcesHandler, null, SMASK_IMAGE_TYPE);
+	public GFPDSMaskImage(PDXImage simplePDObject, PDResourcesHandler resourcesHandler, ValidationContext context) {
+		super(simplePDObject, resourcesHandler, null, SMASK_IMAGE_TYPE, context);
 	}
 
 	@Override
@@ -21,19 +21,27 @@
 package org.verapdf.gf.model.impl.pd.images;
 
 import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSKey;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
 import org.verapdf.gf.model.impl.pd.GFPDContentStream;
 import org.verapdf.gf.model.impl.pd.GFPDGroup;
+import org.verapdf.gf.model.impl.pd.PageModelWindow;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.gf.model.tools.COSIdentity;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDGroup;
 import org.verapdf.model.pdlayer.PDXForm;
-import org.verapdf.pd.structure.StructureElementAccessObject;
+import org.verapdf.pd.font.PDFont;
+import org.verapdf.pd.patterns.PDTilingPattern;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Maksim Bezrukov
@@ -52,8 +60,8 @@ public class GFPDXForm extends GFPDXObject implements PDXForm {
 	private final GraphicState inheritedGraphicState;
 
 	public GFPDXForm(org.verapdf.pd.images.PDXForm simplePDObject, PDResourcesHandler resourcesHandler,
-					 GraphicState inheritedGraphicState) {
-		super(simplePDObject, resourcesHandler.getExtendedResources(simplePDObject.getResources()), X_FORM_TYPE);
+					 GraphicState inheritedGraphicState, ValidationContext context) {
+		super(simplePDObject, resourcesHandler.getExtendedResources(simplePDObject.getResources()), X_FORM_TYPE, context);
 		this.inheritedGraphicState = inheritedGraphicState;
 	}
 
@@ -106,7 +114,7 @@ public class GFPDXForm extends GFPDXObject implements PDXForm {
 		if (group != null) {
 			this.groupContainsTransparency = ASAtom.TRANSPARENCY.equals(group.getSubtype());
 			List<PDGroup> groups = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			groups.add(new GFPDGroup(group, resourcesHandler.getObjectResources()));
+			groups.add(new GFPDGroup(group, resourcesHandler.getObjectResources(), this.context));
 			this.groups = Collections.unmodifiableList(groups);
 		} else {
 			this.groups = Collections.emptyList();
@@ -115,14 +123,84 @@ public class GFPDXForm extends GFPDXObject implements PDXForm {
 
 	private void parseContentStream() {
 		List<PDContentStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		GFPDContentStream gfContentStream = new GFPDContentStream(
-				(org.verapdf.pd.images.PDXForm) this.simplePDObject, resourcesHandler,
-				this.inheritedGraphicState, new StructureElementAccessObject(this.simpleCOSObject));
-		this.contentStreamContainsTransparency = gfContentStream.isContainsTransparency();
+		GFPDContentStream gfContentStream = getCachedContentStream();
+		if (gfContentStream == null) {
+			int loopsCount = this.context.getContentStreamLoopsCount();
+			gfContentStream = new GFPDContentStream(
+					(org.verapdf.pd.images.PDXForm) this.simplePDObject, resourcesHandler,
+					this.inheritedGraphicState, new IndexedStructureElementAccessObject(this.simpleCOSObject), this.context);
+			this.contentStreamContainsTransparency = gfContentStream.isContainsTransparency();
+			// result of parsing with a content stream loop depends on the path to this form
+			if (loopsCount == this.context.getContentStreamLoopsCount()) {
+				List<java.lang.Object> cacheKey = getContentStreamCacheKey(isPageDependent());
+				if (cacheKey != null) {
+					this.context.getCachedXFormContentStreams().put(cacheKey, gfContentStream);
+					PageModelWindow window = this.context.getPageModelWindow();
+					if (window != null) {
+						window.registerXFormContentStream(cacheKey);
+					}
+				}
+			}
+		} else {
+			this.contentStreamContainsTransparency = gfContentStream.isContainsTransparency();
+		}
 		streams.add(gfContentStream);
 		this.contentStreams = streams;
 	}
 
+	private GFPDContentStream getCachedContentStream() {
+		List<java.lang.Object> cacheKey = getContentStreamCacheKey(false);
+		if (cacheKey == null) {
+			return null;
+		}
+		Map<List<java.lang.Object>, GFPDContentStream> cache = this.context.getCachedXFormContentStreams();
+		GFPDContentStream contentStream = cache.get(cacheKey);
+		return contentStream != null ? contentStream : cache.get(getContentStreamCacheKey(true));
+	}
+
+	/**
+	 * Names missing in the form resources are resolved in page resources, and
+	 * some of them only lazily, when Type3 glyphs, tiling patterns, nested
+	 * forms or inline images of the form are parsed. Page resources are a part
+	 * of the key only if the form uses them, see
+	 * {@link PDResourcesHandler#isPageResourcesUsed()}, so a form with its own
+	 * resources is parsed once for all pages.
+	 * <p>
+	 * Object IDs of the shared content are the same as with parsing of every
+	 * invocation: nested forms are identified by object keys, and glyphs by
+	 * the form, see {@link IndexedStructureElementAccessObject}.
+	 *
+	 * @param isPageDependent true if parsing of the form used page resources
+	 * @return key of the parsed content stream of this form in the document cache,
+	 * or null if the form is a direct object
+	 */
+	private List<java.lang.Object> getContentStreamCacheKey(boolean isPageDependent) {
+		COSKey key = this.simpleCOSObject.getObjectKey();
+		if (key == null || this.inheritedGraphicState == null) {
+			return null;
+		}
+		return Arrays.<java.lang.Object>asList(key,
+				isPageDependent ? COSIdentity.of(this.resourcesHandler.getPageResources()) : null,
+				this.inheritedGraphicState.getFingerprint());
+	}
+
+	/**
+	 * Inherited tiling patterns and Type3 fonts are parsed with resources of
+	 * this form, so names in their content are resolved in page resources too.
+	 */
+	private boolean isPageDependent() {
+		if (this.resourcesHandler.isPageResourcesUsed()) {
+			return true;
+		}
+		if (this.inheritedGraphicState == null) {
+			return false;
+		}
+		PDFont font = this.inheritedGraphicState.getFont();
+		return this.inheritedGraphicState.getFillColorSpace() instanceof PDTilingPattern ||
+				this.inheritedGraphicState.getStrokeColorSpace() instanceof PDTilingPattern ||
+				(font != null && ASAtom.TYPE3 == font.getSubtype());
+	}
+
 	/**
 	 * @return true if current form object contains transparency group or transparency in its content stream
 	 */
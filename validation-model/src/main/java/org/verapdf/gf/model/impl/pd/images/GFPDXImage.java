@@ -25,6 +25,7 @@ import org.verapdf.cos.COSName;
 import org.verapdf.cos.COSObjType;
 import org.verapdf.cos.COSObject;
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.GFCosRenderingIntent;
 import org.verapdf.gf.model.impl.external.GFJPEG2000;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
@@ -54,13 +55,13 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 	private org.verapdf.pd.colors.PDColorSpace inheritedFillCS;
 
 	protected GFPDXImage(org.verapdf.pd.images.PDXImage simplePDObject, PDResourcesHandler resourcesHandler,
-						 org.verapdf.pd.colors.PDColorSpace inheritedFillCS) {
-		this(simplePDObject, resourcesHandler, inheritedFillCS, X_IMAGE_TYPE);
+						 org.verapdf.pd.colors.PDColorSpace inheritedFillCS, ValidationContext context) {
+		this(simplePDObject, resourcesHandler, inheritedFillCS, X_IMAGE_TYPE, context);
 	}
 
 	protected GFPDXImage(org.verapdf.pd.images.PDXImage simplePDObject, PDResourcesHandler resourcesHandler,
-						 org.verapdf.pd.colors.PDColorSpace inheritedFillCS, String type) {
-		super(simplePDObject, resourcesHandler, type);
+						 org.verapdf.pd.colors.PDColorSpace inheritedFillCS, String type, ValidationContext context) {
+		super(simplePDObject, resourcesHandler, type, context);
 		this.inheritedFillCS = inheritedFillCS;
 	}
 
@@ -95,7 +96,7 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 		if (intent != null) {
 			List<CosRenderingIntent> intents = new ArrayList<>(
 					GFPDObject.MAX_NUMBER_OF_ELEMENTS);
-			intents.add(new GFCosRenderingIntent(intent));
+			intents.add(new GFCosRenderingIntent(intent, this.context));
 			return Collections.unmodifiableList(intents);
 		}
 		return Collections.emptyList();
@@ -114,13 +115,13 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 			if (csName != null) {
 				buffer = resourcesHandler.getColorSpace(csName);
 				if (buffer != null) {
-					colorSpaces.add(ColorSpaceFactory.getColorSpace(buffer));
+					colorSpaces.add(ColorSpaceFactory.getColorSpace(buffer, this.context));
 					return Collections.unmodifiableList(colorSpaces);
 				}
 			} else {
 				buffer = image.getImageCS();
 				if (buffer != null) {
-					colorSpaces.add(ColorSpaceFactory.getColorSpace(buffer));
+					colorSpaces.add(ColorSpaceFactory.getColorSpace(buffer, this.context));
 					return Collections.unmodifiableList(colorSpaces);
 				}
 			}
@@ -128,7 +129,7 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 			// for image mask we return current fill color space
 			List<PDColorSpace> colorSpaces =
 					new ArrayList<>(GFPDObject.MAX_NUMBER_OF_ELEMENTS);
-			colorSpaces.add(ColorSpaceFactory.getColorSpace(this.inheritedFillCS));
+			colorSpaces.add(ColorSpaceFactory.getColorSpace(this.inheritedFillCS, this.context));
 			return Collections.unmodifiableList(colorSpaces);
  		}
 		return Collections.emptyList();
@@ -139,7 +140,7 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 				((org.verapdf.pd.images.PDXImage) simplePDObject).getAlternates();
 		final List<PDXImage> res = new ArrayList<>(alternates.size());
 		for (org.verapdf.pd.images.PDXImage image : alternates) {
-			res.add(new GFPDXImage(image, this.resourcesHandler, this.inheritedFillCS));
+			res.add(new GFPDXImage(image, this.resourcesHandler, this.inheritedFillCS, this.context));
 		}
 		return res;
 	}
@@ -155,7 +156,7 @@ public class GFPDXImage extends GFPDXObject implements PDXImage {
 		org.verapdf.external.JPEG2000 jpeg = ((org.verapdf.pd.images.PDXImage) this.simplePDObject).getJPXStream();
 		if (jpeg != null) {
 			List<JPEG2000> list = new ArrayList<>(GFPDObject.MAX_NUMBER_OF_ELEMENTS);
-			list.add(new GFJPEG2000(jpeg));
+			list.add(new GFJPEG2000(jpeg, this.context));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.pd.images;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDResource;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
@@ -47,12 +48,13 @@ public class GFPDXObject extends GFPDResource implements PDXObject {
 	protected final PDResourcesHandler resourcesHandler;
 
 	public GFPDXObject(
-			org.verapdf.pd.images.PDXObject simplePDObject, PDResourcesHandler resourcesHandler) {
-		this(simplePDObject, resourcesHandler, X_OBJECT_TYPE);
+			org.verapdf.pd.images.PDXObject simplePDObject, PDResourcesHandler resourcesHandler, ValidationContext context) {
+		this(simplePDObject, resourcesHandler, X_OBJECT_TYPE, context);
 	}
 
-	protected GFPDXObject(org.verapdf.pd.images.PDXObject simplePDObject, PDResourcesHandler resourcesHandler, final String type) {
-		super(simplePDObject, type);
+	protected GFPDXObject(org.verapdf.pd.images.PDXObject simplePDObject, PDResourcesHandler resourcesHandler,
+						  final String type, ValidationContext context) {
+		super(simplePDObject, type, context);
 		this.resourcesHandler = resourcesHandler;
 	}
 
@@ -86,7 +88,7 @@ public class GFPDXObject extends GFPDResource implements PDXObject {
 		PDXImage smask = ((org.verapdf.pd.images.PDXObject) simplePDObject).getSMask();
 		if (smask != null) {
 			List<PDSMaskImage> mask = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			mask.add(new GFPDSMaskImage(smask, this.resourcesHandler));
+			mask.add(new GFPDSMaskImage(smask, this.resourcesHandler, this.context));
 			return Collections.unmodifiableList(mask);
 		}
 		return Collections.emptyList();
@@ -94,15 +96,15 @@ public class GFPDXObject extends GFPDResource implements PDXObject {
 
 	public static PDXObject getTypedPDXObject(
 			org.verapdf.pd.images.PDXObject xObject,
-			PDResourcesHandler resources, GraphicState inheritedGraphicState) {
+			PDResourcesHandler resources, GraphicState inheritedGraphicState, ValidationContext context) {
 		ASAtom type = xObject.getType();
 		if (ASAtom.FORM.equals(type)) {
-			return new GFPDXForm((PDXForm) xObject, resources, inheritedGraphicState);
+			return new GFPDXForm((PDXForm) xObject, resources, inheritedGraphicState, context);
 		} else if (ASAtom.IMAGE.equals(type)) {
 			return new GFPDXImage((PDXImage) xObject, resources,
-					inheritedGraphicState.getFillColorSpace());
+					inheritedGraphicState.getFillColorSpace(), context);
 		} else if (ASAtom.PS.equals(type)) {
-			return new GFPDXObject(xObject, resources);
+			return new GFPDXObject(xObject, resources, context);
 		} else {
 			return null;
 		}
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.patterns;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.colors.GFPDColorSpace;
 import org.verapdf.model.pdlayer.PDPattern;
 
@@ -29,7 +30,7 @@ import org.verapdf.model.pdlayer.PDPattern;
 public class GFPDPattern extends GFPDColorSpace implements PDPattern {
 
 	protected GFPDPattern(org.verapdf.pd.patterns.PDPattern simplePDObject,
-							final String type) {
-		super(simplePDObject, type);
+							final String type, ValidationContext context) {
+		super(simplePDObject, type, context);
 	}
 }
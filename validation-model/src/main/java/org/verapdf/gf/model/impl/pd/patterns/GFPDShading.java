@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.patterns;
 
 import org.verapdf.gf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDResource;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDColorSpace;
@@ -39,8 +40,8 @@ public class GFPDShading extends GFPDResource implements PDShading {
 
 	public static final String COLOR_SPACE = "colorSpace";
 
-	public GFPDShading(org.verapdf.pd.patterns.PDShading simplePDObject) {
-		super(simplePDObject, SHADING_TYPE);
+	public GFPDShading(org.verapdf.pd.patterns.PDShading simplePDObject, ValidationContext context) {
+		super(simplePDObject, SHADING_TYPE, context);
 	}
 
 	@Override
@@ -57,7 +58,7 @@ public class GFPDShading extends GFPDResource implements PDShading {
 		if (cs != null) {
 			List<PDColorSpace> colorSpaces =
 					new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			colorSpaces.add(ColorSpaceFactory.getColorSpace(cs));
+			colorSpaces.add(ColorSpaceFactory.getColorSpace(cs, this.context));
 			return Collections.unmodifiableList(colorSpaces);
 		}
 		return Collections.emptyList();
@@ -20,6 +20,7 @@
  */
 package org.verapdf.gf.model.impl.pd.patterns;
 
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDShading;
 import org.verapdf.model.pdlayer.PDShadingPattern;
@@ -37,8 +38,8 @@ public class GFPDShadingPattern extends GFPDPattern implements PDShadingPattern
 	public static final String SHADING = "shading";
 
 	public GFPDShadingPattern(
-			org.verapdf.pd.patterns.PDShadingPattern simplePDObject) {
-		super(simplePDObject, SHADING_PATTERN_TYPE);
+			org.verapdf.pd.patterns.PDShadingPattern simplePDObject, ValidationContext context) {
+		super(simplePDObject, SHADING_PATTERN_TYPE, context);
 	}
 
 	@Override
@@ -54,7 +55,7 @@ public class GFPDShadingPattern extends GFPDPattern implements PDShadingPattern
 				((org.verapdf.pd.patterns.PDShadingPattern) this.simplePDObject).getShading();
 		if (shading != null) {
 			List<PDShading> shadings = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			shadings.add(new GFPDShading(shading));
+			shadings.add(new GFPDShading(shading, this.context));
 			return Collections.unmodifiableList(shadings);
 		}
 		return Collections.emptyList();
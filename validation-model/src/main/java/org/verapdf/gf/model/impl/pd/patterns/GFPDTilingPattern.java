@@ -21,13 +21,14 @@
 package org.verapdf.gf.model.impl.pd.patterns;
 
 import org.verapdf.gf.model.factory.operators.GraphicState;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
 import org.verapdf.gf.model.impl.pd.GFPDContentStream;
 import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDTilingPattern;
 import org.verapdf.pd.colors.PDColorSpace;
-import org.verapdf.pd.structure.StructureElementAccessObject;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,8 +50,8 @@ public class GFPDTilingPattern extends GFPDPattern implements PDTilingPattern {
 
 	public GFPDTilingPattern(
 			org.verapdf.pd.patterns.PDTilingPattern simplePDObject, PDResourcesHandler resourcesHandler,
-			GraphicState inheritedGraphicState) {
-		super(simplePDObject, TILING_PATTERN_TYPE);
+			GraphicState inheritedGraphicState, ValidationContext context) {
+		super(simplePDObject, TILING_PATTERN_TYPE, context);
 		this.resourcesHandler = resourcesHandler;
 		if (inheritedGraphicState == null) {
 			this.inheritedGraphicState = new GraphicState(resourcesHandler);
@@ -100,7 +101,8 @@ public class GFPDTilingPattern extends GFPDPattern implements PDTilingPattern {
 		List<PDContentStream> contentStreams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		org.verapdf.pd.patterns.PDTilingPattern pattern = (org.verapdf.pd.patterns.PDTilingPattern) this.simplePDObject;
 		GFPDContentStream contentStream = new GFPDContentStream(pattern,
-		                                                        this.resourcesHandler, inheritedGraphicState, new StructureElementAccessObject(this.simpleCOSObject));
+		                                                        this.resourcesHandler, inheritedGraphicState,
+		                                                        new IndexedStructureElementAccessObject(this.simpleCOSObject), this.context);
 		this.containsTransparency |= contentStream.isContainsTransparency();
 		contentStreams.add(contentStream);
 		this.contentStreams = contentStreams;
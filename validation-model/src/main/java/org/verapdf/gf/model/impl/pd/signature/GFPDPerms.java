@@ -22,6 +22,7 @@ package org.verapdf.gf.model.impl.pd.signature;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.pdlayer.PDPerms;
 
@@ -46,8 +47,8 @@ public class GFPDPerms extends GFPDObject implements PDPerms {
     /**
      * @param dictionary is permissions dictionary.
      */
-    public GFPDPerms(COSObject dictionary) {
-        super(dictionary, PERMS_TYPE);
+    public GFPDPerms(COSObject dictionary, ValidationContext context) {
+        super(dictionary, PERMS_TYPE, context);
     }
 
     /**
@@ -23,7 +23,7 @@ package org.verapdf.gf.model.impl.pd.signature;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.COSDictionary;
 import org.verapdf.cos.COSObject;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
 import org.verapdf.model.pdlayer.PDSigRef;
 import org.verapdf.pd.PDCatalog;
@@ -47,8 +47,8 @@ public class GFPDSigRef extends GFPDObject implements PDSigRef {
 	 * @param dictionary
 	 *            is signature reference dictionary.
 	 */
-	public GFPDSigRef(COSDictionary dictionary) {
-		super(new COSObject(dictionary), SIGNATURE_REFERENCE_TYPE);
+	public GFPDSigRef(COSDictionary dictionary, ValidationContext context) {
+		super(new COSObject(dictionary), SIGNATURE_REFERENCE_TYPE, context);
 	}
 
 	/**
@@ -72,7 +72,7 @@ public class GFPDSigRef extends GFPDObject implements PDSigRef {
 	 */
 	@Override
 	public Boolean getpermsContainDocMDP() {
-		PDCatalog catalog = StaticContainers.getDocument().getCatalog();
+		PDCatalog catalog = this.context.getDocument().getCatalog();
 		COSDictionary perms = (COSDictionary) catalog.getKey(ASAtom.PERMS).getDirectBase();
 		if (perms != null) {
 			return perms.knownKey(GFPDPerms.DOC_MDP);
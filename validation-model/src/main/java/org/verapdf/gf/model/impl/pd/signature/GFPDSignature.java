@@ -21,30 +21,23 @@
 package org.verapdf.gf.model.impl.pd.signature;
 
 import org.verapdf.cos.*;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.external.GFPKCSDataObject;
 import org.verapdf.gf.model.impl.pd.GFPDObject;
-import org.verapdf.io.SeekableInputStream;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.PKCSDataObject;
 import org.verapdf.model.pdlayer.PDSigRef;
 import org.verapdf.model.pdlayer.PDSignature;
-import org.verapdf.parser.SignatureParser;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * @author Sergey Shemyakov
  */
 public class GFPDSignature extends GFPDObject implements PDSignature {
 
-    private static final Logger LOGGER = Logger.getLogger(GFPDSignature.class.getCanonicalName());
-
     /**
      * Type name for {@code PBoxPDSignature}
      */
@@ -53,16 +46,16 @@ public class GFPDSignature extends GFPDObject implements PDSignature {
     public static final String CONTENTS = "Contents";
     public static final String REFERENCE = "Reference";
 
-    protected static COSString contents;
+    protected final COSString contents;
     protected long signatureOffset = -1;
 
-    public GFPDSignature(org.verapdf.pd.PDSignature pdSignature, COSObject signatureReference) {
-        super(pdSignature, SIGNATURE_TYPE);
+    public GFPDSignature(org.verapdf.pd.PDSignature pdSignature, COSObject signatureReference, ValidationContext context) {
+        super(pdSignature, SIGNATURE_TYPE, context);
         if(signatureReference.isIndirect().booleanValue()) {
             COSKey key = signatureReference.getObjectKey();
-            this.signatureOffset = StaticContainers.getDocument().getDocument().getOffset(key).longValue();
+            this.signatureOffset = this.context.getDocument().getDocument().getOffset(key).longValue();
         }
-        contents = pdSignature.getContents();
+        this.contents = pdSignature.getContents();
     }
 
     @Override
@@ -80,10 +73,10 @@ public class GFPDSignature extends GFPDObject implements PDSignature {
     /**
      * @return DER-encoded PKCS#7 data object representing PDF Signature.
      */
-    private static List<PKCSDataObject> getContents() {
-        if (contents != null) {
+    private List<PKCSDataObject> getContents() {
+        if (this.contents != null) {
             List<PKCSDataObject> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new GFPKCSDataObject(contents));
+            list.add(new GFPKCSDataObject(this.contents, this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -100,7 +93,7 @@ public class GFPDSignature extends GFPDObject implements PDSignature {
         }
         List<PDSigRef> list = new ArrayList<>();
         for (COSObject sigRef : reference) {
-            list.add(new GFPDSigRef((COSDictionary) sigRef.getDirectBase()));
+            list.add(new GFPDSigRef((COSDictionary) sigRef.getDirectBase(), this.context));
         }
         return Collections.unmodifiableList(list);
     }
@@ -112,29 +105,22 @@ public class GFPDSignature extends GFPDObject implements PDSignature {
      */
     @Override
     public Boolean getdoesByteRangeCoverEntireDocument() {
-        try {
-            SeekableInputStream pdfSource = StaticContainers.getDocument().getPDFSource();
-            long offest = pdfSource.getOffset();
-            SignatureParser parser = new SignatureParser(pdfSource,
-                    StaticContainers.getDocument().getDocument());
-            long[] actualByteRange =
-                    parser.getByteRangeBySignatureOffset(signatureOffset);
-            int[] byteRange = ((org.verapdf.pd.PDSignature) this.simplePDObject).getByteRange();
-            pdfSource.seek(offest);
-            for (int i = 0; i < 3; ++i) {
-                if (byteRange[i] != actualByteRange[i]) {
-                    return Boolean.FALSE;
-                }
-            }
-            int floating = parser.getFloatingBytesNumberForLastByteRangeObtained();
-            if (parser.isStreamEnd()) {
-                return byteRange[3] == actualByteRange[3];
-            } else {
-                return byteRange[3] >= actualByteRange[3] - floating && byteRange[3] <= actualByteRange[3];
-            }
-        } catch (IOException ex) {
-            LOGGER.log(Level.FINE, "Can't create parser to process digital signature", ex);
+        SignatureByteRangeIndex.SignatureByteRange actualByteRange =
+                this.context.getSignatureByteRangeIndex().getByteRange(signatureOffset);
+        if (actualByteRange == null) {
             return Boolean.FALSE;
         }
+        int[] byteRange = ((org.verapdf.pd.PDSignature) this.simplePDObject).getByteRange();
+        for (int i = 0; i < 3; ++i) {
+            if (byteRange[i] != actualByteRange.get(i)) {
+                return Boolean.FALSE;
+            }
+        }
+        int floating = actualByteRange.getFloatingBytesNumber();
+        if (actualByteRange.isStreamEnd()) {
+            return byteRange[3] == actualByteRange.get(3);
+        } else {
+            return byteRange[3] >= actualByteRange.get(3) - floating && byteRange[3] <= actualByteRange.get(3);
+        }
     }
 }
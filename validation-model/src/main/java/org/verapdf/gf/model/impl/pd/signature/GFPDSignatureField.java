@@ -21,6 +21,7 @@
 package org.verapdf.gf.model.impl.pd.signature;
 
 import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDFormField;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.pdlayer.PDSignature;
@@ -42,8 +43,8 @@ public class GFPDSignatureField extends GFPDFormField implements PDSignatureFiel
 
     public static final String SIGNATURE_DICTIONARY = "V";
 
-    public GFPDSignatureField(org.verapdf.pd.form.PDSignatureField pdSignatureField) {
-        super(pdSignatureField, SIGNATURE_FIELD_TYPE);
+    public GFPDSignatureField(org.verapdf.pd.form.PDSignatureField pdSignatureField, ValidationContext context) {
+        super(pdSignatureField, SIGNATURE_FIELD_TYPE, context);
     }
 
     @Override
@@ -67,7 +68,7 @@ public class GFPDSignatureField extends GFPDFormField implements PDSignatureFiel
             List<PDSignature> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             COSObject signatureReference = ((org.verapdf.pd.form.PDSignatureField)
                     this.simplePDObject).getSignatureReference();
-            list.add(new GFPDSignature(signature, signatureReference));
+            list.add(new GFPDSignature(signature, signatureReference, this.context));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
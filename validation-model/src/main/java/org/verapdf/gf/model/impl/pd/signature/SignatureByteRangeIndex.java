@@ -0,0 +1,403 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.signature;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.as.io.ASInputStream;
+import org.verapdf.cos.*;
+import org.verapdf.io.SeekableInputStream;
+import org.verapdf.parser.COSParser;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pd.form.PDAcroForm;
+import org.verapdf.pd.form.PDFormField;
+import org.verapdf.pd.form.PDSignatureField;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Actual byte ranges of all digital signatures of the document.
+ * <p>
+ * On the first request signature dictionaries of all signature fields are
+ * parsed in the order of their offsets over a separate view of the document
+ * source, so the position of the shared source is never changed. The end of
+ * each revision is looked up only once, however many signatures it has.
+ * Byte ranges are computed in the same way as by
+ * {@link org.verapdf.parser.SignatureParser}, which has no way to reuse
+ * revision ends, so its dictionary parsing is repeated here. As there, no byte
+ * range is obtained for signatures with indirect Contents entry.
+ */
+public class SignatureByteRangeIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(SignatureByteRangeIndex.class.getCanonicalName());
+
+    private static final byte[] EOF_STRING = "%%EOF".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] STREAM_STRING = "stream".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] ENDSTREAM_STRING = "endstream".getBytes(StandardCharsets.ISO_8859_1);
+
+    private final PDDocument document;
+    private final Map<Long, SignatureByteRange> byteRanges = new HashMap<>();
+    private final Map<Long, RevisionEnd> revisionEnds = new HashMap<>();
+    private boolean indexed = false;
+
+    public SignatureByteRangeIndex(PDDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * @param signatureOffset offset of the signature dictionary object
+     * @return actual byte range of the signature or null if it can't be obtained
+     */
+    public synchronized SignatureByteRange getByteRange(long signatureOffset) {
+        if (!this.indexed) {
+            this.indexed = true;
+            index(getSignatureOffsets(), true);
+        }
+        if (!this.byteRanges.containsKey(signatureOffset)) {
+            index(Collections.singletonList(signatureOffset), false);
+        }
+        return this.byteRanges.get(signatureOffset);
+    }
+
+    private void index(Collection<Long> signatureOffsets, boolean isPrefetch) {
+        if (signatureOffsets.isEmpty()) {
+            return;
+        }
+        SeekableInputStream pdfSource = this.document.getPDFSource();
+        COSDocument cosDocument = this.document.getDocument();
+        ASInputStream view = null;
+        long offset = -1;
+        try {
+            SeekableInputStream source;
+            try {
+                view = pdfSource.getStream(0, pdfSource.getStreamLength());
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Can't create separate view of document source", e);
+            }
+            if (view instanceof SeekableInputStream) {
+                source = (SeekableInputStream) view;
+            } else {
+                source = pdfSource;
+                offset = pdfSource.getOffset();
+            }
+            for (Long signatureOffset : signatureOffsets) {
+                try {
+                    SignatureDictionaryParser parser = new SignatureDictionaryParser(source, cosDocument);
+                    this.byteRanges.put(signatureOffset, parser.getByteRange(signatureOffset));
+                } catch (IOException ex) {
+                    LOGGER.log(Level.FINE, "Can't create parser to process digital signature", ex);
+                    this.byteRanges.put(signatureOffset, null);
+                } catch (RuntimeException ex) {
+                    // keeps other signatures indexed, the error is raised when this signature is requested
+                    if (!isPrefetch) {
+                        throw ex;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Can't read document source", e);
+        } finally {
+            try {
+                if (offset != -1) {
+                    pdfSource.seek(offset);
+                }
+                if (view != null) {
+                    view.close();
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Can't restore document source", e);
+            }
+        }
+    }
+
+    private SortedSet<Long> getSignatureOffsets() {
+        SortedSet<Long> offsets = new TreeSet<>();
+        PDAcroForm acroForm = this.document.getAcroForm();
+        if (acroForm == null) {
+            return offsets;
+        }
+        COSDocument cosDocument = this.document.getDocument();
+        Set<COSBase> visitedFields = Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>());
+        Deque<PDFormField> fields = new ArrayDeque<>(acroForm.getFields());
+        while (!fields.isEmpty()) {
+            PDFormField field = fields.pop();
+            if (!visitedFields.add(field.getObject().getDirectBase())) {
+                continue;
+            }
+            if (field.getFT() == ASAtom.SIG && field instanceof PDSignatureField) {
+                COSObject signatureReference = ((PDSignatureField) field).getSignatureReference();
+                if (signatureReference != null && signatureReference.isIndirect().booleanValue()) {
+                    Long offset = cosDocument.getOffset(signatureReference.getObjectKey());
+                    if (offset != null) {
+                        offsets.add(offset);
+                    }
+                }
+            }
+            fields.addAll(field.getChildFormFields());
+        }
+        return offsets;
+    }
+
+    /**
+     * Actual byte range of a single signature.
+     */
+    public static class SignatureByteRange {
+
+        private final long[] byteRange;
+        private final int floatingBytesNumber;
+        private final boolean isStreamEnd;
+
+        private SignatureByteRange(long[] byteRange, int floatingBytesNumber, boolean isStreamEnd) {
+            this.byteRange = byteRange;
+            this.floatingBytesNumber = floatingBytesNumber;
+            this.isStreamEnd = isStreamEnd;
+        }
+
+        public long get(int index) {
+            return this.byteRange[index];
+        }
+
+        /**
+         * @return number of end of line bytes after %%EOF marker that may be
+         * not covered by the byte range
+         */
+        public int getFloatingBytesNumber() {
+            return this.floatingBytesNumber;
+        }
+
+        /**
+         * @return true if revision of the signature ends at the end of the file
+         */
+        public boolean isStreamEnd() {
+            return this.isStreamEnd;
+        }
+    }
+
+    private static class RevisionEnd {
+
+        private final long offset;
+        private final int floatingBytesNumber;
+        private final boolean isStreamEnd;
+
+        private RevisionEnd(long offset, int floatingBytesNumber, boolean isStreamEnd) {
+            this.offset = offset;
+            this.floatingBytesNumber = floatingBytesNumber;
+            this.isStreamEnd = isStreamEnd;
+        }
+    }
+
+    private class SignatureDictionaryParser extends COSParser {
+
+        private final COSDocument cosDocument;
+        private final long[] byteRange = new long[4];
+
+        private SignatureDictionaryParser(SeekableInputStream source, COSDocument cosDocument) throws IOException {
+            super(source);
+            this.cosDocument = cosDocument;
+        }
+
+        private SignatureByteRange getByteRange(long signatureOffset) throws IOException {
+            this.source.seek(signatureOffset);
+            skipID();
+            this.byteRange[0] = 0;
+            parseDictionary();
+            long xrefOffset = getOffsetOfNextXRef(this.byteRange[2]);
+            RevisionEnd revisionEnd = SignatureByteRangeIndex.this.revisionEnds.get(xrefOffset);
+            if (revisionEnd == null) {
+                revisionEnd = getRevisionEnd(xrefOffset);
+                SignatureByteRangeIndex.this.revisionEnds.put(xrefOffset, revisionEnd);
+            }
+            this.byteRange[3] = revisionEnd.offset - this.byteRange[2];
+            return new SignatureByteRange(this.byteRange, revisionEnd.floatingBytesNumber, revisionEnd.isStreamEnd);
+        }
+
+        private void skipID() throws IOException {
+            nextObject();
+            this.objects.clear();
+            this.flag = true;
+        }
+
+        private void parseDictionary() throws IOException {
+            skipSpaces();
+            skipExpectedCharacter('<');
+            skipExpectedCharacter('<');
+            skipSpaces();
+            boolean isDone = false;
+            while (!isDone) {
+                skipSpaces();
+                if ((char) this.source.peek() == '>') {
+                    isDone = true;
+                } else if (parseSignatureNameValuePair()) {
+                    isDone = true;
+                }
+            }
+        }
+
+        private boolean parseSignatureNameValuePair() throws IOException {
+            COSObject key = getName();
+            if (key.getType() != COSObjType.COS_NAME) {
+                LOGGER.log(Level.FINE, "Invalid signature dictionary");
+                return false;
+            }
+            if (key.getName() != ASAtom.CONTENTS) {
+                passCOSDictionaryValue();
+                return false;
+            }
+            parseSignatureValue();
+            return true;
+        }
+
+        private void passCOSDictionaryValue() throws IOException {
+            long numberOffset = this.source.getOffset();
+            COSObject number = nextObject();
+            skipSpaces();
+            if (!isDigit()) {
+                return;
+            }
+            long genNumberOffset = this.source.getOffset();
+            COSObject genNumber = nextObject();
+            skipSpaces();
+            skipExpectedCharacter('R');
+            checkInteger(number, numberOffset);
+            checkInteger(genNumber, genNumberOffset);
+        }
+
+        private void parseSignatureValue() throws IOException {
+            skipSpaces();
+            long numberOffset = this.source.getOffset();
+            COSObject number = nextObject();
+            long numberEndOffset = this.source.getOffset();
+            skipSpaces();
+            if (!isDigit()) {
+                this.byteRange[1] = numberOffset;
+                this.byteRange[2] = numberEndOffset;
+                return;
+            }
+            long genNumberOffset = this.source.getOffset();
+            COSObject genNumber = nextObject();
+            skipSpaces();
+            int c = this.source.read();
+            if (c == 'R') {
+                // SignatureParser fails on indirect Contents after reading the referenced
+                // object, so there is no byte range for such signatures either
+                checkInteger(number, numberOffset);
+                checkInteger(genNumber, genNumberOffset);
+                throw new IOException("Indirect Contents entry of signature dictionary is not supported");
+            }
+            if (c != 'o') {
+                throw new IOException("\"R\" or \"obj\" expected, but \'" + (char) c + "\' found.");
+            }
+            skipExpectedCharacter('b');
+            skipExpectedCharacter('j');
+            skipSpaces();
+            numberOffset = this.source.getOffset();
+            nextObject();
+            numberEndOffset = this.source.getOffset();
+            this.byteRange[1] = numberOffset;
+            this.byteRange[2] = numberEndOffset;
+        }
+
+        private void checkInteger(COSObject object, long offset) throws IOException {
+            if (object.getType() != COSObjType.COS_INTEGER) {
+                throw new IOException("expected number at offset " + offset + " but got " + object.getType());
+            }
+        }
+
+        private long getOffsetOfNextXRef(long currentOffset) {
+            for (Long startXRef : this.cosDocument.getStartXRefs()) {
+                if (startXRef > currentOffset) {
+                    return startXRef;
+                }
+            }
+            return currentOffset;
+        }
+
+        private RevisionEnd getRevisionEnd(long xrefOffset) throws IOException {
+            long headerOffset = this.cosDocument.getHeader().getHeaderOffset();
+            byte[] buffer = new byte[EOF_STRING.length];
+            this.source.seek(xrefOffset + headerOffset);
+            this.source.read(buffer);
+            this.source.unread(buffer.length - 1);
+            boolean isStream = false;
+            while (isStream || !isEOFFound(buffer)) {
+                byte[] keyword = isStream ? ENDSTREAM_STRING : STREAM_STRING;
+                byte[] keywordBuffer = new byte[keyword.length];
+                int bytesRead = this.source.read(keywordBuffer);
+                if (Arrays.equals(keyword, keywordBuffer)) {
+                    isStream = !isStream;
+                    System.arraycopy(keywordBuffer, 0, buffer, 0, EOF_STRING.length);
+                    bytesRead = -1;
+                } else {
+                    this.source.unread(bytesRead);
+                    this.source.read(buffer);
+                    bytesRead = buffer.length - 1;
+                }
+                if (this.source.isEOF()) {
+                    return new RevisionEnd(this.source.getStreamLength(), 0, true);
+                }
+                if (bytesRead > 0) {
+                    this.source.unread(bytesRead);
+                }
+            }
+            long result = this.source.getOffset() - 1 + EOF_STRING.length;
+            this.source.skip(EOF_STRING.length - 1);
+            int floatingBytesNumber = 0;
+            int c = this.source.read();
+            if (isLF(c)) {
+                result++;
+                floatingBytesNumber++;
+                c = this.source.peek();
+            } else if (isCR(c)) {
+                result++;
+                floatingBytesNumber++;
+                c = this.source.read();
+                if (isLF(c)) {
+                    result++;
+                    floatingBytesNumber++;
+                    c = this.source.peek();
+                }
+            }
+            return new RevisionEnd(result, floatingBytesNumber, c == -1);
+        }
+
+        private boolean isEOFFound(byte[] buffer) throws IOException {
+            if (!Arrays.equals(buffer, EOF_STRING)) {
+                return false;
+            }
+            long offset = this.source.getOffset();
+            this.source.unread(2);
+            int c = this.source.peek();
+            while (!isLF(c)) {
+                this.source.unread();
+                c = this.source.peek();
+                if (c != ' ') {
+                    this.source.seek(offset);
+                    return false;
+                }
+            }
+            this.source.seek(offset);
+            return true;
+        }
+    }
+}
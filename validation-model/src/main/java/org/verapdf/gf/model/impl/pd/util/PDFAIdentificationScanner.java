@@ -0,0 +1,209 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads PDF/A identification schema properties from an XMP packet without
+ * building the XMP model.
+ * <p>
+ * Scanning stops as soon as both part and conformance are found. Only the
+ * simple forms of the properties written by producers are recognized, i.e.
+ * attributes or text-only child elements of rdf:Description. In any other case
+ * the scanner gives up and the packet has to be parsed by the full XMP parser.
+ */
+public final class PDFAIdentificationScanner {
+
+	private static final Logger LOGGER = Logger.getLogger(PDFAIdentificationScanner.class.getCanonicalName());
+
+	private static final String PDFA_IDENTIFICATION_NS = "http://www.aiim.org/pdfa/ns/id/";
+	private static final String RDF_NS = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+	private static final String PART = "part";
+	private static final String CONFORMANCE = "conformance";
+
+	private PDFAIdentificationScanner() {
+		// disable default constructor
+	}
+
+	/**
+	 * Factory is created for every scan, so no parser state is kept by pooled
+	 * threads. It is cheap compared to parsing of the document.
+	 */
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		return factory;
+	}
+
+	/**
+	 * Scans XMP packet for PDF/A identification schema properties.
+	 *
+	 * @param stream XMP packet, it is not closed by this method
+	 * @return found identification, with null values if the packet has no
+	 * identification schema, or null if the packet has to be parsed by the full
+	 * XMP parser
+	 */
+	public static Identification scan(InputStream stream) {
+		XMLStreamReader reader = null;
+		try {
+			reader = createFactory().createXMLStreamReader(stream);
+			Identification identification = new Identification();
+			Deque<QName> elements = new ArrayDeque<>();
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						QName name = reader.getName();
+						QName parent = elements.peek();
+						if (PDFA_IDENTIFICATION_NS.equals(name.getNamespaceURI())) {
+							if (!isDescription(parent, elements) || reader.getAttributeCount() != 0 ||
+									!identification.set(name.getLocalPart(), reader.getElementText())) {
+								return null;
+							}
+						} else {
+							boolean isDescription = isRDFElement(name, "Description") &&
+									isRDFElement(parent, "RDF");
+							for (int i = 0; i < reader.getAttributeCount(); ++i) {
+								if (PDFA_IDENTIFICATION_NS.equals(reader.getAttributeNamespace(i)) &&
+										(!isDescription || !identification.set(reader.getAttributeLocalName(i),
+												reader.getAttributeValue(i)))) {
+									return null;
+								}
+							}
+							elements.push(name);
+						}
+						if (identification.isComplete()) {
+							return identification;
+						}
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						elements.poll();
+						break;
+					case XMLStreamConstants.DTD:
+						return null;
+					default:
+						break;
+				}
+			}
+			return identification;
+		} catch (XMLStreamException e) {
+			LOGGER.log(Level.FINE, "Problems with XMP scanning. " + e.getMessage(), e);
+			return null;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					LOGGER.log(Level.FINE, e.getMessage(), e);
+				}
+			}
+		}
+	}
+
+	private static boolean isDescription(QName parent, Deque<QName> elements) {
+		if (!isRDFElement(parent, "Description")) {
+			return false;
+		}
+		QName description = elements.pop();
+		QName grandParent = elements.peek();
+		elements.push(description);
+		return isRDFElement(grandParent, "RDF");
+	}
+
+	private static boolean isRDFElement(QName name, String localName) {
+		return name != null && RDF_NS.equals(name.getNamespaceURI()) && localName.equals(name.getLocalPart());
+	}
+
+	/**
+	 * PDF/A identification schema properties used to detect flavour.
+	 */
+	public static final class Identification {
+
+		private Integer part;
+		private String conformance;
+
+		private Identification() {
+		}
+
+		public Integer getPart() {
+			return this.part;
+		}
+
+		public String getConformance() {
+			return this.conformance;
+		}
+
+		private boolean isComplete() {
+			return this.part != null && this.conformance != null;
+		}
+
+		private boolean set(String property, String value) {
+			if (PART.equals(property)) {
+				if (this.part != null || !isNumber(value)) {
+					return false;
+				}
+				this.part = Integer.valueOf(value);
+			} else if (CONFORMANCE.equals(property)) {
+				if (this.conformance != null || !isWord(value)) {
+					return false;
+				}
+				this.conformance = value;
+			}
+			return true;
+		}
+
+		private static boolean isNumber(String value) {
+			if (value.isEmpty() || value.length() > 9) {
+				return false;
+			}
+			for (int i = 0; i < value.length(); ++i) {
+				if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean isWord(String value) {
+			if (value.isEmpty()) {
+				return false;
+			}
+			for (int i = 0; i < value.length(); ++i) {
+				if (!Character.isLetterOrDigit(value.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -31,9 +31,11 @@ import org.verapdf.pd.colors.PDDeviceCMYK;
 import org.verapdf.pd.colors.PDDeviceGray;
 import org.verapdf.pd.colors.PDDeviceRGB;
 import org.verapdf.pd.font.PDFont;
+import org.verapdf.pd.images.PDXImage;
 import org.verapdf.pd.images.PDXObject;
 import org.verapdf.pd.patterns.PDPattern;
 import org.verapdf.pd.patterns.PDShading;
+import org.verapdf.pd.patterns.PDTilingPattern;
 
 /**
  * @author Timur Kamalov
@@ -47,6 +49,8 @@ public class PDResourcesHandler {
 
 	private final PDResources objectResources;
 
+	private boolean pageResourcesUsed = false;
+
 	private PDResourcesHandler(PDResources pageResources, boolean inheritedResources) {
 		this.pageResources = pageResources;
 		this.inheritedResources = inheritedResources;
@@ -86,13 +90,17 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			font = this.objectResources.getFont(name);
 			if (font == null) {
-				font = this.pageResources.getFont(name);
+				font = getPageResourcesForLookup().getFont(name);
 				setInherited(font, true);
 			}
 		} else {
-			font = this.pageResources.getFont(name);
+			font = getPageResourcesForLookup().getFont(name);
 			setInherited(font, inheritedResources);
 		}
+		if (font != null && ASAtom.TYPE3 == font.getSubtype()) {
+			// names in glyph descriptions are resolved in page resources
+			this.pageResourcesUsed = true;
+		}
 		return font;
 	}
 
@@ -111,14 +119,16 @@ public class PDResourcesHandler {
 			}
 			colorSpace = this.objectResources.getColorSpace(name);
 			if (colorSpace == null) {
-				colorSpace = this.pageResources.getColorSpace(name);
+				// names of device color spaces don't refer to page resources
+				colorSpace = (isDeviceDependent(name) ? this.pageResources : getPageResourcesForLookup())
+						.getColorSpace(name);
 				colorSpace = setColorSpaceInherited(colorSpace, true);
 			}
 		} else {
 			if (isDefaultColorSpaceUsed(name)) {
-				return this.pageResources.getDefaultColorSpace(name);
+				return getPageResourcesForLookup().getDefaultColorSpace(name);
 			}
-			colorSpace = this.pageResources.getColorSpace(name);
+			colorSpace = getPageResourcesForLookup().getColorSpace(name);
 			colorSpace = setColorSpaceInherited(colorSpace, inheritedResources);
 		}
 		return colorSpace;
@@ -136,13 +146,17 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			pattern = this.objectResources.getPattern(name);
 			if (pattern == null) {
-				pattern = this.pageResources.getPattern(name);
+				pattern = getPageResourcesForLookup().getPattern(name);
 				setInherited(pattern, true);
 			}
 		} else {
-			pattern = this.pageResources.getPattern(name);
+			pattern = getPageResourcesForLookup().getPattern(name);
 			setInherited(pattern, inheritedResources);
 		}
+		if (pattern instanceof PDTilingPattern) {
+			// names in the pattern content stream are resolved in page resources
+			this.pageResourcesUsed = true;
+		}
 		return pattern;
 	}
 
@@ -158,11 +172,11 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			shading = this.objectResources.getShading(name);
 			if (shading == null) {
-				shading = this.pageResources.getShading(name);
+				shading = getPageResourcesForLookup().getShading(name);
 				setInherited(shading, true);
 			}
 		} else {
-			shading = this.pageResources.getShading(name);
+			shading = getPageResourcesForLookup().getShading(name);
 			setInherited(shading, inheritedResources);
 		}
 		return shading;
@@ -180,13 +194,16 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			xObject = this.objectResources.getXObject(name);
 			if (xObject == null) {
-				xObject = this.pageResources.getXObject(name);
+				xObject = getPageResourcesForLookup().getXObject(name);
 				setInherited(xObject, true);
 			}
 		} else {
-			xObject = this.pageResources.getXObject(name);
+			xObject = getPageResourcesForLookup().getXObject(name);
 			setInherited(xObject, inheritedResources);
 		}
+		if (xObject != null && isResolvedLazily(xObject)) {
+			this.pageResourcesUsed = true;
+		}
 		return xObject;
 	}
 
@@ -202,11 +219,11 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			state = this.objectResources.getExtGState(name);
 			if (state == null) {
-				state = this.pageResources.getExtGState(name);
+				state = getPageResourcesForLookup().getExtGState(name);
 				setInherited(state, true);
 			}
 		} else {
-			state = this.pageResources.getExtGState(name);
+			state = getPageResourcesForLookup().getExtGState(name);
 			setInherited(state, inheritedResources);
 		}
 		return state;
@@ -224,11 +241,11 @@ public class PDResourcesHandler {
 		if (this.objectResources != null) {
 			res = this.objectResources.getProperties(name);
 			if (res == null) {
-				res = this.pageResources.getProperties(name);
+				res = getPageResourcesForLookup().getProperties(name);
 				setInherited(res, true);
 			}
 		} else {
-			res = this.pageResources.getProperties(name);
+			res = getPageResourcesForLookup().getProperties(name);
 			setInherited(res, inheritedResources);
 		}
 		return res;
@@ -263,6 +280,42 @@ public class PDResourcesHandler {
 		return this.pageResources;
 	}
 
+	/**
+	 * Form XObjects drawn on several pages share their parsed content, if
+	 * parsing of the form content didn't use page resources.
+	 *
+	 * @return true if names were looked up in page resources by this handler,
+	 * or if resources used by this handler resolve names in page resources later,
+	 * when their own content is parsed
+	 */
+	public boolean isPageResourcesUsed() {
+		return this.pageResourcesUsed;
+	}
+
+	/**
+	 * Marks page resources as used by an object, which resolves names in them
+	 * later, such as an inline image.
+	 */
+	public void setPageResourcesUsed() {
+		this.pageResourcesUsed = true;
+	}
+
+	private PDResources getPageResourcesForLookup() {
+		this.pageResourcesUsed = true;
+		return this.pageResources;
+	}
+
+	private static boolean isResolvedLazily(PDXObject xObject) {
+		if (ASAtom.FORM.equals(xObject.getType())) {
+			return true;
+		}
+		if (xObject instanceof PDXImage) {
+			ASAtom colorSpaceName = ((PDXImage) xObject).getImageCSName();
+			return colorSpaceName != null && !isDeviceDependent(colorSpaceName);
+		}
+		return false;
+	}
+
 	private boolean isDefaultColorSpaceUsed(ASAtom name) {
 		if (PDResourcesHandler.isDeviceDependent(name)) {
 			if (objectResources != null) {
@@ -0,0 +1,433 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.as.io.ASConcatenatedInputStream;
+import org.verapdf.as.io.ASInputStream;
+import org.verapdf.as.io.ASMemoryInStream;
+import org.verapdf.cos.*;
+import org.verapdf.parser.PDFStreamParser;
+import org.verapdf.pd.PDAnnotation;
+import org.verapdf.pd.PDAppearanceEntry;
+import org.verapdf.pd.PDAppearanceStream;
+import org.verapdf.pd.PDContentStream;
+import org.verapdf.pd.PDPage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decodes and tokenizes content streams of the pages around the page being
+ * validated on the given executor.
+ * <p>
+ * Parser objects are not thread safe, so the calling thread only copies the
+ * encoded stream bytes together with their filters. Decoding and tokenization
+ * work on these copies and don't touch the document. Streams with indirect
+ * decode parameters are decoded on the calling thread. The validator gets
+ * exactly the same tokens it would get from sequential parsing, so the
+ * resulting model does not depend on the executor.
+ * <p>
+ * Waiting for the executor goes through {@link ForkJoinPool#managedBlock}, so
+ * validation running on a fork join pool does not starve it.
+ */
+public class PageContentPrefetcher {
+
+	private static final Logger LOGGER = Logger.getLogger(PageContentPrefetcher.class.getCanonicalName());
+
+	public static final int DEFAULT_WINDOW = 4;
+
+	private final List<PDPage> pages;
+	private final Executor executor;
+	private final int window;
+
+	private final Map<Integer, PageTask> tasks = new HashMap<>();
+	private final Set<Integer> publishedPages = new HashSet<>();
+	private final Map<COSBase, PrefetchedContentStream> prefetched = new IdentityHashMap<>();
+	private int releasedBefore = 0;
+
+	public PageContentPrefetcher(List<PDPage> pages, Executor executor) {
+		this(pages, executor, DEFAULT_WINDOW);
+	}
+
+	public PageContentPrefetcher(List<PDPage> pages, Executor executor, int window) {
+		this.pages = pages;
+		this.executor = executor;
+		this.window = Math.max(window, 0);
+	}
+
+	/**
+	 * Waits until the content streams of the page with the given index are
+	 * tokenized and schedules decoding and tokenization of the neighbouring
+	 * pages. Pages that stay behind the window are released.
+	 *
+	 * @param pageIndex index of the page in the document
+	 */
+	public void awaitPage(int pageIndex) {
+		int from = Math.max(pageIndex - this.window, 0);
+		int to = Math.min(pageIndex + this.window, this.pages.size() - 1);
+		releasePagesBefore(from);
+		schedule(pageIndex);
+		for (int i = from; i <= to; ++i) {
+			schedule(i);
+		}
+		PageTask task = this.tasks.get(pageIndex);
+		if (task == null || !this.publishedPages.add(pageIndex)) {
+			return;
+		}
+		try {
+			ForkJoinPool.managedBlock(new TaskBlocker(task));
+			for (PrefetchedContentStream stream : task.get()) {
+				synchronized (this.prefetched) {
+					this.prefetched.put(stream.base, stream);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.log(Level.FINE, "Interrupted while waiting for page content", e);
+		} catch (ExecutionException | CancellationException e) {
+			LOGGER.log(Level.FINE, "Error while tokenizing page content", e);
+		}
+	}
+
+	/**
+	 * Removes tokenized content streams of the page that were not requested by
+	 * the model, so they don't stay in memory till the end of validation. If
+	 * tokenization of the page is not finished yet, it is cancelled and its
+	 * results are dropped.
+	 *
+	 * @param pageIndex index of the page in the document
+	 */
+	public void releasePage(int pageIndex) {
+		PageTask task = this.tasks.get(pageIndex);
+		if (task == null) {
+			return;
+		}
+		this.tasks.put(pageIndex, null);
+		if (!task.isDone() || !this.publishedPages.contains(pageIndex)) {
+			// tokens of not published pages never get to the prefetched map
+			task.release();
+			return;
+		}
+		try {
+			synchronized (this.prefetched) {
+				for (PrefetchedContentStream stream : task.get()) {
+					this.prefetched.remove(stream.base);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | CancellationException e) {
+			LOGGER.log(Level.FINE, "Error while tokenizing page content", e);
+		}
+	}
+
+	private void releasePagesBefore(int pageIndex) {
+		for (int i = this.releasedBefore; i < pageIndex; ++i) {
+			releasePage(i);
+		}
+		this.releasedBefore = Math.max(this.releasedBefore, pageIndex);
+	}
+
+	/**
+	 * Takes tokenized content of the stream, if it was prefetched.
+	 *
+	 * @param base content stream or array of content streams
+	 * @return prefetched content or null if there is no one for the given object
+	 */
+	public PrefetchedContentStream take(COSBase base) {
+		synchronized (this.prefetched) {
+			return this.prefetched.remove(base);
+		}
+	}
+
+	private void schedule(int pageIndex) {
+		if (this.tasks.containsKey(pageIndex)) {
+			return;
+		}
+		final List<PrefetchedContentStream> streams = new ArrayList<>();
+		PDPage page = this.pages.get(pageIndex);
+		readContentStream(page.getContent(), streams);
+		for (PDAnnotation annotation : page.getAnnotations()) {
+			readAppearanceEntry(annotation.getNormalAppearance(), streams);
+			readAppearanceEntry(annotation.getDownAppearance(), streams);
+			readAppearanceEntry(annotation.getRolloverAppearance(), streams);
+		}
+		PageTask task = new PageTask(new PageTokenizer(streams));
+		this.tasks.put(pageIndex, task);
+		this.executor.execute(task);
+	}
+
+	private static void readAppearanceEntry(PDAppearanceEntry entry, List<PrefetchedContentStream> streams) {
+		if (entry != null) {
+			if (entry.isSubDictionary()) {
+				for (PDAppearanceStream stream : entry.getSubDictionary().values()) {
+					readContentStream(stream, streams);
+				}
+			} else {
+				readContentStream(entry.getAppearanceStream(), streams);
+			}
+		}
+	}
+
+	private static void readContentStream(PDContentStream contentStream, List<PrefetchedContentStream> streams) {
+		if (contentStream == null) {
+			return;
+		}
+		COSObject contents = contentStream.getContents();
+		if (contents == null) {
+			return;
+		}
+		COSBase base = contents.getDirectBase();
+		List<EncodedStream> parts = new ArrayList<>();
+		try {
+			if (contents.getType() == COSObjType.COS_STREAM) {
+				parts.add(readEncodedStream(contents));
+			} else if (contents.getType() == COSObjType.COS_ARRAY) {
+				// COSArray.getData concatenates data of the stream elements only
+				for (COSObject element : (COSArray) base) {
+					if (element.getType() == COSObjType.COS_STREAM) {
+						parts.add(readEncodedStream(element));
+					}
+				}
+			} else {
+				return;
+			}
+			streams.add(new PrefetchedContentStream(base, parts));
+		} catch (IOException e) {
+			// the same error will be reported when the stream is parsed by the model
+			LOGGER.log(Level.FINE, "Error while reading content stream", e);
+		}
+	}
+
+	private static EncodedStream readEncodedStream(COSObject stream) throws IOException {
+		COSStream cosStream = (COSStream) stream.getDirectBase();
+		COSObject decodeParms = stream.getKey(ASAtom.DECODE_PARMS);
+		if (cosStream.getFilterFlags() == COSStream.FilterFlags.RAW_DATA || !isDirect(decodeParms)) {
+			// data of such streams is never decoded, resolving of indirect parameters needs the document
+			return new EncodedStream(readData(stream, COSStream.FilterFlags.DECODE), null, null);
+		}
+		return new EncodedStream(readData(stream, COSStream.FilterFlags.RAW_DATA), cosStream.getFilters(),
+				decodeParms);
+	}
+
+	private static ASMemoryInStream readData(COSObject stream, COSStream.FilterFlags flags) throws IOException {
+		try (ASInputStream data = stream.getData(flags)) {
+			if (data == null) {
+				throw new IOException("Can't read stream data");
+			}
+			return new ASMemoryInStream(data);
+		}
+	}
+
+	private static boolean isDirect(COSObject object) {
+		if (object == null || object.empty()) {
+			return true;
+		}
+		if (object.isIndirect().booleanValue()) {
+			return false;
+		}
+		if (object.getType() == COSObjType.COS_DICT) {
+			for (COSObject value : object.getValues()) {
+				if (!isDirect(value)) {
+					return false;
+				}
+			}
+		} else if (object.getType() == COSObjType.COS_ARRAY) {
+			for (COSObject element : (COSArray) object.getDirectBase()) {
+				if (!isDirect(element)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Copy of the stream data that can be decoded without the document: raw
+	 * bytes with the filters and direct decode parameters of the stream, or
+	 * already decoded bytes if filters is null.
+	 */
+	private static class EncodedStream {
+
+		private final ASMemoryInStream data;
+		private final COSFilters filters;
+		private final COSObject decodeParms;
+
+		private EncodedStream(ASMemoryInStream data, COSFilters filters, COSObject decodeParms) {
+			this.data = data;
+			this.filters = filters;
+			this.decodeParms = decodeParms;
+		}
+
+		private ASInputStream getDecodedData() throws IOException {
+			if (this.filters == null || this.filters.size() == 0) {
+				return this.data;
+			}
+			return this.filters.getInputStream(this.data, this.decodeParms);
+		}
+	}
+
+	/**
+	 * Tokenizes content streams of a single page. Released tokenizer skips the
+	 * streams that are not tokenized yet and drops their data.
+	 */
+	private static class PageTokenizer implements Callable<List<PrefetchedContentStream>> {
+
+		private volatile List<PrefetchedContentStream> streams;
+
+		private PageTokenizer(List<PrefetchedContentStream> streams) {
+			this.streams = streams;
+		}
+
+		@Override
+		public List<PrefetchedContentStream> call() {
+			List<PrefetchedContentStream> pageStreams = this.streams;
+			if (pageStreams == null) {
+				return Collections.emptyList();
+			}
+			for (PrefetchedContentStream stream : pageStreams) {
+				if (this.streams == null) {
+					return Collections.emptyList();
+				}
+				stream.tokenize();
+			}
+			return pageStreams;
+		}
+
+		private void release() {
+			this.streams = null;
+		}
+	}
+
+	private static class PageTask extends FutureTask<List<PrefetchedContentStream>> {
+
+		private final PageTokenizer tokenizer;
+
+		private PageTask(PageTokenizer tokenizer) {
+			super(tokenizer);
+			this.tokenizer = tokenizer;
+		}
+
+		/**
+		 * Cancels the task if it is not started yet. Running task stops after
+		 * the current stream and its result is dropped.
+		 */
+		private void release() {
+			this.tokenizer.release();
+			cancel(false);
+		}
+	}
+
+	private static class TaskBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final FutureTask<?> task;
+
+		private TaskBlocker(FutureTask<?> task) {
+			this.task = task;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			try {
+				this.task.get();
+			} catch (ExecutionException e) {
+				// reported by the caller
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.task.isDone();
+		}
+	}
+
+	/**
+	 * Tokens of a single content stream or array of content streams.
+	 */
+	public static class PrefetchedContentStream {
+
+		private final COSBase base;
+		private List<EncodedStream> parts;
+		private List<Object> tokens;
+		private List<Closeable> imageDataStreams;
+
+		private PrefetchedContentStream(COSBase base, List<EncodedStream> parts) {
+			this.base = base;
+			this.parts = parts;
+		}
+
+		private ASMemoryInStream decode() throws IOException {
+			if (this.parts.size() == 1) {
+				try (ASInputStream decoded = this.parts.get(0).getDecodedData()) {
+					return new ASMemoryInStream(decoded);
+				}
+			}
+			List<ASInputStream> decodedParts = new ArrayList<>(this.parts.size());
+			for (EncodedStream part : this.parts) {
+				decodedParts.add(part.getDecodedData());
+			}
+			try (ASInputStream decoded = new ASConcatenatedInputStream(decodedParts)) {
+				return new ASMemoryInStream(decoded);
+			}
+		}
+
+		private void tokenize() {
+			try {
+				PDFStreamParser streamParser = new PDFStreamParser(decode());
+				try {
+					streamParser.parseTokens();
+					this.tokens = streamParser.getTokens();
+				} finally {
+					streamParser.close();
+					this.imageDataStreams = streamParser.getImageDataStreams();
+				}
+			} catch (IOException e) {
+				LOGGER.log(Level.FINE, "Error while tokenizing content stream", e);
+				this.tokens = null;
+			} finally {
+				this.parts = null;
+			}
+		}
+
+		/**
+		 * @return tokens of the content stream or null if tokenization failed
+		 */
+		public List<Object> getTokens() {
+			return this.tokens;
+		}
+
+		public List<Closeable> getImageDataStreams() {
+			return this.imageDataStreams == null ?
+					Collections.<Closeable>emptyList() : this.imageDataStreams;
+		}
+	}
+}
@@ -21,7 +21,6 @@
 package org.verapdf.gf.model.impl.pd.util;
 
 import org.verapdf.as.ASAtom;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.util.*;
@@ -111,35 +110,57 @@ public class TaggedPDFRoleMapHelper {
 
 	private Map<ASAtom, ASAtom> roleMap;
 
+	// standard types of the role map keys, types that are not in the role map are mapped to themselves
+	private final Map<ASAtom, String> pdf14StandardTypes;
+	private final Map<ASAtom, String> pdf17StandardTypes;
+
 	/**
-	 * Creates new TaggedPDFRoleMapHelper
+	 * Creates new TaggedPDFRoleMapHelper and resolves standard types of all
+	 * custom types of the role map
 	 * @param roleMap role map from PDF
 	 */
 	public TaggedPDFRoleMapHelper(Map<ASAtom, ASAtom> roleMap) {
 		this.roleMap = roleMap == null ? Collections.<ASAtom, ASAtom>emptyMap() : new HashMap<>(roleMap);
+		this.pdf14StandardTypes = resolveRoleMap(PDF_1_4_STANDART_ROLE_TYPES, true);
+		this.pdf17StandardTypes = resolveRoleMap(PDF_1_7_STANDART_ROLE_TYPES, false);
 	}
 
 	/**
 	 * Obtains standart type for the given one
 	 * @param type the type for obtaining the standart
+	 * @param flavour flavour of the validated document
 	 * @return standart type for the given one or null in cases when there is
 	 * no standart for the given or there is a cycle of the custom types
 	 */
-	public String getStandardType(ASAtom type) {
+	public String getStandardType(ASAtom type, PDFAFlavour flavour) {
 		if (type == null) {
 			return null;
 		}
 		Set<String> currentStandardTypes;
-		boolean isFastStop;
-		PDFAFlavour flavour = StaticContainers.getFlavour();
+		Map<ASAtom, String> resolvedTypes;
 		if (flavour != null && flavour.getPart() == PDFAFlavour.Specification.ISO_19005_1) {
 			currentStandardTypes = PDF_1_4_STANDART_ROLE_TYPES;
-			isFastStop = true;
+			resolvedTypes = this.pdf14StandardTypes;
 		} else {
 			currentStandardTypes = PDF_1_7_STANDART_ROLE_TYPES;
-			isFastStop = false;
+			resolvedTypes = this.pdf17StandardTypes;
+		}
+		String standardType = resolvedTypes.get(type);
+		if (standardType != null || resolvedTypes.containsKey(type)) {
+			return standardType;
+		}
+		String typeValue = type.getValue();
+		return currentStandardTypes.contains(typeValue) ? typeValue : null;
+	}
+
+	private Map<ASAtom, String> resolveRoleMap(Set<String> currentStandardTypes, boolean isFastStop) {
+		Map<ASAtom, String> resolvedTypes = new HashMap<>();
+		for (ASAtom type : this.roleMap.keySet()) {
+			if (type != null) {
+				resolvedTypes.put(type, getStandardType(type, currentStandardTypes, isFastStop));
+			}
 		}
-		return getStandardType(type, currentStandardTypes, isFastStop);
+		return resolvedTypes;
 	}
 
 	private String getStandardType(ASAtom type, Set<String> currentStandardTypes, boolean isFastStop) {
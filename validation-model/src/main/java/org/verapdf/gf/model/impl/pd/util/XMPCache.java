@@ -0,0 +1,123 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import com.adobe.xmp.XMPException;
+import com.adobe.xmp.impl.VeraPDFMeta;
+import org.verapdf.cos.COSKey;
+import org.verapdf.cos.COSObject;
+import org.verapdf.pd.PDCatalog;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pd.PDMetadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parsed main XMP packet of a single document, so it is parsed once for flavour
+ * detection, {@link XMPChecker}, main and other metadata streams and the
+ * metadata fixer.
+ * <p>
+ * Parsing error of the main packet is cached as well and rethrown on every
+ * request. Other packets (page, font, image metadata) are parsed on every
+ * request and are not kept, so they can be collected after use.
+ */
+public class XMPCache {
+
+	private final COSKey mainMetadataKey;
+	private Object mainMetadata;
+	private boolean isMainMetadataParsed = false;
+
+	/**
+	 * Creates cache that does not keep any packet.
+	 */
+	public XMPCache() {
+		this.mainMetadataKey = null;
+	}
+
+	/**
+	 * @param document document which main XMP packet is cached
+	 */
+	public XMPCache(PDDocument document) {
+		PDCatalog catalog = document == null ? null : document.getCatalog();
+		PDMetadata metadata = catalog == null ? null : catalog.getMetadata();
+		this.mainMetadataKey = metadata == null ? null : getKey(metadata);
+	}
+
+	/**
+	 * Returns parsed XMP packet of the metadata stream. Returned main packet is
+	 * shared between all callers and must not be modified.
+	 *
+	 * @param metadata metadata stream
+	 * @return parsed XMP packet or null if the stream has no data
+	 * @throws XMPException if the packet can't be parsed
+	 * @throws IOException if the stream data can't be read
+	 */
+	public VeraPDFMeta getMetadata(PDMetadata metadata) throws XMPException, IOException {
+		if (!isMainMetadata(metadata)) {
+			return parse(metadata);
+		}
+		if (!this.isMainMetadataParsed) {
+			try {
+				this.mainMetadata = parse(metadata);
+			} catch (XMPException e) {
+				this.mainMetadata = e;
+			}
+			this.isMainMetadataParsed = true;
+		}
+		if (this.mainMetadata instanceof XMPException) {
+			throw (XMPException) this.mainMetadata;
+		}
+		return (VeraPDFMeta) this.mainMetadata;
+	}
+
+	/**
+	 * Removes parsed XMP packet of the metadata stream from the cache and hands
+	 * it over to the caller, which is then free to modify it.
+	 *
+	 * @param metadata metadata stream
+	 * @return parsed XMP packet or null if it is not cached or can't be parsed
+	 */
+	public VeraPDFMeta take(PDMetadata metadata) {
+		if (!isMainMetadata(metadata)) {
+			return null;
+		}
+		Object cached = this.mainMetadata;
+		this.mainMetadata = null;
+		this.isMainMetadataParsed = false;
+		return cached instanceof VeraPDFMeta ? (VeraPDFMeta) cached : null;
+	}
+
+	private boolean isMainMetadata(PDMetadata metadata) {
+		return this.mainMetadataKey != null && this.mainMetadataKey.equals(getKey(metadata));
+	}
+
+	private static COSKey getKey(PDMetadata metadata) {
+		COSObject object = metadata.getObject();
+		return object == null ? null : object.getObjectKey();
+	}
+
+	private static VeraPDFMeta parse(PDMetadata metadata) throws XMPException, IOException {
+		try (InputStream stream = metadata.getStream()) {
+			return stream == null ? null : VeraPDFMeta.parse(stream);
+		}
+	}
+}
@@ -30,7 +30,6 @@ import org.verapdf.pd.PDMetadata;
 import org.verapdf.tools.TypeConverter;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -73,16 +72,27 @@ public final class XMPChecker {
      * @return true if fields of xmp matches with fields of info dictionary
      */
     public static Boolean doesInfoMatchXMP(COSDocument document) {
+        return doesInfoMatchXMP(document, new XMPCache());
+    }
+
+    /**
+     * Matches properties of document information dictionary and xmp metadata.
+     *
+     * @param document which will be tested
+     * @param xmpCache parsed xmp packets of the document
+     * @return true if fields of xmp matches with fields of info dictionary
+     */
+    public static Boolean doesInfoMatchXMP(COSDocument document, XMPCache xmpCache) {
         COSObject info = getInformationDictionary(document);
         if (info == null) {
             return Boolean.TRUE;
         }
 
-        try (InputStream metadataStream = getMetadataStream(document)) {
-
-            if (metadataStream != null) {
-                VeraPDFMeta metadata = VeraPDFMeta.parse(metadataStream);
+        try {
+            PDMetadata meta = document.getPDDocument().getMetadata();
+            VeraPDFMeta metadata = meta == null ? null : xmpCache.getMetadata(meta);
 
+            if (metadata != null) {
                 Map<ASAtom, Object> properties = new HashMap<>(
                         MAX_REQUIRED_RECORDS);
 
@@ -105,14 +115,6 @@ public final class XMPChecker {
         return Boolean.FALSE;
     }
 
-    private static InputStream getMetadataStream(COSDocument document) throws IOException {
-        PDMetadata meta = document.getPDDocument().getMetadata();
-        if (meta != null) {
-            return meta.getStream();
-        }
-        return null;
-    }
-
     private static COSObject getInformationDictionary(COSDocument document) {
         final COSObject info = document.getTrailer().getInfo();
         if (info != null && info.getType() == COSObjType.COS_DICT) {
@@ -0,0 +1,97 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.tools;
+
+import org.verapdf.cos.COSBase;
+import org.verapdf.cos.COSKey;
+import org.verapdf.cos.COSObject;
+import org.verapdf.pd.PDObject;
+
+/**
+ * Identifies PD object by its underlying COS object: by object key for indirect
+ * objects and by reference for direct ones. Unlike {@code equals()} of COS objects
+ * it never compares object contents, so it is cheap to use as a cache key.
+ */
+public final class COSIdentity {
+
+	private final Object identity;
+
+	private COSIdentity(Object identity) {
+		this.identity = identity;
+	}
+
+	/**
+	 * @param object PD object
+	 * @return identity of the object, or null if the object is null
+	 */
+	public static COSIdentity of(PDObject object) {
+		if (object == null) {
+			return null;
+		}
+		COSObject cosObject = object.getObject();
+		if (cosObject == null || cosObject.empty()) {
+			return new COSIdentity(object);
+		}
+		return of(cosObject);
+	}
+
+	/**
+	 * @param cosObject COS object
+	 * @return identity of the object, or null if the object is null
+	 */
+	public static COSIdentity of(COSObject cosObject) {
+		if (cosObject == null) {
+			return null;
+		}
+		if (cosObject.empty()) {
+			return new COSIdentity(cosObject);
+		}
+		COSKey key = cosObject.getObjectKey();
+		if (key != null) {
+			return new COSIdentity(key);
+		}
+		COSBase base = cosObject.getDirectBase();
+		return new COSIdentity(base == null ? cosObject : base);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		Object other = ((COSIdentity) o).identity;
+		if (this.identity instanceof COSKey) {
+			return this.identity.equals(other);
+		}
+		return this.identity == other;
+	}
+
+	@Override
+	public int hashCode() {
+		if (this.identity instanceof COSKey) {
+			return this.identity.hashCode();
+		}
+		return System.identityHashCode(this.identity);
+	}
+}
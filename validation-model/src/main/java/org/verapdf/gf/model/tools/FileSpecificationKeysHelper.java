@@ -22,7 +22,7 @@ package org.verapdf.gf.model.tools;
 
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
-import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.pd.*;
 import org.verapdf.pd.font.PDFont;
 import org.verapdf.pd.font.type3.PDType3Font;
@@ -35,10 +35,7 @@ import org.verapdf.pd.patterns.PDTilingPattern;
 import org.verapdf.pd.structure.PDStructElem;
 import org.verapdf.pd.structure.PDStructTreeNode;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.logging.Logger;
 
 /**
@@ -47,66 +44,87 @@ import java.util.logging.Logger;
 public class FileSpecificationKeysHelper {
 	private final static Logger LOGGER = Logger.getLogger(FileSpecificationKeysHelper.class.getCanonicalName());
 
-	private static Set<COSKey> visitedKeys = new HashSet<>();
+	private final Set<COSKey> visitedKeys = new HashSet<>();
+	private final Set<COSKey> fileSpecificationKeys;
 
-	public static void registerFileSpecificationKeys(COSDocument document) {
+	private FileSpecificationKeysHelper(Set<COSKey> fileSpecificationKeys) {
+		// instance keeps the state of a single document walk
+		this.fileSpecificationKeys = fileSpecificationKeys;
+	}
+
+	public static void registerFileSpecificationKeys(COSDocument document, ValidationContext context) {
 		PDDocument pdDocument = document.getPDDocument();
 		if (pdDocument == null) {
 			return;
 		}
+		FileSpecificationKeysHelper helper = new FileSpecificationKeysHelper(context.getFileSpecificationKeys());
 		PDCatalog catalog = pdDocument.getCatalog();
 		if (catalog != null) {
-			registerDictionaryAFKeys(catalog.getObject());
-			processStructElements(catalog.getStructTreeRoot());
+			helper.registerDictionaryAFKeys(catalog.getObject());
+			helper.processStructElements(catalog.getStructTreeRoot());
 		}
 		List<PDPage> pages = pdDocument.getPages();
 		for (PDPage page : pages) {
-			processPage(page);
+			helper.processPage(page);
 		}
-		visitedKeys.clear();
 	}
 
-	public static void registerFileSpecificationKeys(COSArray array) {
+	public static void registerFileSpecificationKeys(COSArray array, ValidationContext context) {
+		registerFileSpecificationKeys(array, context.getFileSpecificationKeys());
+	}
+
+	private static void registerFileSpecificationKeys(COSArray array, Set<COSKey> fileSpecificationKeys) {
 		for (COSObject element : array) {
-			addElementKey(element);
+			addElementKey(element, fileSpecificationKeys);
 		}
 	}
 
-	private static void processStructElements(PDStructTreeNode structureNode) {
-		if (structureNode != null) {
+	private void processStructElements(PDStructTreeNode structTreeRoot) {
+		if (structTreeRoot == null) {
+			return;
+		}
+		Set<COSBase> visitedElements = Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>());
+		Deque<PDStructTreeNode> stack = new ArrayDeque<>();
+		stack.push(structTreeRoot);
+		while (!stack.isEmpty()) {
+			PDStructTreeNode structureNode = stack.pop();
 			for (PDStructElem obj : structureNode.getChildren()) {
-				registerDictionaryAFKeys(obj.getObject());
-				processStructElements(obj);
+				if (visitedElements.add(obj.getObject().getDirectBase())) {
+					registerDictionaryAFKeys(obj.getObject());
+					stack.push(obj);
+				}
 			}
 		}
 	}
 
-	private static void processPage(PDPage page) {
+	private void processPage(PDPage page) {
 		if (page != null) {
 			registerDictionaryAFKeys(page.getObject());
+			Deque<PDResources> resourcesStack = new ArrayDeque<>();
 			for (PDAnnotation annotation : page.getAnnotations()) {
 				if (annotation != null) {
 					registerDictionaryAFKeys(annotation.getObject());
 					for (PDAppearanceStream stream : getAllAppearances(annotation)) {
-						processXObject(stream);
+						processXObject(stream, resourcesStack);
 					}
 				}
 			}
-			parseResources(page.getResources());
+			pushResources(page.getResources(), resourcesStack);
+			parseResources(resourcesStack);
 		}
 	}
 
-	private static void processXObject(PDXObject xObject) {
+	private void processXObject(PDXObject xObject, Deque<PDResources> resourcesStack) {
 		if (xObject != null && !isKeyVisited(xObject.getObject().getKey())) {
 			registerDictionaryAFKeys(xObject.getObject());
 			if (ASAtom.FORM.equals(xObject.getType())) {
-				parseResources(((PDXForm) xObject).getResources());
+				pushResources(((PDXForm) xObject).getResources(), resourcesStack);
 			} else if (ASAtom.FORM.equals(xObject.getType())) {
 				PDXImage image = (PDXImage) xObject;
-				processXObject(image.getMask());
-				processXObject(image.getMask());
+				processXObject(image.getMask(), resourcesStack);
+				processXObject(image.getMask(), resourcesStack);
 				for (PDXImage obj : image.getAlternates()) {
-					processXObject(obj);
+					processXObject(obj, resourcesStack);
 				}
 			}
 		}
@@ -140,95 +158,108 @@ public class FileSpecificationKeysHelper {
 		}
 	}
 
-	private static void registerDictionaryAFKeys(COSObject dictionary) {
+	private void registerDictionaryAFKeys(COSObject dictionary) {
 		if (dictionary == null || !(dictionary.getType().isDictionaryBased())) {
 			return;
 		}
 		COSObject af = dictionary.getKey(ASAtom.AF);
 		if (af != null && af.getType() == COSObjType.COS_ARRAY) {
-			registerFileSpecificationKeys((COSArray) af.getDirectBase());
+			registerFileSpecificationKeys((COSArray) af.getDirectBase(), this.fileSpecificationKeys);
 		}
 	}
 
-	private static void processExtGState(PDExtGState extGState) {
+	private void processExtGState(PDExtGState extGState, Deque<PDResources> resourcesStack) {
 		if (extGState != null && !isKeyVisited(extGState.getObject().getKey())) {
-			processFont(extGState.getFont());
+			processFont(extGState.getFont(), resourcesStack);
 		}
 	}
 
-	private static void processFont(PDFont font) {
+	private void processFont(PDFont font, Deque<PDResources> resourcesStack) {
 		if (font != null
 				&& !isKeyVisited(font.getObject().getKey())
 				&& ASAtom.TYPE3.equals(font.getSubtype())) {
-			parseResources(((PDType3Font) font).getResources());
+			pushResources(((PDType3Font) font).getResources(), resourcesStack);
 		}
 	}
 
-	private static void processPattern(PDPattern pattern) {
+	private void processPattern(PDPattern pattern, Deque<PDResources> resourcesStack) {
 		if (pattern != null && !isKeyVisited(pattern.getObject().getKey())) {
 			if (pattern.getPatternType() == 1) {
-				parseResources(((PDTilingPattern) pattern).getResources());
+				pushResources(((PDTilingPattern) pattern).getResources(), resourcesStack);
 			} else if (pattern.getPatternType() == 2) {
-				processExtGState(((PDShadingPattern) pattern).getExtGState());
+				processExtGState(((PDShadingPattern) pattern).getExtGState(), resourcesStack);
 			}
 		}
 	}
 
-	private static void parseResources(PDResources resources) {
+	private void pushResources(PDResources resources, Deque<PDResources> resourcesStack) {
 		if (resources != null) {
-			parseResourcesXObjects(resources);
-			parseResourcesExtGState(resources);
-			parseResourcesPatterns(resources);
-			parseResourcesFonts(resources);
+			resourcesStack.push(resources);
+		}
+	}
+
+	/**
+	 * Processes resources from the stack together with all resources nested in
+	 * them. Nested resources of form XObjects, tiling patterns and Type3 fonts
+	 * are pushed to the same stack, so deeply nested forms don't overflow the
+	 * call stack.
+	 */
+	private void parseResources(Deque<PDResources> resourcesStack) {
+		while (!resourcesStack.isEmpty()) {
+			PDResources resources = resourcesStack.pop();
+			parseResourcesXObjects(resources, resourcesStack);
+			parseResourcesExtGState(resources, resourcesStack);
+			parseResourcesPatterns(resources, resourcesStack);
+			parseResourcesFonts(resources, resourcesStack);
 		}
 	}
 
-	private static void parseResourcesPatterns(PDResources resources) {
+	private void parseResourcesPatterns(PDResources resources, Deque<PDResources> resourcesStack) {
 		for (ASAtom name : resources.getPatternNames()) {
 			PDPattern pattern = resources.getPattern(name);
-			processPattern(pattern);
+			processPattern(pattern, resourcesStack);
 		}
 	}
 
-	private static void parseResourcesExtGState(PDResources resources) {
+	private void parseResourcesExtGState(PDResources resources, Deque<PDResources> resourcesStack) {
 		for (ASAtom name : resources.getExtGStateNames()) {
 			PDExtGState extGState = resources.getExtGState(name);
-			processExtGState(extGState);
+			processExtGState(extGState, resourcesStack);
 		}
 	}
 
-	private static void parseResourcesXObjects(PDResources resources) {
+	private void parseResourcesXObjects(PDResources resources, Deque<PDResources> resourcesStack) {
 		for (ASAtom name : resources.getXObjectNames()) {
 			PDXObject xObject = resources.getXObject(name);
-			processXObject(xObject);
+			processXObject(xObject, resourcesStack);
 
 		}
 	}
 
-	private static void parseResourcesFonts(PDResources resources) {
+	private void parseResourcesFonts(PDResources resources, Deque<PDResources> resourcesStack) {
 		for (ASAtom name : resources.getFontNames()) {
 			PDFont font = resources.getFont(name);
-			processFont(font);
+			processFont(font, resourcesStack);
 		}
 	}
 
-	private static void addElementKey(COSObject element) {
+	private static void addElementKey(COSObject element, Set<COSKey> fileSpecificationKeys) {
 		if (element != null) {
 			COSBase directBase = element.getDirectBase();
 			if (directBase != null) {
 				COSKey key = directBase.getObjectKey();
 				if (key != null) {
-					StaticContainers.getFileSpecificationKeys().add(key);
+					fileSpecificationKeys.add(key);
 				}
 			}
 		}
 	}
 
-	private static boolean isKeyVisited(COSKey key) {
-		if (visitedKeys.contains(key)) {
+	private boolean isKeyVisited(COSKey key) {
+		if (this.visitedKeys.contains(key)) {
 			return true;
 		}
-		visitedKeys.add(key);
+		this.visitedKeys.add(key);
 		return false;
 	}
 }
@@ -0,0 +1,98 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.tools;
+
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
+import org.verapdf.pd.structure.StructureElementAccessObject;
+
+/**
+ * Key of the glyph in the glyph cache. It contains the same parts as glyph ID,
+ * but is compared by primitive values, so ID string is built only once for each
+ * distinct glyph instead of for every shown character code.
+ */
+public final class GlyphKey {
+
+	private final int fontHashCode;
+	private final String fontName;
+	private final int glyphCode;
+	private final int renderingMode;
+	private final GFOpMarkedContent markedContent;
+	private final int markedContentHashCode;
+	private final StructureElementAccessObject structureElementAccessObject;
+	private final int structureElementAccessHashCode;
+	private final int hashCode;
+
+	public GlyphKey(int fontHashCode, String fontName, int glyphCode, int renderingMode,
+					GFOpMarkedContent markedContent, StructureElementAccessObject structureElementAccessObject) {
+		this.fontHashCode = fontHashCode;
+		// glyph ID contains "null" for a missing font name
+		this.fontName = String.valueOf(fontName);
+		this.glyphCode = glyphCode;
+		this.renderingMode = renderingMode;
+		this.markedContent = markedContent;
+		this.markedContentHashCode = markedContent == null ? 0 : markedContent.hashCode();
+		this.structureElementAccessObject = structureElementAccessObject;
+		this.structureElementAccessHashCode = structureElementAccessObject == null ? 0 :
+				structureElementAccessObject.hashCode();
+		int result = fontHashCode;
+		result = 31 * result + this.fontName.hashCode();
+		result = 31 * result + glyphCode;
+		result = 31 * result + renderingMode;
+		result = 31 * result + this.markedContentHashCode;
+		result = 31 * result + this.structureElementAccessHashCode;
+		this.hashCode = result;
+	}
+
+	/**
+	 * @return glyph ID, equal to the one generated by
+	 * {@link GFIDGenerator#generateID(int, String, int, int, GFOpMarkedContent, StructureElementAccessObject)}
+	 */
+	public String toID() {
+		return GFIDGenerator.generateID(this.fontHashCode, this.fontName, this.glyphCode, this.renderingMode,
+				this.markedContent, this.structureElementAccessObject);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		GlyphKey that = (GlyphKey) o;
+		// marked content and structure element are compared the same way as in glyph ID
+		return this.hashCode == that.hashCode &&
+				this.glyphCode == that.glyphCode &&
+				this.fontHashCode == that.fontHashCode &&
+				this.renderingMode == that.renderingMode &&
+				this.markedContentHashCode == that.markedContentHashCode &&
+				(this.markedContent == null) == (that.markedContent == null) &&
+				this.structureElementAccessHashCode == that.structureElementAccessHashCode &&
+				(this.structureElementAccessObject == null) == (that.structureElementAccessObject == null) &&
+				this.fontName.equals(that.fontName);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+}
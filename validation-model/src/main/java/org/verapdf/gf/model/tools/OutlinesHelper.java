@@ -20,6 +20,8 @@
  */
 package org.verapdf.gf.model.tools;
 
+import org.verapdf.cos.COSBase;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.pd.GFPDOutline;
 import org.verapdf.model.pdlayer.PDOutline;
 import org.verapdf.pd.PDCatalog;
@@ -37,12 +39,12 @@ public class OutlinesHelper {
 		// disable default constructor
 	}
 
-	public static List<PDOutline> getOutlines(PDCatalog catalog) {
+	public static List<PDOutline> getOutlines(PDCatalog catalog, ValidationContext context) {
 		Map<String, PDOutlineItem> outlines = getOutlinesMap(catalog);
 		if (outlines.size() > 0) {
 			List<PDOutline> result = new ArrayList<>(outlines.size());
 			for (Map.Entry<String, PDOutlineItem> entry : outlines.entrySet()) {
-				result.add(new GFPDOutline(entry.getValue(), entry.getKey()));
+				result.add(new GFPDOutline(entry.getValue(), entry.getKey(), context));
 			}
 			outlines.clear();
 			return Collections.unmodifiableList(result);
@@ -68,14 +70,19 @@ public class OutlinesHelper {
 
 	private static Map<String, PDOutlineItem> getOutlinesMap(Deque<PDOutlineItem> stack) {
 		Map<String, PDOutlineItem> result = new HashMap<>();
+		Set<COSBase> visitedItems = Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>());
 		do {
 			PDOutlineItem item = stack.pop();
+			if (!visitedItems.add(item.getObject().getDirectBase())) {
+				// outline items with Next or First entries looping back
+				continue;
+			}
 			PDOutlineItem nextSibling = item.getNext();
 			PDOutlineItem firstChild = item.getFirst();
-			if (nextSibling != null && !result.containsKey(nextSibling)) {
+			if (nextSibling != null) {
 				stack.add(nextSibling);
 			}
-			if (firstChild != null && !result.containsKey(firstChild)) {
+			if (firstChild != null) {
 				stack.add(firstChild);
 			}
 			result.put(GFIDGenerator.generateID(item), item);
@@ -23,6 +23,7 @@ package org.verapdf.gf.model.visitor.cos.pb;
 import org.verapdf.as.ASAtom;
 import org.verapdf.cos.*;
 import org.verapdf.cos.visitor.ICOSVisitor;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
 import org.verapdf.gf.model.impl.cos.*;
 
 /**
@@ -30,11 +31,14 @@ import org.verapdf.gf.model.impl.cos.*;
  */
 public class GFCosVisitor implements ICOSVisitor {
 
-    private GFCosVisitor() {
+    private final ValidationContext context;
+
+    private GFCosVisitor(ValidationContext context) {
+        this.context = context;
     }
 
-    public static GFCosVisitor getInstance() {
-        return new GFCosVisitor();
+    public static GFCosVisitor getInstance(ValidationContext context) {
+        return new GFCosVisitor(context);
     }
 
     /** {@inheritDoc} Create a GFCosArray for corresponding COSArray.
@@ -43,7 +47,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromArray(COSArray obj) {
-        return new GFCosArray(obj);
+        return new GFCosArray(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosBool for corresponding COSBoolean.
@@ -66,7 +70,7 @@ public class GFCosVisitor implements ICOSVisitor {
     public Object visitFromDictionary(COSDictionary obj) {
         ASAtom type = obj.getNameKey(ASAtom.TYPE);
         boolean isFileSpec = type != null && ASAtom.FILESPEC.equals(type);
-        return isFileSpec ? new GFCosFileSpecification(obj) : new GFCosDict(obj);
+        return isFileSpec ? new GFCosFileSpecification(obj, this.context) : new GFCosDict(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosDocument for corresponding COSDocument.
@@ -75,7 +79,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromDocument(COSDocument obj) {
-        return new GFCosDocument(obj);
+        return new GFCosDocument(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosReal for corresponding COSReal.
@@ -84,7 +88,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromReal(COSReal obj) {
-        return new GFCosReal(obj);
+        return new GFCosReal(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosInteger for corresponding COSInteger.
@@ -93,7 +97,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromInteger(COSInteger obj) {
-        return new GFCosInteger(obj);
+        return new GFCosInteger(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosName for corresponding COSName.
@@ -102,7 +106,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromName(COSName obj) {
-        return new GFCosName(obj);
+        return new GFCosName(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosNull for corresponding COSNull.
@@ -120,7 +124,7 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromStream(COSStream obj) {
-        return new GFCosStream(obj);
+        return new GFCosStream(obj, this.context);
     }
 
     /** {@inheritDoc} Create a GFCosString for corresponding COSString.
@@ -129,15 +133,15 @@ public class GFCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromString(COSString obj) {
-        return new GFCosString(obj);
+        return new GFCosString(obj, this.context);
     }
 
-    public static Object visitFromIndirect(COSIndirect obj) {
+    public static Object visitFromIndirect(COSIndirect obj, ValidationContext context) {
         //for cases when there's an indirect reference to a non-existing object
         if (obj.getDirect() == null) {
             return GFCosNull.getInstance();
         }
-        return new GFCosIndirect(obj);
+        return new GFCosIndirect(obj, context);
     }
 
 }
\ No newline at end of file
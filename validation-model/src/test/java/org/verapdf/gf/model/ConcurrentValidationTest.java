@@ -0,0 +1,287 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.pdfa.PDFAValidator;
+import org.verapdf.pdfa.VeraGreenfieldFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+import org.verapdf.pdfa.results.TestAssertion;
+import org.verapdf.pdfa.results.ValidationResult;
+import org.verapdf.pdfa.validation.validators.ValidatorFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Validates the same set of documents sequentially and on many threads at
+ * once, with and without the parallel and memory saving model options, and
+ * checks that all validation results are the same.
+ */
+public class ConcurrentValidationTest {
+
+	private static final int THREADS = 32;
+	private static final int ROUNDS = 3;
+	private static final int VARIANTS = 4;
+	private static final PDFAFlavour[] FLAVOURS = {PDFAFlavour.PDFA_2_B, PDFAFlavour.PDFA_3_B};
+
+	private static final List<byte[]> DOCUMENTS = new ArrayList<>();
+
+	@BeforeClass
+	public static void createDocuments() {
+		VeraGreenfieldFoundryProvider.initialise();
+		for (int i = 0; i < VARIANTS; ++i) {
+			DOCUMENTS.add(createTaggedDocument(i));
+			DOCUMENTS.add(createFormsDocument(i));
+			DOCUMENTS.add(createSignedDocument(i));
+			DOCUMENTS.add(createDocumentWithAttachment(i));
+		}
+	}
+
+	@Test
+	public void testConcurrentValidation() throws Exception {
+		Map<Task, String> expected = validateSequentially(Options.NONE);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < ROUNDS; ++round) {
+				Map<Task, Future<String>> results = new LinkedHashMap<>();
+				for (final Task task : expected.keySet()) {
+					results.put(task, executor.submit(new Callable<String>() {
+						@Override
+						public String call() throws Exception {
+							return validate(task, Options.NONE);
+						}
+					}));
+				}
+				for (Map.Entry<Task, Future<String>> result : results.entrySet()) {
+					Assert.assertEquals("Round " + round + ", " + result.getKey(),
+							expected.get(result.getKey()), result.getValue().get());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testModelOptions() throws Exception {
+		Map<Task, String> expected = validateSequentially(Options.NONE);
+		for (Options options : Options.values()) {
+			Assert.assertEquals(options.name(), expected, validateSequentially(options));
+		}
+	}
+
+	private static Map<Task, String> validateSequentially(Options options) throws Exception {
+		Map<Task, String> results = new LinkedHashMap<>();
+		for (int i = 0; i < DOCUMENTS.size(); ++i) {
+			for (PDFAFlavour flavour : FLAVOURS) {
+				Task task = new Task(i, flavour);
+				results.put(task, validate(task, options));
+			}
+		}
+		return results;
+	}
+
+	private static String validate(Task task, Options options) throws Exception {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(DOCUMENTS.get(task.document)), task.flavour)) {
+			options.apply(parser);
+			PDFAValidator validator = ValidatorFactory.createValidator(task.flavour, false);
+			return summarize(validator.validate(parser));
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	static String summarize(ValidationResult result) {
+		List<String> assertions = new ArrayList<>();
+		for (TestAssertion assertion : result.getTestAssertions()) {
+			assertions.add(assertion.getStatus() + " " + assertion.getRuleId().getClause() + "-" +
+					assertion.getRuleId().getTestNumber() + " " + assertion.getLocation().getContext());
+		}
+		Collections.sort(assertions);
+		StringBuilder builder = new StringBuilder();
+		builder.append("compliant: ").append(result.isCompliant()).append('\n');
+		for (String assertion : assertions) {
+			builder.append(assertion).append('\n');
+		}
+		return builder.toString();
+	}
+
+	private static byte[] createTaggedDocument(int variant) {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int fileSpec = pdf.add("<< /Type /Filespec /F (data" + variant + ".xml) /UF (data" + variant +
+				".xml) /AFRelationship /Data >>");
+		int root = pdf.reserve();
+		int page = pdf.reserve();
+		int paragraph = pdf.add("<< /Type /StructElem /S /P /P " + ref(root) + " /Pg " + ref(page) +
+				" /K 0 /AF [" + ref(fileSpec) + "] >>");
+		int parentTree = pdf.add("<< /Nums [0 [" + ref(paragraph) + "]] >>");
+		pdf.set(root, "<< /Type /StructTreeRoot /K [" + ref(paragraph) + "] /ParentTree " + ref(parentTree) +
+				" /RoleMap << /Para /P >> >>");
+		String content = "/P << /MCID 0 >> BDC BT /F1 12 Tf 10 10 Td (Tagged text " + variant + ") Tj ET EMC";
+		return finishDocument(pdf, page, "", " /StructParents 0", content,
+				" /MarkInfo << /Marked true >> /StructTreeRoot " + ref(root), 1);
+	}
+
+	private static byte[] createFormsDocument(int variant) {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int graphics = pdf.addStream("/Type /XObject /Subtype /Form /BBox [0 0 50 50]" +
+				" /Resources << /ExtGState << /G0 << /CA 0.5 /ca 0.5 >> >> >>",
+				"/G0 gs 0 0 1 rg 0 0 " + (10 + variant) + " 10 re f");
+		int text = pdf.addStream("/Type /XObject /Subtype /Form /BBox [0 0 50 50]",
+				"BT /F1 10 Tf 0 0 Td (Form " + variant + ") Tj ET");
+		int page = pdf.reserve();
+		String content = "q /Fm0 Do Q q 1 0 0 1 20 20 cm /Fm0 Do Q /Fm1 Do q 1 0 0 1 40 40 cm /Fm1 Do Q";
+		return finishDocument(pdf, page, " /XObject << /Fm0 " + ref(graphics) + " /Fm1 " + ref(text) + " >>", "",
+				content, "", 6);
+	}
+
+	private static byte[] createSignedDocument(int variant) {
+		SyntheticPDF pdf = new SyntheticPDF();
+		StringBuilder contents = new StringBuilder("3082");
+		for (int i = 0; i < 64; ++i) {
+			contents.append(Integer.toHexString((variant * 31 + i) % 16));
+		}
+		int signature = pdf.add("<< /Type /Sig /Filter /Adobe.PPKLite /SubFilter /adbe.pkcs7.detached" +
+				" /ByteRange [0 10 20 " + (30 + variant) + "] /Contents <" + contents + "> >>");
+		int page = pdf.reserve();
+		int field = pdf.add("<< /Type /Annot /Subtype /Widget /FT /Sig /T (Signature" + variant + ") /V " +
+				ref(signature) + " /Rect [0 0 0 0] /F 132 /P " + ref(page) + " >>");
+		return finishDocument(pdf, page, "", " /Annots [" + ref(field) + "]",
+				"BT /F1 12 Tf 10 10 Td (Signed " + variant + ") Tj ET",
+				" /AcroForm << /Fields [" + ref(field) + "] /SigFlags 3 >>", 1);
+	}
+
+	private static byte[] createDocumentWithAttachment(int variant) {
+		byte[] attachment = createTaggedDocument(variant);
+		SyntheticPDF pdf = new SyntheticPDF();
+		int embeddedFile = pdf.addStream("/Type /EmbeddedFile /Subtype /application#2Fpdf",
+				new String(attachment, StandardCharsets.ISO_8859_1));
+		int fileSpec = pdf.add("<< /Type /Filespec /F (tagged.pdf) /UF (tagged.pdf) /EF << /F " +
+				ref(embeddedFile) + " >> /AFRelationship /Source >>");
+		int page = pdf.reserve();
+		return finishDocument(pdf, page, "", "", "0 0 1 rg 0 0 10 10 re f",
+				" /Names << /EmbeddedFiles << /Names [(tagged.pdf) " + ref(fileSpec) + "] >> >> /AF [" +
+						ref(fileSpec) + "]", 1);
+	}
+
+	/**
+	 * Adds pages sharing the same content stream and resources.
+	 *
+	 * @param page             reserved number of the first page
+	 * @param resources        entries added to the page resources besides the font
+	 * @param firstPageEntries entries added to the first page dictionary
+	 */
+	private static byte[] finishDocument(SyntheticPDF pdf, int page, String resources, String firstPageEntries,
+										 String content, String catalogEntries, int pageCount) {
+		int font = pdf.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+		int resourcesNumber = pdf.add("<< /Font << /F1 " + ref(font) + " >>" + resources + " >>");
+		int contents = pdf.addStream("", content);
+		int pages = pdf.reserve();
+		StringBuilder kids = new StringBuilder();
+		for (int i = 0; i < pageCount; ++i) {
+			int pageNumber = i == 0 ? page : pdf.reserve();
+			pdf.set(pageNumber, "<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources " +
+					ref(resourcesNumber) + " /Contents " + ref(contents) + (i == 0 ? firstPageEntries : "") + " >>");
+			kids.append(ref(pageNumber)).append(' ');
+		}
+		pdf.set(pages, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageCount + " >>");
+		int catalog = pdf.add("<< /Type /Catalog /Pages " + ref(pages) + catalogEntries + " >>");
+		return pdf.toBytes(catalog);
+	}
+
+	private enum Options {
+		NONE {
+			@Override
+			void apply(GFModelParser parser) {
+			}
+		},
+		PARALLEL_PAGES {
+			@Override
+			void apply(GFModelParser parser) {
+				parser.enableParallelPageParsing();
+			}
+		},
+		WINDOWED_PAGES {
+			@Override
+			void apply(GFModelParser parser) {
+				parser.setWindowedPageModel(true);
+			}
+		},
+		STREAMING_CONTENT {
+			@Override
+			void apply(GFModelParser parser) {
+				parser.setStreamingContentParsing(true);
+			}
+		},
+		ALL {
+			@Override
+			void apply(GFModelParser parser) {
+				parser.enableParallelPageParsing();
+				parser.setWindowedPageModel(true);
+				parser.setEmbeddedFileValidationExecutor(ForkJoinPool.commonPool());
+			}
+		};
+
+		abstract void apply(GFModelParser parser);
+	}
+
+	private static final class Task {
+
+		private final int document;
+		private final PDFAFlavour flavour;
+
+		private Task(int document, PDFAFlavour flavour) {
+			this.document = document;
+			this.flavour = flavour;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Task that = (Task) o;
+			return this.document == that.document && this.flavour == that.flavour;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.document + this.flavour.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "document " + this.document + ", " + this.flavour;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.pdfa.PDFAValidator;
+import org.verapdf.pdfa.VeraGreenfieldFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+import org.verapdf.pdfa.validation.validators.ValidatorFactory;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Validates multi-page documents with annotation appearances and transparency
+ * groups with and without parallel page parsing and checks that the results
+ * are the same.
+ */
+public class ParallelPageParsingTest {
+
+	private static final int PAGES = 24;
+	private static final PDFAFlavour[] FLAVOURS = {PDFAFlavour.PDFA_1_B, PDFAFlavour.PDFA_2_B};
+
+	@BeforeClass
+	public static void initialise() {
+		VeraGreenfieldFoundryProvider.initialise();
+	}
+
+	@Test
+	public void testParallelPageParsing() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (boolean isShared : new boolean[]{false, true}) {
+				byte[] document = createDocument(isShared);
+				for (PDFAFlavour flavour : FLAVOURS) {
+					String expected = validate(document, flavour, null);
+					Assert.assertEquals("shared " + isShared + ", " + flavour, expected,
+							validate(document, flavour, executor));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static String validate(byte[] document, PDFAFlavour flavour, ExecutorService executor)
+			throws Exception {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(new ByteArrayInputStream(document),
+				flavour)) {
+			parser.setPageParsingExecutor(executor);
+			PDFAValidator validator = ValidatorFactory.createValidator(flavour, false);
+			return ConcurrentValidationTest.summarize(validator.validate(parser));
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	/**
+	 * @param isShared true if all pages and annotations use the same streams,
+	 *                 false if each page has streams of its own
+	 */
+	private static byte[] createDocument(boolean isShared) {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int font = pdf.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+		int resources = pdf.add("<< /Font << /F1 " + ref(font) + " >> /ExtGState << /G0 << /CA 0.5 /ca 0.5" +
+				" /BM /Multiply >> >> >>");
+		int pages = pdf.reserve();
+		StringBuilder kids = new StringBuilder();
+		int sharedContent = -1;
+		int sharedAppearance = -1;
+		for (int i = 0; i < PAGES; ++i) {
+			int variant = isShared ? 0 : i;
+			if (!isShared || sharedContent == -1) {
+				sharedContent = pdf.addStream("", "q /G0 gs 1 0 0 rg 10 10 " + (20 + variant) +
+						" 20 re f Q BT /F1 12 Tf 10 60 Td (Page " + variant + ") Tj ET");
+				sharedAppearance = pdf.addStream("/Type /XObject /Subtype /Form /BBox [0 0 40 20] /Resources " +
+						ref(resources) + " /Group << /S /Transparency /CS /DeviceRGB >>",
+						"/G0 gs 0 0 1 rg 0 0 40 20 re f BT /F1 8 Tf 2 6 Td (Note " + variant + ") Tj ET");
+			}
+			int page = pdf.reserve();
+			int link = pdf.add("<< /Type /Annot /Subtype /Link /Rect [0 0 20 20] /F 4 /Border [0 0 0]" +
+					" /Dest [" + ref(page) + " /Fit] >>");
+			int stamp = pdf.add("<< /Type /Annot /Subtype /Stamp /Rect [50 50 90 70] /F 4 /P " + ref(page) +
+					" /AP << /N " + ref(sharedAppearance) + " >> >>");
+			String group = i % 2 == 0 ? " /Group << /S /Transparency /CS /DeviceRGB /I true >>" : "";
+			pdf.set(page, "<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources " +
+					ref(resources) + " /Contents " + ref(sharedContent) + " /Annots [" + ref(link) + " " +
+					ref(stamp) + "]" + group + " >>");
+			kids.append(ref(page)).append(' ');
+		}
+		pdf.set(pages, "<< /Type /Pages /Kids [" + kids + "] /Count " + PAGES + " >>");
+		int catalog = pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>");
+		return pdf.toBytes(catalog);
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes small PDF files with a classic cross reference table for the tests,
+ * so documents of any size and structure are generated instead of being kept
+ * as test resources.
+ */
+public class SyntheticPDF {
+
+	private final List<String> objects = new ArrayList<>();
+
+	/**
+	 * Reserves the number of the next object, its body is set later by
+	 * {@link #set(int, String)}.
+	 *
+	 * @return object number
+	 */
+	public int reserve() {
+		this.objects.add(null);
+		return this.objects.size();
+	}
+
+	/**
+	 * @param body object body without obj and endobj keywords
+	 * @return object number
+	 */
+	public int add(String body) {
+		int number = reserve();
+		set(number, body);
+		return number;
+	}
+
+	/**
+	 * @param dictionary entries of the stream dictionary except Length
+	 * @param data       stream data written as ISO-8859-1 characters
+	 * @return object number
+	 */
+	public int addStream(String dictionary, String data) {
+		return add("<< " + dictionary + " /Length " + data.length() + " >>\nstream\n" + data + "\nendstream");
+	}
+
+	public void set(int number, String body) {
+		this.objects.set(number - 1, body);
+	}
+
+	public static String ref(int number) {
+		return number + " 0 R";
+	}
+
+	/**
+	 * @param root number of the catalog object
+	 * @return bytes of the PDF file
+	 */
+	public byte[] toBytes(int root) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, "%PDF-1.7\n%\u00e2\u00e3\u00cf\u00d3\n");
+		long[] offsets = new long[this.objects.size()];
+		for (int i = 0; i < this.objects.size(); ++i) {
+			offsets[i] = out.size();
+			String body = this.objects.get(i);
+			write(out, (i + 1) + " 0 obj\n" + (body == null ? "null" : body) + "\nendobj\n");
+		}
+		long xref = out.size();
+		StringBuilder builder = new StringBuilder();
+		builder.append("xref\n0 ").append(this.objects.size() + 1).append('\n');
+		builder.append("0000000000 65535 f \n");
+		for (long offset : offsets) {
+			builder.append(String.format("%010d 00000 n \n", Long.valueOf(offset)));
+		}
+		builder.append("trailer\n<< /Size ").append(this.objects.size() + 1)
+				.append(" /Root ").append(ref(root))
+				.append(" /ID [<0123456789ABCDEF0123456789ABCDEF> <0123456789ABCDEF0123456789ABCDEF>] >>\n");
+		builder.append("startxref\n").append(xref).append("\n%%EOF\n");
+		write(out, builder.toString());
+		return out.toByteArray();
+	}
+
+	private static void write(ByteArrayOutputStream out, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+		out.write(bytes, 0, bytes.length);
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.factory.colors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.as.ASAtom;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.pd.colors.GFPDDeviceCMYK;
+import org.verapdf.gf.model.impl.pd.colors.GFPDDeviceGray;
+import org.verapdf.gf.model.impl.pd.colors.GFPDDeviceRGB;
+import org.verapdf.model.pdlayer.PDColorSpace;
+import org.verapdf.pd.PDPage;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+public class ColorSpaceCacheTest {
+
+	private static final ASAtom INDIRECT = ASAtom.getASAtom("CS0");
+	private static final ASAtom DIRECT = ASAtom.getASAtom("CS1");
+	private static final int[] VARIANTS = {ColorSpaceCache.getVariant(0, false), ColorSpaceCache.getVariant(0, true),
+			ColorSpaceCache.getVariant(1, false), ColorSpaceCache.getVariant(1, true)};
+	private static final List<PDColorSpace> VALUES = Arrays.<PDColorSpace>asList(GFPDDeviceGray.getInstance(),
+			GFPDDeviceRGB.getInstance(), GFPDDeviceCMYK.getInstance(), GFPDDeviceCMYK.getInheritedInstance());
+
+	@Test
+	public void testVariants() {
+		Assert.assertEquals(ColorSpaceCache.DEFAULT_VARIANT, ColorSpaceCache.getVariant(0, false));
+		for (int i = 0; i < VARIANTS.length; ++i) {
+			for (int j = 0; j < i; ++j) {
+				Assert.assertNotEquals(VARIANTS[i], VARIANTS[j]);
+			}
+		}
+		Assert.assertEquals(ColorSpaceCache.NOT_CACHED_VARIANT, ColorSpaceCache.getVariant(2, false));
+	}
+
+	@Test
+	public void testIndirectColorSpaceIsCachedByKey() throws Exception {
+		try (GFModelParser parser = createParser()) {
+			List<PDPage> pages = parser.getPDDocument().getPages();
+			org.verapdf.pd.colors.PDColorSpace first = pages.get(0).getResources().getColorSpace(INDIRECT);
+			org.verapdf.pd.colors.PDColorSpace second = pages.get(1).getResources().getColorSpace(INDIRECT);
+			Assert.assertNotNull(first.getObject().getObjectKey());
+
+			ColorSpaceCache cache = new ColorSpaceCache();
+			putVariants(cache, first);
+			// another parser object of the same indirect colour space finds the same entry
+			assertVariants(cache, second);
+			Assert.assertEquals(VARIANTS.length, cache.getHits());
+			Assert.assertEquals(VARIANTS.length, cache.getMisses());
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	@Test
+	public void testDirectColorSpaceIsCachedByIdentity() throws Exception {
+		try (GFModelParser parser = createParser()) {
+			List<PDPage> pages = parser.getPDDocument().getPages();
+			org.verapdf.pd.colors.PDColorSpace first = pages.get(0).getResources().getColorSpace(DIRECT);
+			org.verapdf.pd.colors.PDColorSpace second = pages.get(1).getResources().getColorSpace(DIRECT);
+			Assert.assertNull(first.getObject().getObjectKey());
+			Assert.assertNotSame(first, second);
+
+			ColorSpaceCache cache = new ColorSpaceCache();
+			putVariants(cache, first);
+			assertVariants(cache, first);
+			// equal direct colour space of other resources is a different object
+			for (int variant : VARIANTS) {
+				Assert.assertNull(cache.get(second, variant));
+			}
+			Assert.assertEquals(VARIANTS.length, cache.getHits());
+			Assert.assertEquals(2 * VARIANTS.length, cache.getMisses());
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	@Test
+	public void testNotCachedVariantIsNotCounted() throws Exception {
+		try (GFModelParser parser = createParser()) {
+			org.verapdf.pd.colors.PDColorSpace colorSpace =
+					parser.getPDDocument().getPages().get(0).getResources().getColorSpace(INDIRECT);
+			ColorSpaceCache cache = new ColorSpaceCache();
+			cache.put(colorSpace, ColorSpaceCache.NOT_CACHED_VARIANT, GFPDDeviceRGB.getInstance());
+			Assert.assertNull(cache.get(colorSpace, ColorSpaceCache.NOT_CACHED_VARIANT));
+			for (int variant : VARIANTS) {
+				Assert.assertNull(cache.get(colorSpace, variant));
+			}
+			Assert.assertEquals(0, cache.getHits());
+			Assert.assertEquals(VARIANTS.length, cache.getMisses());
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static void putVariants(ColorSpaceCache cache, org.verapdf.pd.colors.PDColorSpace colorSpace) {
+		for (int i = 0; i < VARIANTS.length; ++i) {
+			Assert.assertNull(cache.get(colorSpace, VARIANTS[i]));
+			cache.put(colorSpace, VARIANTS[i], VALUES.get(i));
+		}
+	}
+
+	private static void assertVariants(ColorSpaceCache cache, org.verapdf.pd.colors.PDColorSpace colorSpace) {
+		for (int i = 0; i < VARIANTS.length; ++i) {
+			Assert.assertSame(VALUES.get(i), cache.get(colorSpace, VARIANTS[i]));
+		}
+	}
+
+	private static GFModelParser createParser() throws Exception {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int colorSpace = pdf.add("[/CalRGB << /WhitePoint [0.9505 1 1.089] >>]");
+		String resources = "<< /ColorSpace << /CS0 " + ref(colorSpace) +
+				" /CS1 [/CalRGB << /WhitePoint [0.9505 1 1.089] >>] >> >>";
+		int pages = pdf.reserve();
+		int first = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources " +
+				resources + " >>");
+		int second = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources " +
+				resources + " >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(first) + " " + ref(second) + "] /Count 2 >>");
+		byte[] bytes = pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+		return GFModelParser.createModelWithFlavour(new ByteArrayInputStream(bytes), PDFAFlavour.PDFA_2_B);
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.factory.fonts;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.textshow.GFOpTextShow;
+import org.verapdf.gf.model.impl.pd.GFPDContentStream;
+import org.verapdf.gf.model.impl.pd.GFPDPage;
+import org.verapdf.gf.model.impl.pd.font.GFPDType3Font;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Type3 fonts are cached by the font, rendering mode, page resources and
+ * inherited graphic state, so text operators share the font model and its
+ * parsed glyph procedures only on pages with the same resources.
+ */
+public class FontFactoryTest {
+
+	private static final int SHARED_RESOURCES_PAGES = 2;
+	private static final int OWN_RESOURCES_PAGES = 2;
+
+	@Test
+	public void testType3FontIsCachedPerPageResources() throws Exception {
+		List<List<Object>> fonts = getType3Fonts(createDocument());
+		for (List<Object> pageFonts : fonts) {
+			Assert.assertEquals(2, pageFonts.size());
+			Assert.assertTrue(pageFonts.get(0) instanceof GFPDType3Font);
+			// text operators of the same page share the font
+			Assert.assertSame(pageFonts.get(0), pageFonts.get(1));
+		}
+		// pages with the same resources share the font
+		Assert.assertSame(fonts.get(0).get(0), fonts.get(1).get(0));
+		// pages with their own resources don't
+		for (int i = SHARED_RESOURCES_PAGES; i < fonts.size(); ++i) {
+			for (int j = 0; j < i; ++j) {
+				Assert.assertNotSame(fonts.get(j).get(0), fonts.get(i).get(0));
+			}
+		}
+	}
+
+	private static byte[] createDocument() {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int charProc = pdf.addStream("", "1000 0 0 0 750 750 d1 0 0 750 750 re f");
+		int font = pdf.add("<< /Type /Font /Subtype /Type3 /FontBBox [0 0 750 750]" +
+				" /FontMatrix [0.001 0 0 0.001 0 0] /CharProcs << /a " + ref(charProc) + " >>" +
+				" /Encoding << /Type /Encoding /Differences [97 /a] >> /FirstChar 97 /LastChar 97" +
+				" /Widths [1000] >>");
+		String resources = "<< /Font << /T3 " + ref(font) + " >> >>";
+		int sharedResources = pdf.add(resources);
+		int contents = pdf.addStream("", "BT /T3 12 Tf 10 10 Td (a) Tj (aa) Tj ET");
+		int pages = pdf.reserve();
+		StringBuilder kids = new StringBuilder();
+		for (int i = 0; i < SHARED_RESOURCES_PAGES + OWN_RESOURCES_PAGES; ++i) {
+			String pageResources = i < SHARED_RESOURCES_PAGES ? ref(sharedResources) : resources;
+			int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources " +
+					pageResources + " /Contents " + ref(contents) + " >>");
+			kids.append(ref(page)).append(' ');
+		}
+		pdf.set(pages, "<< /Type /Pages /Kids [" + kids + "] /Count " +
+				(SHARED_RESOURCES_PAGES + OWN_RESOURCES_PAGES) + " >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+
+	/**
+	 * @return fonts of the text operators of every page
+	 */
+	private static List<List<Object>> getType3Fonts(byte[] bytes) throws Exception {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(bytes), PDFAFlavour.PDFA_2_B)) {
+			ValidationContext context = parser.getValidationContext();
+			List<List<Object>> result = new ArrayList<>();
+			for (org.verapdf.pd.PDPage page : parser.getPDDocument().getPages()) {
+				List<Object> fonts = new ArrayList<>();
+				GFPDContentStream pageContent =
+						(GFPDContentStream) new GFPDPage(page, context).getLinkedObjects("contentStream").get(0);
+				for (Object operator : pageContent.getLinkedObjects(GFPDContentStream.OPERATORS)) {
+					if (operator instanceof GFOpTextShow) {
+						fonts.add(operator.getLinkedObjects(GFOpTextShow.FONT).get(0));
+					}
+				}
+				result.add(fonts);
+			}
+			return result;
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.factory.operators;
+
+import org.verapdf.as.io.ASInputStream;
+import org.verapdf.cos.COSStream;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
+import org.verapdf.gf.model.impl.pd.util.PDResourcesHandler;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.parser.PDFStreamParser;
+import org.verapdf.pd.PDPage;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Measures conversion of content stream tokens to operators: time and bytes
+ * allocated per operator, and lookup of operator codes by the table of
+ * {@link OperatorCode} compared with a hash map of operator names. It is not
+ * run by the build, run the main method with the test classpath on HotSpot:
+ * <p>
+ * {@code java -cp <test classpath> org.verapdf.gf.model.factory.operators.OperatorParsingBenchmark [lines]}
+ * <p>
+ * The content stream has the given number of text and path lines, 2000 by
+ * default, with 17 operators each.
+ */
+public class OperatorParsingBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 50;
+	private static final int ITERATIONS = 200;
+	private static final int LOOKUP_ITERATIONS = 200;
+
+	public static void main(String[] args) throws Exception {
+		int lines = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		com.sun.management.ThreadMXBean threadBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(createDocument(lines)), PDFAFlavour.PDFA_2_B)) {
+			ValidationContext context = parser.getValidationContext();
+			PDPage page = parser.getPDDocument().getPages().get(0);
+			List<Object> tokens = getTokens(page);
+			PDResourcesHandler resources = PDResourcesHandler.getInstance(page.getResources(),
+					page.isInheritedResources().booleanValue());
+			IndexedStructureElementAccessObject accessObject = new IndexedStructureElementAccessObject(page.getObject());
+
+			int operators = 0;
+			for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+				operators = parse(tokens, resources, accessObject, context);
+			}
+			long bytes = threadBean.getThreadAllocatedBytes(threadId);
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i) {
+				parse(tokens, resources, accessObject, context);
+			}
+			long time = System.nanoTime() - start;
+			bytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+			long total = (long) operators * ITERATIONS;
+			System.out.println("Operators per stream: " + operators);
+			System.out.println("OperatorFactory.operatorsFromTokens: " + time / total + " ns/op, " +
+					bytes / total + " B/op");
+
+			List<String> names = getOperatorNames(tokens);
+			measureLookup(names);
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static int parse(List<Object> tokens, PDResourcesHandler resources,
+							 IndexedStructureElementAccessObject accessObject, ValidationContext context) {
+		List<Operator> operators = new OperatorFactory(context).operatorsFromTokens(tokens, resources, null,
+				accessObject);
+		return operators.size();
+	}
+
+	private static void measureLookup(List<String> names) {
+		Map<String, OperatorCode> map = new HashMap<>();
+		for (OperatorCode code : OperatorCode.values()) {
+			if (code.getOperatorName() != null) {
+				map.put(code.getOperatorName(), code);
+			}
+		}
+		// names of operator tokens are new strings, their hash codes are not computed yet
+		List<String[]> copies = new ArrayList<>(LOOKUP_ITERATIONS);
+		for (int i = 0; i < LOOKUP_ITERATIONS; ++i) {
+			String[] copy = new String[names.size()];
+			for (int j = 0; j < copy.length; ++j) {
+				copy[j] = new String(names.get(j).toCharArray());
+			}
+			copies.add(copy);
+		}
+		int matches = 0;
+		long start = System.nanoTime();
+		for (String[] copy : copies.subList(0, LOOKUP_ITERATIONS / 2)) {
+			for (String name : copy) {
+				matches += OperatorCode.getOperatorCode(name).ordinal();
+			}
+		}
+		long table = System.nanoTime() - start;
+		start = System.nanoTime();
+		for (String[] copy : copies.subList(LOOKUP_ITERATIONS / 2, LOOKUP_ITERATIONS)) {
+			for (String name : copy) {
+				OperatorCode code = map.get(name);
+				matches -= (code == null ? OperatorCode.UNDEFINED : code).ordinal();
+			}
+		}
+		long hashMap = System.nanoTime() - start;
+		if (matches != 0) {
+			throw new IllegalStateException("Lookups returned different codes");
+		}
+		long total = (long) names.size() * (LOOKUP_ITERATIONS / 2);
+		System.out.println("OperatorCode.getOperatorCode: " + table * 1000 / total + " ps/op");
+		System.out.println("HashMap.get:                  " + hashMap * 1000 / total + " ps/op");
+	}
+
+	private static List<Object> getTokens(PDPage page) throws Exception {
+		try (ASInputStream data = page.getContent().getContents().getDirectBase()
+				.getData(COSStream.FilterFlags.DECODE)) {
+			PDFStreamParser streamParser = new PDFStreamParser(data);
+			try {
+				streamParser.parseTokens();
+				return new ArrayList<>(streamParser.getTokens());
+			} finally {
+				streamParser.close();
+			}
+		}
+	}
+
+	private static List<String> getOperatorNames(List<Object> tokens) {
+		List<String> names = new ArrayList<>();
+		for (Object token : tokens) {
+			if (token instanceof org.verapdf.operator.Operator) {
+				names.add(((org.verapdf.operator.Operator) token).getOperator());
+			}
+		}
+		return names;
+	}
+
+	private static byte[] createDocument(int lines) {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < lines; ++i) {
+			content.append("BT /F1 10 Tf 1 0 0 1 10 ").append(i % 700).append(" Tm (Line ").append(i)
+					.append(") Tj 0 -12 Td [(A) -20 (B)] TJ ET\n")
+					.append("q 0.5 g 0 0 1 rg 1 0 0 1 5 5 cm 0 0 10 10 re f 0 0 m 10 10 l S Q\n");
+		}
+		SyntheticPDF pdf = new SyntheticPDF();
+		int font = pdf.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+		int contents = pdf.addStream("", content.toString());
+		int pages = pdf.reserve();
+		int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 700 700] /Resources" +
+				" << /Font << /F1 " + ref(font) + " >> >> /Contents " + ref(contents) + " >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class EmbeddedFileResultCacheTest {
+
+	private static final String FIRST = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+	private static final String SECOND = "fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210";
+	private static final String THIRD = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testMemoryEntries() {
+		EmbeddedFileResultCache cache = new EmbeddedFileResultCache(2, null);
+		Assert.assertNull(cache.get(FIRST));
+		cache.put(FIRST, true);
+		cache.put(SECOND, false);
+		Assert.assertEquals(Boolean.TRUE, cache.get(FIRST));
+		// the least recently used verdict is evicted
+		cache.put(THIRD, true);
+		Assert.assertEquals(Boolean.TRUE, cache.get(FIRST));
+		Assert.assertNull(cache.get(SECOND));
+		Assert.assertEquals(Boolean.TRUE, cache.get(THIRD));
+	}
+
+	@Test
+	public void testDiskEntries() throws IOException {
+		File directory = new File(this.folder.getRoot(), "verdicts");
+		EmbeddedFileResultCache cache = new EmbeddedFileResultCache(1, directory);
+		cache.put(FIRST, true);
+		cache.put(SECOND, false);
+		// evicted from memory, read from disk
+		Assert.assertEquals(Boolean.TRUE, cache.get(FIRST));
+
+		EmbeddedFileResultCache reopened = new EmbeddedFileResultCache(1, directory);
+		Assert.assertEquals(Boolean.TRUE, reopened.get(FIRST));
+		Assert.assertEquals(Boolean.FALSE, reopened.get(SECOND));
+		Assert.assertNull(reopened.get(THIRD));
+		String[] files = directory.list();
+		Assert.assertNotNull(files);
+		Assert.assertEquals(2, files.length);
+	}
+
+	@Test
+	public void testDamagedDiskEntry() throws IOException {
+		File directory = this.folder.newFolder("verdicts");
+		Files.write(new File(directory, FIRST).toPath(), "val".getBytes(StandardCharsets.US_ASCII));
+		EmbeddedFileResultCache cache = new EmbeddedFileResultCache(1, directory);
+		Assert.assertNull(cache.get(FIRST));
+		cache.put(FIRST, false);
+		Assert.assertEquals(Boolean.FALSE, new EmbeddedFileResultCache(1, directory).get(FIRST));
+	}
+
+	@Test
+	public void testInvalidDigests() throws IOException {
+		File directory = this.folder.newFolder("verdicts");
+		Files.write(new File(this.folder.getRoot(), "outside").toPath(), "valid".getBytes(StandardCharsets.US_ASCII));
+		EmbeddedFileResultCache cache = new EmbeddedFileResultCache(1, directory);
+		String[] digests = {null, "", "../outside", FIRST.substring(1), FIRST + "0", FIRST.toUpperCase(),
+				FIRST.substring(3) + "/.."};
+		for (String digest : digests) {
+			try {
+				cache.get(digest);
+				Assert.fail("Digest " + digest + " is accepted");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			try {
+				cache.put(digest, true);
+				Assert.fail("Digest " + digest + " is accepted");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		String[] files = directory.list();
+		Assert.assertNotNull(files);
+		Assert.assertEquals(0, files.length);
+	}
+}
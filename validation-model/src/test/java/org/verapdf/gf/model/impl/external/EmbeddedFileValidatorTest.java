@@ -0,0 +1,116 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSObject;
+import org.verapdf.cos.COSStream;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pdfa.VeraGreenfieldFoundryProvider;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+public class EmbeddedFileValidatorTest {
+
+	@BeforeClass
+	public static void initialise() {
+		VeraGreenfieldFoundryProvider.initialise();
+	}
+
+	@Test
+	public void testValidationOnCallingThread() throws Exception {
+		byte[] document = createDocumentWithAttachment(createDocumentWithAttachment(createDocument()));
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(new ByteArrayInputStream(document),
+				PDFAFlavour.PDFA_3_B)) {
+			ValidationContext context = parser.getValidationContext();
+			Assert.assertFalse(context.getEmbeddedFileValidator().isValidPDFA12(getEmbeddedFile(parser.getPDDocument())));
+			// the embedded document is validated on this thread, the context of the parent is restored
+			Assert.assertSame(context, StaticContainers.getBoundContext());
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	@Test
+	public void testQueuedValidationIsRunByWaitingThread() throws Exception {
+		final AtomicInteger submitted = new AtomicInteger();
+		// never runs submitted tasks
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				submitted.incrementAndGet();
+			}
+		};
+		byte[] document = createDocumentWithAttachment(createDocumentWithAttachment(createDocument()));
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(new ByteArrayInputStream(document),
+				PDFAFlavour.PDFA_3_B)) {
+			parser.setEmbeddedFileValidationExecutor(executor);
+			ValidationContext context = parser.getValidationContext();
+			Assert.assertFalse(context.getEmbeddedFileValidator().isValidPDFA12(getEmbeddedFile(parser.getPDDocument())));
+			Assert.assertSame(context, StaticContainers.getBoundContext());
+			// the attachment of the embedded document is submitted to the same executor
+			Assert.assertTrue(submitted.get() >= 2);
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static COSStream getEmbeddedFile(PDDocument document) {
+		COSObject fileSpec = document.getCatalog().getNamesDictionary().getEmbeddedFiles().getNames().values()
+				.iterator().next();
+		return (COSStream) fileSpec.getKey(ASAtom.EF).getKey(ASAtom.F).getDirectBase();
+	}
+
+	private static byte[] createDocument() {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int pages = pdf.reserve();
+		int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+
+	private static byte[] createDocumentWithAttachment(byte[] attachment) {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int embeddedFile = pdf.addStream("/Type /EmbeddedFile /Subtype /application#2Fpdf",
+				new String(attachment, StandardCharsets.ISO_8859_1));
+		int fileSpec = pdf.add("<< /Type /Filespec /F (attachment.pdf) /UF (attachment.pdf) /EF << /F " +
+				ref(embeddedFile) + " >> /AFRelationship /Source >>");
+		int pages = pdf.reserve();
+		int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) +
+				" /Names << /EmbeddedFiles << /Names [(attachment.pdf) " + ref(fileSpec) + "] >> >> /AF [" +
+				ref(fileSpec) + "] >>"));
+	}
+}
@@ -0,0 +1,229 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.external;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.cos.COSString;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+import sun.security.pkcs.PKCS7;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public class PKCSDataScannerTest {
+
+    // one signer without signed attributes, signer certificate and one more certificate
+    private static final byte[] TWO_CERTIFICATES = Base64.getDecoder().decode(
+            "MIIE/QYJKoZIhvcNAQcCoIIE7jCCBOoCAQExDTALBglghkgBZQMEAgEwCwYJKoZIhvcNAQcBoIID+TCCAfQwggFdoAMCAQIC" +
+            "FGMuUKDtd5RvxqHXmtJZQMAvNpwEMA0GCSqGSIb3DQEBCwUAMAwxCjAIBgNVBAMMAXQwHhcNMjYxMDE3MDE0NDE1WhcNMjYx" +
+            "MDE4MDE0NDE1WjAMMQowCAYDVQQDDAF0MIGfMA0GCSqGSIb3DQEBAQUAA4GNADCBiQKBgQC2TAYG/yqNE4A8rcvcaS48CXGX" +
+            "WnI/+4Rs3eZX+H8jpha8plaq6k0rMY7KQScRpIdqPCMFPnokD4zip4NBdpavPcAROvDeLNzBKBRM5+xFJMrucAgQ67A38Lx6" +
+            "P3yqqXGFACDnYA2VV92NJxq6LrWDqrqgRwsEBMZHLWzDCz2eqwIDAQABo1MwUTAdBgNVHQ4EFgQUMpp5+SMk+V8y28lf6w4K" +
+            "0OMkBZwwHwYDVR0jBBgwFoAUMpp5+SMk+V8y28lf6w4K0OMkBZwwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOB" +
+            "gQCw+3Jt51jSxdsioa/NdVhu8b2kEVIlVwoTF5vDuZekQVn0wUbDHvvr39YmklIFHZS6My1gieD2+dybAELk+55hM7O6MY+M" +
+            "K+SzVIV+Lvuxt7pnmQ0rrwTsp1pnr67owGaiGjqxPEti9Y59FSU2Nw8eCaYL+D5QaHMQG0FjVdw7dzCCAf0wggFmoAMCAQIC" +
+            "E2qGvGT2Kpc88qLxtqoEQX2xRU8wDQYJKoZIhvcNAQELBQAwETEPMA0GA1UEAwwGc2Vjb25kMB4XDTI2MTAxNzAyMTEzN1oX" +
+            "DTI2MTAyNzAyMTEzN1owETEPMA0GA1UEAwwGc2Vjb25kMIGfMA0GCSqGSIb3DQEBAQUAA4GNADCBiQKBgQDMzu4WEhQsDg99" +
+            "eByY84/LQmm5RDj/QxR2ldw0qI3eQXHSuqJkiIKy5aDRGeCk+fLwt2eT0ojMM6SbicLhk6KhnQ/pGRlDgTEIpud4SjO8ycVe" +
+            "CblTVySRUJEwRIZxXakT3kW7iQcWP/W6CqAOPRBxw9QnZhc3B7FeZ7uVb6d+awIDAQABo1MwUTAdBgNVHQ4EFgQUBXNiZ2dL" +
+            "RmFZjyZhvy27gEpUz/YwHwYDVR0jBBgwFoAUBXNiZ2dLRmFZjyZhvy27gEpUz/YwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG" +
+            "9w0BAQsFAAOBgQBCU6MH78wbMHhRI56NNn+yuvn9Dbwh2bsrWsEctz+/UY1bEr3JO8u7ebaWkYY13BrobtOmmf/X3RGsQ2HH" +
+            "khYFxHt2Dv18k6FYwcAcRK07yU8HUO24YHBIFXrIBf/rgsrthv5nzLOKCXiLjZuDrwfuwCY1g/BDAfxERdv4PXyJiDGByzCB" +
+            "yAIBATAkMAwxCjAIBgNVBAMMAXQCFGMuUKDtd5RvxqHXmtJZQMAvNpwEMAsGCWCGSAFlAwQCATANBgkqhkiG9w0BAQEFAASB" +
+            "gHjbzD//j//zbtxmby9qmDqBTZtULpGxAlTT6OXZr8gbK4/WNjgK1Iq1BY+Fu6HQhG7aZyaoPWiH47+gjiEzHlXn7HXBnrTc" +
+            "PCHL2/cCQA15O8JxszQ+nsf7coIBTXwrDvsOwISEWU+I+JallH5RMhzhHn9hH1DGFqaMQls/Fkkl");
+
+    // one signer with signed attributes, no certificates
+    private static final byte[] NO_CERTIFICATES = Base64.getDecoder().decode(
+            "MIIB6QYJKoZIhvcNAQcCoIIB2jCCAdYCAQExDTALBglghkgBZQMEAgEwCwYJKoZIhvcNAQcBMYIBszCCAa8CAQEwJDAMMQow" +
+            "CAYDVQQDDAF0AhRjLlCg7XeUb8ah15rSWUDALzacBDALBglghkgBZQMEAgGggeQwGAYJKoZIhvcNAQkDMQsGCSqGSIb3DQEH" +
+            "ATAcBgkqhkiG9w0BCQUxDxcNMjYxMDE3MDIxMTM3WjAvBgkqhkiG9w0BCQQxIgQgmOpuTyFvL7S2n/+bOkSELDhobKaF8/Vd" +
+            "xIxdP7EQe+QweQYJKoZIhvcNAQkPMWwwajALBglghkgBZQMEASowCwYJYIZIAWUDBAEWMAsGCWCGSAFlAwQBAjAKBggqhkiG" +
+            "9w0DBzAOBggqhkiG9w0DAgICAIAwDQYIKoZIhvcNAwICAUAwBwYFKw4DAgcwDQYIKoZIhvcNAwICASgwDQYJKoZIhvcNAQEB" +
+            "BQAEgYBgvo04EpQAT+tsFdoK4e+BsxPAvi6kToLz5pyHF04v92bmcV3SX4PyzpNW4Jxmr8f+5a7VLqY2lOa0QhHUIP9rs4DH" +
+            "wQIulKyfwp0qu1Kt2kscjaiJwy5EduUkjh2GrA1leB8mceLRM+VlQejE7+NyMWstyO28qqdjb0eQVofi5Q==");
+
+    @Test
+    public void testCertificates() throws Exception {
+        PKCSDataScanner.Summary summary = PKCSDataScanner.scan(TWO_CERTIFICATES);
+        Assert.assertNotNull(summary);
+        X509Certificate[] certificates = new PKCS7(TWO_CERTIFICATES).getCertificates();
+        List<byte[]> encodedCertificates = summary.getCertificates();
+        Assert.assertEquals(2, encodedCertificates.size());
+        for (int i = 0; i < certificates.length; ++i) {
+            Assert.assertArrayEquals(certificates[i].getEncoded(), encodedCertificates.get(i));
+        }
+        PKCS7 withoutCertificates = new PKCS7(summary.getDataWithoutCertificates());
+        Assert.assertNull(withoutCertificates.getCertificates());
+        Assert.assertEquals(1, withoutCertificates.getSignerInfos().length);
+        Assert.assertEquals(new PKCS7(TWO_CERTIFICATES).getSignerInfos()[0].toString(),
+                withoutCertificates.getSignerInfos()[0].toString());
+    }
+
+    @Test
+    public void testNoCertificates() {
+        PKCSDataScanner.Summary summary = PKCSDataScanner.scan(NO_CERTIFICATES);
+        Assert.assertNotNull(summary);
+        Assert.assertTrue(summary.getCertificates().isEmpty());
+        Assert.assertSame(NO_CERTIFICATES, summary.getDataWithoutCertificates());
+    }
+
+    @Test
+    public void testUnrecognizedStructure() {
+        Assert.assertNull(PKCSDataScanner.scan(null));
+        Assert.assertNull(PKCSDataScanner.scan(new byte[0]));
+        Assert.assertNull(PKCSDataScanner.scan(Arrays.copyOf(TWO_CERTIFICATES, TWO_CERTIFICATES.length - 1)));
+        // indefinite length
+        byte[] indefiniteLength = TWO_CERTIFICATES.clone();
+        indefiniteLength[1] = (byte) 0x80;
+        Assert.assertNull(PKCSDataScanner.scan(indefiniteLength));
+        // data content type instead of signed data
+        byte[] data = TWO_CERTIFICATES.clone();
+        data[indexOf(data, new byte[]{0x2A, (byte) 0x86, 0x48}) + 8] = 0x01;
+        Assert.assertNull(PKCSDataScanner.scan(data));
+    }
+
+    @Test
+    public void testNonMinimalLength() throws IOException {
+        byte[] data = rebuild(TWO_CERTIFICATES, false, true);
+        // PKCS7 may accept redundant length bytes, the scanner leaves such objects to it
+        Assert.assertNull(PKCSDataScanner.scan(data));
+        assertSameAsPKCS7(data);
+    }
+
+    @Test
+    public void testRepeatedCertificatesElement() throws IOException {
+        byte[] data = rebuild(TWO_CERTIFICATES, true, false);
+        // without the first certificates element the second one would be read as certificates
+        Assert.assertNull(PKCSDataScanner.scan(data));
+        assertSameAsPKCS7(data);
+    }
+
+    @Test
+    public void testDamagedObjects() throws IOException {
+        for (byte[] original : new byte[][]{TWO_CERTIFICATES, NO_CERTIFICATES}) {
+            assertSameAsPKCS7(original);
+            for (int i = 0; i < original.length; ++i) {
+                for (int mask : new int[]{0x01, 0x80}) {
+                    byte[] damaged = original.clone();
+                    damaged[i] ^= mask;
+                    assertSameAsPKCS7(damaged);
+                }
+                byte[] removed = new byte[original.length - 1];
+                System.arraycopy(original, 0, removed, 0, i);
+                System.arraycopy(original, i + 1, removed, i, removed.length - i);
+                assertSameAsPKCS7(removed);
+            }
+        }
+    }
+
+    private static void assertSameAsPKCS7(byte[] data) {
+        long signerInfoCount;
+        boolean isCertificatePresent;
+        try {
+            PKCS7 pkcs7 = new PKCS7(data);
+            signerInfoCount = pkcs7.getSignerInfos().length;
+            X509Certificate[] certificates = pkcs7.getCertificates();
+            isCertificatePresent = certificates != null && certificates.length > 0;
+        } catch (IOException e) {
+            signerInfoCount = 0;
+            isCertificatePresent = false;
+        }
+        // the certificate cache of the context is shared by PKCS#7 objects of the document
+        ValidationContext context = new ValidationContext(null, PDFAFlavour.PDFA_2_B);
+        GFPKCSDataObject object = new GFPKCSDataObject((COSString) COSString.construct(data).getDirectBase(), context);
+        String message = Base64.getEncoder().encodeToString(data);
+        Assert.assertEquals(message, Long.valueOf(signerInfoCount), object.getSignerInfoCount());
+        Assert.assertEquals(message, Boolean.valueOf(isCertificatePresent), object.getsigningCertificatePresent());
+    }
+
+    /**
+     * @param repeatCertificates true to write certificates element twice
+     * @param redundantLength    true to write the length of signed data with a redundant zero byte
+     */
+    private static byte[] rebuild(byte[] data, boolean repeatCertificates, boolean redundantLength)
+            throws IOException {
+        int[] contentInfo = readHeader(data, 0);
+        int[] contentType = readHeader(data, contentInfo[0]);
+        int[] content = readHeader(data, contentType[1]);
+        int[] signedData = readHeader(data, content[0]);
+        ByteArrayOutputStream signedDataContent = new ByteArrayOutputStream();
+        for (int offset = signedData[0]; offset < signedData[1]; ) {
+            int[] element = readHeader(data, offset);
+            signedDataContent.write(data, offset, element[1] - offset);
+            if (repeatCertificates && (data[offset] & 0xFF) == 0xA0) {
+                signedDataContent.write(data, offset, element[1] - offset);
+            }
+            offset = element[1];
+        }
+        ByteArrayOutputStream contentInfoContent = new ByteArrayOutputStream();
+        contentInfoContent.write(data, contentInfo[0], contentType[1] - contentInfo[0]);
+        ByteArrayOutputStream signedDataElement = new ByteArrayOutputStream();
+        writeElement(signedDataElement, 0x30, signedDataContent.toByteArray(), redundantLength);
+        writeElement(contentInfoContent, 0xA0, signedDataElement.toByteArray(), false);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeElement(result, 0x30, contentInfoContent.toByteArray(), false);
+        return result.toByteArray();
+    }
+
+    /**
+     * @return start and end of the content of the element
+     */
+    private static int[] readHeader(byte[] data, int offset) {
+        int length = data[offset + 1] & 0xFF;
+        int start = offset + 2;
+        if (length > 0x7F) {
+            int lengthBytes = length & 0x7F;
+            length = 0;
+            for (int i = 0; i < lengthBytes; ++i) {
+                length = (length << 8) | (data[start++] & 0xFF);
+            }
+        }
+        return new int[]{start, start + length};
+    }
+
+    private static void writeElement(ByteArrayOutputStream out, int tag, byte[] content, boolean redundantLength) {
+        out.write(tag);
+        // all rebuilt elements are longer than 255 bytes
+        out.write(redundantLength ? 0x83 : 0x82);
+        if (redundantLength) {
+            out.write(0);
+        }
+        out.write(content.length >>> 8);
+        out.write(content.length);
+        out.write(content, 0, content.length);
+    }
+
+    private static int indexOf(byte[] data, byte[] value) {
+        for (int i = 0; i + value.length <= data.length; ++i) {
+            if (Arrays.equals(value, Arrays.copyOfRange(data, i, i + value.length))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.operator.textshow;
+
+import org.verapdf.cos.COSDictionary;
+import org.verapdf.cos.COSName;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOp_BDC;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
+import org.verapdf.gf.model.impl.pd.GFPDContentStream;
+import org.verapdf.gf.model.impl.pd.GFPDPage;
+import org.verapdf.gf.model.tools.GFIDGenerator;
+import org.verapdf.gf.model.tools.GlyphKey;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.pd.structure.StructureElementAccessObject;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Measures time and bytes allocated per glyph by the usedGlyphs link of text
+ * show operators, after all glyphs are in the glyph cache, and compares
+ * building of {@link GlyphKey} with building of the glyph ID string. It is not
+ * run by the build, run the main method with the test classpath on HotSpot:
+ * <p>
+ * {@code java -cp <test classpath> org.verapdf.gf.model.impl.operator.textshow.UsedGlyphsBenchmark [lines]}
+ * <p>
+ * The content stream has the given number of lines, 2000 by default, of 64
+ * glyphs each, inside and outside of marked content.
+ */
+public class UsedGlyphsBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int ITERATIONS = 100;
+	private static final String TEXT = "The quick brown fox jumps over the lazy dog 0123456789 ABCDEFGHIJ";
+
+	public static void main(String[] args) throws Exception {
+		int lines = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		com.sun.management.ThreadMXBean threadBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(createDocument(lines)), PDFAFlavour.PDFA_2_B)) {
+			org.verapdf.pd.PDPage pdPage = parser.getPDDocument().getPages().get(0);
+			GFPDPage page = new GFPDPage(pdPage, parser.getValidationContext());
+			GFPDContentStream content = (GFPDContentStream) page.getLinkedObjects("contentStream").get(0);
+			List<GFOpTextShow> operators = new ArrayList<>();
+			for (Object operator : content.getLinkedObjects(GFPDContentStream.OPERATORS)) {
+				if (operator instanceof GFOpTextShow) {
+					operators.add((GFOpTextShow) operator);
+				}
+			}
+
+			int glyphs = 0;
+			for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+				glyphs = getUsedGlyphs(operators);
+			}
+			long bytes = threadBean.getThreadAllocatedBytes(threadId);
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i) {
+				getUsedGlyphs(operators);
+			}
+			long time = System.nanoTime() - start;
+			bytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+			long total = (long) glyphs * ITERATIONS;
+			System.out.println("Glyphs per stream: " + glyphs);
+			System.out.println("GFOpTextShow usedGlyphs: " + time / total + " ns/glyph, " +
+					bytes / total + " B/glyph");
+
+			measureKeys(pdPage.getObject(), threadBean, threadId);
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static int getUsedGlyphs(List<GFOpTextShow> operators) {
+		int glyphs = 0;
+		for (GFOpTextShow operator : operators) {
+			glyphs += operator.getLinkedObjects(GFOpTextShow.USED_GLYPHS).size();
+		}
+		return glyphs;
+	}
+
+	private static void measureKeys(COSObject owner, com.sun.management.ThreadMXBean threadBean, long threadId) {
+		GFOpMarkedContent markedContent = new GFOp_BDC(Arrays.asList(COSName.construct("Span").get(),
+				COSDictionary.construct().get()), null, null);
+		StructureElementAccessObject accessObject = new IndexedStructureElementAccessObject(owner);
+		int count = ITERATIONS * 10000;
+		int hash = 0;
+		long bytes = threadBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < count; ++i) {
+			hash += new GlyphKey(1234567, "Helvetica", i & 0xFF, 0, markedContent, accessObject).hashCode();
+		}
+		long keyTime = System.nanoTime() - start;
+		long keyBytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+		bytes = threadBean.getThreadAllocatedBytes(threadId);
+		start = System.nanoTime();
+		for (int i = 0; i < count; ++i) {
+			hash += GFIDGenerator.generateID(1234567, "Helvetica", i & 0xFF, 0, markedContent, accessObject)
+					.hashCode();
+		}
+		long idTime = System.nanoTime() - start;
+		long idBytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+		System.out.println("GlyphKey:                 " + keyTime / count + " ns/op, " +
+				keyBytes / count + " B/op");
+		System.out.println("GFIDGenerator.generateID: " + idTime / count + " ns/op, " +
+				idBytes / count + " B/op (" + hash + ")");
+	}
+
+	private static byte[] createDocument(int lines) {
+		StringBuilder content = new StringBuilder("BT /F1 10 Tf\n");
+		for (int i = 0; i < lines; ++i) {
+			if (i % 2 == 0) {
+				content.append("/Span << /Lang (en) >> BDC (").append(TEXT).append(") Tj EMC\n");
+			} else {
+				content.append("0 -12 Td [(").append(TEXT, 0, 32).append(") -20 (")
+						.append(TEXT, 32, TEXT.length()).append(")] TJ\n");
+			}
+		}
+		content.append("ET");
+		SyntheticPDF pdf = new SyntheticPDF();
+		int font = pdf.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+		int contents = pdf.addStream("", content.toString());
+		int pages = pdf.reserve();
+		int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 700 700] /Resources" +
+				" << /Font << /F1 " + ref(font) + " >> >> /Contents " + ref(contents) + " >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+}
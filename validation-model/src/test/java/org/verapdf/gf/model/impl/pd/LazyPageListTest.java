@@ -0,0 +1,69 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.model.pdlayer.PDPage;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+public class LazyPageListTest {
+
+	private static final int PAGES = 3;
+
+	@Test
+	public void testRepeatedAccessReturnsSamePage() throws Exception {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(createDocument()), PDFAFlavour.PDFA_1_B)) {
+			List<PDPage> pages = new LazyPageList(parser.getPDDocument().getPages(), null,
+					parser.getValidationContext());
+			Assert.assertEquals(PAGES, pages.size());
+			for (int i = 0; i < PAGES; ++i) {
+				PDPage page = pages.get(i);
+				Assert.assertSame(page, pages.get(i));
+				Assert.assertEquals(i, pages.indexOf(page));
+			}
+			Assert.assertNotSame(pages.get(0), pages.get(1));
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+
+	private static byte[] createDocument() {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int pages = pdf.reserve();
+		StringBuilder kids = new StringBuilder();
+		for (int i = 0; i < PAGES; ++i) {
+			int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] >>");
+			kids.append(ref(page)).append(' ');
+		}
+		pdf.set(pages, "<< /Type /Pages /Kids [" + kids + "] /Count " + PAGES + " >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.images;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.gf.model.impl.operator.xobject.GFOp_Do;
+import org.verapdf.gf.model.impl.pd.GFPDContentStream;
+import org.verapdf.gf.model.impl.pd.GFPDPage;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Form XObjects drawn on several pages are parsed once, if their content
+ * doesn't use page resources.
+ */
+public class GFPDXFormContentStreamCacheTest {
+
+	private static final int PAGES = 3;
+
+	@Test
+	public void testFormWithTextIsParsedOnce() throws Exception {
+		List<List<Object>> forms = getFormContentStreams(createDocument());
+		for (int page = 1; page < PAGES; ++page) {
+			// form with its own font is shared by all pages
+			Assert.assertSame(forms.get(0).get(0), forms.get(page).get(0));
+			Assert.assertSame(forms.get(0).get(0), forms.get(page).get(1));
+			// form using the font of the page is shared only by invocations on the same page
+			Assert.assertSame(forms.get(page).get(2), forms.get(page).get(3));
+			Assert.assertNotSame(forms.get(0).get(2), forms.get(page).get(2));
+		}
+	}
+
+	private static byte[] createDocument() {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int font = pdf.add("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>");
+		String text = "/Span << /ActualText (Invoice) >> BDC BT /F1 10 Tf 0 0 Td (Invoice) Tj ET EMC";
+		int ownFontForm = pdf.addStream("/Type /XObject /Subtype /Form /BBox [0 0 50 50]" +
+				" /Resources << /Font << /F1 " + ref(font) + " >> >>", text);
+		int pageFontForm = pdf.addStream("/Type /XObject /Subtype /Form /BBox [0 0 50 50] /Resources << >>", text);
+		int pages = pdf.reserve();
+		StringBuilder kids = new StringBuilder();
+		for (int i = 0; i < PAGES; ++i) {
+			// every page has its own resources and content
+			int contents = pdf.addStream("", "q /Fm0 Do Q q 1 0 0 1 20 20 cm /Fm0 Do Q /Fm1 Do" +
+					" q 1 0 0 1 40 40 cm /Fm1 Do Q");
+			int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Resources" +
+					" << /Font << /F1 " + ref(font) + " >> /XObject << /Fm0 " + ref(ownFontForm) + " /Fm1 " +
+					ref(pageFontForm) + " >> >> /Contents " + ref(contents) + " >>");
+			kids.append(ref(page)).append(' ');
+		}
+		pdf.set(pages, "<< /Type /Pages /Kids [" + kids + "] /Count " + PAGES + " >>");
+		return pdf.toBytes(pdf.add("<< /Type /Catalog /Pages " + ref(pages) + " >>"));
+	}
+
+	/**
+	 * @return parsed content streams of the forms drawn on every page
+	 */
+	private static List<List<Object>> getFormContentStreams(byte[] bytes) throws Exception {
+		try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+				new ByteArrayInputStream(bytes), PDFAFlavour.PDFA_2_B)) {
+			ValidationContext context = parser.getValidationContext();
+			List<List<Object>> result = new ArrayList<>();
+			for (org.verapdf.pd.PDPage page : parser.getPDDocument().getPages()) {
+				List<Object> forms = new ArrayList<>();
+				GFPDContentStream pageContent =
+						(GFPDContentStream) new GFPDPage(page, context).getLinkedObjects("contentStream").get(0);
+				for (Object operator : pageContent.getLinkedObjects(GFPDContentStream.OPERATORS)) {
+					if (operator instanceof GFOp_Do) {
+						Object form = operator.getLinkedObjects(GFOp_Do.X_OBJECT).get(0);
+						forms.add(form.getLinkedObjects(GFPDXForm.CONTENT_STREAM).get(0));
+					}
+				}
+				Assert.assertEquals(4, forms.size());
+				result.add(forms);
+			}
+			return result;
+		} finally {
+			StaticContainers.removeContext();
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.signature;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.cos.COSKey;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.StaticContainers;
+import org.verapdf.parser.SignatureParser;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Compares byte ranges of {@link SignatureByteRangeIndex} with the ones
+ * obtained by {@link SignatureParser} for each signature separately.
+ */
+public class SignatureByteRangeIndexTest {
+
+    private static final String[] END_OF_LINES = {"\n", "\r\n", "\r", ""};
+
+    @Test
+    public void testEndOfLines() throws Exception {
+        for (String endOfLine : END_OF_LINES) {
+            SignedPDF pdf = new SignedPDF(endOfLine);
+            for (int i = 0; i < 3; ++i) {
+                pdf.addRevision(2, false, false, "", endOfLine);
+            }
+            assertSameByteRanges(pdf, new Random(0));
+        }
+    }
+
+    @Test
+    public void testMixedRevisions() throws Exception {
+        Random random = new Random(24);
+        for (int i = 0; i < 50; ++i) {
+            SignedPDF pdf = new SignedPDF(randomEndOfLine(random));
+            int revisions = 1 + random.nextInt(6);
+            for (int j = 0; j < revisions; ++j) {
+                pdf.addRevision(1 + random.nextInt(3), random.nextInt(5) == 0, random.nextBoolean(),
+                        random.nextInt(4) == 0 ? "  " : "", randomEndOfLine(random));
+            }
+            assertSameByteRanges(pdf, random);
+        }
+    }
+
+    @Test
+    public void testIndirectContents() throws Exception {
+        SignedPDF pdf = new SignedPDF("\n");
+        pdf.addRevision(1, false, false, "", "\r\n");
+        pdf.addRevision(2, true, true, "", "\n");
+        pdf.addRevision(1, false, false, "", "");
+        int indirect = assertSameByteRanges(pdf, new Random(0));
+        Assert.assertEquals(2, indirect);
+    }
+
+    private static String randomEndOfLine(Random random) {
+        return END_OF_LINES[random.nextInt(END_OF_LINES.length)];
+    }
+
+    /**
+     * @return number of signatures that have no byte range
+     */
+    private static int assertSameByteRanges(SignedPDF pdf, Random random) throws Exception {
+        byte[] bytes = pdf.toBytes();
+        String text = new String(bytes, StandardCharsets.ISO_8859_1);
+        int missing = 0;
+        try (GFModelParser parser = GFModelParser.createModelWithFlavour(new ByteArrayInputStream(bytes),
+                PDFAFlavour.PDFA_2_B)) {
+            PDDocument document = parser.getPDDocument();
+            List<Integer> signatures = new ArrayList<>(pdf.signatures);
+            // the index is filled on the first request, whichever signature it is for
+            Collections.shuffle(signatures, random);
+            SignatureByteRangeIndex index = new SignatureByteRangeIndex(document);
+            for (int signature : signatures) {
+                Long offset = document.getDocument().getOffset(new COSKey(signature, 0));
+                Assert.assertNotNull(offset);
+                String message = "signature " + signature + " of\n" + text;
+                long sourceOffset = document.getPDFSource().getOffset();
+                SignatureByteRangeIndex.SignatureByteRange actual = index.getByteRange(offset.longValue());
+                Assert.assertEquals(message, sourceOffset, document.getPDFSource().getOffset());
+
+                long[] expected;
+                SignatureParser signatureParser = new SignatureParser(document.getPDFSource(), document.getDocument());
+                try {
+                    expected = signatureParser.getByteRangeBySignatureOffset(offset.longValue());
+                } catch (IOException e) {
+                    expected = null;
+                }
+                document.getPDFSource().seek(sourceOffset);
+                if (expected == null) {
+                    Assert.assertNull(message, actual);
+                    ++missing;
+                    continue;
+                }
+                Assert.assertNotNull(message, actual);
+                for (int i = 0; i < 4; ++i) {
+                    Assert.assertEquals(message, expected[i], actual.get(i));
+                }
+                Assert.assertEquals(message, signatureParser.getFloatingBytesNumberForLastByteRangeObtained(),
+                        actual.getFloatingBytesNumber());
+                Assert.assertEquals(message, signatureParser.isStreamEnd(), actual.isStreamEnd());
+            }
+        } finally {
+            StaticContainers.removeContext();
+        }
+        return missing;
+    }
+
+    /**
+     * Writes a document with a signed incremental update per revision.
+     */
+    private static class SignedPDF {
+
+        private static final int CATALOG = 1;
+        private static final int PAGES = 2;
+        private static final String ID = " /ID [<0123456789ABCDEF0123456789ABCDEF> <0123456789ABCDEF0123456789ABCDEF>]";
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final List<Integer> signatures = new ArrayList<>();
+        private final List<Integer> fields = new ArrayList<>();
+        private int size;
+        private long lastXRef;
+
+        private SignedPDF(String endOfLine) {
+            SyntheticPDF pdf = new SyntheticPDF();
+            int catalog = pdf.reserve();
+            int pages = pdf.reserve();
+            int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] >>");
+            pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+            pdf.set(catalog, "<< /Type /Catalog /Pages " + ref(pages) + " >>");
+            String first = new String(pdf.toBytes(catalog), StandardCharsets.ISO_8859_1);
+            int startXRef = first.lastIndexOf("startxref\n") + "startxref\n".length();
+            this.lastXRef = Long.parseLong(first.substring(startXRef, first.indexOf('\n', startXRef)));
+            write(first.substring(0, first.length() - 1) + endOfLine);
+            this.size = page + 1;
+        }
+
+        /**
+         * @param signatures       number of signatures in the revision
+         * @param indirectContents true to write Contents of the first signature as indirect object
+         * @param withStream       true to add a stream with %%EOF line in its data
+         * @param eofPrefix        spaces before %%EOF marker
+         * @param endOfLine        end of line after %%EOF marker
+         */
+        private void addRevision(int signatures, boolean indirectContents, boolean withStream, String eofPrefix,
+                                 String endOfLine) {
+            SortedMap<Integer, Long> offsets = new TreeMap<>();
+            if (withStream) {
+                String data = "q Q\n%%EOF\nstream\n";
+                addObject(offsets, "<< /Length " + data.length() + " >>\nstream\n" + data + "\nendstream");
+            }
+            for (int i = 0; i < signatures; ++i) {
+                String contents = "<3082" + String.format("%040x", Integer.valueOf(this.size)) + ">";
+                if (indirectContents && i == 0) {
+                    contents = ref(addObject(offsets, contents));
+                }
+                int signature = addObject(offsets, "<< /Type /Sig /Filter /Adobe.PPKLite" +
+                        " /SubFilter /adbe.pkcs7.detached /ByteRange [0 10 20 30] /Contents " + contents +
+                        " /M (D:20240101000000Z) >>");
+                this.signatures.add(signature);
+                this.fields.add(addObject(offsets, "<< /FT /Sig /T (Signature" + signature + ") /V " +
+                        ref(signature) + " >>"));
+            }
+            StringBuilder fieldReferences = new StringBuilder();
+            for (int field : this.fields) {
+                fieldReferences.append(ref(field)).append(' ');
+            }
+            offsets.put(Integer.valueOf(CATALOG), Long.valueOf(this.out.size()));
+            write(CATALOG + " 0 obj\n<< /Type /Catalog /Pages " + ref(PAGES) + " /AcroForm << /Fields [" +
+                    fieldReferences + "] /SigFlags 3 >> >>\nendobj\n");
+
+            long xref = this.out.size();
+            StringBuilder builder = new StringBuilder("xref\n0 1\n0000000000 65535 f \n");
+            for (Map.Entry<Integer, Long> offset : offsets.entrySet()) {
+                builder.append(offset.getKey()).append(" 1\n")
+                        .append(String.format("%010d 00000 n \n", offset.getValue()));
+            }
+            builder.append("trailer\n<< /Size ").append(this.size).append(" /Root ").append(ref(CATALOG))
+                    .append(" /Prev ").append(this.lastXRef).append(ID).append(" >>\nstartxref\n").append(xref)
+                    .append('\n').append(eofPrefix).append("%%EOF").append(endOfLine);
+            write(builder.toString());
+            this.lastXRef = xref;
+        }
+
+        private int addObject(SortedMap<Integer, Long> offsets, String body) {
+            int number = this.size++;
+            offsets.put(Integer.valueOf(number), Long.valueOf(this.out.size()));
+            write(number + " 0 obj\n" + body + "\nendobj\n");
+            return number;
+        }
+
+        private void write(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+            this.out.write(bytes, 0, bytes.length);
+        }
+
+        private byte[] toBytes() {
+            return this.out.toByteArray();
+        }
+    }
+}
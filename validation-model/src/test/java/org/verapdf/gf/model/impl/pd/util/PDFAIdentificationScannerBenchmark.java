@@ -0,0 +1,100 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import com.adobe.xmp.impl.VeraPDFMeta;
+
+/**
+ * Compares flavour detection by {@link PDFAIdentificationScanner} with parsing
+ * of the whole packet by the XMP parser. It is not run by the build, run the
+ * main method with the test classpath:
+ * <p>
+ * {@code java -cp <test classpath> org.verapdf.gf.model.impl.pd.util.PDFAIdentificationScannerBenchmark [padding KB]}
+ * <p>
+ * Identification is written at the beginning of the packet, followed by the
+ * given amount of other metadata, 16 KB by default.
+ */
+public class PDFAIdentificationScannerBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 2000;
+	private static final int ITERATIONS = 10000;
+
+	public static void main(String[] args) throws Exception {
+		int paddingKB = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		String packet = createPacket(paddingKB);
+
+		for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+			runScanner(packet);
+			runXMPParser(packet);
+		}
+		long scanner = measureScanner(packet);
+		long parser = measureXMPParser(packet);
+		System.out.println("Packet size: " + packet.length() + " chars");
+		System.out.println("PDFAIdentificationScanner: " + scanner + " ns/op");
+		System.out.println("VeraPDFMeta.parse:         " + parser + " ns/op");
+	}
+
+	private static long measureScanner(String packet) {
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; ++i) {
+			runScanner(packet);
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private static long measureXMPParser(String packet) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; ++i) {
+			runXMPParser(packet);
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private static void runScanner(String packet) {
+		PDFAIdentificationScanner.Identification identification =
+				PDFAIdentificationScanner.scan(PDFAIdentificationScannerTest.toStream(packet));
+		if (identification == null || identification.getPart() == null) {
+			throw new IllegalStateException("Identification is not found by the scanner");
+		}
+	}
+
+	private static void runXMPParser(String packet) throws Exception {
+		VeraPDFMeta meta = VeraPDFMeta.parse(PDFAIdentificationScannerTest.toStream(packet));
+		if (meta.getIdentificationPart() == null) {
+			throw new IllegalStateException("Identification is not found by the XMP parser");
+		}
+	}
+
+	private static String createPacket(int paddingKB) {
+		StringBuilder builder = new StringBuilder(PDFAIdentificationScannerTest.PACKET_START);
+		builder.append("<rdf:Description rdf:about=\"\" xmlns:pdfaid=\"http://www.aiim.org/pdfa/ns/id/\"")
+				.append(" pdfaid:part=\"2\" pdfaid:conformance=\"B\"/>");
+		builder.append("<rdf:Description rdf:about=\"\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\">")
+				.append("<dc:subject><rdf:Bag>");
+		int end = builder.length() + paddingKB * 1024;
+		for (int i = 0; builder.length() < end; ++i) {
+			builder.append("<rdf:li>keyword ").append(i).append("</rdf:li>");
+		}
+		builder.append("</rdf:Bag></dc:subject></rdf:Description>");
+		builder.append(PDFAIdentificationScannerTest.PACKET_END);
+		return builder.toString();
+	}
+}
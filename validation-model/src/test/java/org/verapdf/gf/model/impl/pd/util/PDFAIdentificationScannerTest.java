@@ -0,0 +1,103 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import com.adobe.xmp.impl.VeraPDFMeta;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class PDFAIdentificationScannerTest {
+
+	static final String PACKET_START = "<?xpacket begin=\"\" id=\"W5M0MpCehiHzreSzNTczkc9d\"?>" +
+			"<x:xmpmeta xmlns:x=\"adobe:ns:meta/\">" +
+			"<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">";
+	static final String PACKET_END = "</rdf:RDF></x:xmpmeta><?xpacket end=\"w\"?>";
+
+	static final String ATTRIBUTES = PACKET_START +
+			"<rdf:Description rdf:about=\"\" xmlns:pdfaid=\"http://www.aiim.org/pdfa/ns/id/\"" +
+			" pdfaid:part=\"2\" pdfaid:conformance=\"B\"/>" + PACKET_END;
+
+	private static final String ELEMENTS = PACKET_START +
+			"<rdf:Description rdf:about=\"\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\">" +
+			"<dc:format>application/pdf</dc:format></rdf:Description>" +
+			"<rdf:Description rdf:about=\"\" xmlns:pdfaid=\"http://www.aiim.org/pdfa/ns/id/\">" +
+			"<pdfaid:part>3</pdfaid:part><pdfaid:conformance>U</pdfaid:conformance></rdf:Description>" +
+			PACKET_END;
+
+	private static final String NO_IDENTIFICATION = PACKET_START +
+			"<rdf:Description rdf:about=\"\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\">" +
+			"<dc:format>application/pdf</dc:format></rdf:Description>" + PACKET_END;
+
+	private static final String QUALIFIED_PART = PACKET_START +
+			"<rdf:Description rdf:about=\"\" xmlns:pdfaid=\"http://www.aiim.org/pdfa/ns/id/\">" +
+			"<pdfaid:part rdf:parseType=\"Resource\"><rdf:value>1</rdf:value></pdfaid:part>" +
+			"</rdf:Description>" + PACKET_END;
+
+	private static final String DOCTYPE = "<!DOCTYPE x:xmpmeta [<!ENTITY part \"1\">]>" +
+			"<x:xmpmeta xmlns:x=\"adobe:ns:meta/\">" +
+			"<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">" +
+			"<rdf:Description rdf:about=\"\" xmlns:pdfaid=\"http://www.aiim.org/pdfa/ns/id/\">" +
+			"<pdfaid:part>&part;</pdfaid:part></rdf:Description>" + PACKET_END;
+
+	@Test
+	public void testAttributes() throws Exception {
+		assertSameAsXMPParser(ATTRIBUTES, Integer.valueOf(2), "B");
+	}
+
+	@Test
+	public void testElements() throws Exception {
+		assertSameAsXMPParser(ELEMENTS, Integer.valueOf(3), "U");
+	}
+
+	@Test
+	public void testNoIdentification() throws Exception {
+		assertSameAsXMPParser(NO_IDENTIFICATION, null, null);
+	}
+
+	@Test
+	public void testQualifiedPropertyIsNotScanned() {
+		Assert.assertNull(PDFAIdentificationScanner.scan(toStream(QUALIFIED_PART)));
+	}
+
+	@Test
+	public void testDoctypeIsNotScanned() {
+		Assert.assertNull(PDFAIdentificationScanner.scan(toStream(DOCTYPE)));
+	}
+
+	private static void assertSameAsXMPParser(String packet, Integer part, String conformance) throws Exception {
+		PDFAIdentificationScanner.Identification identification = PDFAIdentificationScanner.scan(toStream(packet));
+		Assert.assertNotNull(identification);
+		Assert.assertEquals(part, identification.getPart());
+		Assert.assertEquals(conformance, identification.getConformance());
+
+		VeraPDFMeta meta = VeraPDFMeta.parse(toStream(packet));
+		Assert.assertEquals(meta.getIdentificationPart(), identification.getPart());
+		Assert.assertEquals(meta.getIdentificationConformance(), identification.getConformance());
+	}
+
+	static InputStream toStream(String packet) {
+		return new ByteArrayInputStream(packet.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.impl.pd.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.as.ASAtom;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.*;
+
+/**
+ * Compares {@link TaggedPDFRoleMapHelper} with a copy of the resolver that
+ * walked the role map on every lookup.
+ */
+public class TaggedPDFRoleMapHelperTest {
+
+	private static final String[] PDF_1_4_TYPES = {"Document", "Part", "Art", "Sect", "Div", "BlockQuote",
+			"Caption", "TOC", "TOCI", "Index", "NonStruct", "Private", "H", "H1", "H2", "H3", "H4", "H5", "H6", "P",
+			"L", "LI", "Lbl", "LBody", "Table", "TR", "TH", "TD", "Span", "Quote", "Note", "Reference", "BibEntry",
+			"Code", "Link", "Figure", "Formula", "Form"};
+	private static final String[] PDF_1_7_TYPES = {"THead", "TBody", "TFoot", "Annot", "Ruby", "Warichu", "RB",
+			"RT", "RP", "WT", "WP"};
+
+	private static final Set<String> PDF_1_4_STANDARD_TYPES = new HashSet<>(Arrays.asList(PDF_1_4_TYPES));
+	private static final Set<String> PDF_1_7_STANDARD_TYPES = new HashSet<>(Arrays.asList(PDF_1_4_TYPES));
+
+	static {
+		PDF_1_7_STANDARD_TYPES.addAll(Arrays.asList(PDF_1_7_TYPES));
+	}
+
+	private static final int ROLE_MAPS = 20000;
+
+	@Test
+	public void testCycles() {
+		Map<ASAtom, ASAtom> roleMap = new HashMap<>();
+		put(roleMap, "C0", "C1");
+		put(roleMap, "C1", "C2");
+		put(roleMap, "C2", "C0");
+		put(roleMap, "P", "C3");
+		put(roleMap, "C3", "P");
+		put(roleMap, "Span", "Span");
+		put(roleMap, "THead", "C4");
+		put(roleMap, "C4", "THead");
+		put(roleMap, "C5", "THead");
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap);
+
+		Assert.assertNull(helper.getStandardType(ASAtom.getASAtom("C0"), PDFAFlavour.PDFA_1_B));
+		Assert.assertNull(helper.getStandardType(ASAtom.getASAtom("C0"), PDFAFlavour.PDFA_2_B));
+		Assert.assertEquals("P", helper.getStandardType(ASAtom.getASAtom("C3"), PDFAFlavour.PDFA_2_B));
+		Assert.assertEquals("P", helper.getStandardType(ASAtom.getASAtom("P"), PDFAFlavour.PDFA_1_B));
+		Assert.assertEquals("Span", helper.getStandardType(ASAtom.getASAtom("Span"), PDFAFlavour.PDFA_2_B));
+		Assert.assertNull(helper.getStandardType(ASAtom.getASAtom("C5"), PDFAFlavour.PDFA_1_B));
+		Assert.assertEquals("THead", helper.getStandardType(ASAtom.getASAtom("C5"), PDFAFlavour.PDFA_2_B));
+		assertSameAsReference(roleMap);
+	}
+
+	@Test
+	public void testRandomRoleMaps() {
+		List<ASAtom> types = new ArrayList<>();
+		for (String type : PDF_1_4_TYPES) {
+			types.add(ASAtom.getASAtom(type));
+		}
+		for (String type : PDF_1_7_TYPES) {
+			types.add(ASAtom.getASAtom(type));
+		}
+		for (int i = 0; i < 10; ++i) {
+			types.add(ASAtom.getASAtom("Custom" + i));
+		}
+		Random random = new Random(17);
+		for (int i = 0; i < ROLE_MAPS; ++i) {
+			// a small pool of types for each role map, so chains and cycles are frequent
+			List<ASAtom> pool = new ArrayList<>();
+			int poolSize = 2 + random.nextInt(8);
+			for (int j = 0; j < poolSize; ++j) {
+				pool.add(types.get(random.nextInt(types.size())));
+			}
+			Map<ASAtom, ASAtom> roleMap = new HashMap<>();
+			int size = random.nextInt(poolSize + 1);
+			for (int j = 0; j < size; ++j) {
+				roleMap.put(pool.get(random.nextInt(poolSize)), pool.get(random.nextInt(poolSize)));
+			}
+			assertSameAsReference(roleMap);
+		}
+	}
+
+	private static void assertSameAsReference(Map<ASAtom, ASAtom> roleMap) {
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap);
+		Set<ASAtom> types = new HashSet<>(roleMap.keySet());
+		types.addAll(roleMap.values());
+		types.add(ASAtom.getASAtom("P"));
+		types.add(ASAtom.getASAtom("RB"));
+		types.add(ASAtom.getASAtom("NotInRoleMap"));
+		for (ASAtom type : types) {
+			Assert.assertEquals(roleMap + " " + type, getStandardType(roleMap, type, PDF_1_4_STANDARD_TYPES, true),
+					helper.getStandardType(type, PDFAFlavour.PDFA_1_B));
+			Assert.assertEquals(roleMap + " " + type, getStandardType(roleMap, type, PDF_1_7_STANDARD_TYPES, false),
+					helper.getStandardType(type, PDFAFlavour.PDFA_2_B));
+		}
+		Assert.assertNull(helper.getStandardType(null, PDFAFlavour.PDFA_2_B));
+	}
+
+	private static void put(Map<ASAtom, ASAtom> roleMap, String type, String role) {
+		roleMap.put(ASAtom.getASAtom(type), ASAtom.getASAtom(role));
+	}
+
+	// resolver used by TaggedPDFRoleMapHelper before the role map was resolved in advance
+	private static String getStandardType(Map<ASAtom, ASAtom> roleMap, ASAtom type,
+										  Set<String> currentStandardTypes, boolean isFastStop) {
+		Set<ASAtom> visitedTypes = new HashSet<>();
+		visitedTypes.add(type);
+		ASAtom res = roleMap.get(type);
+		String typeValue = type.getValue();
+		if ((isFastStop || res == null || visitedTypes.contains(res)) && currentStandardTypes.contains(typeValue)) {
+			return typeValue;
+		}
+		while (res != null && !visitedTypes.contains(res)) {
+			String resValue = res.getValue();
+			if (currentStandardTypes.contains(resValue)) {
+				return resValue;
+			}
+			visitedTypes.add(res);
+			res = roleMap.get(res);
+		}
+		return null;
+	}
+}
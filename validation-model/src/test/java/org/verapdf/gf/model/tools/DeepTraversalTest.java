@@ -0,0 +1,166 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.tools;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.cos.COSKey;
+import org.verapdf.gf.model.GFModelParser;
+import org.verapdf.gf.model.SyntheticPDF;
+import org.verapdf.gf.model.impl.containers.ValidationContext;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.verapdf.gf.model.SyntheticPDF.ref;
+
+/**
+ * Walks of structure trees, nested resources and outlines must not depend on
+ * the depth of the document, so they are run on a thread with a small stack.
+ */
+public class DeepTraversalTest {
+
+	private static final int DEPTH = 100_000;
+	private static final long STACK_SIZE = 256 * 1024;
+
+	@Test
+	public void testDeepStructureTreeAndResources() throws Throwable {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int fileSpec = pdf.add("<< /Type /Filespec /F (data.xml) /UF (data.xml) /AFRelationship /Data >>");
+		int formFileSpec = pdf.add("<< /Type /Filespec /F (form.xml) /UF (form.xml) /AFRelationship /Data >>");
+
+		// chain of structure elements, K of the last one loops back to the first one
+		int root = pdf.reserve();
+		int first = pdf.reserve();
+		int parent = root;
+		int current = first;
+		for (int i = 1; i <= DEPTH; ++i) {
+			int next = i == DEPTH ? first : pdf.reserve();
+			String af = i == DEPTH ? " /AF [" + ref(fileSpec) + "]" : "";
+			pdf.set(current, "<< /Type /StructElem /S /Div /P " + ref(parent) + " /K " + ref(next) + af + " >>");
+			parent = current;
+			current = next;
+		}
+		pdf.set(root, "<< /Type /StructTreeRoot /K " + ref(first) + " >>");
+
+		// chain of nested form XObjects, the last one has associated file
+		int firstForm = pdf.reserve();
+		int form = firstForm;
+		for (int i = 1; i <= DEPTH; ++i) {
+			boolean isLast = i == DEPTH;
+			int nextForm = isLast ? -1 : pdf.reserve();
+			String resources = isLast ? "<< >>" : "<< /XObject << /F " + ref(nextForm) + " >> >>";
+			String af = isLast ? " /AF [" + ref(formFileSpec) + "]" : "";
+			String content = isLast ? "" : "/F Do";
+			pdf.set(form, "<< /Type /XObject /Subtype /Form /BBox [0 0 10 10] /Resources " + resources + af +
+					" /Length " + content.length() + " >>\nstream\n" + content + "\nendstream");
+			form = nextForm;
+		}
+
+		int catalog = createDocument(pdf, " /StructTreeRoot " + ref(root),
+				" /Resources << /XObject << /F " + ref(firstForm) + " >> >>", "/F Do");
+		final byte[] bytes = pdf.toBytes(catalog);
+
+		final ValidationContext context = runWithSmallStack(new Task<ValidationContext>() {
+			@Override
+			public ValidationContext run() throws Exception {
+				try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+						new ByteArrayInputStream(bytes), PDFAFlavour.PDFA_3_B)) {
+					PDDocument document = parser.getPDDocument();
+					FileSpecificationKeysHelper.registerFileSpecificationKeys(document.getDocument(),
+							parser.getValidationContext());
+					return parser.getValidationContext();
+				}
+			}
+		});
+		Assert.assertTrue(context.getFileSpecificationKeys().contains(new COSKey(fileSpec, 0)));
+		Assert.assertTrue(context.getFileSpecificationKeys().contains(new COSKey(formFileSpec, 0)));
+	}
+
+	@Test
+	public void testDeepOutlineWithLoop() throws Throwable {
+		SyntheticPDF pdf = new SyntheticPDF();
+		int outlines = pdf.reserve();
+		int first = pdf.reserve();
+		int parent = outlines;
+		int current = first;
+		for (int i = 1; i <= DEPTH; ++i) {
+			// every item is the first child of the previous one, Next of the last one points to the top
+			int next = i == DEPTH ? -1 : pdf.reserve();
+			String kids = i == DEPTH ? " /Next " + ref(first) : " /First " + ref(next);
+			pdf.set(current, "<< /Title (Item " + i + ") /Parent " + ref(parent) + kids + " >>");
+			parent = current;
+			current = next;
+		}
+		pdf.set(outlines, "<< /Type /Outlines /First " + ref(first) + " >>");
+		int catalog = createDocument(pdf, " /Outlines " + ref(outlines), "", "");
+		final byte[] bytes = pdf.toBytes(catalog);
+
+		int count = runWithSmallStack(new Task<Integer>() {
+			@Override
+			public Integer run() throws Exception {
+				try (GFModelParser parser = GFModelParser.createModelWithFlavour(
+						new ByteArrayInputStream(bytes), PDFAFlavour.PDFA_1_B)) {
+					PDDocument document = parser.getPDDocument();
+					return Integer.valueOf(OutlinesHelper.getOutlines(document.getCatalog(),
+							parser.getValidationContext()).size());
+				}
+			}
+		}).intValue();
+		Assert.assertEquals(DEPTH, count);
+	}
+
+	private static int createDocument(SyntheticPDF pdf, String catalogEntries, String pageEntries, String content) {
+		int pages = pdf.reserve();
+		int contents = pdf.addStream("", content);
+		int page = pdf.add("<< /Type /Page /Parent " + ref(pages) + " /MediaBox [0 0 100 100] /Contents " +
+				ref(contents) + pageEntries + " >>");
+		pdf.set(pages, "<< /Type /Pages /Kids [" + ref(page) + "] /Count 1 >>");
+		return pdf.add("<< /Type /Catalog /Pages " + ref(pages) + catalogEntries + " >>");
+	}
+
+	private interface Task<T> {
+		T run() throws Exception;
+	}
+
+	private static <T> T runWithSmallStack(final Task<T> task) throws Throwable {
+		final AtomicReference<T> result = new AtomicReference<>();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		Thread thread = new Thread(null, new Runnable() {
+			@Override
+			public void run() {
+				try {
+					result.set(task.run());
+				} catch (Throwable e) {
+					error.set(e);
+				}
+			}
+		}, "deep-traversal", STACK_SIZE);
+		thread.start();
+		thread.join();
+		if (error.get() != null) {
+			throw error.get();
+		}
+		return result.get();
+	}
+}
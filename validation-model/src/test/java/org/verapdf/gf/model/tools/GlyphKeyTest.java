@@ -0,0 +1,132 @@
+/**
+ * This file is part of veraPDF Validation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Validation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Validation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Validation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.gf.model.tools;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.cos.COSBase;
+import org.verapdf.cos.COSDictionary;
+import org.verapdf.cos.COSName;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOpMarkedContent;
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOp_BDC;
+import org.verapdf.gf.model.impl.operator.markedcontent.GFOp_BMC;
+import org.verapdf.gf.model.impl.operator.markedcontent.IndexedStructureElementAccessObject;
+import org.verapdf.pd.structure.StructureElementAccessObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Glyph keys must be equal exactly when glyph IDs are equal, so the glyph
+ * cache returns the glyph with the same ID as a newly created one would have.
+ */
+public class GlyphKeyTest {
+
+	@Test
+	public void testEqualParts() {
+		COSObject owner = COSDictionary.construct();
+		COSBase properties = COSDictionary.construct().get();
+		GlyphKey key = new GlyphKey(17, "Font", 65, 0, bdc(properties), new IndexedStructureElementAccessObject(owner));
+		// new marked content and access objects for the same dictionaries, as in another parsing of the stream
+		GlyphKey same = new GlyphKey(17, "Font", 65, 0, bdc(properties), new IndexedStructureElementAccessObject(owner));
+		Assert.assertEquals(key, same);
+		Assert.assertEquals(key.hashCode(), same.hashCode());
+		Assert.assertEquals(key.toID(), same.toID());
+		Assert.assertEquals(GFIDGenerator.generateID(17, "Font", 65, 0, bdc(properties),
+				new IndexedStructureElementAccessObject(owner)), key.toID());
+	}
+
+	@Test
+	public void testDifferentParts() {
+		COSObject owner = COSDictionary.construct();
+		GFOpMarkedContent markedContent = bdc(COSDictionary.construct().get());
+		StructureElementAccessObject accessObject = new IndexedStructureElementAccessObject(owner);
+		GlyphKey key = new GlyphKey(17, "Font", 65, 0, markedContent, accessObject);
+		assertDifferent(key, new GlyphKey(18, "Font", 65, 0, markedContent, accessObject));
+		assertDifferent(key, new GlyphKey(17, "Other", 65, 0, markedContent, accessObject));
+		assertDifferent(key, new GlyphKey(17, null, 65, 0, markedContent, accessObject));
+		assertDifferent(key, new GlyphKey(17, "Font", 66, 0, markedContent, accessObject));
+		assertDifferent(key, new GlyphKey(17, "Font", 65, 1, markedContent, accessObject));
+		assertDifferent(key, new GlyphKey(17, "Font", 65, 0, null, accessObject));
+		assertDifferent(key, new GlyphKey(17, "Font", 65, 0, markedContent, null));
+		assertDifferent(key, new GlyphKey(17, "Font", 65, 0, markedContent,
+				new IndexedStructureElementAccessObject(COSDictionary.construct())));
+	}
+
+	@Test
+	public void testMarkedContentWithoutProperties() {
+		// hash code of marked content without properties is 0, the same as of a missing one,
+		// but glyph IDs differ: the empty string is used for missing marked content
+		GlyphKey withoutProperties = new GlyphKey(17, "Font", 65, 0, bmc(), null);
+		GlyphKey withoutMarkedContent = new GlyphKey(17, "Font", 65, 0, null, null);
+		assertDifferent(withoutProperties, withoutMarkedContent);
+		Assert.assertEquals(withoutProperties, new GlyphKey(17, "Font", 65, 0, bmc(), null));
+	}
+
+	@Test
+	public void testEqualityMatchesID() {
+		List<GFOpMarkedContent> markedContents = Arrays.asList(null, bmc(), bdc(COSDictionary.construct().get()),
+				bdc(COSDictionary.construct().get()));
+		List<StructureElementAccessObject> accessObjects = Arrays.<StructureElementAccessObject>asList(null,
+				new IndexedStructureElementAccessObject(COSDictionary.construct()),
+				new IndexedStructureElementAccessObject(COSDictionary.construct()));
+		List<GlyphKey> keys = new ArrayList<>();
+		for (int fontHash : new int[]{0, 17, -17}) {
+			for (String fontName : new String[]{null, "", "Font", "null"}) {
+				for (int code : new int[]{0, 65, 256}) {
+					for (int renderingMode = 0; renderingMode < 2; ++renderingMode) {
+						for (GFOpMarkedContent markedContent : markedContents) {
+							for (StructureElementAccessObject accessObject : accessObjects) {
+								keys.add(new GlyphKey(fontHash, fontName, code, renderingMode, markedContent,
+										accessObject));
+							}
+						}
+					}
+				}
+			}
+		}
+		for (GlyphKey first : keys) {
+			for (GlyphKey second : keys) {
+				boolean isEqual = first.equals(second);
+				Assert.assertEquals(first.toID() + " | " + second.toID(), first.toID().equals(second.toID()), isEqual);
+				if (isEqual) {
+					Assert.assertEquals(first.hashCode(), second.hashCode());
+				}
+			}
+		}
+	}
+
+	private static void assertDifferent(GlyphKey first, GlyphKey second) {
+		Assert.assertNotEquals(first, second);
+		Assert.assertNotEquals(first.toID(), second.toID());
+	}
+
+	private static GFOpMarkedContent bdc(COSBase properties) {
+		return new GFOp_BDC(Arrays.asList(COSName.construct("Span").get(), properties), null, null);
+	}
+
+	private static GFOpMarkedContent bmc() {
+		return new GFOp_BMC(Collections.singletonList(COSName.construct("Span").get()), null, null);
+	}
+}